@@ -0,0 +1,164 @@
+package dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultSet-to-model mappers of the DAOs over in-memory rows
+ *
+ * @author rejoice
+ */
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private final JdbcEmployeeDAO employeeDAO = new JdbcEmployeeDAO();
+    private final JdbcPositionDAO positionDAO = new JdbcPositionDAO();
+    private final JdbcAttendanceDAO attendanceDAO = new JdbcAttendanceDAO();
+    private final JdbcOvertimeDAO overtimeDAO = new JdbcOvertimeDAO();
+    private final JdbcLeaveRequestDAO leaveDAO = new JdbcLeaveRequestDAO();
+
+    private final List<Map<String, Object>> employeeRows = new ArrayList<>(ROWS);
+    private final List<Map<String, Object>> positionRows = new ArrayList<>(ROWS);
+    private final List<Map<String, Object>> attendanceRows = new ArrayList<>(ROWS);
+    private final List<Map<String, Object>> overtimeRows = new ArrayList<>(ROWS);
+    private final List<Map<String, Object>> leaveRows = new ArrayList<>(ROWS);
+
+    private ResultSet employees;
+    private ResultSet positions;
+    private ResultSet attendance;
+    private ResultSet overtime;
+    private ResultSet leaves;
+
+    @Setup(Level.Trial)
+    public void createRows() {
+        LocalDate start = LocalDate.of(2024, 6, 1);
+        for (int i = 1; i <= ROWS; i++) {
+            Map<String, Object> employee = new HashMap<>();
+            employee.put("employee_id", i);
+            employee.put("last_name", "Last" + i);
+            employee.put("first_name", "First" + i);
+            employee.put("birthdate", Date.valueOf(LocalDate.of(1990, 1, 1).plusDays(i)));
+            employee.put("address", i + " Ayala Avenue, Makati");
+            employee.put("contact_info", "0917" + (1000000 + i));
+            employee.put("sss_number", "34-" + (1000000 + i) + "-1");
+            employee.put("philhealth_number", "12" + (100000000 + i));
+            employee.put("pagibig_number", "91" + (100000000 + i));
+            employee.put("tin_number", "442-605-" + (100 + i % 900) + "-000");
+            employee.put("employment_status_id", 1);
+            employee.put("position_id", 1 + i % 10);
+            employee.put("supervisor_id", 1);
+            employeeRows.add(employee);
+
+            Map<String, Object> position = new HashMap<>();
+            position.put("position_id", i);
+            position.put("position_name", "Position " + i);
+            position.put("monthly_salary", 25000.0);
+            positionRows.add(position);
+
+            Map<String, Object> att = new HashMap<>();
+            att.put("attendance_id", i);
+            att.put("employee_id", i);
+            att.put("date", Date.valueOf(start.plusDays(i % 30)));
+            att.put("login_time", Time.valueOf(LocalTime.of(8, i % 30)));
+            att.put("logout_time", Time.valueOf(LocalTime.of(17, 0)));
+            attendanceRows.add(att);
+
+            Map<String, Object> ot = new HashMap<>();
+            ot.put("overtime_id", i);
+            ot.put("employee_id", i);
+            ot.put("date", Date.valueOf(start.plusDays(i % 30)));
+            ot.put("hours", 2.0);
+            ot.put("reason", "Deadline");
+            ot.put("approved", Boolean.TRUE);
+            overtimeRows.add(ot);
+
+            Map<String, Object> leave = new HashMap<>();
+            leave.put("leave_id", i);
+            leave.put("employee_id", i);
+            leave.put("leave_type", "Vacation");
+            leave.put("start_date", Date.valueOf(start.plusDays(i % 28)));
+            leave.put("end_date", Date.valueOf(start.plusDays(i % 28 + 1)));
+            leave.put("status", "Approved");
+            leaveRows.add(leave);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void rewind() {
+        employees = RowResultSet.of(employeeRows);
+        positions = RowResultSet.of(positionRows);
+        attendance = RowResultSet.of(attendanceRows);
+        overtime = RowResultSet.of(overtimeRows);
+        leaves = RowResultSet.of(leaveRows);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void employee(Blackhole bh) throws SQLException {
+        while (employees.next()) {
+            bh.consume(employeeDAO.mapResultSetToEmployee(employees));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void position(Blackhole bh) throws SQLException {
+        while (positions.next()) {
+            bh.consume(positionDAO.mapResultSetToPosition(positions));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void attendance(Blackhole bh) throws SQLException {
+        while (attendance.next()) {
+            bh.consume(attendanceDAO.mapResultSetToAttendance(attendance));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void overtime(Blackhole bh) throws SQLException {
+        while (overtime.next()) {
+            bh.consume(overtimeDAO.mapResultSetToOvertime(overtime));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void leaveRequest(Blackhole bh) throws SQLException {
+        while (leaves.next()) {
+            bh.consume(leaveDAO.mapResultSetToLeaveRequest(leaves));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal in-memory {@link ResultSet} over a list of rows keyed by column
+ * label, covering the getters the DAO mappers use. Column lookups go
+ * through a hash map, so the benchmark cost stays close to that of the
+ * mapper itself.
+ *
+ * @author rejoice
+ */
+public final class RowResultSet implements InvocationHandler {
+
+    private final List<Map<String, Object>> rows;
+    private int cursor = -1;
+    private boolean lastWasNull;
+
+    private RowResultSet(List<Map<String, Object>> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * @return A ResultSet positioned before the first of the given rows
+     */
+    public static ResultSet of(List<Map<String, Object>> rows) {
+        return (ResultSet) Proxy.newProxyInstance(RowResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, new RowResultSet(rows));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        switch (name) {
+            case "next":
+                return ++cursor < rows.size();
+            case "beforeFirst":
+                cursor = -1;
+                return null;
+            case "wasNull":
+                return lastWasNull;
+            case "close":
+                return null;
+            default:
+                break;
+        }
+        if (!name.startsWith("get") || args == null || args.length != 1 || !(args[0] instanceof String)) {
+            throw new UnsupportedOperationException(name);
+        }
+
+        Object value = rows.get(cursor).get((String) args[0]);
+        lastWasNull = value == null;
+        switch (name) {
+            case "getInt":
+                return value == null ? 0 : ((Number) value).intValue();
+            case "getDouble":
+                return value == null ? 0.0 : ((Number) value).doubleValue();
+            case "getBoolean":
+                return value != null && (Boolean) value;
+            case "getString":
+                return value == null ? null : value.toString();
+            case "getDate":
+                return (Date) value;
+            case "getTime":
+                return (Time) value;
+            case "getTimestamp":
+                return (Timestamp) value;
+            case "getObject":
+                return value;
+            default:
+                throw new UnsupportedOperationException(name);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package service;
+
+import model.ContributionBracket;
+import model.Payroll;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tax and government contribution table lookups plus
+ * {@link Payroll#calculateNetPay()}, each over a spread of salaries so
+ * every bracket is hit and branch prediction cannot settle on one path.
+ * {@code sssFullSchedule} looks up a 53-bracket SSS table to compare
+ * with the 10-bracket built-in one.
+ *
+ * @author rejoice
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContributionBracketBenchmark {
+
+    private static final int SALARIES = 1024;
+    private static final LocalDate AS_OF = SyntheticPayrollData.PERIOD_END;
+
+    private final ContributionTables tables = ContributionTables.DEFAULT;
+    private ContributionTables fullSchedule;
+    private final double[] salaries = new double[SALARIES];
+    private final Payroll[] payrolls = new Payroll[SALARIES];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        for (int i = 0; i < SALARIES; i++) {
+            // Log-uniform between 1,000 and 1,000,000 a month
+            salaries[i] = Math.pow(10, 3 + 3 * random.nextDouble());
+
+            Payroll payroll = new Payroll();
+            payroll.setGrossEarnings(salaries[i]);
+            payroll.setOvertimePay(random.nextInt(5000));
+            payroll.setRiceSubsidy(1500);
+            payroll.setPhoneAllowance(1000);
+            payroll.setClothingAllowance(1000);
+            payroll.setLateDeduction(random.nextInt(800));
+            payroll.setUndertimeDeduction(random.nextInt(800));
+            payroll.setSss(1125);
+            payroll.setPhilhealth(900);
+            payroll.setPagibig(100);
+            payroll.setTax(random.nextInt(20000));
+            payrolls[i] = payroll;
+        }
+
+        // Monthly salary credits of 4,000 to 30,000 in steps of 500, employee share 4.5%
+        List<ContributionBracket> brackets = ContributionTables.defaultBrackets();
+        LocalDate effective = LocalDate.of(2023, 1, 1);
+        for (int credit = 4000; credit <= 30000; credit += 500) {
+            double upperBound = credit == 30000 ? Double.POSITIVE_INFINITY : credit + 249.99;
+            brackets.add(new ContributionBracket(ContributionBracket.TYPE_SSS, effective, upperBound,
+                    credit * 0.045, 0, 0));
+        }
+        fullSchedule = ContributionTables.fromBrackets(brackets);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public void sssContribution(Blackhole bh) {
+        for (double salary : salaries) {
+            bh.consume(tables.sss(AS_OF, salary));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public void sssFullSchedule(Blackhole bh) {
+        for (double salary : salaries) {
+            bh.consume(fullSchedule.sss(AS_OF, salary));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public void philHealthContribution(Blackhole bh) {
+        for (double salary : salaries) {
+            bh.consume(tables.philhealth(AS_OF, salary));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public void pagIbigContribution(Blackhole bh) {
+        for (double salary : salaries) {
+            bh.consume(tables.pagibig(AS_OF, salary));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public void incomeTax(Blackhole bh) {
+        for (double salary : salaries) {
+            bh.consume(tables.incomeTax(AS_OF, salary));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SALARIES)
+    public void calculateNetPay(Blackhole bh) {
+        for (Payroll payroll : payrolls) {
+            payroll.calculateNetPay();
+            bh.consume(payroll.getNetPay());
+        }
+    }
+}
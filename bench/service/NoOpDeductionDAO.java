@@ -0,0 +1,45 @@
+package service;
+
+import dao.DeductionDAO;
+import model.Deduction;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Discards deductions instead of inserting them, counting how many were written
+ *
+ * @author rejoice
+ */
+public class NoOpDeductionDAO implements DeductionDAO {
+
+    private long written;
+
+    @Override
+    public void addDeduction(Deduction deduction) {
+        written++;
+    }
+
+    @Override
+    public void addDeductions(Collection<Deduction> deductions) {
+        if (deductions != null) {
+            written += deductions.size();
+        }
+    }
+
+    @Override
+    public void replaceDeductions(LocalDate periodStart, LocalDate periodEnd, Collection<Integer> employeeIds,
+                                  Collection<Deduction> deductions) {
+        addDeductions(deductions);
+    }
+
+    @Override
+    public List<Deduction> getDeductionsByEmployeeId(int employeeId) {
+        return List.of();
+    }
+
+    public long getWritten() {
+        return written;
+    }
+}
@@ -0,0 +1,107 @@
+package service;
+
+import dao.memory.InMemoryDatabase;
+import model.Payroll;
+import model.PayrollInputs;
+import service.PayrollCalculator.PayrollCalculationException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * End-to-end calculation path of {@link PayrollCalculator} over in-memory
+ * inputs: one employee out of a small fixed workforce, and a company-wide
+ * run at several workforce sizes
+ *
+ * @author rejoice
+ */
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PayrollCalculatorBenchmark {
+
+    // Held strongly; a logger only weakly referenced may lose its level to GC
+    private static final Logger CALCULATOR_LOGGER = Logger.getLogger(PayrollCalculator.class.getName());
+
+    /**
+     * A small fixed workforce; a single calculation does not depend on how
+     * many other employees there are
+     */
+    @State(Scope.Benchmark)
+    public static class SingleEmployee {
+
+        private static final int EMPLOYEES = 10;
+
+        PayrollCalculator calculator;
+        PayrollInputs inputs;
+
+        @Setup
+        public void setUp() {
+            Map<Integer, PayrollInputs> workforce = SyntheticPayrollData.workforce(EMPLOYEES, 42L);
+            calculator = calculatorFor(workforce);
+            inputs = workforce.get(1);
+        }
+    }
+
+    /**
+     * A workforce of each benchmarked size, for the company-wide run
+     */
+    @State(Scope.Benchmark)
+    public static class Workforce {
+
+        @Param({"1000", "10000", "100000"})
+        public int employees;
+
+        PayrollCalculator calculator;
+
+        @Setup
+        public void setUp() {
+            calculator = calculatorFor(SyntheticPayrollData.workforce(employees, 42L));
+        }
+    }
+
+    private static PayrollCalculator calculatorFor(Map<Integer, PayrollInputs> workforce) {
+        // Per-employee logging would dominate the measurement
+        CALCULATOR_LOGGER.setLevel(Level.SEVERE);
+
+        InMemoryDatabase db = new InMemoryDatabase();
+        db.load(workforce.values());
+        return new PayrollCalculator(db.getPayrollInputsDAO(), new NoOpDeductionDAO());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Payroll singleEmployee(SingleEmployee state) throws PayrollCalculationException {
+        return state.calculator.calculatePayroll(state.inputs.getEmployeeId(),
+                SyntheticPayrollData.PERIOD_START, SyntheticPayrollData.PERIOD_END);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Payroll simulateSingleEmployee(SingleEmployee state) throws PayrollCalculationException {
+        return state.calculator.simulatePayroll(state.inputs, state.calculator.getRules());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PayrollBatchResult batch(Workforce state) throws PayrollCalculationException {
+        return state.calculator.calculatePayrollForAll(SyntheticPayrollData.PERIOD_START, SyntheticPayrollData.PERIOD_END);
+    }
+}
@@ -0,0 +1,139 @@
+package service;
+
+import model.Attendance;
+import model.CompensationDetails;
+import model.Employee;
+import model.GovernmentContributions;
+import model.LeaveRequest;
+import model.Overtime;
+import model.PayrollInputs;
+import model.Position;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic payroll inputs for benchmarks. The same seed
+ * always produces the same workforce, so runs stay comparable.
+ *
+ * @author rejoice
+ */
+public final class SyntheticPayrollData {
+
+    public static final LocalDate PERIOD_START = LocalDate.of(2024, 6, 1);
+    public static final LocalDate PERIOD_END = LocalDate.of(2024, 6, 30);
+
+    private static final double[] SALARIES = {
+        3500, 9000, 18000, 25000, 35000, 52000, 75000, 120000, 250000, 800000
+    };
+
+    private SyntheticPayrollData() {}
+
+    /**
+     * @return One position per salary bracket, keyed by position ID
+     */
+    public static Map<Integer, Position> positions() {
+        Map<Integer, Position> positions = new LinkedHashMap<>();
+        for (int i = 0; i < SALARIES.length; i++) {
+            Position position = new Position();
+            position.setPositionId(i + 1);
+            position.setPositionName("Position " + (i + 1));
+            position.setMonthlySalary(SALARIES[i]);
+            positions.put(position.getPositionId(), position);
+        }
+        return positions;
+    }
+
+    /**
+     * @return Inputs of the given number of employees for the June 2024 period, keyed by employee ID
+     */
+    public static Map<Integer, PayrollInputs> workforce(int employeeCount, long seed) {
+        Random random = new Random(seed);
+        Map<Integer, Position> positions = positions();
+        Map<Integer, PayrollInputs> inputs = new LinkedHashMap<>();
+        for (int employeeId = 1; employeeId <= employeeCount; employeeId++) {
+            Position position = positions.get(1 + random.nextInt(positions.size()));
+            inputs.put(employeeId, employee(employeeId, position, random));
+        }
+        return inputs;
+    }
+
+    /**
+     * @return Inputs of one employee with a full month of attendance
+     */
+    public static PayrollInputs employee(int employeeId, Position position, Random random) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setFirstName("First" + employeeId);
+        employee.setLastName("Last" + employeeId);
+        employee.setPositionId(position.getPositionId());
+        employee.setEmploymentStatusId(1);
+
+        List<Attendance> attendance = attendance(employeeId, workingDays(), random);
+
+        List<Overtime> overtime = new ArrayList<>();
+        int overtimeDays = random.nextInt(4);
+        for (int i = 0; i < overtimeDays; i++) {
+            Overtime ot = new Overtime(employeeId, Date.valueOf(PERIOD_START.plusDays(random.nextInt(28))),
+                    1 + random.nextInt(4), "Deadline");
+            ot.setApproved(true);
+            overtime.add(ot);
+        }
+
+        List<LeaveRequest> leaves = new ArrayList<>();
+        if (random.nextInt(5) == 0) {
+            LocalDate start = PERIOD_START.plusDays(random.nextInt(25));
+            LeaveRequest leave = new LeaveRequest(employeeId, Date.valueOf(start),
+                    Date.valueOf(start.plusDays(random.nextInt(3))), random.nextBoolean() ? "Unpaid" : "Vacation");
+            leave.setStatus("Approved");
+            leaves.add(leave);
+        }
+
+        CompensationDetails comp = new CompensationDetails();
+        comp.setEmployeeId(employeeId);
+        comp.setRiceSubsidy(1500);
+        comp.setPhoneAllowance(500 + 500 * random.nextInt(3));
+        comp.setClothingAllowance(1000);
+
+        // Roughly one employee in ten has no contribution record and falls back to the bracket functions
+        GovernmentContributions gov = random.nextInt(10) == 0 ? null
+                : new GovernmentContributions(employeeId, 1125.00, 900.00, 100.00, 0.0);
+
+        return new PayrollInputs(employee, position, PERIOD_START, PERIOD_END,
+                attendance, overtime, leaves, comp, gov);
+    }
+
+    /**
+     * @return Attendance of the given days, with about a third late and a quarter leaving early
+     */
+    public static List<Attendance> attendance(int employeeId, List<LocalDate> days, Random random) {
+        List<Attendance> attendance = new ArrayList<>(days.size());
+        for (LocalDate day : days) {
+            LocalTime login = LocalTime.of(8, 0).plusMinutes(random.nextInt(3) == 0 ? 16 + random.nextInt(90) : random.nextInt(15));
+            LocalTime logout = LocalTime.of(17, 0).minusMinutes(random.nextInt(4) == 0 ? 1 + random.nextInt(120) : 0);
+            attendance.add(new Attendance(employeeId, Date.valueOf(day), Time.valueOf(login), Time.valueOf(logout)));
+        }
+        return attendance;
+    }
+
+    /**
+     * @return Weekdays of the period
+     */
+    public static List<LocalDate> workingDays() {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = PERIOD_START; !day.isAfter(PERIOD_END); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+}
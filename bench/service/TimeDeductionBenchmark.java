@@ -0,0 +1,70 @@
+package service;
+
+import model.Attendance;
+import model.AttendanceSummary;
+import util.Money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attendance summary and late and undertime pricing, as done for payroll
+ * inputs loaded with attendance records, over lists of several sizes
+ *
+ * @author rejoice
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeDeductionBenchmark {
+
+    // One month, one quarter and one year of working days
+    @Param({"22", "66", "260"})
+    public int days;
+
+    private final PayrollRules rules = PayrollRules.DEFAULT;
+    private final long monthlySalary = Money.fromPesos(25000.0);
+    private List<Attendance> attendance;
+
+    @Setup
+    public void setUp() {
+        List<LocalDate> workingDays = new ArrayList<>(days);
+        LocalDate day = SyntheticPayrollData.PERIOD_START;
+        while (workingDays.size() < days) {
+            workingDays.add(day);
+            day = day.plusDays(1);
+        }
+        attendance = SyntheticPayrollData.attendance(1, workingDays, new Random(42L));
+    }
+
+    @Benchmark
+    public AttendanceSummary summarize() {
+        return AttendanceSummary.of(1, attendance, rules.getStandardLoginTime(),
+                rules.getLateThresholdTime(), rules.getStandardLogoutTime());
+    }
+
+    @Benchmark
+    public long timeDeductions() {
+        AttendanceSummary summary = summarize();
+        return PayrollCalculator.priceMinutes(summary.getLateMinutes(), monthlySalary, rules)
+                + PayrollCalculator.priceMinutes(summary.getUndertimeMinutes(), monthlySalary, rules);
+    }
+}
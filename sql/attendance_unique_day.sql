@@ -0,0 +1,9 @@
+-- One attendance record per employee and day. Bulk punch imports rely on
+-- this key to skip days that are already recorded, so re-importing a log
+-- is harmless. Duplicates already in the table are removed first,
+-- keeping the earliest record of each day.
+
+DELETE a FROM attendance a
+    JOIN attendance b ON a.employee_id = b.employee_id AND a.date = b.date AND a.attendance_id > b.attendance_id;
+
+ALTER TABLE attendance ADD CONSTRAINT uk_attendance_employee_date UNIQUE (employee_id, date);
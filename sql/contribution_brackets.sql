@@ -0,0 +1,45 @@
+-- Effective-dated SSS, PhilHealth, Pag-IBIG and income tax tables.
+-- A salary in a bracket owes fixed_amount + rate * (salary - excess_over),
+-- capped at maximum_amount. A NULL upper_bound marks the top bracket and a
+-- NULL maximum_amount means no cap. annual_basis brackets apply to the
+-- annualised salary. A new table takes effect by inserting all of its
+-- brackets under a later effective_from; old rows stay so past periods
+-- recompute with the tables in force at the time.
+
+CREATE TABLE IF NOT EXISTS contribution_brackets (
+    bracket_id      INT AUTO_INCREMENT PRIMARY KEY,
+    table_type      VARCHAR(20)    NOT NULL,
+    effective_from  DATE           NOT NULL,
+    upper_bound     DECIMAL(14, 2) NULL,
+    fixed_amount    DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    rate            DECIMAL(7, 6)  NOT NULL DEFAULT 0,
+    excess_over     DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    maximum_amount  DECIMAL(14, 2) NULL,
+    annual_basis    BOOLEAN        NOT NULL DEFAULT FALSE,
+    UNIQUE KEY uk_contribution_bracket (table_type, effective_from, upper_bound),
+    CHECK (table_type IN ('SSS', 'PhilHealth', 'PagIBIG', 'IncomeTax'))
+);
+
+-- Built-in tables of service.ContributionTables, in force from 2018-01-01
+INSERT INTO contribution_brackets
+    (table_type, effective_from, upper_bound, fixed_amount, rate, excess_over, maximum_amount, annual_basis)
+VALUES
+    ('SSS', '2018-01-01', 4000.00, 180.00, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', 4750.00, 202.50, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', 5500.00, 225.00, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', 6250.00, 247.50, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', 7000.00, 270.00, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', 7750.00, 292.50, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', 8500.00, 315.00, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', 9250.00, 337.50, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', 10000.00, 360.00, 0, 0, NULL, FALSE),
+    ('SSS', '2018-01-01', NULL, 1125.00, 0, 0, NULL, FALSE),
+    ('PhilHealth', '2018-01-01', NULL, 0, 0.0225, 0, 5000.00, FALSE),
+    ('PagIBIG', '2018-01-01', 1500.00, 0, 0.01, 0, NULL, FALSE),
+    ('PagIBIG', '2018-01-01', NULL, 0, 0.02, 0, NULL, FALSE),
+    ('IncomeTax', '2018-01-01', 250000.00, 0, 0, 0, NULL, TRUE),
+    ('IncomeTax', '2018-01-01', 400000.00, 0, 0.15, 250000.00, NULL, TRUE),
+    ('IncomeTax', '2018-01-01', 800000.00, 22500.00, 0.20, 400000.00, NULL, TRUE),
+    ('IncomeTax', '2018-01-01', 2000000.00, 102500.00, 0.25, 800000.00, NULL, TRUE),
+    ('IncomeTax', '2018-01-01', 8000000.00, 402500.00, 0.30, 2000000.00, NULL, TRUE),
+    ('IncomeTax', '2018-01-01', NULL, 2202500.00, 0.35, 8000000.00, NULL, TRUE);
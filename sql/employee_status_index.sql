@@ -0,0 +1,4 @@
+-- Lets EmployeeDAO.streamEmployeesByStatus seek straight to the next
+-- keyset page of a status instead of scanning the employees before it.
+
+CREATE INDEX idx_employee_status_id ON employee (employment_status_id, employee_id);
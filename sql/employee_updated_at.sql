@@ -0,0 +1,7 @@
+-- Version stamp of each employee row, set by MySQL on every insert and
+-- update. dao.CachingEmployeeDAO compares it with the stamp of a cached
+-- employee to tell whether the row changed since it was cached.
+
+ALTER TABLE employee
+    ADD COLUMN updated_at TIMESTAMP(6) NOT NULL
+        DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
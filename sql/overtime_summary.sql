@@ -0,0 +1,27 @@
+-- Overtime hours per employee and calendar month, approved and pending
+-- apart. JdbcOvertimeDAO keeps it current in the same transaction as
+-- every insert, update and delete of overtime, so the overtime of a
+-- monthly pay period is read from one row. Rerun the backfill after
+-- changing overtime outside the DAO.
+
+CREATE TABLE IF NOT EXISTS overtime_summary (
+    employee_id INT NOT NULL,
+    period_start DATE NOT NULL,
+    approved_hours DECIMAL(10, 2) NOT NULL DEFAULT 0,
+    pending_hours DECIMAL(10, 2) NOT NULL DEFAULT 0,
+    approved_count INT NOT NULL DEFAULT 0,
+    pending_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (employee_id, period_start),
+    KEY idx_overtime_summary_period (period_start)
+);
+
+DELETE FROM overtime_summary;
+
+INSERT INTO overtime_summary (employee_id, period_start, approved_hours, pending_hours, approved_count, pending_count)
+SELECT employee_id, DATE_FORMAT(date, '%Y-%m-01'),
+       SUM(CASE WHEN approved THEN hours ELSE 0 END),
+       SUM(CASE WHEN approved THEN 0 ELSE hours END),
+       SUM(CASE WHEN approved THEN 1 ELSE 0 END),
+       SUM(CASE WHEN approved THEN 0 ELSE 1 END)
+FROM overtime
+GROUP BY employee_id, DATE_FORMAT(date, '%Y-%m-01');
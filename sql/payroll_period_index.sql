@@ -0,0 +1,4 @@
+-- Lets the payroll register find the payrolls of a period without
+-- scanning the whole table.
+
+CREATE INDEX idx_payroll_period ON payroll (period_start, period_end);
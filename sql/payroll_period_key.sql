@@ -0,0 +1,18 @@
+-- One payroll per employee and period, so re-running a period updates
+-- its payrolls in place. Duplicates already in the table are removed
+-- first, keeping the latest calculation of each period.
+--
+-- Deductions record the period they were calculated for, so a re-run
+-- replaces that period's deductions instead of adding to them. Existing
+-- deductions have no period and are left alone.
+
+DELETE a FROM payroll a
+    JOIN payroll b ON a.employee_id = b.employee_id AND a.period_start = b.period_start
+        AND a.period_end = b.period_end AND a.payroll_id < b.payroll_id;
+
+ALTER TABLE payroll ADD CONSTRAINT uk_payroll_employee_period UNIQUE (employee_id, period_start, period_end);
+
+ALTER TABLE deductions
+    ADD COLUMN period_start DATE NULL,
+    ADD COLUMN period_end DATE NULL,
+    ADD INDEX idx_deductions_employee_period (employee_id, period_start, period_end);
@@ -0,0 +1,46 @@
+package dao;
+
+/**
+ * Point-in-time hit and miss counts of a DAO cache
+ * @author rejoice
+ */
+public final class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final int size;
+
+    public CacheStats(long hits, long misses, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return Number of entries cached
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Share of lookups answered from the cache, 0 when there were none
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStats{hits=%d, misses=%d, hitRate=%.1f%%, size=%d}",
+                hits, misses, getHitRate() * 100, size);
+    }
+}
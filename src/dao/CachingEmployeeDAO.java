@@ -0,0 +1,218 @@
+package dao;
+
+import model.Employee;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * {@link EmployeeDAO} keeping the most recently used employees in memory,
+ * up to a fixed number, and evicting the least recently used beyond that.
+ * Inserts, updates and deletes made through this DAO invalidate the
+ * employee. Changes made elsewhere are caught by the optional version
+ * check, which compares the cached version stamp with the one in the
+ * database before serving an employee; the check reads one indexed
+ * column instead of the whole row. Use it wherever a stale employee
+ * could reach a payroll.
+ * <p>
+ * Cached employees are shared between callers, like those of the
+ * in-memory store; update a copy and save it rather than editing one in
+ * place. Lists and streams are always read from the delegate.
+ * @author rejoice
+ */
+public class CachingEmployeeDAO implements EmployeeDAO {
+
+    // Enough for the whole workforce, overridable with -Dpayroll.employeeCache.size=<value>
+    public static final int DEFAULT_CAPACITY = Integer.getInteger("payroll.employeeCache.size", 16_384);
+
+    private final EmployeeDAO delegate;
+    private final int capacity;
+    private final boolean verifyVersions;
+    private final LinkedHashMap<Integer, CachedEmployee> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleReloads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // Bumped by every invalidation, so a load that raced with one is not cached
+    private long invalidations;
+
+    public CachingEmployeeDAO(EmployeeDAO delegate) {
+        this(delegate, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param delegate DAO the employees are read from and written to
+     * @param capacity Most employees kept in memory
+     * @param verifyVersions Whether to check the version stamp in the
+     *        database before serving a cached employee
+     */
+    public CachingEmployeeDAO(EmployeeDAO delegate, int capacity, boolean verifyVersions) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Employee DAO cannot be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.verifyVersions = verifyVersions;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedEmployee> eldest) {
+                if (size() > CachingEmployeeDAO.this.capacity) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return delegate.getAllEmployees();
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return delegate.streamEmployees();
+    }
+
+    @Override
+    public Employee getEmployeeById(int employeeId) {
+        CachedEmployee cached;
+        long generation;
+        synchronized (entries) {
+            cached = entries.get(employeeId);
+            generation = invalidations;
+        }
+
+        long version = -1;
+        if (verifyVersions) {
+            version = delegate.getEmployeeVersion(employeeId);
+            if (version == -1) {
+                invalidate(employeeId);
+                misses.increment();
+                return null;
+            }
+        }
+        if (cached != null && (!verifyVersions || cached.version() == version)) {
+            hits.increment();
+            return cached.employee();
+        }
+
+        misses.increment();
+        if (cached != null) {
+            staleReloads.increment();
+        }
+        // The version is read before the row, so a change in between leaves
+        // an older stamp and the next check reloads
+        Employee employee = delegate.getEmployeeById(employeeId);
+        if (employee != null) {
+            synchronized (entries) {
+                if (generation == invalidations) {
+                    entries.put(employeeId, new CachedEmployee(employee, version));
+                }
+            }
+        }
+        return employee;
+    }
+
+    @Override
+    public Set<Integer> getExistingEmployeeIds(Collection<Integer> employeeIds) {
+        return delegate.getExistingEmployeeIds(employeeIds);
+    }
+
+    @Override
+    public long getEmployeeVersion(int employeeId) {
+        return delegate.getEmployeeVersion(employeeId);
+    }
+
+    @Override
+    public boolean insertEmployee(Employee e) {
+        boolean inserted = delegate.insertEmployee(e);
+        invalidate(e.getEmployeeId());
+        return inserted;
+    }
+
+    @Override
+    public boolean updateEmployee(Employee e) {
+        boolean updated = delegate.updateEmployee(e);
+        invalidate(e.getEmployeeId());
+        return updated;
+    }
+
+    @Override
+    public boolean deleteEmployee(int employeeId) {
+        boolean deleted = delegate.deleteEmployee(employeeId);
+        invalidate(employeeId);
+        return deleted;
+    }
+
+    @Override
+    public List<Employee> getEmployeesByStatus(int statusId) {
+        return delegate.getEmployeesByStatus(statusId);
+    }
+
+    @Override
+    public Stream<Employee> streamEmployeesByStatus(int statusId) {
+        return delegate.streamEmployeesByStatus(statusId);
+    }
+
+    /**
+     * Drop one employee so the next lookup reads it from the database
+     */
+    public void invalidate(int employeeId) {
+        synchronized (entries) {
+            entries.remove(employeeId);
+            invalidations++;
+        }
+    }
+
+    /**
+     * Drop every cached employee
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            invalidations++;
+        }
+    }
+
+    public CacheStats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), size);
+    }
+
+    /**
+     * @return Cached employees that failed the version check and were read again
+     */
+    public long getStaleReloads() {
+        return staleReloads.sum();
+    }
+
+    /**
+     * @return Employees dropped to stay within capacity; a steady count
+     *         during a payroll run means the cache is too small
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isVerifyingVersions() {
+        return verifyVersions;
+    }
+
+    private record CachedEmployee(Employee employee, long version) {}
+}
@@ -0,0 +1,60 @@
+package dao;
+
+import model.EmploymentStatus;
+import java.util.Map;
+
+/**
+ * {@link EmploymentStatusDAO} serving lookups from a preloaded copy of the
+ * employment status table. Updates made through this DAO mark the
+ * cached table stale; changes made elsewhere show after {@link #refresh()}.
+ * @author rejoice
+ */
+public class CachingEmploymentStatusDAO implements EmploymentStatusDAO {
+
+    private final EmploymentStatusDAO delegate;
+    private final ReferenceCache<EmploymentStatus> cache;
+
+    public CachingEmploymentStatusDAO(EmploymentStatusDAO delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Employment status DAO cannot be null");
+        }
+        this.delegate = delegate;
+        this.cache = new ReferenceCache<>(delegate::getAllStatuses, delegate::getStatusById);
+    }
+
+    @Override
+    public EmploymentStatus getStatusById(int statusId) {
+        return cache.get(statusId);
+    }
+
+    @Override
+    public Map<Integer, EmploymentStatus> getAllStatuses() {
+        return cache.getAll();
+    }
+
+    @Override
+    public boolean updateStatus(EmploymentStatus status) {
+        boolean updated = delegate.updateStatus(status);
+        cache.invalidate(status.getStatusId());
+        return updated;
+    }
+
+    /**
+     * Reload the whole employment status table
+     */
+    public void refresh() {
+        cache.refresh();
+    }
+
+    /**
+     * Mark the cached table stale after a change to one employment status,
+     * so the next lookup reads the table again
+     */
+    public void invalidate(int statusId) {
+        cache.invalidate(statusId);
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
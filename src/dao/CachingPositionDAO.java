@@ -0,0 +1,61 @@
+package dao;
+
+import model.Position;
+import java.util.Map;
+
+/**
+ * {@link PositionDAO} serving lookups from a preloaded copy of the position
+ * table, so the per-employee position lookup of a payroll run is a map
+ * read instead of a query. Updates made through this DAO mark the
+ * cached table stale; changes made elsewhere show after {@link #refresh()}.
+ * @author rejoice
+ */
+public class CachingPositionDAO implements PositionDAO {
+
+    private final PositionDAO delegate;
+    private final ReferenceCache<Position> cache;
+
+    public CachingPositionDAO(PositionDAO delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Position DAO cannot be null");
+        }
+        this.delegate = delegate;
+        this.cache = new ReferenceCache<>(delegate::getAllPositions, delegate::getPositionById);
+    }
+
+    @Override
+    public Position getPositionById(int positionId) {
+        return cache.get(positionId);
+    }
+
+    @Override
+    public Map<Integer, Position> getAllPositions() {
+        return cache.getAll();
+    }
+
+    @Override
+    public boolean updatePosition(Position position) {
+        boolean updated = delegate.updatePosition(position);
+        cache.invalidate(position.getPositionId());
+        return updated;
+    }
+
+    /**
+     * Reload the whole position table
+     */
+    public void refresh() {
+        cache.refresh();
+    }
+
+    /**
+     * Mark the cached table stale after a change to one position,
+     * so the next lookup reads the table again
+     */
+    public void invalidate(int positionId) {
+        cache.invalidate(positionId);
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
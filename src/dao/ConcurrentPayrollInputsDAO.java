@@ -0,0 +1,203 @@
+package dao;
+
+import model.Attendance;
+import model.CompensationDetails;
+import model.Employee;
+import model.GovernmentContributions;
+import model.LeaveRequest;
+import model.Overtime;
+import model.PayrollInputs;
+import model.Position;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads {@link PayrollInputs} by running the lookups of the individual
+ * DAOs at the same time, each on its own virtual thread inside a
+ * {@link StructuredTaskScope}. Loading takes as long as the slowest
+ * lookup rather than the sum of all of them. The first failing lookup
+ * cancels the others, and a single employee must be loaded within a
+ * deadline. Every lookup borrows its own pooled connection, so one load
+ * holds up to six connections at once; meant for on-demand
+ * recalculation, while batch runs are better served by
+ * {@link JdbcPayrollInputsDAO}.
+ * @author rejoice
+ */
+public class ConcurrentPayrollInputsDAO implements PayrollInputsDAO {
+    private static final Logger logger = Logger.getLogger(ConcurrentPayrollInputsDAO.class.getName());
+
+    // Deadline for loading one employee, overridable with -Dpayroll.inputs.deadlineMs=<value>
+    private static final Duration DEFAULT_DEADLINE =
+            Duration.ofMillis(Long.getLong("payroll.inputs.deadlineMs", 5_000L));
+
+    private final EmployeeDAO employeeDAO;
+    private final PositionDAO positionDAO;
+    private final AttendanceDAO attendanceDAO;
+    private final OvertimeDAO overtimeDAO;
+    private final LeaveRequestDAO leaveDAO;
+    private final CompensationDetailsDAO compDAO;
+    private final GovernmentContributionsDAO govDAO;
+    private final Duration deadline;
+
+    public ConcurrentPayrollInputsDAO() {
+        this(DEFAULT_DEADLINE);
+    }
+
+    public ConcurrentPayrollInputsDAO(Duration deadline) {
+        this(ReferenceData.employees(), ReferenceData.positions(), new JdbcAttendanceDAO(), new JdbcOvertimeDAO(),
+                new JdbcLeaveRequestDAO(), new JdbcCompensationDetailsDAO(), new JdbcGovernmentContributionsDAO(),
+                deadline);
+    }
+
+    public ConcurrentPayrollInputsDAO(EmployeeDAO employeeDAO, PositionDAO positionDAO, AttendanceDAO attendanceDAO,
+                                      OvertimeDAO overtimeDAO, LeaveRequestDAO leaveDAO,
+                                      CompensationDetailsDAO compDAO, GovernmentContributionsDAO govDAO,
+                                      Duration deadline) {
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("Deadline must be positive");
+        }
+        this.employeeDAO = employeeDAO;
+        this.positionDAO = positionDAO;
+        this.attendanceDAO = attendanceDAO;
+        this.overtimeDAO = overtimeDAO;
+        this.leaveDAO = leaveDAO;
+        this.compDAO = compDAO;
+        this.govDAO = govDAO;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Loads the payroll inputs of one employee for a period, running the
+     * lookups concurrently. The position depends on the employee, so the
+     * two are looked up one after the other, alongside the rest.
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Payroll inputs, or null if the employee does not exist
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if a lookup fails or the deadline passes
+     */
+    @Override
+    public PayrollInputs loadPayrollInputs(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        validateEmployeeId(employeeId);
+        validateDateRange(periodStart, periodEnd);
+
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            Subtask<EmployeePosition> employee = scope.fork(() -> {
+                Employee e = employeeDAO.getEmployeeById(employeeId);
+                return new EmployeePosition(e, e != null ? positionDAO.getPositionById(e.getPositionId()) : null);
+            });
+            Subtask<List<Attendance>> attendance = scope.fork(() ->
+                    attendanceDAO.getAttendanceByEmployeeIdBetweenDates(employeeId, periodStart, periodEnd));
+            Subtask<List<Overtime>> overtime = scope.fork(() ->
+                    overtimeDAO.getOvertimeByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd));
+            Subtask<List<LeaveRequest>> leaves = scope.fork(() ->
+                    leaveDAO.getApprovedLeavesByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd));
+            Subtask<CompensationDetails> comp = scope.fork(() -> compDAO.getCompensationDetailsByEmployeeId(employeeId));
+            Subtask<GovernmentContributions> gov = scope.fork(() -> govDAO.getByEmployeeId(employeeId));
+
+            scope.joinUntil(Instant.now().plus(deadline));
+            scope.throwIfFailed(cause -> new RuntimeException("Failed to load payroll inputs", cause));
+
+            if (employee.get().employee() == null) {
+                return null;
+            }
+            return new PayrollInputs(employee.get().employee(), employee.get().position(), periodStart, periodEnd,
+                    attendance.get(), overtime.get(), leaves.get(), comp.get(), gov.get());
+
+        } catch (TimeoutException ex) {
+            logger.log(Level.WARNING, String.format(
+                "Loading payroll inputs for employee ID: %d took longer than %d ms",
+                employeeId, deadline.toMillis()), ex);
+            throw new RuntimeException("Timed out loading payroll inputs", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading payroll inputs", ex);
+        } catch (RuntimeException ex) {
+            logger.log(Level.SEVERE, String.format(
+                "Error loading payroll inputs for employee ID: %d between dates: %s and %s",
+                employeeId, periodStart, periodEnd), ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Loads the payroll inputs of every employee for a period, running the
+     * set-based query of each input table concurrently. There is no
+     * deadline; a batch takes as long as it takes.
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Payroll inputs keyed by employee ID, in employee listing order
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if a lookup fails
+     */
+    @Override
+    public Map<Integer, PayrollInputs> loadPayrollInputsForAll(LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
+
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            Subtask<List<Employee>> employees = scope.fork(employeeDAO::getAllEmployees);
+            Subtask<Map<Integer, Position>> positions = scope.fork(positionDAO::getAllPositions);
+            Subtask<Map<Integer, List<Attendance>>> attendanceByEmployee = scope.fork(() ->
+                    attendanceDAO.getAttendanceBetweenDatesGroupedByEmployee(periodStart, periodEnd));
+            Subtask<Map<Integer, List<Overtime>>> overtimeByEmployee = scope.fork(() ->
+                    overtimeDAO.getOvertimeByDateRangeGroupedByEmployee(periodStart, periodEnd));
+            Subtask<Map<Integer, List<LeaveRequest>>> leavesByEmployee = scope.fork(() ->
+                    leaveDAO.getApprovedLeavesByDateRangeGroupedByEmployee(periodStart, periodEnd));
+            Subtask<Map<Integer, CompensationDetails>> compByEmployee =
+                    scope.fork(compDAO::getAllCompensationDetailsByEmployee);
+            Subtask<Map<Integer, GovernmentContributions>> govByEmployee = scope.fork(govDAO::getAllByEmployee);
+
+            scope.join();
+            scope.throwIfFailed(cause -> new RuntimeException("Failed to load payroll inputs", cause));
+
+            Map<Integer, PayrollInputs> inputs = new LinkedHashMap<>();
+            for (Employee employee : employees.get()) {
+                int employeeId = employee.getEmployeeId();
+                inputs.put(employeeId, new PayrollInputs(employee,
+                        positions.get().get(employee.getPositionId()),
+                        periodStart, periodEnd,
+                        attendanceByEmployee.get().get(employeeId),
+                        overtimeByEmployee.get().get(employeeId),
+                        leavesByEmployee.get().get(employeeId),
+                        compByEmployee.get().get(employeeId),
+                        govByEmployee.get().get(employeeId)));
+            }
+            return inputs;
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading payroll inputs", ex);
+        }
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    private record EmployeePosition(Employee employee, Position position) {}
+
+    private void validateEmployeeId(int employeeId) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+    }
+
+    private void validateDateRange(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+    }
+}
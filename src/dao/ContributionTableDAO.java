@@ -0,0 +1,22 @@
+package dao;
+
+import model.ContributionBracket;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Data Access Object for effective-dated contribution and tax tables
+ * @author rejoice
+ */
+public interface ContributionTableDAO {
+
+    /**
+     * @return Every bracket of every table version
+     */
+    List<ContributionBracket> getAllBrackets();
+
+    /**
+     * Stores the brackets of new table versions; either all of them are stored or none
+     */
+    void addBrackets(Collection<ContributionBracket> brackets);
+}
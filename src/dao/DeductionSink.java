@@ -0,0 +1,164 @@
+package dao;
+
+import model.Deduction;
+import model.Payroll;
+import util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind buffer for the output of a batch payroll run.
+ * Payrolls and their deductions are gathered in memory and flushed in
+ * large chunks; each flush stores the payroll rows and the deduction rows
+ * in one transaction, so a deduction is never stored without its payroll.
+ * A payroll replaces the stored one of its employee and period, and its
+ * deductions replace theirs, so a failed or repeated run can simply be
+ * run again.
+ * @author rejoice
+ */
+public class DeductionSink implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(DeductionSink.class.getName());
+
+    public static final int DEFAULT_FLUSH_THRESHOLD = 500;
+
+    private final JdbcPayrollDAO payrollDAO;
+    private final JdbcDeductionDAO deductionDAO;
+    private final int flushThreshold;
+
+    private final List<Payroll> pendingPayrolls = new ArrayList<>();
+    private final List<Deduction> pendingDeductions = new ArrayList<>();
+    private int flushedPayrolls;
+    private int flushedDeductions;
+
+    public DeductionSink() {
+        this(DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    /**
+     * @param flushThreshold Number of buffered payrolls that triggers a flush
+     */
+    public DeductionSink(int flushThreshold) {
+        if (flushThreshold <= 0) {
+            throw new IllegalArgumentException("Flush threshold must be positive");
+        }
+        this.payrollDAO = new JdbcPayrollDAO();
+        this.deductionDAO = new JdbcDeductionDAO();
+        this.flushThreshold = flushThreshold;
+    }
+
+    /**
+     * Buffers a payroll with its deductions, flushing once the threshold is reached
+     * @throws SQLException if a triggered flush fails; the chunk stays pending
+     */
+    public synchronized void add(Payroll payroll, Collection<Deduction> deductions) throws SQLException {
+        if (payroll == null) {
+            throw new IllegalArgumentException("Payroll cannot be null");
+        }
+        pendingPayrolls.add(payroll);
+        if (deductions != null) {
+            pendingDeductions.addAll(deductions);
+        }
+        if (pendingPayrolls.size() >= flushThreshold) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes every buffered payroll and deduction in one transaction.
+     * On failure the transaction is rolled back and the chunk stays pending,
+     * so it can be retried or discarded.
+     * @throws SQLException if the chunk could not be written
+     */
+    public synchronized void flush() throws SQLException {
+        if (pendingPayrolls.isEmpty()) {
+            return;
+        }
+
+        int[] previousIds = pendingPayrolls.stream().mapToInt(Payroll::getPayrollId).toArray();
+        try (Connection conn = DBConnection.getBatchConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                payrollDAO.upsertPayrolls(conn, pendingPayrolls);
+                for (Map.Entry<List<Date>, List<Integer>> period : employeeIdsByPeriod().entrySet()) {
+                    deductionDAO.deletePeriodDeductions(conn, period.getKey().get(0).toLocalDate(),
+                            period.getKey().get(1).toLocalDate(), period.getValue());
+                }
+                deductionDAO.addDeductions(conn, pendingDeductions);
+                conn.commit();
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                // IDs read back before the rollback may belong to rows that no
+                // longer exist, so each payroll gets back the ID it came with
+                for (int i = 0; i < previousIds.length; i++) {
+                    pendingPayrolls.get(i).setPayrollId(previousIds[i]);
+                }
+                logger.log(Level.SEVERE, String.format("Failed to flush %d payrolls with %d deductions",
+                        pendingPayrolls.size(), pendingDeductions.size()), ex);
+                throw ex;
+            }
+        }
+
+        flushedPayrolls += pendingPayrolls.size();
+        flushedDeductions += pendingDeductions.size();
+        logger.fine(String.format("Flushed %d payrolls with %d deductions",
+                pendingPayrolls.size(), pendingDeductions.size()));
+        pendingPayrolls.clear();
+        pendingDeductions.clear();
+    }
+
+    /**
+     * Employees of the buffered payrolls, by pay period
+     */
+    private Map<List<Date>, List<Integer>> employeeIdsByPeriod() {
+        Map<List<Date>, List<Integer>> byPeriod = new LinkedHashMap<>();
+        for (Payroll payroll : pendingPayrolls) {
+            byPeriod.computeIfAbsent(List.of(payroll.getPeriodStart(), payroll.getPeriodEnd()), period -> new ArrayList<>())
+                    .add(payroll.getEmployeeId());
+        }
+        return byPeriod;
+    }
+
+    /**
+     * @return Employee IDs of the payrolls waiting to be flushed
+     */
+    public synchronized List<Integer> getPendingEmployeeIds() {
+        List<Integer> ids = new ArrayList<>(pendingPayrolls.size());
+        for (Payroll payroll : pendingPayrolls) {
+            ids.add(payroll.getEmployeeId());
+        }
+        return ids;
+    }
+
+    /**
+     * Drops the buffered chunk without writing it
+     */
+    public synchronized void discardPending() {
+        pendingPayrolls.clear();
+        pendingDeductions.clear();
+    }
+
+    public synchronized int getFlushedPayrolls() {
+        return flushedPayrolls;
+    }
+
+    public synchronized int getFlushedDeductions() {
+        return flushedDeductions;
+    }
+
+    /**
+     * Flushes whatever is still buffered
+     */
+    @Override
+    public void close() throws SQLException {
+        flush();
+    }
+}
@@ -1,191 +1,79 @@
-
 package dao;
 
-import util.DBConnection;
 import model.Employee;
-import java.sql.*;
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
-public class EmployeeDAO {
-    private static final Logger LOGGER = Logger.getLogger(EmployeeDAO.class.getName());
-
-    public List<Employee> getAllEmployees() {
-        List<Employee> employees = new ArrayList<>();
-        String query = "SELECT * FROM employee ORDER BY last_name, first_name";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-
-            while (rs.next()) {
-                Employee e = mapResultSetToEmployee(rs);
-                employees.add(e);
-            }
-
-        } catch (SQLException ex) {
-            LOGGER.log(Level.SEVERE, "Error fetching all employees", ex);
-            throw new RuntimeException("Failed to fetch employees", ex);
-        }
-
-        return employees;
-    }
-
-    public Employee getEmployeeById(int employeeId) {
-        String query = "SELECT * FROM employee WHERE employee_id = ?";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setInt(1, employeeId);
-            ResultSet rs = stmt.executeQuery();
-
-            if (rs.next()) {
-                return mapResultSetToEmployee(rs);
-            }
-
-        } catch (SQLException ex) {
-            LOGGER.log(Level.SEVERE, "Error fetching employee with ID: " + employeeId, ex);
-            throw new RuntimeException("Failed to fetch employee", ex);
-        }
-
-        return null;
-    }
-
-    public boolean insertEmployee(Employee e) {
-        String sql = "INSERT INTO employee (last_name, first_name, birthdate, address, contact_info, " +
-                    "sss_number, philhealth_number, pagibig_number, tin_number, employment_status_id, " +
-                    "position_id, supervisor_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-
-            stmt.setString(1, e.getLastName());
-            stmt.setString(2, e.getFirstName());
-            stmt.setDate(3, e.getBirthdate() != null ? Date.valueOf(e.getBirthdate()) : null);
-            stmt.setString(4, e.getAddress());
-            stmt.setString(5, e.getContactInfo());
-            stmt.setString(6, e.getSssNumber());
-            stmt.setString(7, e.getPhilhealthNumber());
-            stmt.setString(8, e.getPagibigNumber());
-            stmt.setString(9, e.getTinNumber());
-            stmt.setInt(10, e.getEmploymentStatusId());
-            stmt.setInt(11, e.getPositionId());
-            stmt.setInt(12, e.getSupervisorId());
-
-            int result = stmt.executeUpdate();
-            
-            if (result > 0) {
-                // Set the generated employee ID
-                ResultSet keys = stmt.getGeneratedKeys();
-                if (keys.next()) {
-                    e.setEmployeeId(keys.getInt(1));
-                }
-                return true;
-            }
-
-        } catch (SQLException ex) {
-            LOGGER.log(Level.SEVERE, "Error inserting employee", ex);
-            throw new RuntimeException("Failed to insert employee", ex);
-        }
-
-        return false;
-    }
-
-    public boolean updateEmployee(Employee e) {
-        String sql = "UPDATE employee SET last_name=?, first_name=?, birthdate=?, address=?, " +
-                    "contact_info=?, sss_number=?, philhealth_number=?, pagibig_number=?, " +
-                    "tin_number=?, employment_status_id=?, position_id=?, supervisor_id=? " +
-                    "WHERE employee_id=?";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, e.getLastName());
-            stmt.setString(2, e.getFirstName());
-            stmt.setDate(3, e.getBirthdate() != null ? Date.valueOf(e.getBirthdate()) : null);
-            stmt.setString(4, e.getAddress());
-            stmt.setString(5, e.getContactInfo());
-            stmt.setString(6, e.getSssNumber());
-            stmt.setString(7, e.getPhilhealthNumber());
-            stmt.setString(8, e.getPagibigNumber());
-            stmt.setString(9, e.getTinNumber());
-            stmt.setInt(10, e.getEmploymentStatusId());
-            stmt.setInt(11, e.getPositionId());
-            stmt.setInt(12, e.getSupervisorId());
-            stmt.setInt(13, e.getEmployeeId());
-
-            return stmt.executeUpdate() > 0;
-
-        } catch (SQLException ex) {
-            LOGGER.log(Level.SEVERE, "Error updating employee with ID: " + e.getEmployeeId(), ex);
-            throw new RuntimeException("Failed to update employee", ex);
-        }
-    }
-
-    public boolean deleteEmployee(int employeeId) {
-        String sql = "DELETE FROM employee WHERE employee_id = ?";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, employeeId);
-            return stmt.executeUpdate() > 0;
-
-        } catch (SQLException ex) {
-            LOGGER.log(Level.SEVERE, "Error deleting employee with ID: " + employeeId, ex);
-            throw new RuntimeException("Failed to delete employee", ex);
-        }
-    }
-
-    public List<Employee> getEmployeesByStatus(int statusId) {
-        List<Employee> employees = new ArrayList<>();
-        String query = "SELECT * FROM employee WHERE employment_status_id = ? ORDER BY last_name, first_name";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setInt(1, statusId);
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                Employee e = mapResultSetToEmployee(rs);
-                employees.add(e);
-            }
-
-        } catch (SQLException ex) {
-            LOGGER.log(Level.SEVERE, "Error fetching employees by status: " + statusId, ex);
-            throw new RuntimeException("Failed to fetch employees by status", ex);
-        }
-
-        return employees;
-    }
-
-    private Employee mapResultSetToEmployee(ResultSet rs) throws SQLException {
-        Employee e = new Employee();
-        e.setEmployeeId(rs.getInt("employee_id"));
-        e.setLastName(rs.getString("last_name"));
-        e.setFirstName(rs.getString("first_name"));
-        
-        Date birthdate = rs.getDate("birthdate");
-        if (birthdate != null) {
-            e.setBirthdate(birthdate.toLocalDate());
-        }
-        
-        e.setAddress(rs.getString("address"));
-        e.setContactInfo(rs.getString("contact_info"));
-        e.setSssNumber(rs.getString("sss_number"));
-        e.setPhilhealthNumber(rs.getString("philhealth_number"));
-        e.setPagibigNumber(rs.getString("pagibig_number"));
-        e.setTinNumber(rs.getString("tin_number"));
-        e.setEmploymentStatusId(rs.getInt("employment_status_id"));
-        e.setPositionId(rs.getInt("position_id"));
-        e.setSupervisorId(rs.getInt("supervisor_id"));
-
-        return e;
-    }
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Data Access Object for Employee operations
+ * @author rejoice
+ */
+public interface EmployeeDAO {
+
+    /**
+     * @return All employees ordered by last name, then first name
+     */
+    List<Employee> getAllEmployees();
+
+    /**
+     * Streams every employee in employee ID order, reading a page at a
+     * time, so memory use does not grow with the table. Close the stream
+     * when done, e.g. with try-with-resources.
+     * @return Employees ordered by employee ID
+     */
+    Stream<Employee> streamEmployees();
+
+    /**
+     * @param employeeId Employee ID
+     * @return Employee, or null if not found
+     */
+    Employee getEmployeeById(int employeeId);
+
+    /**
+     * @param employeeIds Employee IDs, possibly repeated
+     * @return Those of the IDs that belong to an employee
+     */
+    Set<Integer> getExistingEmployeeIds(Collection<Integer> employeeIds);
+
+    /**
+     * Reads only the version stamp of an employee, which changes whenever
+     * the employee is inserted or updated
+     * @param employeeId Employee ID
+     * @return Version stamp, or -1 if not found
+     */
+    long getEmployeeVersion(int employeeId);
+
+    /**
+     * Inserts a new employee and sets its generated ID
+     * @param e Employee to insert
+     * @return true if the employee was inserted
+     */
+    boolean insertEmployee(Employee e);
+
+    /**
+     * @param e Employee with updated information
+     * @return true if update was successful
+     */
+    boolean updateEmployee(Employee e);
+
+    /**
+     * @param employeeId Employee ID to delete
+     * @return true if deletion was successful
+     */
+    boolean deleteEmployee(int employeeId);
+
+    /**
+     * @param statusId Employment status ID
+     * @return Employees with the status ordered by last name, then first name
+     */
+    List<Employee> getEmployeesByStatus(int statusId);
+
+    /**
+     * Streams the employees with a status a page at a time, like {@link #streamEmployees()}
+     * @param statusId Employment status ID
+     * @return Employees with the status ordered by employee ID
+     */
+    Stream<Employee> streamEmployeesByStatus(int statusId);
 }
-
@@ -1,31 +1,29 @@
-
 package dao;
 
-import util.DBConnection;
 import model.EmploymentStatus;
-import java.sql.*;
-
-public class EmploymentStatusDAO {
-    public EmploymentStatus getStatusById(int statusId) {
-        String query = "SELECT * FROM employment_status WHERE employment_status_id = ?";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setInt(1, statusId);
-            ResultSet rs = stmt.executeQuery();
-
-            if (rs.next()) {
-                EmploymentStatus es = new EmploymentStatus();
-                es.setStatusId(rs.getInt("employment_status_id"));
-                es.setStatusName(rs.getString("status_name"));
-                return es;
-            }
-
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
-
-        return null;
-    }
-}
\ No newline at end of file
+import java.util.Map;
+
+/**
+ * Data Access Object for Employment Status lookups
+ * @author rejoice
+ */
+public interface EmploymentStatusDAO {
+
+    /**
+     * @param statusId Employment status ID
+     * @return Employment status, or null if not found
+     */
+    EmploymentStatus getStatusById(int statusId);
+
+    /**
+     * @return Every employment status keyed by status ID
+     */
+    Map<Integer, EmploymentStatus> getAllStatuses();
+
+    /**
+     * Updates the name of an existing employment status
+     * @param status Employment status with updated information
+     * @return true if the status was updated
+     */
+    boolean updateStatus(EmploymentStatus status);
+}
@@ -0,0 +1,43 @@
+package dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Splits ID lists for {@code IN (...)} queries. A chunk stays well under
+ * the packet and placeholder limits of MySQL, and the few distinct chunk
+ * sizes keep the number of statements the server has to prepare small.
+ * @author rejoice
+ */
+final class InClause {
+
+    static final int MAX_CHUNK_SIZE = 500;
+
+    private InClause() {}
+
+    /**
+     * @param ids IDs in any order, possibly repeated
+     * @return Distinct IDs in first-seen order, split into chunks of at most {@link #MAX_CHUNK_SIZE}
+     */
+    static List<List<Integer>> chunks(Collection<Integer> ids) {
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += MAX_CHUNK_SIZE) {
+            chunks.add(distinct.subList(from, Math.min(from + MAX_CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * @return {@code ?, ?, ...} with the given number of placeholders
+     */
+    static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "?" : ", ?");
+        }
+        return sb.toString();
+    }
+}
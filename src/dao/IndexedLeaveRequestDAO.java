@@ -0,0 +1,239 @@
+package dao;
+
+import model.LeaveRequest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link LeaveRequestDAO} answering {@link #hasOverlappingLeave} from an
+ * in-memory index of approved leave instead of a query. The index is
+ * loaded from the approved requests on first use and kept current by
+ * inserts, status changes, updates and deletes made through this DAO;
+ * changes made elsewhere show after {@link #refresh()}. Everything else
+ * is read from the delegate.
+ * @author rejoice
+ */
+public class IndexedLeaveRequestDAO implements LeaveRequestDAO {
+
+    private static final Comparator<LeaveRequest> BY_EMPLOYEE_AND_START =
+            Comparator.comparingInt(LeaveRequest::getEmployeeId)
+                    .thenComparing(LeaveRequest::getStartDateAsLocalDate)
+                    .thenComparing(LeaveRequest::getEndDateAsLocalDate);
+
+    private final LeaveRequestDAO delegate;
+    private final LeaveIntervalIndex index = new LeaveIntervalIndex();
+    private volatile boolean loaded;
+
+    public IndexedLeaveRequestDAO(LeaveRequestDAO delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Leave request DAO cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<LeaveRequest> getLeaveRequestsByEmployeeId(int empId) {
+        return delegate.getLeaveRequestsByEmployeeId(empId);
+    }
+
+    @Override
+    public List<LeaveRequest> getApprovedLeavesByEmployeeId(int empId) {
+        return delegate.getApprovedLeavesByEmployeeId(empId);
+    }
+
+    @Override
+    public List<LeaveRequest> getApprovedLeavesByEmployeeIdAndDateRange(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        return delegate.getApprovedLeavesByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd);
+    }
+
+    @Override
+    public Map<Integer, List<LeaveRequest>> getApprovedLeavesByDateRangeGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd) {
+        return delegate.getApprovedLeavesByDateRangeGroupedByEmployee(periodStart, periodEnd);
+    }
+
+    @Override
+    public List<LeaveRequest> getLeaveRequestsByStatus(String status) {
+        return delegate.getLeaveRequestsByStatus(status);
+    }
+
+    @Override
+    public int insertLeaveRequest(LeaveRequest leaveRequest) {
+        int leaveId = delegate.insertLeaveRequest(leaveRequest);
+        if (leaveId > 0) {
+            apply(leaveRequest);
+        }
+        return leaveId;
+    }
+
+    @Override
+    public boolean updateLeaveStatus(int leaveId, String status) {
+        boolean updated = delegate.updateLeaveStatus(leaveId, status);
+        reload(leaveId);
+        return updated;
+    }
+
+    @Override
+    public boolean updateLeaveRequest(LeaveRequest leaveRequest) {
+        boolean updated = delegate.updateLeaveRequest(leaveRequest);
+        reload(leaveRequest.getLeaveId());
+        return updated;
+    }
+
+    @Override
+    public boolean deleteLeaveRequest(int leaveId) {
+        boolean deleted = delegate.deleteLeaveRequest(leaveId);
+        if (deleted) {
+            forget(leaveId);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<LeaveRequest> getLeaveRequestById(int leaveId) {
+        return delegate.getLeaveRequestById(leaveId);
+    }
+
+    @Override
+    public boolean hasOverlappingLeave(int employeeId, LocalDate startDate, LocalDate endDate, Integer excludeLeaveId) {
+        validateEmployeeId(employeeId);
+        validateDateRange(startDate, endDate);
+        ensureLoaded();
+        return index.overlaps(employeeId, (int) startDate.toEpochDay(), (int) endDate.toEpochDay(),
+                excludeLeaveId != null ? excludeLeaveId : 0);
+    }
+
+    /**
+     * Checks a batch of requests in one pass, e.g. before approving them
+     * together. A request conflicts if it overlaps approved leave other
+     * than itself, or another request of the same employee in the batch
+     * that starts no later; of two overlapping requests in the batch, only
+     * the later one is reported.
+     * @param requests Requests to check, each with start and end dates
+     * @return Conflicting requests, in the order given
+     * @throws IllegalArgumentException if a request has no valid employee ID or date range
+     */
+    public List<LeaveRequest> findConflicts(Collection<LeaveRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("Leave requests cannot be null");
+        }
+        for (LeaveRequest request : requests) {
+            if (request == null) {
+                throw new IllegalArgumentException("Leave requests cannot contain null");
+            }
+            validateEmployeeId(request.getEmployeeId());
+            validateDateRange(request.getStartDateAsLocalDate(), request.getEndDateAsLocalDate());
+        }
+        ensureLoaded();
+
+        List<LeaveRequest> sorted = new ArrayList<>(requests);
+        sorted.sort(BY_EMPLOYEE_AND_START);
+        Set<LeaveRequest> conflicts = Collections.newSetFromMap(new IdentityHashMap<>());
+        int employeeId = 0;
+        // Latest end day among the employee's requests swept so far
+        int batchEnd = Integer.MIN_VALUE;
+        for (LeaveRequest request : sorted) {
+            if (request.getEmployeeId() != employeeId) {
+                employeeId = request.getEmployeeId();
+                batchEnd = Integer.MIN_VALUE;
+            }
+            int start = (int) request.getStartDateAsLocalDate().toEpochDay();
+            int end = (int) request.getEndDateAsLocalDate().toEpochDay();
+            if (start <= batchEnd || index.overlaps(employeeId, start, end, request.getLeaveId())) {
+                conflicts.add(request);
+            }
+            batchEnd = Math.max(batchEnd, end);
+        }
+
+        List<LeaveRequest> result = new ArrayList<>(conflicts.size());
+        for (LeaveRequest request : requests) {
+            if (conflicts.contains(request)) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reload the index from the approved requests in the database
+     */
+    public synchronized void refresh() {
+        index.clear();
+        for (LeaveRequest leave : delegate.getLeaveRequestsByStatus(LeaveRequest.STATUS_APPROVED)) {
+            file(leave);
+        }
+        loaded = true;
+    }
+
+    /**
+     * @return Approved leaves in the index
+     */
+    public int getIndexedCount() {
+        return index.size();
+    }
+
+    // Same checks and messages as the JDBC DAO, so swapping in the index changes no error
+    private void validateEmployeeId(int empId) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive, got: " + empId);
+        }
+    }
+
+    private void validateDateRange(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date: " + periodStart + " > " + periodEnd);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    refresh();
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-read one request after a change, since the caller's copy may not
+     * carry its stored status or dates
+     */
+    private void reload(int leaveId) {
+        if (loaded) {
+            delegate.getLeaveRequestById(leaveId).ifPresentOrElse(this::apply, () -> forget(leaveId));
+        }
+    }
+
+    // Changes wait for a refresh in progress, so they are applied after what it read
+    private synchronized void apply(LeaveRequest leave) {
+        if (loaded) {
+            file(leave);
+        }
+    }
+
+    private synchronized void forget(int leaveId) {
+        if (loaded) {
+            index.remove(leaveId);
+        }
+    }
+
+    private void file(LeaveRequest leave) {
+        if (leave.isApproved() && leave.getStartDate() != null && leave.getEndDate() != null) {
+            index.put(leave.getLeaveId(), leave.getEmployeeId(),
+                    (int) leave.getStartDateAsLocalDate().toEpochDay(), (int) leave.getEndDateAsLocalDate().toEpochDay());
+        } else {
+            index.remove(leave.getLeaveId());
+        }
+    }
+}
@@ -0,0 +1,674 @@
+package dao;
+
+import util.DBConnection;
+import model.Attendance;
+import model.AttendanceSummary;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Data Access Object for Attendance operations
+ * @author rejoice
+ */
+public class JdbcAttendanceDAO implements AttendanceDAO {
+
+    // Rows sent per multi-row INSERT round trip
+    static final int BATCH_SIZE = 1000;
+
+    // Attendance totals against a schedule, bound by bindSummarySchedule; whole
+    // minutes are truncated per day like ChronoUnit.MINUTES.between
+    static final String SUMMARY_COLUMNS = """
+        COUNT(*) AS days_present,
+        COALESCE(SUM(CASE WHEN login_time > ?
+            THEN (TIME_TO_SEC(login_time) - TIME_TO_SEC(?)) DIV 60 END), 0) AS late_minutes,
+        COALESCE(SUM(CASE WHEN logout_time < ?
+            THEN (TIME_TO_SEC(?) - TIME_TO_SEC(logout_time)) DIV 60 END), 0) AS undertime_minutes""";
+    private static final Logger logger = Logger.getLogger(JdbcAttendanceDAO.class.getName());
+    
+    /**
+     * Retrieves all attendance records for a specific employee
+     * @param empId Employee ID
+     * @return List of attendance records
+     */
+    @Override
+    public List<Attendance> getAttendanceByEmployeeId(int empId) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        
+        List<Attendance> list = new ArrayList<>();
+        String query = "SELECT * FROM attendance WHERE employee_id = ? ORDER BY date DESC";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, empId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Attendance a = mapResultSetToAttendance(rs);
+                    list.add(a);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving attendance for employee ID: " + empId, ex);
+            throw new RuntimeException("Failed to retrieve attendance records", ex);
+        }
+
+        return list;
+    }
+
+    /**
+     * Retrieves attendance records for an employee within a date range
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return List of attendance records within the date range
+     */
+    @Override
+    public List<Attendance> getAttendanceByEmployeeIdBetweenDates(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+        
+        List<Attendance> list = new ArrayList<>();
+        String query = "SELECT * FROM attendance WHERE employee_id = ? AND date >= ? AND date <= ? ORDER BY date DESC";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Attendance a = mapResultSetToAttendance(rs);
+                    list.add(a);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving attendance for employee ID: " + employeeId + 
+                      " between dates: " + periodStart + " and " + periodEnd, ex);
+            throw new RuntimeException("Failed to retrieve attendance records", ex);
+        }
+
+        return list;
+    }
+
+    /**
+     * Retrieves attendance records of all employees within a date range,
+     * grouped by employee in a single query
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Map of employee ID to attendance records within the date range
+     */
+    @Override
+    public Map<Integer, List<Attendance>> getAttendanceBetweenDatesGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+
+        Map<Integer, List<Attendance>> grouped = new HashMap<>();
+        String query = "SELECT * FROM attendance WHERE date >= ? AND date <= ? ORDER BY employee_id, date DESC";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Attendance a = mapResultSetToAttendance(rs);
+                    grouped.computeIfAbsent(a.getEmployeeId(), id -> new ArrayList<>()).add(a);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving attendance between dates: " + periodStart + " and " + periodEnd, ex);
+            throw new RuntimeException("Failed to retrieve attendance records", ex);
+        }
+
+        return grouped;
+    }
+
+    /**
+     * Retrieves attendance records of the given employees within a date
+     * range, one query per {@link InClause#MAX_CHUNK_SIZE} employees
+     * @param employeeIds Employee IDs
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Map of employee ID to attendance records, latest first;
+     *         employees without records are absent
+     */
+    @Override
+    public Map<Integer, List<Attendance>> getAttendanceByEmployeeIdsBetweenDates(Collection<Integer> employeeIds,
+                                                                                 LocalDate periodStart, LocalDate periodEnd) {
+        if (employeeIds == null) {
+            throw new IllegalArgumentException("Employee IDs cannot be null");
+        }
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+
+        Map<Integer, List<Attendance>> grouped = new HashMap<>();
+
+        try (Connection conn = DBConnection.getConnection()) {
+            for (List<Integer> chunk : InClause.chunks(employeeIds)) {
+                String query = "SELECT * FROM attendance WHERE employee_id IN (" + InClause.placeholders(chunk.size()) +
+                        ") AND date >= ? AND date <= ? ORDER BY employee_id, date DESC";
+
+                try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                    int paramIndex = 1;
+                    for (int employeeId : chunk) {
+                        stmt.setInt(paramIndex++, employeeId);
+                    }
+                    stmt.setDate(paramIndex++, java.sql.Date.valueOf(periodStart));
+                    stmt.setDate(paramIndex, java.sql.Date.valueOf(periodEnd));
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        // Rows arrive grouped by employee, so each list is looked up once
+                        int currentEmployeeId = 0;
+                        List<Attendance> current = null;
+                        while (rs.next()) {
+                            Attendance a = mapResultSetToAttendance(rs);
+                            if (current == null || a.getEmployeeId() != currentEmployeeId) {
+                                currentEmployeeId = a.getEmployeeId();
+                                current = grouped.computeIfAbsent(currentEmployeeId, id -> new ArrayList<>());
+                            }
+                            current.add(a);
+                        }
+                    }
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, String.format(
+                "Error retrieving attendance of %d employees between dates: %s and %s",
+                employeeIds.size(), periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to retrieve attendance records", ex);
+        }
+
+        return grouped;
+    }
+
+    /**
+     * Counts the days present and the minutes late and short of an
+     * employee within a date range, in the database
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @param standardLoginTime Login time lateness is measured from
+     * @param lateThresholdTime Latest login time that is not late
+     * @param standardLogoutTime Earliest logout time that is not undertime
+     * @return Attendance totals, all zero if there are no records
+     */
+    @Override
+    public AttendanceSummary getAttendanceSummary(int employeeId, LocalDate periodStart, LocalDate periodEnd,
+                                                  LocalTime standardLoginTime, LocalTime lateThresholdTime,
+                                                  LocalTime standardLogoutTime) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        validateSummaryParameters(periodStart, periodEnd, standardLoginTime, lateThresholdTime, standardLogoutTime);
+
+        // Without GROUP BY the aggregate always returns one row
+        String query = "SELECT " + SUMMARY_COLUMNS + " FROM attendance WHERE employee_id = ? AND date >= ? AND date <= ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int paramIndex = bindSummarySchedule(stmt, 1, standardLoginTime, lateThresholdTime, standardLogoutTime);
+            stmt.setInt(paramIndex++, employeeId);
+            stmt.setDate(paramIndex++, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(paramIndex, java.sql.Date.valueOf(periodEnd));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return mapResultSetToSummary(rs, employeeId, standardLoginTime, lateThresholdTime, standardLogoutTime);
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, String.format(
+                "Error summarizing attendance for employee ID: %d between dates: %s and %s",
+                employeeId, periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to summarize attendance", ex);
+        }
+    }
+
+    /**
+     * Counts the attendance totals of all employees within a date range, in the database
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @param standardLoginTime Login time lateness is measured from
+     * @param lateThresholdTime Latest login time that is not late
+     * @param standardLogoutTime Earliest logout time that is not undertime
+     * @return Map of employee ID to attendance totals; employees without records are absent
+     */
+    @Override
+    public Map<Integer, AttendanceSummary> getAttendanceSummariesGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd,
+                                                                                  LocalTime standardLoginTime,
+                                                                                  LocalTime lateThresholdTime,
+                                                                                  LocalTime standardLogoutTime) {
+        validateSummaryParameters(periodStart, periodEnd, standardLoginTime, lateThresholdTime, standardLogoutTime);
+
+        Map<Integer, AttendanceSummary> summaries = new HashMap<>();
+        String query = "SELECT employee_id, " + SUMMARY_COLUMNS +
+                " FROM attendance WHERE date >= ? AND date <= ? GROUP BY employee_id";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int paramIndex = bindSummarySchedule(stmt, 1, standardLoginTime, lateThresholdTime, standardLogoutTime);
+            stmt.setDate(paramIndex++, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(paramIndex, java.sql.Date.valueOf(periodEnd));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int employeeId = rs.getInt("employee_id");
+                    summaries.put(employeeId, mapResultSetToSummary(rs, employeeId,
+                            standardLoginTime, lateThresholdTime, standardLogoutTime));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error summarizing attendance between dates: " + periodStart + " and " + periodEnd, ex);
+            throw new RuntimeException("Failed to summarize attendance", ex);
+        }
+
+        return summaries;
+    }
+
+    /**
+     * Inserts a new attendance record
+     * @param attendance Attendance object to insert
+     * @return Generated attendance ID
+     */
+    @Override
+    public int insertAttendance(Attendance attendance) {
+        if (attendance == null) {
+            throw new IllegalArgumentException("Attendance cannot be null");
+        }
+        if (attendance.getEmployeeId() <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (attendance.getDate() == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        
+        String query = "INSERT INTO attendance (employee_id, date, login_time, logout_time) VALUES (?, ?, ?, ?)";
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+            
+            stmt.setInt(1, attendance.getEmployeeId());
+            stmt.setDate(2, attendance.getDate());
+            stmt.setTime(3, attendance.getLoginTime());
+            stmt.setTime(4, attendance.getLogoutTime());
+            
+            int affectedRows = stmt.executeUpdate();
+            if (affectedRows == 0) {
+                throw new SQLException("Creating attendance failed, no rows affected.");
+            }
+            
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    int generatedId = generatedKeys.getInt(1);
+                    attendance.setAttendanceId(generatedId);
+                    return generatedId;
+                } else {
+                    throw new SQLException("Creating attendance failed, no ID obtained.");
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error inserting attendance record", ex);
+            throw new RuntimeException("Failed to insert attendance record", ex);
+        }
+    }
+
+    /**
+     * Inserts attendance records, skipping those whose employee already has
+     * a record for the date. Each chunk of {@link #BATCH_SIZE} records is
+     * one multi-row INSERT, so one round trip, whose duplicate rows hit the
+     * unique (employee_id, date) key and are left as they are. Any other
+     * failure, such as a record of an unknown employee, rolls back the call.
+     * Runs on {@link DBConnection#getBatchConnection}, which reports
+     * affected rather than matched rows, so skipped duplicates count zero.
+     * @param records Attendance records to insert
+     * @return Number of records inserted
+     */
+    @Override
+    public int insertAttendanceIgnoringDuplicates(Collection<Attendance> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("Attendance records cannot be null");
+        }
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection conn = DBConnection.getBatchConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int inserted = 0;
+                List<Attendance> chunk = new ArrayList<>(Math.min(BATCH_SIZE, records.size()));
+                for (Attendance attendance : records) {
+                    chunk.add(attendance);
+                    if (chunk.size() == BATCH_SIZE) {
+                        inserted += insertChunkIgnoringDuplicates(conn, chunk);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    inserted += insertChunkIgnoringDuplicates(conn, chunk);
+                }
+                conn.commit();
+                return inserted;
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                throw ex;
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error inserting " + records.size() + " attendance records", ex);
+            throw new RuntimeException("Failed to insert attendance records", ex);
+        }
+    }
+
+    private int insertChunkIgnoringDuplicates(Connection conn, List<Attendance> chunk) throws SQLException {
+        StringBuilder query = new StringBuilder(96 + chunk.size() * 16)
+                .append("INSERT INTO attendance (employee_id, date, login_time, logout_time) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            query.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+        }
+        // A no-op update, so a duplicate neither fails the statement nor changes the row
+        query.append(" ON DUPLICATE KEY UPDATE attendance_id = attendance_id");
+
+        try (PreparedStatement stmt = conn.prepareStatement(query.toString())) {
+            int paramIndex = 1;
+            for (Attendance attendance : chunk) {
+                stmt.setInt(paramIndex++, attendance.getEmployeeId());
+                stmt.setDate(paramIndex++, attendance.getDate());
+                stmt.setTime(paramIndex++, attendance.getLoginTime());
+                stmt.setTime(paramIndex++, attendance.getLogoutTime());
+            }
+            return stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Updates an existing attendance record
+     * @param attendance Attendance object with updated information
+     * @return true if update was successful
+     */
+    @Override
+    public boolean updateAttendance(Attendance attendance) {
+        if (attendance == null) {
+            throw new IllegalArgumentException("Attendance cannot be null");
+        }
+        if (attendance.getAttendanceId() <= 0) {
+            throw new IllegalArgumentException("Attendance ID must be positive");
+        }
+        
+        String query = "UPDATE attendance SET employee_id = ?, date = ?, login_time = ?, logout_time = ? WHERE attendance_id = ?";
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, attendance.getEmployeeId());
+            stmt.setDate(2, attendance.getDate());
+            stmt.setTime(3, attendance.getLoginTime());
+            stmt.setTime(4, attendance.getLogoutTime());
+            stmt.setInt(5, attendance.getAttendanceId());
+            
+            int affectedRows = stmt.executeUpdate();
+            return affectedRows > 0;
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error updating attendance record", ex);
+            throw new RuntimeException("Failed to update attendance record", ex);
+        }
+    }
+
+    /**
+     * Deletes an attendance record
+     * @param attendanceId Attendance ID to delete
+     * @return true if deletion was successful
+     */
+    @Override
+    public boolean deleteAttendance(int attendanceId) {
+        if (attendanceId <= 0) {
+            throw new IllegalArgumentException("Attendance ID must be positive");
+        }
+        
+        String query = "DELETE FROM attendance WHERE attendance_id = ?";
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, attendanceId);
+            int affectedRows = stmt.executeUpdate();
+            return affectedRows > 0;
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error deleting attendance record", ex);
+            throw new RuntimeException("Failed to delete attendance record", ex);
+        }
+    }
+
+    /**
+     * Retrieves attendance record by ID
+     * @param attendanceId Attendance ID
+     * @return Attendance object or null if not found
+     */
+    @Override
+    public Attendance getAttendanceById(int attendanceId) {
+        if (attendanceId <= 0) {
+            throw new IllegalArgumentException("Attendance ID must be positive");
+        }
+        
+        String query = "SELECT * FROM attendance WHERE attendance_id = ?";
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, attendanceId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToAttendance(rs);
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving attendance by ID: " + attendanceId, ex);
+            throw new RuntimeException("Failed to retrieve attendance record", ex);
+        }
+        
+        return null;
+    }
+
+    /**
+     * Checks if attendance exists for employee on specific date
+     * @param employeeId Employee ID
+     * @param attendanceDate Date to check
+     * @return true if attendance exists
+     */
+    @Override
+    public boolean attendanceExistsForDate(int employeeId, LocalDate attendanceDate) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (attendanceDate == null) {
+            throw new IllegalArgumentException("Attendance date cannot be null");
+        }
+        
+        String query = "SELECT COUNT(*) FROM attendance WHERE employee_id = ? AND date = ?";
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, java.sql.Date.valueOf(attendanceDate));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1) > 0;
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error checking attendance existence for employee " + employeeId + " on " + attendanceDate, ex);
+            throw new RuntimeException("Failed to check attendance existence", ex);
+        }
+        
+        return false;
+    }
+
+    /**
+     * Counts total attendance days for employee within date range
+     * @param employeeId Employee ID
+     * @param periodStart Start date
+     * @param periodEnd End date
+     * @return Total attendance days
+     */
+    @Override
+    public int countAttendanceDays(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+        
+        String query = "SELECT COUNT(*) FROM attendance WHERE employee_id = ? AND date >= ? AND date <= ?";
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error counting attendance days for employee " + employeeId + 
+                      " between " + periodStart + " and " + periodEnd, ex);
+            throw new RuntimeException("Failed to count attendance days", ex);
+        }
+        
+        return 0;
+    }
+
+    /**
+     * Gets attendance record for specific employee and date
+     * @param employeeId Employee ID
+     * @param attendanceDate Date to check
+     * @return Attendance object or null if not found
+     */
+    @Override
+    public Attendance getAttendanceByEmployeeAndDate(int employeeId, LocalDate attendanceDate) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (attendanceDate == null) {
+            throw new IllegalArgumentException("Attendance date cannot be null");
+        }
+        
+        String query = "SELECT * FROM attendance WHERE employee_id = ? AND date = ?";
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, java.sql.Date.valueOf(attendanceDate));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToAttendance(rs);
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving attendance for employee " + employeeId + " on " + attendanceDate, ex);
+            throw new RuntimeException("Failed to retrieve attendance record", ex);
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Maps ResultSet to Attendance object
+     * @param rs ResultSet from database
+     * @return Attendance object
+     * @throws SQLException if database access error occurs
+     */
+    Attendance mapResultSetToAttendance(ResultSet rs) throws SQLException {
+        Attendance attendance = new Attendance();
+        attendance.setAttendanceId(rs.getInt("attendance_id"));
+        attendance.setEmployeeId(rs.getInt("employee_id"));
+        attendance.setDate(rs.getDate("date"));
+        attendance.setLoginTime(rs.getTime("login_time"));
+        attendance.setLogoutTime(rs.getTime("logout_time"));
+        return attendance;
+    }
+
+    /**
+     * Binds the schedule placeholders of {@link #SUMMARY_COLUMNS}
+     * @return Index of the next placeholder
+     */
+    static int bindSummarySchedule(PreparedStatement stmt, int paramIndex, LocalTime standardLoginTime,
+                                   LocalTime lateThresholdTime, LocalTime standardLogoutTime) throws SQLException {
+        stmt.setTime(paramIndex++, Time.valueOf(lateThresholdTime));
+        stmt.setTime(paramIndex++, Time.valueOf(standardLoginTime));
+        stmt.setTime(paramIndex++, Time.valueOf(standardLogoutTime));
+        stmt.setTime(paramIndex++, Time.valueOf(standardLogoutTime));
+        return paramIndex;
+    }
+
+    static AttendanceSummary mapResultSetToSummary(ResultSet rs, int employeeId, LocalTime standardLoginTime,
+                                                   LocalTime lateThresholdTime, LocalTime standardLogoutTime)
+            throws SQLException {
+        return new AttendanceSummary(employeeId, rs.getInt("days_present"),
+                rs.getLong("late_minutes"), rs.getLong("undertime_minutes"),
+                standardLoginTime, lateThresholdTime, standardLogoutTime);
+    }
+
+    private void validateSummaryParameters(LocalDate periodStart, LocalDate periodEnd, LocalTime standardLoginTime,
+                                           LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+        if (standardLoginTime == null || lateThresholdTime == null || standardLogoutTime == null) {
+            throw new IllegalArgumentException("Schedule times cannot be null");
+        }
+    }
+}
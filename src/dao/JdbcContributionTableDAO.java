@@ -0,0 +1,110 @@
+package dao;
+
+import model.ContributionBracket;
+import util.DBConnection;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class JdbcContributionTableDAO implements ContributionTableDAO {
+    private static final Logger LOGGER = Logger.getLogger(JdbcContributionTableDAO.class.getName());
+
+    private static final String SELECT_ALL_BRACKETS = """
+        SELECT * FROM contribution_brackets
+        ORDER BY table_type, effective_from, upper_bound IS NULL, upper_bound
+        """;
+
+    private static final String INSERT_BRACKET = """
+        INSERT INTO contribution_brackets
+            (table_type, effective_from, upper_bound, fixed_amount, rate, excess_over, maximum_amount, annual_basis)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    @Override
+    public List<ContributionBracket> getAllBrackets() {
+        List<ContributionBracket> brackets = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL_BRACKETS);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                brackets.add(mapResultSetToBracket(rs));
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching contribution brackets", ex);
+            throw new RuntimeException("Failed to fetch contribution brackets", ex);
+        }
+
+        return brackets;
+    }
+
+    /**
+     * Inserts the brackets with JDBC batching in a single transaction
+     */
+    @Override
+    public void addBrackets(Collection<ContributionBracket> brackets) {
+        if (brackets == null || brackets.isEmpty()) {
+            return;
+        }
+
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_BRACKET)) {
+                for (ContributionBracket bracket : brackets) {
+                    setBracketParameters(stmt, bracket);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error inserting contribution brackets", ex);
+            throw new RuntimeException("Failed to insert contribution brackets", ex);
+        }
+    }
+
+    private void setBracketParameters(PreparedStatement stmt, ContributionBracket bracket) throws SQLException {
+        stmt.setString(1, bracket.getTableType());
+        stmt.setDate(2, Date.valueOf(bracket.getEffectiveFrom()));
+        // Infinite bounds and caps are stored as NULL
+        setNullableAmount(stmt, 3, bracket.getUpperBound());
+        stmt.setDouble(4, bracket.getFixedAmount());
+        stmt.setDouble(5, bracket.getRate());
+        stmt.setDouble(6, bracket.getExcessOver());
+        setNullableAmount(stmt, 7, bracket.getMaximumAmount());
+        stmt.setBoolean(8, bracket.isAnnualBasis());
+    }
+
+    private void setNullableAmount(PreparedStatement stmt, int index, double amount) throws SQLException {
+        if (amount == Double.POSITIVE_INFINITY) {
+            stmt.setNull(index, Types.DECIMAL);
+        } else {
+            stmt.setDouble(index, amount);
+        }
+    }
+
+    ContributionBracket mapResultSetToBracket(ResultSet rs) throws SQLException {
+        ContributionBracket bracket = new ContributionBracket();
+        bracket.setBracketId(rs.getInt("bracket_id"));
+        bracket.setTableType(rs.getString("table_type"));
+        bracket.setEffectiveFrom(rs.getDate("effective_from").toLocalDate());
+        double upperBound = rs.getDouble("upper_bound");
+        bracket.setUpperBound(rs.wasNull() ? Double.POSITIVE_INFINITY : upperBound);
+        bracket.setFixedAmount(rs.getDouble("fixed_amount"));
+        bracket.setRate(rs.getDouble("rate"));
+        bracket.setExcessOver(rs.getDouble("excess_over"));
+        double maximumAmount = rs.getDouble("maximum_amount");
+        bracket.setMaximumAmount(rs.wasNull() ? Double.POSITIVE_INFINITY : maximumAmount);
+        bracket.setAnnualBasis(rs.getBoolean("annual_basis"));
+        return bracket;
+    }
+}
@@ -0,0 +1,178 @@
+package dao;
+
+import model.Deduction;
+import util.DBConnection;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class JdbcDeductionDAO implements DeductionDAO {
+
+    private static final String INSERT_DEDUCTION =
+            "INSERT INTO deductions (employee_id, type, amount, description, period_start, period_end) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_PERIOD_DEDUCTIONS =
+            "DELETE FROM deductions WHERE period_start = ? AND period_end = ? AND employee_id IN (%s)";
+
+    // Rows sent per executeBatch() round trip
+    static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void addDeduction(Deduction deduction) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_DEDUCTION)) {
+
+            setDeductionParameters(stmt, deduction);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Inserts deductions with JDBC batching in a single transaction;
+     * either all of them are stored or none.
+     */
+    @Override
+    public void addDeductions(Collection<Deduction> deductions) throws SQLException {
+        if (deductions == null || deductions.isEmpty()) {
+            return;
+        }
+
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                addDeductions(conn, deductions);
+                conn.commit();
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Inserts deductions with JDBC batching on the caller's connection,
+     * taking part in whatever transaction the caller has open.
+     */
+    public void addDeductions(Connection conn, Collection<Deduction> deductions) throws SQLException {
+        if (deductions == null || deductions.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_DEDUCTION)) {
+            int pending = 0;
+            for (Deduction deduction : deductions) {
+                setDeductionParameters(stmt, deduction);
+                stmt.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    stmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    @Override
+    public void replaceDeductions(LocalDate periodStart, LocalDate periodEnd, Collection<Integer> employeeIds,
+                                  Collection<Deduction> deductions) throws SQLException {
+        validatePeriod(periodStart, periodEnd);
+        if (employeeIds == null) {
+            throw new IllegalArgumentException("Employee IDs cannot be null");
+        }
+        Date start = Date.valueOf(periodStart);
+        Date end = Date.valueOf(periodEnd);
+        if (deductions != null) {
+            for (Deduction deduction : deductions) {
+                deduction.setPeriod(start, end);
+            }
+        }
+
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                deletePeriodDeductions(conn, periodStart, periodEnd, employeeIds);
+                addDeductions(conn, deductions);
+                conn.commit();
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Deletes the deductions of employees for a pay period on the caller's
+     * connection, taking part in whatever transaction the caller has open.
+     * @return Number of deductions deleted
+     */
+    public int deletePeriodDeductions(Connection conn, LocalDate periodStart, LocalDate periodEnd,
+                                      Collection<Integer> employeeIds) throws SQLException {
+        validatePeriod(periodStart, periodEnd);
+        int deleted = 0;
+        for (List<Integer> chunk : InClause.chunks(employeeIds)) {
+            String sql = String.format(DELETE_PERIOD_DEDUCTIONS, InClause.placeholders(chunk.size()));
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setDate(1, Date.valueOf(periodStart));
+                stmt.setDate(2, Date.valueOf(periodEnd));
+                int paramIndex = 3;
+                for (int employeeId : chunk) {
+                    stmt.setInt(paramIndex++, employeeId);
+                }
+                deleted += stmt.executeUpdate();
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<Deduction> getDeductionsByEmployeeId(int employeeId) throws SQLException {
+        String sql = "SELECT * FROM deductions WHERE employee_id = ?";
+        List<Deduction> deductions = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, employeeId);
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                Deduction d = new Deduction(
+                        rs.getInt("employee_id"),
+                        rs.getString("type"),
+                        rs.getDouble("amount"),
+                        rs.getString("description")
+                );
+                d.setDeductionId(rs.getInt("deduction_id"));
+                d.setPeriod(rs.getDate("period_start"), rs.getDate("period_end"));
+                deductions.add(d);
+            }
+        }
+
+        return deductions;
+    }
+
+    private void setDeductionParameters(PreparedStatement stmt, Deduction deduction) throws SQLException {
+        stmt.setInt(1, deduction.getEmployeeId());
+        stmt.setString(2, deduction.getType());
+        stmt.setDouble(3, deduction.getAmount());
+        stmt.setString(4, deduction.getDescription());
+        stmt.setDate(5, deduction.getPeriodStart());
+        stmt.setDate(6, deduction.getPeriodEnd());
+    }
+
+    private void validatePeriod(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+    }
+
+    // Optionally: updateDeduction(), deleteDeduction(), etc.
+}
+
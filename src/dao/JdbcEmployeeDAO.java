@@ -0,0 +1,358 @@
+
+package dao;
+
+import util.DBConnection;
+import model.Employee;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class JdbcEmployeeDAO implements EmployeeDAO {
+    private static final Logger LOGGER = Logger.getLogger(JdbcEmployeeDAO.class.getName());
+
+    // Rows per keyset page when streaming, overridable with -Dpayroll.employee.pageSize=<value>
+    private static final int PAGE_SIZE = Integer.getInteger("payroll.employee.pageSize", 500);
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        List<Employee> employees = new ArrayList<>();
+        String query = "SELECT * FROM employee ORDER BY last_name, first_name";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                Employee e = mapResultSetToEmployee(rs);
+                employees.add(e);
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching all employees", ex);
+            throw new RuntimeException("Failed to fetch employees", ex);
+        }
+
+        return employees;
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return streamPages("SELECT * FROM employee WHERE employee_id > ? ORDER BY employee_id LIMIT ?", null);
+    }
+
+    @Override
+    public Employee getEmployeeById(int employeeId) {
+        String query = "SELECT * FROM employee WHERE employee_id = ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, employeeId);
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return mapResultSetToEmployee(rs);
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching employee with ID: " + employeeId, ex);
+            throw new RuntimeException("Failed to fetch employee", ex);
+        }
+
+        return null;
+    }
+
+    @Override
+    public Set<Integer> getExistingEmployeeIds(Collection<Integer> employeeIds) {
+        if (employeeIds == null) {
+            throw new IllegalArgumentException("Employee IDs cannot be null");
+        }
+        Set<Integer> existing = new HashSet<>();
+
+        try (Connection conn = DBConnection.getConnection()) {
+            for (List<Integer> chunk : InClause.chunks(employeeIds)) {
+                String query = "SELECT employee_id FROM employee WHERE employee_id IN ("
+                        + InClause.placeholders(chunk.size()) + ")";
+
+                try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                    int paramIndex = 1;
+                    for (int employeeId : chunk) {
+                        stmt.setInt(paramIndex++, employeeId);
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            existing.add(rs.getInt("employee_id"));
+                        }
+                    }
+                }
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error checking " + employeeIds.size() + " employee IDs", ex);
+            throw new RuntimeException("Failed to check employee IDs", ex);
+        }
+
+        return existing;
+    }
+
+    @Override
+    public long getEmployeeVersion(int employeeId) {
+        String query = "SELECT updated_at FROM employee WHERE employee_id = ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, employeeId);
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                Timestamp updatedAt = rs.getTimestamp("updated_at");
+                // Microseconds since the epoch, the precision of TIMESTAMP(6)
+                return updatedAt.getTime() / 1000 * 1_000_000 + updatedAt.getNanos() / 1000;
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching version of employee with ID: " + employeeId, ex);
+            throw new RuntimeException("Failed to fetch employee version", ex);
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean insertEmployee(Employee e) {
+        String sql = "INSERT INTO employee (last_name, first_name, birthdate, address, contact_info, " +
+                    "sss_number, philhealth_number, pagibig_number, tin_number, employment_status_id, " +
+                    "position_id, supervisor_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setString(1, e.getLastName());
+            stmt.setString(2, e.getFirstName());
+            stmt.setDate(3, e.getBirthdate() != null ? Date.valueOf(e.getBirthdate()) : null);
+            stmt.setString(4, e.getAddress());
+            stmt.setString(5, e.getContactInfo());
+            stmt.setString(6, e.getSssNumber());
+            stmt.setString(7, e.getPhilhealthNumber());
+            stmt.setString(8, e.getPagibigNumber());
+            stmt.setString(9, e.getTinNumber());
+            stmt.setInt(10, e.getEmploymentStatusId());
+            stmt.setInt(11, e.getPositionId());
+            stmt.setInt(12, e.getSupervisorId());
+
+            int result = stmt.executeUpdate();
+            
+            if (result > 0) {
+                // Set the generated employee ID
+                ResultSet keys = stmt.getGeneratedKeys();
+                if (keys.next()) {
+                    e.setEmployeeId(keys.getInt(1));
+                }
+                return true;
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error inserting employee", ex);
+            throw new RuntimeException("Failed to insert employee", ex);
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean updateEmployee(Employee e) {
+        String sql = "UPDATE employee SET last_name=?, first_name=?, birthdate=?, address=?, " +
+                    "contact_info=?, sss_number=?, philhealth_number=?, pagibig_number=?, " +
+                    "tin_number=?, employment_status_id=?, position_id=?, supervisor_id=? " +
+                    "WHERE employee_id=?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, e.getLastName());
+            stmt.setString(2, e.getFirstName());
+            stmt.setDate(3, e.getBirthdate() != null ? Date.valueOf(e.getBirthdate()) : null);
+            stmt.setString(4, e.getAddress());
+            stmt.setString(5, e.getContactInfo());
+            stmt.setString(6, e.getSssNumber());
+            stmt.setString(7, e.getPhilhealthNumber());
+            stmt.setString(8, e.getPagibigNumber());
+            stmt.setString(9, e.getTinNumber());
+            stmt.setInt(10, e.getEmploymentStatusId());
+            stmt.setInt(11, e.getPositionId());
+            stmt.setInt(12, e.getSupervisorId());
+            stmt.setInt(13, e.getEmployeeId());
+
+            return stmt.executeUpdate() > 0;
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error updating employee with ID: " + e.getEmployeeId(), ex);
+            throw new RuntimeException("Failed to update employee", ex);
+        }
+    }
+
+    @Override
+    public boolean deleteEmployee(int employeeId) {
+        String sql = "DELETE FROM employee WHERE employee_id = ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, employeeId);
+            return stmt.executeUpdate() > 0;
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error deleting employee with ID: " + employeeId, ex);
+            throw new RuntimeException("Failed to delete employee", ex);
+        }
+    }
+
+    @Override
+    public List<Employee> getEmployeesByStatus(int statusId) {
+        List<Employee> employees = new ArrayList<>();
+        String query = "SELECT * FROM employee WHERE employment_status_id = ? ORDER BY last_name, first_name";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, statusId);
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                Employee e = mapResultSetToEmployee(rs);
+                employees.add(e);
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching employees by status: " + statusId, ex);
+            throw new RuntimeException("Failed to fetch employees by status", ex);
+        }
+
+        return employees;
+    }
+
+    @Override
+    public Stream<Employee> streamEmployeesByStatus(int statusId) {
+        return streamPages("SELECT * FROM employee WHERE employment_status_id = ? AND employee_id > ? " +
+                "ORDER BY employee_id LIMIT ?", statusId);
+    }
+
+    private Stream<Employee> streamPages(String query, Integer statusId) {
+        EmployeePages pages = new EmployeePages(query, statusId);
+        return StreamSupport.stream(pages, false).onClose(pages::close);
+    }
+
+    /**
+     * Reads employees a page at a time, each page starting after the last
+     * employee ID of the one before. Every page is read on its own pooled
+     * connection, returned before the page is handed out, so a slow
+     * consumer never holds a connection and only one page is in memory.
+     */
+    private final class EmployeePages extends Spliterators.AbstractSpliterator<Employee> {
+        private final String query;
+        private final Integer statusId;
+        private List<Employee> page = List.of();
+        private int next;
+        private int lastEmployeeId;
+        private boolean exhausted;
+
+        EmployeePages(String query, Integer statusId) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            this.query = query;
+            this.statusId = statusId;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Employee> action) {
+            if (next == page.size()) {
+                if (exhausted) {
+                    return false;
+                }
+                page = readPage();
+                next = 0;
+                exhausted = page.size() < PAGE_SIZE;
+                if (page.isEmpty()) {
+                    return false;
+                }
+            }
+            Employee e = page.get(next++);
+            lastEmployeeId = e.getEmployeeId();
+            action.accept(e);
+            return true;
+        }
+
+        void close() {
+            exhausted = true;
+            page = List.of();
+            next = 0;
+        }
+
+        private List<Employee> readPage() {
+            List<Employee> employees = new ArrayList<>(PAGE_SIZE);
+
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(query,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+                // Connector/J ignores a positive fetch size without useCursorFetch;
+                // MIN_VALUE streams rows instead of buffering the page twice
+                stmt.setFetchSize(Integer.MIN_VALUE);
+                int paramIndex = 1;
+                if (statusId != null) {
+                    stmt.setInt(paramIndex++, statusId);
+                }
+                stmt.setInt(paramIndex++, lastEmployeeId);
+                stmt.setInt(paramIndex, PAGE_SIZE);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        employees.add(mapResultSetToEmployee(rs));
+                    }
+                }
+
+            } catch (SQLException ex) {
+                LOGGER.log(Level.SEVERE, "Error streaming employees after ID: " + lastEmployeeId, ex);
+                throw new RuntimeException("Failed to stream employees", ex);
+            }
+
+            return employees;
+        }
+    }
+
+    Employee mapResultSetToEmployee(ResultSet rs) throws SQLException {
+        Employee e = new Employee();
+        e.setEmployeeId(rs.getInt("employee_id"));
+        e.setLastName(rs.getString("last_name"));
+        e.setFirstName(rs.getString("first_name"));
+        
+        Date birthdate = rs.getDate("birthdate");
+        if (birthdate != null) {
+            e.setBirthdate(birthdate.toLocalDate());
+        }
+        
+        e.setAddress(rs.getString("address"));
+        e.setContactInfo(rs.getString("contact_info"));
+        e.setSssNumber(rs.getString("sss_number"));
+        e.setPhilhealthNumber(rs.getString("philhealth_number"));
+        e.setPagibigNumber(rs.getString("pagibig_number"));
+        e.setTinNumber(rs.getString("tin_number"));
+        e.setEmploymentStatusId(rs.getInt("employment_status_id"));
+        e.setPositionId(rs.getInt("position_id"));
+        e.setSupervisorId(rs.getInt("supervisor_id"));
+
+        return e;
+    }
+}
+
@@ -0,0 +1,83 @@
+
+package dao;
+
+import util.DBConnection;
+import model.EmploymentStatus;
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class JdbcEmploymentStatusDAO implements EmploymentStatusDAO {
+    private static final Logger LOGGER = Logger.getLogger(JdbcEmploymentStatusDAO.class.getName());
+
+    @Override
+    public EmploymentStatus getStatusById(int statusId) {
+        String query = "SELECT * FROM employment_status WHERE employment_status_id = ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, statusId);
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return mapResultSetToStatus(rs);
+            }
+
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+
+        return null;
+    }
+
+    @Override
+    public Map<Integer, EmploymentStatus> getAllStatuses() {
+        String query = "SELECT * FROM employment_status";
+        Map<Integer, EmploymentStatus> statuses = new HashMap<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                EmploymentStatus es = mapResultSetToStatus(rs);
+                statuses.put(es.getStatusId(), es);
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error retrieving all employment statuses", ex);
+            throw new RuntimeException("Failed to retrieve employment statuses", ex);
+        }
+
+        return statuses;
+    }
+
+    @Override
+    public boolean updateStatus(EmploymentStatus status) {
+        if (status == null || status.getStatusId() <= 0) {
+            throw new IllegalArgumentException("Employment status must have a positive ID");
+        }
+        String query = "UPDATE employment_status SET status_name = ? WHERE employment_status_id = ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setString(1, status.getStatusName());
+            stmt.setInt(2, status.getStatusId());
+            return stmt.executeUpdate() > 0;
+
+        } catch (SQLException ex) {
+            throw new RuntimeException("Failed to update employment status", ex);
+        }
+    }
+
+    EmploymentStatus mapResultSetToStatus(ResultSet rs) throws SQLException {
+        EmploymentStatus es = new EmploymentStatus();
+        es.setStatusId(rs.getInt("employment_status_id"));
+        es.setStatusName(rs.getString("status_name"));
+        return es;
+    }
+}
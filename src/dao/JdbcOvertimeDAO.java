@@ -0,0 +1,723 @@
+package dao;
+
+import util.DBConnection;
+import model.Overtime;
+import model.OvertimeSummary;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Data Access Object for Overtime operations
+ * Handles all database operations related to overtime records
+ * @author rejoice
+ */
+public class JdbcOvertimeDAO implements OvertimeDAO {
+    private static final Logger logger = Logger.getLogger(JdbcOvertimeDAO.class.getName());
+    
+    // SQL Query constants for better maintainability
+    private static final String SELECT_BY_EMPLOYEE_ID = 
+        "SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime WHERE employee_id = ? ORDER BY date DESC";
+    
+    private static final String SELECT_BY_EMPLOYEE_ID_AND_DATE_RANGE = 
+        "SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime " +
+        "WHERE employee_id = ? AND date >= ? AND date <= ? ORDER BY date DESC";
+
+    private static final String SELECT_BY_DATE_RANGE =
+        "SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime " +
+        "WHERE date >= ? AND date <= ? ORDER BY employee_id, date DESC";
+
+    private static final String INSERT_OVERTIME = 
+        "INSERT INTO overtime (employee_id, date, hours, reason, approved) VALUES (?, ?, ?, ?, ?)";
+    
+    private static final String UPDATE_OVERTIME = 
+        "UPDATE overtime SET employee_id = ?, date = ?, hours = ?, reason = ?, approved = ? WHERE overtime_id = ?";
+    
+    private static final String DELETE_OVERTIME = 
+        "DELETE FROM overtime WHERE overtime_id = ?";
+    
+    private static final String SELECT_TOTAL_HOURS = 
+        "SELECT COALESCE(SUM(hours), 0) as total_hours FROM overtime " +
+        "WHERE employee_id = ? AND date >= ? AND date <= ?";
+    
+    private static final String SELECT_BY_ID = 
+        "SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime WHERE overtime_id = ?";
+
+    // Locks the row being changed, so the summary is adjusted by what it held
+    private static final String SELECT_FOR_UPDATE =
+        "SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime WHERE overtime_id = ? FOR UPDATE";
+
+    // Adds signed amounts to the month of an overtime record
+    private static final String UPSERT_SUMMARY =
+        "INSERT INTO overtime_summary (employee_id, period_start, approved_hours, pending_hours, approved_count, pending_count) " +
+        "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+        "approved_hours = approved_hours + VALUES(approved_hours), pending_hours = pending_hours + VALUES(pending_hours), " +
+        "approved_count = approved_count + VALUES(approved_count), pending_count = pending_count + VALUES(pending_count)";
+
+    // Overtime totals: whole months of the period from overtime_summary, the
+    // days before and after them from overtime; bound by bindSummaryRange
+    static final String SELECT_SUMMARY = """
+        SELECT COALESCE(SUM(approved_hours), 0) AS approved_hours, COALESCE(SUM(pending_hours), 0) AS pending_hours,
+               COALESCE(SUM(approved_count), 0) AS approved_count, COALESCE(SUM(pending_count), 0) AS pending_count
+        FROM (
+            SELECT approved_hours, pending_hours, approved_count, pending_count FROM overtime_summary
+                WHERE employee_id = ? AND period_start >= ? AND period_start < ?
+            UNION ALL
+            SELECT CASE WHEN approved THEN hours ELSE 0 END, CASE WHEN approved THEN 0 ELSE hours END,
+                   CASE WHEN approved THEN 1 ELSE 0 END, CASE WHEN approved THEN 0 ELSE 1 END FROM overtime
+                WHERE employee_id = ? AND ((date >= ? AND date < ?) OR (date >= ? AND date <= ?))
+        ) totals""";
+
+    private static final String SELECT_SUMMARIES = """
+        SELECT employee_id,
+               SUM(approved_hours) AS approved_hours, SUM(pending_hours) AS pending_hours,
+               SUM(approved_count) AS approved_count, SUM(pending_count) AS pending_count
+        FROM (
+            SELECT employee_id, approved_hours, pending_hours, approved_count, pending_count FROM overtime_summary
+                WHERE period_start >= ? AND period_start < ?
+            UNION ALL
+            SELECT employee_id, CASE WHEN approved THEN hours ELSE 0 END, CASE WHEN approved THEN 0 ELSE hours END,
+                   CASE WHEN approved THEN 1 ELSE 0 END, CASE WHEN approved THEN 0 ELSE 1 END FROM overtime
+                WHERE (date >= ? AND date < ?) OR (date >= ? AND date <= ?)
+        ) totals
+        GROUP BY employee_id""";
+    
+    /**
+     * Retrieves all overtime records for a specific employee
+     * @param empId Employee ID
+     * @return List of overtime records, empty list if none found
+     * @throws IllegalArgumentException if empId is invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public List<Overtime> getOvertimeByEmployeeId(int empId) {
+        validateEmployeeId(empId);
+        
+        List<Overtime> overtimeList = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_EMPLOYEE_ID)) {
+
+            stmt.setInt(1, empId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Overtime overtime = mapResultSetToOvertime(rs);
+                    overtimeList.add(overtime);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving overtime for employee ID: " + empId, ex);
+            throw new RuntimeException("Failed to retrieve overtime records for employee: " + empId, ex);
+        }
+
+        return overtimeList;
+    }
+
+    /**
+     * Retrieves overtime records for an employee within a date range
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return List of overtime records within the date range, empty list if none found
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public List<Overtime> getOvertimeByEmployeeIdAndDateRange(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        validateEmployeeId(employeeId);
+        validateDateRange(periodStart, periodEnd);
+        
+        List<Overtime> overtimeList = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_EMPLOYEE_ID_AND_DATE_RANGE)) {
+
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Overtime overtime = mapResultSetToOvertime(rs);
+                    overtimeList.add(overtime);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, 
+                String.format("Error retrieving overtime for employee ID: %d between dates: %s and %s", 
+                    employeeId, periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to retrieve overtime records for date range", ex);
+        }
+
+        return overtimeList;
+    }
+
+    /**
+     * Retrieves overtime records of all employees within a date range,
+     * grouped by employee in a single query
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Map of employee ID to overtime records, empty map if none found
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public Map<Integer, List<Overtime>> getOvertimeByDateRangeGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
+
+        Map<Integer, List<Overtime>> grouped = new HashMap<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_DATE_RANGE)) {
+
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Overtime overtime = mapResultSetToOvertime(rs);
+                    grouped.computeIfAbsent(overtime.getEmployeeId(), id -> new ArrayList<>()).add(overtime);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE,
+                String.format("Error retrieving overtime between dates: %s and %s", periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to retrieve overtime records for date range", ex);
+        }
+
+        return grouped;
+    }
+
+    /**
+     * Retrieves a single overtime record by ID
+     * @param overtimeId Overtime record ID
+     * @return Overtime object if found, null otherwise
+     * @throws IllegalArgumentException if overtimeId is invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public Overtime getOvertimeById(int overtimeId) {
+        if (overtimeId <= 0) {
+            throw new IllegalArgumentException("Overtime ID must be positive");
+        }
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
+            
+            stmt.setInt(1, overtimeId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToOvertime(rs);
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving overtime by ID: " + overtimeId, ex);
+            throw new RuntimeException("Failed to retrieve overtime record", ex);
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Inserts a new overtime record
+     * @param overtime Overtime object to insert
+     * @return Generated overtime ID
+     * @throws IllegalArgumentException if overtime object is invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public int insertOvertime(Overtime overtime) {
+        validateOvertimeForInsert(overtime);
+        
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            int previousId = overtime.getOvertimeId();
+            try {
+                int generatedId = insertOvertime(conn, overtime);
+                conn.commit();
+                return generatedId;
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                // The ID was never committed, so the record keeps the one it had
+                overtime.setOvertimeId(previousId);
+                throw ex;
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error inserting overtime record", ex);
+            throw new RuntimeException("Failed to insert overtime record", ex);
+        }
+    }
+    
+    /**
+     * Inserts a new overtime record and adds it to the summary of its month
+     * on the caller's connection, taking part in whatever transaction the
+     * caller has open
+     * @param conn Open connection
+     * @param overtime Overtime object to insert
+     * @return Generated overtime ID
+     * @throws IllegalArgumentException if overtime object is invalid
+     * @throws SQLException if database error occurs
+     */
+    public int insertOvertime(Connection conn, Overtime overtime) throws SQLException {
+        validateOvertimeForInsert(overtime);
+        
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_OVERTIME, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setInt(1, overtime.getEmployeeId());
+            stmt.setDate(2, overtime.getDate());
+            stmt.setDouble(3, overtime.getHours());
+            stmt.setString(4, overtime.getReason());
+            stmt.setBoolean(5, overtime.isApproved());
+            
+            int affectedRows = stmt.executeUpdate();
+            if (affectedRows == 0) {
+                throw new SQLException("Creating overtime failed, no rows affected");
+            }
+            
+            int generatedId;
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("Creating overtime failed, no ID obtained");
+                }
+                generatedId = generatedKeys.getInt(1);
+            }
+            addToSummary(conn, overtime, 1);
+            
+            overtime.setOvertimeId(generatedId);
+            logger.info("Successfully inserted overtime record with ID: " + generatedId);
+            return generatedId;
+        }
+    }
+    
+    /**
+     * Updates an existing overtime record
+     * @param overtime Overtime object with updated information
+     * @return true if update was successful, false if no record was found
+     * @throws IllegalArgumentException if overtime object is invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public boolean updateOvertime(Overtime overtime) {
+        validateOvertimeForUpdate(overtime);
+        
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                boolean updated = updateOvertime(conn, overtime);
+                if (updated) {
+                    conn.commit();
+                } else {
+                    conn.rollback();
+                }
+                return updated;
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                throw ex;
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error updating overtime record with ID: " + overtime.getOvertimeId(), ex);
+            throw new RuntimeException("Failed to update overtime record", ex);
+        }
+    }
+    
+    /**
+     * Updates an existing overtime record and moves its amounts from the
+     * summary of its old month to that of its new one, on the caller's
+     * connection, taking part in whatever transaction the caller has open
+     * @param conn Open connection
+     * @param overtime Overtime object with updated information
+     * @return true if update was successful, false if no record was found
+     * @throws IllegalArgumentException if overtime object is invalid
+     * @throws SQLException if database error occurs
+     */
+    public boolean updateOvertime(Connection conn, Overtime overtime) throws SQLException {
+        validateOvertimeForUpdate(overtime);
+        
+        Overtime previous = selectForUpdate(conn, overtime.getOvertimeId());
+        if (previous == null) {
+            logger.warning("No overtime record found with ID: " + overtime.getOvertimeId());
+            return false;
+        }
+        
+        try (PreparedStatement stmt = conn.prepareStatement(UPDATE_OVERTIME)) {
+            stmt.setInt(1, overtime.getEmployeeId());
+            stmt.setDate(2, overtime.getDate());
+            stmt.setDouble(3, overtime.getHours());
+            stmt.setString(4, overtime.getReason());
+            stmt.setBoolean(5, overtime.isApproved());
+            stmt.setInt(6, overtime.getOvertimeId());
+            stmt.executeUpdate();
+        }
+        addToSummary(conn, previous, -1);
+        addToSummary(conn, overtime, 1);
+        
+        logger.info("Successfully updated overtime record with ID: " + overtime.getOvertimeId());
+        return true;
+    }
+    
+    /**
+     * Deletes an overtime record
+     * @param overtimeId ID of the overtime record to delete
+     * @return true if deletion was successful, false if no record was found
+     * @throws IllegalArgumentException if overtimeId is invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public boolean deleteOvertime(int overtimeId) {
+        if (overtimeId <= 0) {
+            throw new IllegalArgumentException("Overtime ID must be positive");
+        }
+        
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                boolean deleted = deleteOvertime(conn, overtimeId);
+                if (deleted) {
+                    conn.commit();
+                } else {
+                    conn.rollback();
+                }
+                return deleted;
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                throw ex;
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error deleting overtime record with ID: " + overtimeId, ex);
+            throw new RuntimeException("Failed to delete overtime record", ex);
+        }
+    }
+    
+    /**
+     * Deletes an overtime record and takes it off the summary of its month,
+     * on the caller's connection, taking part in whatever transaction the
+     * caller has open
+     * @param conn Open connection
+     * @param overtimeId ID of the overtime record to delete
+     * @return true if deletion was successful, false if no record was found
+     * @throws IllegalArgumentException if overtimeId is invalid
+     * @throws SQLException if database error occurs
+     */
+    public boolean deleteOvertime(Connection conn, int overtimeId) throws SQLException {
+        if (overtimeId <= 0) {
+            throw new IllegalArgumentException("Overtime ID must be positive");
+        }
+        
+        Overtime previous = selectForUpdate(conn, overtimeId);
+        if (previous == null) {
+            logger.warning("No overtime record found with ID: " + overtimeId);
+            return false;
+        }
+        
+        try (PreparedStatement stmt = conn.prepareStatement(DELETE_OVERTIME)) {
+            stmt.setInt(1, overtimeId);
+            stmt.executeUpdate();
+        }
+        addToSummary(conn, previous, -1);
+        
+        logger.info("Successfully deleted overtime record with ID: " + overtimeId);
+        return true;
+    }
+    
+    /**
+     * Calculates total overtime hours for an employee within a date range
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Total overtime hours (0.0 if no records found)
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public double getTotalOvertimeHours(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        validateEmployeeId(employeeId);
+        validateDateRange(periodStart, periodEnd);
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_TOTAL_HOURS)) {
+            
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getDouble("total_hours");
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, 
+                String.format("Error calculating total overtime hours for employee ID: %d between %s and %s", 
+                    employeeId, periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to calculate total overtime hours", ex);
+        }
+        
+        return 0.0;
+    }
+    
+    /**
+     * Gets count of overtime records for an employee within a date range
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Number of overtime records
+     */
+    @Override
+    public int getOvertimeCount(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        validateEmployeeId(employeeId);
+        validateDateRange(periodStart, periodEnd);
+        
+        String query = "SELECT COUNT(*) as count FROM overtime WHERE employee_id = ? AND date >= ? AND date <= ?";
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt("count");
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error counting overtime records", ex);
+            throw new RuntimeException("Failed to count overtime records", ex);
+        }
+        
+        return 0;
+    }
+    
+    /**
+     * Retrieves the approved and pending overtime totals of an employee
+     * within a date range. Whole calendar months are read from the
+     * maintained summary, so a monthly period reads one row.
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Overtime totals, all zero if no records found
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public OvertimeSummary getOvertimeSummary(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        validateEmployeeId(employeeId);
+        validateDateRange(periodStart, periodEnd);
+        
+        try (Connection conn = DBConnection.getConnection()) {
+            return getOvertimeSummary(conn, employeeId, periodStart, periodEnd);
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, String.format(
+                "Error summarizing overtime for employee ID: %d between dates: %s and %s",
+                employeeId, periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to summarize overtime", ex);
+        }
+    }
+    
+    /**
+     * Retrieves the approved and pending overtime totals of an employee
+     * within a date range on the caller's connection, so they include what
+     * the caller's open transaction has written
+     * @param conn Open connection
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Overtime totals, all zero if no records found
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws SQLException if database error occurs
+     */
+    public OvertimeSummary getOvertimeSummary(Connection conn, int employeeId, LocalDate periodStart,
+                                              LocalDate periodEnd) throws SQLException {
+        validateEmployeeId(employeeId);
+        validateDateRange(periodStart, periodEnd);
+        
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_SUMMARY)) {
+            bindSummaryRange(stmt, 1, employeeId, periodStart, periodEnd);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return mapResultSetToSummary(rs, employeeId);
+            }
+        }
+    }
+    
+    /**
+     * Retrieves the approved and pending overtime totals of all employees
+     * within a date range, in a single query
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Map of employee ID to overtime totals, empty map if none found
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public Map<Integer, OvertimeSummary> getOvertimeSummariesGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
+        
+        Map<Integer, OvertimeSummary> summaries = new HashMap<>();
+        LocalDate[] months = wholeMonths(periodStart, periodEnd);
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_SUMMARIES)) {
+            
+            stmt.setDate(1, java.sql.Date.valueOf(months[0]));
+            stmt.setDate(2, java.sql.Date.valueOf(months[1]));
+            stmt.setDate(3, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(4, java.sql.Date.valueOf(months[0]));
+            stmt.setDate(5, java.sql.Date.valueOf(months[1]));
+            stmt.setDate(6, java.sql.Date.valueOf(periodEnd));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int employeeId = rs.getInt("employee_id");
+                    summaries.put(employeeId, mapResultSetToSummary(rs, employeeId));
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error summarizing overtime between dates: " + periodStart + " and " + periodEnd, ex);
+            throw new RuntimeException("Failed to summarize overtime", ex);
+        }
+        
+        return summaries;
+    }
+    
+    /**
+     * Binds the placeholders of {@link #SELECT_SUMMARY}
+     * @return Index of the next placeholder
+     */
+    static int bindSummaryRange(PreparedStatement stmt, int paramIndex, int employeeId,
+                                LocalDate periodStart, LocalDate periodEnd) throws SQLException {
+        LocalDate[] months = wholeMonths(periodStart, periodEnd);
+        java.sql.Date monthsStart = java.sql.Date.valueOf(months[0]);
+        java.sql.Date monthsEnd = java.sql.Date.valueOf(months[1]);
+        stmt.setInt(paramIndex++, employeeId);
+        stmt.setDate(paramIndex++, monthsStart);
+        stmt.setDate(paramIndex++, monthsEnd);
+        stmt.setInt(paramIndex++, employeeId);
+        stmt.setDate(paramIndex++, java.sql.Date.valueOf(periodStart));
+        stmt.setDate(paramIndex++, monthsStart);
+        stmt.setDate(paramIndex++, monthsEnd);
+        stmt.setDate(paramIndex++, java.sql.Date.valueOf(periodEnd));
+        return paramIndex;
+    }
+    
+    /**
+     * Maps the totals of {@link #SELECT_SUMMARY} to an overtime summary
+     */
+    static OvertimeSummary mapResultSetToSummary(ResultSet rs, int employeeId) throws SQLException {
+        return new OvertimeSummary(employeeId, rs.getDouble("approved_hours"), rs.getDouble("pending_hours"),
+                rs.getInt("approved_count"), rs.getInt("pending_count"));
+    }
+    
+    /**
+     * Whole calendar months within a period, as the first day of the first
+     * month and the first day after the last; both are the day after the
+     * period if it spans no whole month, leaving every day to the raw rows
+     */
+    private static LocalDate[] wholeMonths(LocalDate periodStart, LocalDate periodEnd) {
+        LocalDate first = periodStart.getDayOfMonth() == 1 ? periodStart : periodStart.withDayOfMonth(1).plusMonths(1);
+        LocalDate afterLast = periodEnd.plusDays(1).withDayOfMonth(1);
+        if (!first.isBefore(afterLast)) {
+            first = periodEnd.plusDays(1);
+            afterLast = first;
+        }
+        return new LocalDate[] {first, afterLast};
+    }
+    
+    private Overtime selectForUpdate(Connection conn, int overtimeId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_FOR_UPDATE)) {
+            stmt.setInt(1, overtimeId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapResultSetToOvertime(rs) : null;
+            }
+        }
+    }
+    
+    /**
+     * Adds an overtime record to the summary of its month, or takes it off
+     * @param sign 1 to add, -1 to take off
+     */
+    private void addToSummary(Connection conn, Overtime overtime, int sign) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(UPSERT_SUMMARY)) {
+            boolean approved = overtime.isApproved();
+            stmt.setInt(1, overtime.getEmployeeId());
+            stmt.setDate(2, java.sql.Date.valueOf(overtime.getDate().toLocalDate().withDayOfMonth(1)));
+            stmt.setBigDecimal(3, BigDecimal.valueOf(approved ? sign * overtime.getHours() : 0));
+            stmt.setBigDecimal(4, BigDecimal.valueOf(approved ? 0 : sign * overtime.getHours()));
+            stmt.setInt(5, approved ? sign : 0);
+            stmt.setInt(6, approved ? 0 : sign);
+            stmt.executeUpdate();
+        }
+    }
+    
+    // Private helper methods for validation
+    
+    private void validateEmployeeId(int employeeId) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+    }
+    
+    private void validateDateRange(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+    }
+    
+    private void validateOvertimeForInsert(Overtime overtime) {
+        if (overtime == null) {
+            throw new IllegalArgumentException("Overtime cannot be null");
+        }
+        if (overtime.getEmployeeId() <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (overtime.getDate() == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (overtime.getHours() < 0) {
+            throw new IllegalArgumentException("Hours cannot be negative");
+        }
+    }
+    
+    private void validateOvertimeForUpdate(Overtime overtime) {
+        validateOvertimeForInsert(overtime);
+        if (overtime.getOvertimeId() <= 0) {
+            throw new IllegalArgumentException("Overtime ID must be positive for updates");
+        }
+    }
+    
+    /**
+     * Maps ResultSet to Overtime object
+     * @param rs ResultSet from database
+     * @return Overtime object
+     * @throws SQLException if database access error occurs
+     */
+    Overtime mapResultSetToOvertime(ResultSet rs) throws SQLException {
+        Overtime overtime = new Overtime();
+        overtime.setOvertimeId(rs.getInt("overtime_id"));
+        overtime.setEmployeeId(rs.getInt("employee_id"));
+        overtime.setDate(rs.getDate("date"));
+        overtime.setHours(rs.getDouble("hours"));
+        overtime.setReason(rs.getString("reason"));
+        overtime.setApproved(rs.getBoolean("approved"));
+        return overtime;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,584 @@
+package dao;
+
+import util.DBConnection;
+import util.Money;
+import model.Payroll;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Data Access Object for Payroll operations
+ * @author rejoice
+ */
+public class JdbcPayrollDAO implements PayrollDAO {
+    private static final Logger logger = Logger.getLogger(JdbcPayrollDAO.class.getName());
+    
+    // Rows sent per JDBC batch, overridable with -Dpayroll.db.batchSize=<value>
+    public static final int DEFAULT_BATCH_SIZE = Integer.getInteger("payroll.db.batchSize", 1000);
+    
+    // SQL Query constants
+    private static final String SELECT_BY_EMPLOYEE_ID = 
+        "SELECT payroll_id, employee_id, period_start, period_end, monthly_rate, days_worked, " +
+        "overtime_hours, gross_pay, total_deductions, net_pay, gross_earnings, late_deduction, " +
+        "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
+        "clothing_allowance, sss, philhealth, pagibig, tax FROM payroll WHERE employee_id = ? ORDER BY period_start DESC";
+    
+    private static final String SELECT_BY_DATE_RANGE = 
+        "SELECT payroll_id, employee_id, period_start, period_end, monthly_rate, days_worked, " +
+        "overtime_hours, gross_pay, total_deductions, net_pay, gross_earnings, late_deduction, " +
+        "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
+        "clothing_allowance, sss, philhealth, pagibig, tax FROM payroll " +
+        "WHERE employee_id = ? AND period_start >= ? AND period_end <= ? ORDER BY period_start DESC";
+    
+    private static final String INSERT_PAYROLL = 
+        "INSERT INTO payroll (employee_id, period_start, period_end, monthly_rate, days_worked, " +
+        "overtime_hours, gross_pay, total_deductions, net_pay, gross_earnings, late_deduction, " +
+        "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
+        "clothing_allowance, sss, philhealth, pagibig, tax) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    // The unique key on (employee_id, period_start, period_end) turns a
+    // repeated period into an update of every calculated column
+    private static final String UPSERT_PAYROLL = INSERT_PAYROLL + " ON DUPLICATE KEY UPDATE " +
+        "monthly_rate = VALUES(monthly_rate), days_worked = VALUES(days_worked), " +
+        "overtime_hours = VALUES(overtime_hours), gross_pay = VALUES(gross_pay), " +
+        "total_deductions = VALUES(total_deductions), net_pay = VALUES(net_pay), " +
+        "gross_earnings = VALUES(gross_earnings), late_deduction = VALUES(late_deduction), " +
+        "undertime_deduction = VALUES(undertime_deduction), unpaid_leave_deduction = VALUES(unpaid_leave_deduction), " +
+        "overtime_pay = VALUES(overtime_pay), rice_subsidy = VALUES(rice_subsidy), " +
+        "phone_allowance = VALUES(phone_allowance), clothing_allowance = VALUES(clothing_allowance), " +
+        "sss = VALUES(sss), philhealth = VALUES(philhealth), pagibig = VALUES(pagibig), tax = VALUES(tax)";
+
+    private static final String SELECT_IDS_BY_PERIOD =
+        "SELECT employee_id, payroll_id FROM payroll WHERE period_start = ? AND period_end = ? AND employee_id IN (%s)";
+    
+    private static final String UPDATE_PAYROLL = 
+        "UPDATE payroll SET employee_id = ?, period_start = ?, period_end = ?, monthly_rate = ?, " +
+        "days_worked = ?, overtime_hours = ?, gross_pay = ?, total_deductions = ?, net_pay = ?, " +
+        "gross_earnings = ?, late_deduction = ?, undertime_deduction = ?, unpaid_leave_deduction = ?, " +
+        "overtime_pay = ?, rice_subsidy = ?, phone_allowance = ?, clothing_allowance = ?, " +
+        "sss = ?, philhealth = ?, pagibig = ?, tax = ? WHERE payroll_id = ?";
+    
+    private static final String DELETE_PAYROLL = "DELETE FROM payroll WHERE payroll_id = ?";
+    
+    private static final String SELECT_BY_ID = 
+        "SELECT payroll_id, employee_id, period_start, period_end, monthly_rate, days_worked, " +
+        "overtime_hours, gross_pay, total_deductions, net_pay, gross_earnings, late_deduction, " +
+        "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
+        "clothing_allowance, sss, philhealth, pagibig, tax FROM payroll WHERE payroll_id = ?";
+
+    private final int batchSize;
+
+    public JdbcPayrollDAO() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param batchSize Payrolls sent per JDBC batch by {@link #insertPayrolls}
+     */
+    public JdbcPayrollDAO(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Retrieves all payroll records for a specific employee
+     * @param empId Employee ID
+     * @return List of payroll records
+     */
+    @Override
+    public List<Payroll> getPayrollByEmployeeId(int empId) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        
+        List<Payroll> payrollList = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_EMPLOYEE_ID)) {
+
+            stmt.setInt(1, empId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Payroll payroll = mapResultSetToPayroll(rs);
+                    payrollList.add(payroll);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving payroll for employee ID: " + empId, ex);
+            throw new RuntimeException("Failed to retrieve payroll records", ex);
+        }
+
+        return payrollList;
+    }
+
+    /**
+     * Retrieves payroll records for an employee within a date range
+     * @param employeeId Employee ID
+     * @param periodStart Start date
+     * @param periodEnd End date
+     * @return List of payroll records
+     */
+    @Override
+    public List<Payroll> getPayrollByEmployeeIdAndDateRange(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        
+        List<Payroll> payrollList = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_DATE_RANGE)) {
+
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Payroll payroll = mapResultSetToPayroll(rs);
+                    payrollList.add(payroll);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving payroll records for date range", ex);
+            throw new RuntimeException("Failed to retrieve payroll records", ex);
+        }
+
+        return payrollList;
+    }
+
+    /**
+     * Inserts a new payroll record
+     * @param payroll Payroll object to insert
+     * @return Generated payroll ID
+     */
+    @Override
+    public int insertPayroll(Payroll payroll) {
+        if (payroll == null) {
+            throw new IllegalArgumentException("Payroll cannot be null");
+        }
+        
+        try (Connection conn = DBConnection.getConnection()) {
+            return insertPayroll(conn, payroll);
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error inserting payroll record", ex);
+            throw new RuntimeException("Failed to insert payroll record", ex);
+        }
+    }
+
+    /**
+     * Inserts a new payroll record on the caller's connection, taking part
+     * in whatever transaction the caller has open
+     * @param conn Open connection
+     * @param payroll Payroll object to insert
+     * @return Generated payroll ID
+     * @throws SQLException if database error occurs
+     */
+    public int insertPayroll(Connection conn, Payroll payroll) throws SQLException {
+        if (payroll == null) {
+            throw new IllegalArgumentException("Payroll cannot be null");
+        }
+        
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_PAYROLL, Statement.RETURN_GENERATED_KEYS)) {
+            
+            setPayrollParameters(stmt, payroll);
+            
+            int affectedRows = stmt.executeUpdate();
+            if (affectedRows == 0) {
+                throw new SQLException("Creating payroll failed, no rows affected");
+            }
+            
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    int generatedId = generatedKeys.getInt(1);
+                    payroll.setPayrollId(generatedId);
+                    return generatedId;
+                } else {
+                    throw new SQLException("Creating payroll failed, no ID obtained");
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts payroll records with JDBC batching in a single transaction;
+     * either all of them are stored or none. The connection comes from
+     * {@link DBConnection#getBatchConnection}, whose driver sends each batch
+     * as one multi-row insert.
+     * @param payrolls Payroll objects to insert
+     * @return Generated payroll IDs, in the order the payrolls were given
+     */
+    @Override
+    public int[] insertPayrolls(Collection<Payroll> payrolls) {
+        validatePayrolls(payrolls);
+        if (payrolls.isEmpty()) {
+            return new int[0];
+        }
+        
+        try (Connection conn = DBConnection.getBatchConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int[] ids = insertPayrolls(conn, payrolls);
+                conn.commit();
+                return ids;
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                // Generated keys of a rolled back insert are meaningless
+                payrolls.forEach(p -> p.setPayrollId(0));
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error inserting " + payrolls.size() + " payroll records", ex);
+            throw new RuntimeException("Failed to insert payroll records", ex);
+        }
+    }
+
+    /**
+     * Inserts payroll records with JDBC batching on the caller's
+     * connection, taking part in whatever transaction the caller has open
+     * @param conn Open connection
+     * @param payrolls Payroll objects to insert
+     * @return Generated payroll IDs, in the order the payrolls were given
+     * @throws SQLException if database error occurs
+     */
+    public int[] insertPayrolls(Connection conn, Collection<Payroll> payrolls) throws SQLException {
+        validatePayrolls(payrolls);
+        
+        int[] ids = new int[payrolls.size()];
+        List<Payroll> batch = new ArrayList<>(Math.min(batchSize, payrolls.size()));
+        int assigned = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_PAYROLL, Statement.RETURN_GENERATED_KEYS)) {
+            for (Payroll payroll : payrolls) {
+                setPayrollParameters(stmt, payroll);
+                stmt.addBatch();
+                batch.add(payroll);
+                if (batch.size() == batchSize) {
+                    assigned = executeBatch(stmt, batch, ids, assigned);
+                }
+            }
+            if (!batch.isEmpty()) {
+                executeBatch(stmt, batch, ids, assigned);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Stores a payroll as the one of its employee and period
+     * @param payroll Payroll object to store
+     * @return ID of the stored payroll
+     */
+    @Override
+    public int upsertPayroll(Payroll payroll) {
+        if (payroll == null) {
+            throw new IllegalArgumentException("Payroll cannot be null");
+        }
+        return upsertPayrolls(List.of(payroll))[0];
+    }
+
+    /**
+     * Stores payrolls as the ones of their employees and periods with JDBC
+     * batching in a single transaction; either all of them are stored or none
+     * @param payrolls Payroll objects to store
+     * @return IDs of the stored payrolls, in the order the payrolls were given
+     */
+    @Override
+    public int[] upsertPayrolls(Collection<Payroll> payrolls) {
+        validatePayrolls(payrolls);
+        if (payrolls.isEmpty()) {
+            return new int[0];
+        }
+        
+        int[] previousIds = payrolls.stream().mapToInt(Payroll::getPayrollId).toArray();
+        try (Connection conn = DBConnection.getBatchConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int[] ids = upsertPayrolls(conn, payrolls);
+                conn.commit();
+                return ids;
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                // IDs read back before the rollback may belong to rows that no
+                // longer exist, so each payroll gets back the ID it came with
+                int i = 0;
+                for (Payroll payroll : payrolls) {
+                    payroll.setPayrollId(previousIds[i++]);
+                }
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error storing " + payrolls.size() + " payroll records", ex);
+            throw new RuntimeException("Failed to store payroll records", ex);
+        }
+    }
+
+    /**
+     * Stores payrolls as the ones of their employees and periods on the
+     * caller's connection, taking part in whatever transaction the caller
+     * has open. Generated keys do not identify the rows an upsert updated,
+     * so the IDs are read back by employee and period afterwards.
+     * @param conn Open connection
+     * @param payrolls Payroll objects to store
+     * @return IDs of the stored payrolls, in the order the payrolls were given
+     * @throws SQLException if database error occurs
+     */
+    public int[] upsertPayrolls(Connection conn, Collection<Payroll> payrolls) throws SQLException {
+        validatePayrolls(payrolls);
+        for (Payroll payroll : payrolls) {
+            if (payroll.getPeriodStart() == null || payroll.getPeriodEnd() == null) {
+                throw new IllegalArgumentException("Period dates cannot be null");
+            }
+        }
+        
+        try (PreparedStatement stmt = conn.prepareStatement(UPSERT_PAYROLL)) {
+            int pending = 0;
+            for (Payroll payroll : payrolls) {
+                setPayrollParameters(stmt, payroll);
+                stmt.addBatch();
+                if (++pending == batchSize) {
+                    stmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+        }
+        
+        // Read the IDs back per period, a chunk of employees at a time
+        Map<List<java.sql.Date>, List<Payroll>> byPeriod = new LinkedHashMap<>();
+        for (Payroll payroll : payrolls) {
+            byPeriod.computeIfAbsent(List.of(payroll.getPeriodStart(), payroll.getPeriodEnd()), period -> new ArrayList<>())
+                    .add(payroll);
+        }
+        for (Map.Entry<List<java.sql.Date>, List<Payroll>> period : byPeriod.entrySet()) {
+            Map<Integer, Integer> idByEmployee = selectIdsByPeriod(conn, period.getKey().get(0), period.getKey().get(1),
+                    period.getValue().stream().map(Payroll::getEmployeeId).toList());
+            for (Payroll payroll : period.getValue()) {
+                Integer id = idByEmployee.get(payroll.getEmployeeId());
+                if (id == null) {
+                    throw new SQLException("Storing payroll failed, no ID found for employee " + payroll.getEmployeeId());
+                }
+                payroll.setPayrollId(id);
+            }
+        }
+        
+        int[] ids = new int[payrolls.size()];
+        int index = 0;
+        for (Payroll payroll : payrolls) {
+            ids[index++] = payroll.getPayrollId();
+        }
+        return ids;
+    }
+
+    private Map<Integer, Integer> selectIdsByPeriod(Connection conn, java.sql.Date periodStart, java.sql.Date periodEnd,
+                                                    Collection<Integer> employeeIds) throws SQLException {
+        Map<Integer, Integer> idByEmployee = new HashMap<>();
+        for (List<Integer> chunk : InClause.chunks(employeeIds)) {
+            String sql = String.format(SELECT_IDS_BY_PERIOD, InClause.placeholders(chunk.size()));
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setDate(1, periodStart);
+                stmt.setDate(2, periodEnd);
+                int paramIndex = 3;
+                for (int employeeId : chunk) {
+                    stmt.setInt(paramIndex++, employeeId);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        idByEmployee.put(rs.getInt("employee_id"), rs.getInt("payroll_id"));
+                    }
+                }
+            }
+        }
+        return idByEmployee;
+    }
+
+    /**
+     * Runs the pending batch and hands out its generated keys in order
+     * @return Number of IDs assigned so far
+     */
+    private int executeBatch(PreparedStatement stmt, List<Payroll> batch, int[] ids, int assigned) throws SQLException {
+        stmt.executeBatch();
+        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+            for (Payroll payroll : batch) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("Creating payroll failed, " + batch.size() + " rows inserted but fewer IDs obtained");
+                }
+                int generatedId = generatedKeys.getInt(1);
+                payroll.setPayrollId(generatedId);
+                ids[assigned++] = generatedId;
+            }
+        }
+        batch.clear();
+        return assigned;
+    }
+
+    /**
+     * Updates an existing payroll record
+     * @param payroll Payroll object with updated information
+     * @return true if update was successful
+     */
+    @Override
+    public boolean updatePayroll(Payroll payroll) {
+        if (payroll == null) {
+            throw new IllegalArgumentException("Payroll cannot be null");
+        }
+        if (payroll.getPayrollId() <= 0) {
+            throw new IllegalArgumentException("Payroll ID must be positive");
+        }
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_PAYROLL)) {
+            
+            setPayrollParameters(stmt, payroll);
+            stmt.setInt(22, payroll.getPayrollId()); // Set payroll_id for WHERE clause
+            
+            int affectedRows = stmt.executeUpdate();
+            return affectedRows > 0;
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error updating payroll record", ex);
+            throw new RuntimeException("Failed to update payroll record", ex);
+        }
+    }
+
+    /**
+     * Deletes a payroll record
+     * @param payrollId Payroll ID to delete
+     * @return true if deletion was successful
+     */
+    @Override
+    public boolean deletePayroll(int payrollId) {
+        if (payrollId <= 0) {
+            throw new IllegalArgumentException("Payroll ID must be positive");
+        }
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(DELETE_PAYROLL)) {
+            
+            stmt.setInt(1, payrollId);
+            
+            int affectedRows = stmt.executeUpdate();
+            return affectedRows > 0;
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error deleting payroll record", ex);
+            throw new RuntimeException("Failed to delete payroll record", ex);
+        }
+    }
+
+    /**
+     * Retrieves a payroll record by ID
+     * @param payrollId Payroll ID
+     * @return Payroll object or null if not found
+     */
+    @Override
+    public Payroll getPayrollById(int payrollId) {
+        if (payrollId <= 0) {
+            throw new IllegalArgumentException("Payroll ID must be positive");
+        }
+        
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
+            
+            stmt.setInt(1, payrollId);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToPayroll(rs);
+                }
+            }
+            
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving payroll by ID", ex);
+            throw new RuntimeException("Failed to retrieve payroll record", ex);
+        }
+        
+        return null;
+    }
+
+    private void validatePayrolls(Collection<Payroll> payrolls) {
+        if (payrolls == null) {
+            throw new IllegalArgumentException("Payrolls cannot be null");
+        }
+        for (Payroll payroll : payrolls) {
+            if (payroll == null) {
+                throw new IllegalArgumentException("Payroll cannot be null");
+            }
+        }
+    }
+
+    /**
+     * Sets payroll parameters for PreparedStatement
+     * @param stmt PreparedStatement
+     * @param payroll Payroll object
+     * @throws SQLException if database error occurs
+     */
+    private void setPayrollParameters(PreparedStatement stmt, Payroll payroll) throws SQLException {
+        stmt.setInt(1, payroll.getEmployeeId());
+        stmt.setDate(2, payroll.getPeriodStart());
+        stmt.setDate(3, payroll.getPeriodEnd());
+        stmt.setBigDecimal(4, Money.toDecimal(payroll.getMonthlyRateCentavos()));
+        stmt.setInt(5, payroll.getDaysWorked());
+        stmt.setDouble(6, payroll.getOvertimeHours());
+        stmt.setBigDecimal(7, Money.toDecimal(payroll.getGrossPayCentavos()));
+        stmt.setBigDecimal(8, Money.toDecimal(payroll.getTotalDeductionsCentavos()));
+        stmt.setBigDecimal(9, Money.toDecimal(payroll.getNetPayCentavos()));
+        stmt.setBigDecimal(10, Money.toDecimal(payroll.getGrossEarningsCentavos()));
+        stmt.setBigDecimal(11, Money.toDecimal(payroll.getLateDeductionCentavos()));
+        stmt.setBigDecimal(12, Money.toDecimal(payroll.getUndertimeDeductionCentavos()));
+        stmt.setBigDecimal(13, Money.toDecimal(payroll.getUnpaidLeaveDeductionCentavos()));
+        stmt.setBigDecimal(14, Money.toDecimal(payroll.getOvertimePayCentavos()));
+        stmt.setBigDecimal(15, Money.toDecimal(payroll.getRiceSubsidyCentavos()));
+        stmt.setBigDecimal(16, Money.toDecimal(payroll.getPhoneAllowanceCentavos()));
+        stmt.setBigDecimal(17, Money.toDecimal(payroll.getClothingAllowanceCentavos()));
+        stmt.setBigDecimal(18, Money.toDecimal(payroll.getSssCentavos()));
+        stmt.setBigDecimal(19, Money.toDecimal(payroll.getPhilhealthCentavos()));
+        stmt.setBigDecimal(20, Money.toDecimal(payroll.getPagibigCentavos()));
+        stmt.setBigDecimal(21, Money.toDecimal(payroll.getTaxCentavos()));
+    }
+
+    /**
+     * Maps ResultSet to Payroll object
+     * @param rs ResultSet from database
+     * @return Payroll object
+     * @throws SQLException if database access error occurs
+     */
+    private Payroll mapResultSetToPayroll(ResultSet rs) throws SQLException {
+        Payroll payroll = new Payroll();
+        payroll.setPayrollId(rs.getInt("payroll_id"));
+        payroll.setEmployeeId(rs.getInt("employee_id"));
+        payroll.setPeriodStart(rs.getDate("period_start"));
+        payroll.setPeriodEnd(rs.getDate("period_end"));
+        payroll.setMonthlyRateCentavos(Money.fromDecimal(rs.getBigDecimal("monthly_rate")));
+        payroll.setDaysWorked(rs.getInt("days_worked"));
+        payroll.setOvertimeHours(rs.getDouble("overtime_hours"));
+        payroll.setGrossPayCentavos(Money.fromDecimal(rs.getBigDecimal("gross_pay")));
+        payroll.setTotalDeductionsCentavos(Money.fromDecimal(rs.getBigDecimal("total_deductions")));
+        payroll.setNetPayCentavos(Money.fromDecimal(rs.getBigDecimal("net_pay")));
+        payroll.setGrossEarningsCentavos(Money.fromDecimal(rs.getBigDecimal("gross_earnings")));
+        payroll.setLateDeductionCentavos(Money.fromDecimal(rs.getBigDecimal("late_deduction")));
+        payroll.setUndertimeDeductionCentavos(Money.fromDecimal(rs.getBigDecimal("undertime_deduction")));
+        payroll.setUnpaidLeaveDeductionCentavos(Money.fromDecimal(rs.getBigDecimal("unpaid_leave_deduction")));
+        payroll.setOvertimePayCentavos(Money.fromDecimal(rs.getBigDecimal("overtime_pay")));
+        payroll.setRiceSubsidyCentavos(Money.fromDecimal(rs.getBigDecimal("rice_subsidy")));
+        payroll.setPhoneAllowanceCentavos(Money.fromDecimal(rs.getBigDecimal("phone_allowance")));
+        payroll.setClothingAllowanceCentavos(Money.fromDecimal(rs.getBigDecimal("clothing_allowance")));
+        payroll.setSssCentavos(Money.fromDecimal(rs.getBigDecimal("sss")));
+        payroll.setPhilhealthCentavos(Money.fromDecimal(rs.getBigDecimal("philhealth")));
+        payroll.setPagibigCentavos(Money.fromDecimal(rs.getBigDecimal("pagibig")));
+        payroll.setTaxCentavos(Money.fromDecimal(rs.getBigDecimal("tax")));
+        return payroll;
+    }
+}
\ No newline at end of file
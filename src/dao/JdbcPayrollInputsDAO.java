@@ -0,0 +1,310 @@
+package dao;
+
+import util.DBConnection;
+import model.Attendance;
+import model.AttendanceSummary;
+import model.CompensationDetails;
+import model.Employee;
+import model.GovernmentContributions;
+import model.LeaveRequest;
+import model.Overtime;
+import model.OvertimeSummary;
+import model.PayrollInputs;
+import model.Position;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads the {@link PayrollInputs} snapshot a payroll calculation works on.
+ * A single employee is loaded with one multi-statement round trip on a
+ * connection from {@link DBConnection#getMultiQueryConnection}; a whole
+ * period is loaded with one set-based query per input table.
+ * @author rejoice
+ */
+public class JdbcPayrollInputsDAO implements PayrollInputsDAO {
+    private static final Logger logger = Logger.getLogger(JdbcPayrollInputsDAO.class.getName());
+
+    // One statement per result set, read back in this order; the attendance
+    // and overtime statements are each one of two below
+    private static final String SELECT_EMPLOYEE = """
+        SELECT * FROM employee WHERE employee_id = ?;
+        """;
+    private static final String SELECT_ATTENDANCE = """
+        SELECT * FROM attendance WHERE employee_id = ? AND date >= ? AND date <= ? ORDER BY date DESC;
+        """;
+    private static final String SELECT_ATTENDANCE_SUMMARY = "SELECT " + JdbcAttendanceDAO.SUMMARY_COLUMNS +
+        " FROM attendance WHERE employee_id = ? AND date >= ? AND date <= ?;\n";
+    // The overtime statement is one of these two
+    private static final String SELECT_OVERTIME = """
+        SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime
+            WHERE employee_id = ? AND date >= ? AND date <= ? ORDER BY date DESC;
+        """;
+    private static final String SELECT_OVERTIME_SUMMARY = JdbcOvertimeDAO.SELECT_SUMMARY + ";\n";
+    private static final String SELECT_OTHER_INPUTS = """
+        SELECT * FROM leave_request
+            WHERE employee_id = ? AND status = ?
+            AND ((start_date >= ? AND start_date <= ?)
+                 OR (end_date >= ? AND end_date <= ?)
+                 OR (start_date <= ? AND end_date >= ?))
+            ORDER BY start_date DESC;
+        SELECT * FROM compensation_details WHERE employee_id = ?;
+        SELECT * FROM government_contributions WHERE employee_id = ?
+        """;
+
+    private final JdbcEmployeeDAO employeeDAO = new JdbcEmployeeDAO();
+    // Positions rarely change, so they come from the shared cache instead of the query
+    private final PositionDAO positionDAO = ReferenceData.positions();
+    private final JdbcAttendanceDAO attendanceDAO = new JdbcAttendanceDAO();
+    private final JdbcOvertimeDAO overtimeDAO = new JdbcOvertimeDAO();
+    private final JdbcLeaveRequestDAO leaveDAO = new JdbcLeaveRequestDAO();
+    private final JdbcCompensationDetailsDAO compDAO = new JdbcCompensationDetailsDAO();
+    private final JdbcGovernmentContributionsDAO govDAO = new JdbcGovernmentContributionsDAO();
+
+    // Schedule attendance is summarized against, or null to load the
+    // attendance and overtime records
+    private final LocalTime standardLoginTime;
+    private final LocalTime lateThresholdTime;
+    private final LocalTime standardLogoutTime;
+    private final String selectPayrollInputs;
+
+    /**
+     * Loader returning every attendance and overtime record, for callers
+     * that need them, such as what-if simulations under a different schedule
+     */
+    public JdbcPayrollInputsDAO() {
+        this.standardLoginTime = null;
+        this.lateThresholdTime = null;
+        this.standardLogoutTime = null;
+        this.selectPayrollInputs = SELECT_EMPLOYEE + SELECT_ATTENDANCE + SELECT_OVERTIME + SELECT_OTHER_INPUTS;
+    }
+
+    /**
+     * Summarizing loader: the inputs carry totals instead of records for
+     * both attendance and overtime. The database counts days present and
+     * minutes late and short against the given schedule into an
+     * {@link AttendanceSummary}, and overtime is read as an
+     * {@link OvertimeSummary} from the maintained monthly totals. Neither
+     * attendance nor overtime records are loaded. Calculations under
+     * another schedule need the records; use the no-argument loader for
+     * those.
+     * @param standardLoginTime Login time lateness is measured from
+     * @param lateThresholdTime Latest login time that is not late
+     * @param standardLogoutTime Earliest logout time that is not undertime
+     */
+    public JdbcPayrollInputsDAO(LocalTime standardLoginTime, LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+        if (standardLoginTime == null || lateThresholdTime == null || standardLogoutTime == null) {
+            throw new IllegalArgumentException("Schedule times cannot be null");
+        }
+        this.standardLoginTime = standardLoginTime;
+        this.lateThresholdTime = lateThresholdTime;
+        this.standardLogoutTime = standardLogoutTime;
+        this.selectPayrollInputs = SELECT_EMPLOYEE + SELECT_ATTENDANCE_SUMMARY + SELECT_OVERTIME_SUMMARY
+                + SELECT_OTHER_INPUTS;
+    }
+
+    /**
+     * Loads the payroll inputs of one employee for a period in a single round trip
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Payroll inputs, or null if the employee does not exist
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public PayrollInputs loadPayrollInputs(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        validateEmployeeId(employeeId);
+        validateDateRange(periodStart, periodEnd);
+
+        PayrollInputs inputs;
+        try (Connection conn = DBConnection.getMultiQueryConnection();
+             PreparedStatement stmt = conn.prepareStatement(selectPayrollInputs)) {
+
+            java.sql.Date sqlStartDate = java.sql.Date.valueOf(periodStart);
+            java.sql.Date sqlEndDate = java.sql.Date.valueOf(periodEnd);
+
+            int paramIndex = 1;
+            stmt.setInt(paramIndex++, employeeId);
+            if (isSummarizing()) {
+                paramIndex = JdbcAttendanceDAO.bindSummarySchedule(stmt, paramIndex,
+                        standardLoginTime, lateThresholdTime, standardLogoutTime);
+            }
+            stmt.setInt(paramIndex++, employeeId);
+            stmt.setDate(paramIndex++, sqlStartDate);
+            stmt.setDate(paramIndex++, sqlEndDate);
+            if (isSummarizing()) {
+                paramIndex = JdbcOvertimeDAO.bindSummaryRange(stmt, paramIndex, employeeId, periodStart, periodEnd);
+            } else {
+                stmt.setInt(paramIndex++, employeeId);
+                stmt.setDate(paramIndex++, sqlStartDate);
+                stmt.setDate(paramIndex++, sqlEndDate);
+            }
+            stmt.setInt(paramIndex++, employeeId);
+            stmt.setString(paramIndex++, LeaveRequest.STATUS_APPROVED);
+            stmt.setDate(paramIndex++, sqlStartDate);
+            stmt.setDate(paramIndex++, sqlEndDate);
+            stmt.setDate(paramIndex++, sqlStartDate);
+            stmt.setDate(paramIndex++, sqlEndDate);
+            stmt.setDate(paramIndex++, sqlStartDate);
+            stmt.setDate(paramIndex++, sqlEndDate);
+            stmt.setInt(paramIndex++, employeeId);
+            stmt.setInt(paramIndex, employeeId);
+
+            stmt.execute();
+
+            Employee employee = null;
+            try (ResultSet rs = stmt.getResultSet()) {
+                if (rs.next()) {
+                    employee = employeeDAO.mapResultSetToEmployee(rs);
+                }
+            }
+            if (employee == null) {
+                return null;
+            }
+
+            List<Attendance> attendance = new ArrayList<>();
+            AttendanceSummary attendanceSummary = null;
+            try (ResultSet rs = nextResultSet(stmt)) {
+                if (isSummarizing()) {
+                    rs.next();
+                    attendanceSummary = JdbcAttendanceDAO.mapResultSetToSummary(rs, employeeId,
+                            standardLoginTime, lateThresholdTime, standardLogoutTime);
+                } else {
+                    while (rs.next()) {
+                        attendance.add(attendanceDAO.mapResultSetToAttendance(rs));
+                    }
+                }
+            }
+
+            List<Overtime> overtime = new ArrayList<>();
+            OvertimeSummary overtimeSummary = null;
+            try (ResultSet rs = nextResultSet(stmt)) {
+                if (isSummarizing()) {
+                    rs.next();
+                    overtimeSummary = JdbcOvertimeDAO.mapResultSetToSummary(rs, employeeId);
+                } else {
+                    while (rs.next()) {
+                        overtime.add(overtimeDAO.mapResultSetToOvertime(rs));
+                    }
+                }
+            }
+
+            List<LeaveRequest> approvedLeaves = new ArrayList<>();
+            try (ResultSet rs = nextResultSet(stmt)) {
+                while (rs.next()) {
+                    approvedLeaves.add(leaveDAO.mapResultSetToLeaveRequest(rs));
+                }
+            }
+
+            CompensationDetails comp = null;
+            try (ResultSet rs = nextResultSet(stmt)) {
+                if (rs.next()) {
+                    comp = compDAO.mapResultSetToCompensationDetails(rs);
+                }
+            }
+
+            GovernmentContributions gov = null;
+            try (ResultSet rs = nextResultSet(stmt)) {
+                if (rs.next()) {
+                    gov = govDAO.mapResultSetToGovernmentContributions(rs);
+                }
+            }
+
+            inputs = new PayrollInputs(employee, null, periodStart, periodEnd,
+                    attendance, overtime, approvedLeaves, comp, gov, attendanceSummary, overtimeSummary);
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, String.format(
+                "Error loading payroll inputs for employee ID: %d between dates: %s and %s",
+                employeeId, periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to load payroll inputs", ex);
+        }
+        // Looked up once the connection is back in the pool, as a cache miss borrows another
+        return inputs.withPosition(positionDAO.getPositionById(inputs.getEmployee().getPositionId()));
+    }
+
+    /**
+     * Loads the payroll inputs of every employee for a period, one query per input table
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Payroll inputs keyed by employee ID, in employee listing order
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    @Override
+    public Map<Integer, PayrollInputs> loadPayrollInputsForAll(LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
+
+        List<Employee> employees = employeeDAO.getAllEmployees();
+        Map<Integer, Position> positions = positionDAO.getAllPositions();
+        Map<Integer, List<Attendance>> attendanceByEmployee = Map.of();
+        Map<Integer, AttendanceSummary> summaryByEmployee = Map.of();
+        if (isSummarizing()) {
+            summaryByEmployee = attendanceDAO.getAttendanceSummariesGroupedByEmployee(periodStart, periodEnd,
+                    standardLoginTime, lateThresholdTime, standardLogoutTime);
+        } else {
+            attendanceByEmployee = attendanceDAO.getAttendanceBetweenDatesGroupedByEmployee(periodStart, periodEnd);
+        }
+        Map<Integer, List<Overtime>> overtimeByEmployee = Map.of();
+        Map<Integer, OvertimeSummary> overtimeSummaryByEmployee = Map.of();
+        if (isSummarizing()) {
+            overtimeSummaryByEmployee = overtimeDAO.getOvertimeSummariesGroupedByEmployee(periodStart, periodEnd);
+        } else {
+            overtimeByEmployee = overtimeDAO.getOvertimeByDateRangeGroupedByEmployee(periodStart, periodEnd);
+        }
+        Map<Integer, List<LeaveRequest>> leavesByEmployee =
+                leaveDAO.getApprovedLeavesByDateRangeGroupedByEmployee(periodStart, periodEnd);
+        Map<Integer, CompensationDetails> compByEmployee = compDAO.getAllCompensationDetailsByEmployee();
+        Map<Integer, GovernmentContributions> govByEmployee = govDAO.getAllByEmployee();
+
+        Map<Integer, PayrollInputs> inputs = new LinkedHashMap<>();
+        for (Employee employee : employees) {
+            int employeeId = employee.getEmployeeId();
+            inputs.put(employeeId, new PayrollInputs(employee,
+                    positions.get(employee.getPositionId()),
+                    periodStart, periodEnd,
+                    attendanceByEmployee.get(employeeId),
+                    overtimeByEmployee.get(employeeId),
+                    leavesByEmployee.get(employeeId),
+                    compByEmployee.get(employeeId),
+                    govByEmployee.get(employeeId),
+                    summaryByEmployee.get(employeeId),
+                    overtimeSummaryByEmployee.get(employeeId)));
+        }
+        return inputs;
+    }
+
+    /**
+     * @return true if attendance and overtime are loaded as totals rather
+     *         than records
+     */
+    public boolean isSummarizing() {
+        return standardLoginTime != null;
+    }
+
+    private ResultSet nextResultSet(Statement stmt) throws SQLException {
+        if (!stmt.getMoreResults()) {
+            throw new SQLException("Expected another result set; is allowMultiQueries enabled?");
+        }
+        return stmt.getResultSet();
+    }
+
+    private void validateEmployeeId(int employeeId) {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+    }
+
+    private void validateDateRange(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+
+package dao;
+ 
+import util.DBConnection;
+import model.Position;
+import java.sql.*;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class JdbcPositionDAO implements PositionDAO {
+    private static final Logger LOGGER = Logger.getLogger(JdbcPositionDAO.class.getName());
+
+    @Override
+    public Position getPositionById(int positionId) {
+        String query = "SELECT * FROM position WHERE position_id = ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setInt(1, positionId);
+            ResultSet rs = stmt.executeQuery();
+
+            if (rs.next()) {
+                return mapResultSetToPosition(rs);
+            }
+
+        } catch (SQLException ex) {
+            ex.printStackTrace();
+        }
+
+        return null;
+    }
+
+    @Override
+    public Map<Integer, Position> getAllPositions() {
+        String query = "SELECT * FROM position";
+        Map<Integer, Position> positions = new HashMap<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                Position p = mapResultSetToPosition(rs);
+                positions.put(p.getPositionId(), p);
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error retrieving all positions", ex);
+            throw new RuntimeException("Failed to retrieve positions", ex);
+        }
+
+        return positions;
+    }
+
+    @Override
+    public boolean updatePosition(Position position) {
+        if (position == null || position.getPositionId() <= 0) {
+            throw new IllegalArgumentException("Position must have a positive ID");
+        }
+        String query = "UPDATE position SET position_name = ? WHERE position_id = ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setString(1, position.getPositionName());
+            stmt.setInt(2, position.getPositionId());
+            return stmt.executeUpdate() > 0;
+
+        } catch (SQLException ex) {
+            throw new RuntimeException("Failed to update position", ex);
+        }
+    }
+
+    Position mapResultSetToPosition(ResultSet rs) throws SQLException {
+        Position p = new Position();
+        p.setPositionId(rs.getInt("position_id"));
+        p.setPositionName(rs.getString("position_name"));
+        return p;
+    }
+}
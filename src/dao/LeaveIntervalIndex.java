@@ -0,0 +1,136 @@
+package dao;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Date ranges of approved leave per employee, for overlap checks without a
+ * query. Each employee's ranges are sorted by start day, with the latest
+ * end day seen so far kept alongside; an overlap check binary-searches the
+ * last range starting by the end of the checked range and only walks back
+ * while that running end still reaches its start. Readers use immutable
+ * arrays without locking; a change swaps in rebuilt arrays for the one
+ * employee it touches.
+ * @author rejoice
+ */
+final class LeaveIntervalIndex {
+
+    /** One employee's ranges; days are epoch days, both ends inclusive */
+    private record Ranges(int[] leaveIds, int[] starts, int[] ends, int[] maxEnds) {
+
+        static final Ranges EMPTY = new Ranges(new int[0], new int[0], new int[0], new int[0]);
+
+        Ranges with(int leaveId, int start, int end) {
+            int n = starts.length;
+            int at = upperBound(start);
+            int[] ids = new int[n + 1];
+            int[] newStarts = new int[n + 1];
+            int[] newEnds = new int[n + 1];
+            System.arraycopy(leaveIds, 0, ids, 0, at);
+            System.arraycopy(starts, 0, newStarts, 0, at);
+            System.arraycopy(ends, 0, newEnds, 0, at);
+            ids[at] = leaveId;
+            newStarts[at] = start;
+            newEnds[at] = end;
+            System.arraycopy(leaveIds, at, ids, at + 1, n - at);
+            System.arraycopy(starts, at, newStarts, at + 1, n - at);
+            System.arraycopy(ends, at, newEnds, at + 1, n - at);
+            return of(ids, newStarts, newEnds);
+        }
+
+        Ranges without(int leaveId) {
+            for (int i = 0; i < leaveIds.length; i++) {
+                if (leaveIds[i] == leaveId) {
+                    int[] ids = removeAt(leaveIds, i);
+                    return ids.length == 0 ? EMPTY : of(ids, removeAt(starts, i), removeAt(ends, i));
+                }
+            }
+            return this;
+        }
+
+        boolean overlaps(int start, int end, int excludeLeaveId) {
+            for (int i = upperBound(end) - 1; i >= 0 && maxEnds[i] >= start; i--) {
+                if (ends[i] >= start && leaveIds[i] != excludeLeaveId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return Number of ranges starting on or before the day
+         */
+        int upperBound(int day) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        static Ranges of(int[] leaveIds, int[] starts, int[] ends) {
+            int[] maxEnds = new int[ends.length];
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+            return new Ranges(leaveIds, starts, ends, maxEnds);
+        }
+
+        private static int[] removeAt(int[] values, int index) {
+            int[] copy = Arrays.copyOf(values, values.length - 1);
+            System.arraycopy(values, index + 1, copy, index, values.length - index - 1);
+            return copy;
+        }
+    }
+
+    private final ConcurrentHashMap<Integer, Ranges> byEmployee = new ConcurrentHashMap<>();
+    // Employee each indexed leave is filed under, so a leave can be moved or removed by ID alone
+    private final ConcurrentHashMap<Integer, Integer> employeeOfLeave = new ConcurrentHashMap<>();
+
+    /**
+     * Files a leave, replacing any earlier range filed under its ID
+     */
+    synchronized void put(int leaveId, int employeeId, int startDay, int endDay) {
+        remove(leaveId);
+        byEmployee.put(employeeId, byEmployee.getOrDefault(employeeId, Ranges.EMPTY).with(leaveId, startDay, endDay));
+        employeeOfLeave.put(leaveId, employeeId);
+    }
+
+    synchronized void remove(int leaveId) {
+        Integer employeeId = employeeOfLeave.remove(leaveId);
+        if (employeeId != null) {
+            Ranges ranges = byEmployee.get(employeeId).without(leaveId);
+            if (ranges == Ranges.EMPTY) {
+                byEmployee.remove(employeeId);
+            } else {
+                byEmployee.put(employeeId, ranges);
+            }
+        }
+    }
+
+    /**
+     * @param excludeLeaveId Leave to ignore, or 0 to ignore none
+     * @return true if a filed range of the employee shares a day with the given one
+     */
+    boolean overlaps(int employeeId, int startDay, int endDay, int excludeLeaveId) {
+        Ranges ranges = byEmployee.get(employeeId);
+        return ranges != null && ranges.overlaps(startDay, endDay, excludeLeaveId);
+    }
+
+    int size() {
+        return employeeOfLeave.size();
+    }
+
+    synchronized void clear() {
+        byEmployee.clear();
+        employeeOfLeave.clear();
+    }
+}
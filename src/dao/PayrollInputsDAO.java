@@ -0,0 +1,29 @@
+package dao;
+
+import model.PayrollInputs;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Loads everything a payroll calculation reads as {@link PayrollInputs} snapshots
+ * @author rejoice
+ */
+public interface PayrollInputsDAO {
+
+    /**
+     * Loads the payroll inputs of one employee for a period
+     * @param employeeId Employee ID
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Payroll inputs, or null if the employee does not exist
+     */
+    PayrollInputs loadPayrollInputs(int employeeId, LocalDate periodStart, LocalDate periodEnd);
+
+    /**
+     * Loads the payroll inputs of every employee for a period
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Payroll inputs keyed by employee ID, in employee listing order
+     */
+    Map<Integer, PayrollInputs> loadPayrollInputsForAll(LocalDate periodStart, LocalDate periodEnd);
+}
@@ -1,32 +1,29 @@
-
 package dao;
- 
-import util.DBConnection;
-import model.Position;
-import java.sql.*;
-import java.util.*;
 
-public class PositionDAO {
-    public Position getPositionById(int positionId) {
-        String query = "SELECT * FROM position WHERE position_id = ?";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
+import model.Position;
+import java.util.Map;
 
-            stmt.setInt(1, positionId);
-            ResultSet rs = stmt.executeQuery();
+/**
+ * Data Access Object for Position lookups
+ * @author rejoice
+ */
+public interface PositionDAO {
 
-            if (rs.next()) {
-                Position p = new Position();
-                p.setPositionId(rs.getInt("position_id"));
-                p.setPositionName(rs.getString("position_name"));
-                return p;
-            }
+    /**
+     * @param positionId Position ID
+     * @return Position, or null if not found
+     */
+    Position getPositionById(int positionId);
 
-        } catch (SQLException ex) {
-            ex.printStackTrace();
-        }
+    /**
+     * @return Every position keyed by position ID
+     */
+    Map<Integer, Position> getAllPositions();
 
-        return null;
-    }
+    /**
+     * Updates the name of an existing position
+     * @param position Position with updated information
+     * @return true if the position was updated
+     */
+    boolean updatePosition(Position position);
 }
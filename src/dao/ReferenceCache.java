@@ -0,0 +1,113 @@
+package dao;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-mostly cache of a small reference table keyed by ID. The whole
+ * table is loaded on first use and held as an immutable map that readers
+ * use without locking; a change swaps in a modified copy. IDs not in the
+ * table fall through to a single-row lookup and are cached if found.
+ * Invalidating marks the table stale, so the next read loads it again.
+ * A load that throws leaves nothing cached; the table loader must throw
+ * rather than return a partial map.
+ * @author rejoice
+ */
+final class ReferenceCache<V> {
+
+    private final Supplier<Map<Integer, V>> tableLoader;
+    private final IntFunction<V> rowLoader;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Map<Integer, V> entries;
+
+    ReferenceCache(Supplier<Map<Integer, V>> tableLoader, IntFunction<V> rowLoader) {
+        this.tableLoader = tableLoader;
+        this.rowLoader = rowLoader;
+    }
+
+    V get(int id) {
+        V value = entries().get(id);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = rowLoader.apply(id);
+        if (value != null) {
+            put(id, value);
+        }
+        return value;
+    }
+
+    /**
+     * @return Copy of every cached entry
+     */
+    Map<Integer, V> getAll() {
+        Map<Integer, V> current = entries;
+        if (current != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            current = entries();
+        }
+        return new HashMap<>(current);
+    }
+
+    /**
+     * Reload the whole table
+     */
+    synchronized void refresh() {
+        entries = load();
+    }
+
+    /**
+     * Mark the table stale after a change to one entry, so the next lookup
+     * reads the whole table again; dropping just the entry would leave it
+     * missing from {@link #getAll()}
+     */
+    synchronized void invalidate(int id) {
+        entries = null;
+    }
+
+    CacheStats stats() {
+        Map<Integer, V> current = entries;
+        return new CacheStats(hits.sum(), misses.sum(), current == null ? 0 : current.size());
+    }
+
+    private synchronized void put(int id, V value) {
+        Map<Integer, V> current = entries;
+        if (current == null) {
+            // Invalidated meanwhile; the next read loads the table with this row
+            return;
+        }
+        Map<Integer, V> copy = new HashMap<>(current);
+        copy.put(id, value);
+        entries = Map.copyOf(copy);
+    }
+
+    private Map<Integer, V> entries() {
+        Map<Integer, V> current = entries;
+        if (current == null) {
+            synchronized (this) {
+                current = entries;
+                if (current == null) {
+                    current = load();
+                    entries = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<Integer, V> load() {
+        Map<Integer, V> table = tableLoader.get();
+        if (table == null) {
+            throw new IllegalStateException("Reference table loader returned null");
+        }
+        return Map.copyOf(table);
+    }
+}
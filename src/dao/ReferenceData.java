@@ -0,0 +1,40 @@
+package dao;
+
+/**
+ * Application-wide caches of the reference tables and employees, shared so
+ * that every DAO and calculation sees the same copy, stays warm across
+ * payroll runs and is reached by one refresh
+ * @author rejoice
+ */
+public final class ReferenceData {
+
+    private static final CachingPositionDAO POSITIONS = new CachingPositionDAO(new JdbcPositionDAO());
+    private static final CachingEmploymentStatusDAO EMPLOYMENT_STATUSES =
+            new CachingEmploymentStatusDAO(new JdbcEmploymentStatusDAO());
+    // Version-checked, since employees are also edited outside this application
+    private static final CachingEmployeeDAO EMPLOYEES =
+            new CachingEmployeeDAO(new JdbcEmployeeDAO(), CachingEmployeeDAO.DEFAULT_CAPACITY, true);
+
+    private ReferenceData() {}
+
+    public static CachingPositionDAO positions() {
+        return POSITIONS;
+    }
+
+    public static CachingEmploymentStatusDAO employmentStatuses() {
+        return EMPLOYMENT_STATUSES;
+    }
+
+    public static CachingEmployeeDAO employees() {
+        return EMPLOYEES;
+    }
+
+    /**
+     * Reload every reference table and drop every cached employee
+     */
+    public static void refreshAll() {
+        POSITIONS.refresh();
+        EMPLOYMENT_STATUSES.refresh();
+        EMPLOYEES.invalidateAll();
+    }
+}
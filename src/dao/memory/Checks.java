@@ -0,0 +1,33 @@
+package dao.memory;
+
+import java.time.LocalDate;
+
+/**
+ * Argument checks shared by the in-memory DAOs, matching the messages of the JDBC ones
+ * @author rejoice
+ */
+final class Checks {
+
+    private Checks() {}
+
+    static void positiveId(int id, String name) {
+        if (id <= 0) {
+            throw new IllegalArgumentException(name + " ID must be positive");
+        }
+    }
+
+    static void dateRange(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+    }
+
+    static void notNull(Object value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package dao.memory;
+
+import dao.AttendanceDAO;
+import model.Attendance;
+import model.AttendanceSummary;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Attendance history held as columns of primitives rather than
+ * {@link Attendance} objects. Each employee has parallel arrays of record
+ * ID, epoch day, login second and logout second of the day, sorted by day,
+ * one record per day; a record takes 16 bytes instead of well over a
+ * hundred for an {@code Attendance} with its {@code Date} and two
+ * {@code Time}s. Period totals are reductions over a contiguous slice of
+ * the arrays, found by binary search, and give the same results as
+ * {@link AttendanceSummary#of}.
+ * <p>
+ * Load a range with {@link #load}, then keep the store current with
+ * {@link #put} and {@link #remove} as attendance is recorded. Records with
+ * an ID are also filed by it, so putting an edited record that moved to
+ * another day or employee drops it from where it was.
+ * @author rejoice
+ */
+public class ColumnarAttendanceStore {
+
+    // Stands for a missing login or logout time
+    private static final int NO_TIME = -1;
+
+    private final ConcurrentHashMap<Integer, Columns> byEmployee = new ConcurrentHashMap<>();
+    // Employee and day each record ID is filed under; writers hold the store's monitor
+    private final HashMap<Integer, Filing> filings = new HashMap<>();
+
+    private record Filing(int employeeId, int day) {}
+
+    /**
+     * Store holding the attendance of every employee within a date range
+     * @param attendanceDAO Source of the records
+     * @param start Start date (inclusive)
+     * @param end End date (inclusive)
+     */
+    public static ColumnarAttendanceStore load(AttendanceDAO attendanceDAO, LocalDate start, LocalDate end) {
+        ColumnarAttendanceStore store = new ColumnarAttendanceStore();
+        attendanceDAO.getAttendanceBetweenDatesGroupedByEmployee(start, end).values().forEach(store::putAll);
+        return store;
+    }
+
+    /**
+     * Stores a record, replacing any record of the same employee and day,
+     * and any earlier version of the record filed under its ID
+     */
+    public synchronized void put(Attendance attendance) {
+        Checks.notNull(attendance, "Attendance");
+        Checks.positiveId(attendance.getEmployeeId(), "Employee");
+        Checks.notNull(attendance.getDate(), "Date");
+        int id = attendance.getAttendanceId();
+        Filing filing = new Filing(attendance.getEmployeeId(), (int) attendance.getDate().toLocalDate().toEpochDay());
+        if (id > 0) {
+            Filing previous = filings.put(id, filing);
+            if (previous != null && !previous.equals(filing)) {
+                unfile(previous, id);
+            }
+        }
+        Columns columns = byEmployee.computeIfAbsent(filing.employeeId(), employeeId -> new Columns());
+        int replaced;
+        synchronized (columns) {
+            replaced = columns.put(id, filing.day(),
+                    secondOfDay(attendance.getLoginTime()), secondOfDay(attendance.getLogoutTime()));
+        }
+        if (replaced > 0 && replaced != id) {
+            filings.remove(replaced);
+        }
+    }
+
+    public void putAll(Collection<Attendance> records) {
+        for (Attendance attendance : records) {
+            put(attendance);
+        }
+    }
+
+    /**
+     * @return true if the employee had a record for the date
+     */
+    public synchronized boolean remove(int employeeId, LocalDate date) {
+        Checks.notNull(date, "Date");
+        Columns columns = byEmployee.get(employeeId);
+        if (columns == null) {
+            return false;
+        }
+        int removed;
+        synchronized (columns) {
+            removed = columns.remove((int) date.toEpochDay(), 0);
+        }
+        if (removed > 0) {
+            filings.remove(removed);
+        }
+        return removed >= 0;
+    }
+
+    /**
+     * @return true if a record with the ID was held
+     */
+    public synchronized boolean remove(int attendanceId) {
+        Filing filing = filings.remove(attendanceId);
+        return filing != null && unfile(filing, attendanceId);
+    }
+
+    /**
+     * Records of an employee within a date range, earliest first
+     */
+    public List<Attendance> between(int employeeId, LocalDate start, LocalDate end) {
+        Checks.dateRange(start, end);
+        Columns columns = byEmployee.get(employeeId);
+        if (columns == null) {
+            return List.of();
+        }
+        synchronized (columns) {
+            int from = columns.lowerBound((int) start.toEpochDay());
+            int to = columns.lowerBound((int) end.toEpochDay() + 1);
+            List<Attendance> records = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                records.add(columns.toAttendance(employeeId, i));
+            }
+            return records;
+        }
+    }
+
+    /**
+     * Days with a record of an employee within a date range
+     */
+    public int countDays(int employeeId, LocalDate start, LocalDate end) {
+        Checks.dateRange(start, end);
+        Columns columns = byEmployee.get(employeeId);
+        if (columns == null) {
+            return 0;
+        }
+        synchronized (columns) {
+            return columns.lowerBound((int) end.toEpochDay() + 1) - columns.lowerBound((int) start.toEpochDay());
+        }
+    }
+
+    /**
+     * Time worked by an employee within a date range, over days with both
+     * a login and a logout
+     */
+    public Duration workedTime(int employeeId, LocalDate start, LocalDate end) {
+        Checks.dateRange(start, end);
+        Columns columns = byEmployee.get(employeeId);
+        if (columns == null) {
+            return Duration.ZERO;
+        }
+        long seconds = 0;
+        synchronized (columns) {
+            int to = columns.lowerBound((int) end.toEpochDay() + 1);
+            for (int i = columns.lowerBound((int) start.toEpochDay()); i < to; i++) {
+                int login = columns.logins[i];
+                int logout = columns.logouts[i];
+                if (login != NO_TIME && logout != NO_TIME) {
+                    seconds += logout - login;
+                }
+            }
+        }
+        return Duration.ofSeconds(seconds);
+    }
+
+    /**
+     * Days present and minutes late and short of an employee within a date
+     * range, counted against a schedule
+     */
+    public AttendanceSummary summarize(int employeeId, LocalDate start, LocalDate end, LocalTime standardLoginTime,
+                                       LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+        Checks.dateRange(start, end);
+        Columns columns = byEmployee.get(employeeId);
+        if (columns == null) {
+            return new AttendanceSummary(employeeId, 0, 0, 0, standardLoginTime, lateThresholdTime, standardLogoutTime);
+        }
+        synchronized (columns) {
+            return columns.summarize(employeeId, (int) start.toEpochDay(), (int) end.toEpochDay(),
+                    standardLoginTime, lateThresholdTime, standardLogoutTime);
+        }
+    }
+
+    /**
+     * Attendance totals of every employee with records within a date range
+     */
+    public Map<Integer, AttendanceSummary> summarizeAll(LocalDate start, LocalDate end, LocalTime standardLoginTime,
+                                                       LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+        Checks.dateRange(start, end);
+        int startDay = (int) start.toEpochDay();
+        int endDay = (int) end.toEpochDay();
+        Map<Integer, AttendanceSummary> summaries = new HashMap<>();
+        byEmployee.forEach((employeeId, columns) -> {
+            synchronized (columns) {
+                AttendanceSummary summary = columns.summarize(employeeId, startDay, endDay,
+                        standardLoginTime, lateThresholdTime, standardLogoutTime);
+                if (summary.getDaysPresent() > 0) {
+                    summaries.put(employeeId, summary);
+                }
+            }
+        });
+        return summaries;
+    }
+
+    /**
+     * @return Records held across all employees
+     */
+    public long size() {
+        long size = 0;
+        for (Columns columns : byEmployee.values()) {
+            synchronized (columns) {
+                size += columns.size;
+            }
+        }
+        return size;
+    }
+
+    public int employeeCount() {
+        return byEmployee.size();
+    }
+
+    /**
+     * @return Rough heap used by the arrays, for sizing
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (Columns columns : byEmployee.values()) {
+            synchronized (columns) {
+                // Four int arrays with their headers, plus the holder and its map entry
+                bytes += 4 * (16 + 4L * columns.days.length) + 80;
+            }
+        }
+        return bytes;
+    }
+
+    public synchronized void clear() {
+        byEmployee.clear();
+        filings.clear();
+    }
+
+    // Drops the record at a filing, if it still holds the given ID
+    private boolean unfile(Filing filing, int attendanceId) {
+        Columns columns = byEmployee.get(filing.employeeId());
+        if (columns == null) {
+            return false;
+        }
+        synchronized (columns) {
+            return columns.remove(filing.day(), attendanceId) >= 0;
+        }
+    }
+
+    private static int secondOfDay(Time time) {
+        return time != null ? time.toLocalTime().toSecondOfDay() : NO_TIME;
+    }
+
+    /**
+     * One employee's records, sorted by day. Callers hold its monitor.
+     */
+    private static final class Columns {
+        private int size;
+        private int[] ids = new int[8];
+        private int[] days = new int[8];
+        private int[] logins = new int[8];
+        private int[] logouts = new int[8];
+
+        /**
+         * @return ID of the record replaced on the day, or -1 if there was none
+         */
+        int put(int id, int day, int login, int logout) {
+            int index = Arrays.binarySearch(days, 0, size, day);
+            int replaced = -1;
+            if (index >= 0) {
+                replaced = ids[index];
+            } else {
+                index = -index - 1;
+                if (size == days.length) {
+                    int capacity = size + (size >> 1);
+                    ids = Arrays.copyOf(ids, capacity);
+                    days = Arrays.copyOf(days, capacity);
+                    logins = Arrays.copyOf(logins, capacity);
+                    logouts = Arrays.copyOf(logouts, capacity);
+                }
+                int moved = size - index;
+                System.arraycopy(ids, index, ids, index + 1, moved);
+                System.arraycopy(days, index, days, index + 1, moved);
+                System.arraycopy(logins, index, logins, index + 1, moved);
+                System.arraycopy(logouts, index, logouts, index + 1, moved);
+                size++;
+            }
+            ids[index] = id;
+            days[index] = day;
+            logins[index] = login;
+            logouts[index] = logout;
+            return replaced;
+        }
+
+        /**
+         * @param id ID the record must have, or 0 to remove whichever is on the day
+         * @return ID of the removed record, or -1 if none was removed
+         */
+        int remove(int day, int id) {
+            int index = Arrays.binarySearch(days, 0, size, day);
+            if (index < 0 || (id != 0 && ids[index] != id)) {
+                return -1;
+            }
+            int removed = ids[index];
+            int moved = size - index - 1;
+            System.arraycopy(ids, index + 1, ids, index, moved);
+            System.arraycopy(days, index + 1, days, index, moved);
+            System.arraycopy(logins, index + 1, logins, index, moved);
+            System.arraycopy(logouts, index + 1, logouts, index, moved);
+            size--;
+            return removed;
+        }
+
+        /**
+         * @return Index of the first record on or after the day
+         */
+        int lowerBound(int day) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (days[mid] < day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        AttendanceSummary summarize(int employeeId, int startDay, int endDay, LocalTime standardLoginTime,
+                                    LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+            int standardLogin = standardLoginTime.toSecondOfDay();
+            int lateThreshold = lateThresholdTime.toSecondOfDay();
+            int standardLogout = standardLogoutTime.toSecondOfDay();
+            int from = lowerBound(startDay);
+            int to = lowerBound(endDay + 1);
+
+            long lateMinutes = 0;
+            long undertimeMinutes = 0;
+            for (int i = from; i < to; i++) {
+                int login = logins[i];
+                if (login != NO_TIME && login > lateThreshold) {
+                    // Whole minutes, truncated like ChronoUnit.MINUTES.between
+                    lateMinutes += (login - standardLogin) / 60;
+                }
+                int logout = logouts[i];
+                if (logout != NO_TIME && logout < standardLogout) {
+                    undertimeMinutes += (standardLogout - logout) / 60;
+                }
+            }
+            return new AttendanceSummary(employeeId, to - from, lateMinutes, undertimeMinutes,
+                    standardLoginTime, lateThresholdTime, standardLogoutTime);
+        }
+
+        Attendance toAttendance(int employeeId, int index) {
+            Attendance attendance = new Attendance(employeeId, Date.valueOf(LocalDate.ofEpochDay(days[index])),
+                    logins[index] != NO_TIME ? Time.valueOf(LocalTime.ofSecondOfDay(logins[index])) : null,
+                    logouts[index] != NO_TIME ? Time.valueOf(LocalTime.ofSecondOfDay(logouts[index])) : null);
+            attendance.setAttendanceId(ids[index]);
+            return attendance;
+        }
+    }
+}
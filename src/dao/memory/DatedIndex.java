@@ -0,0 +1,177 @@
+package dao.memory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * In-memory table of dated records indexed by record ID and, per employee,
+ * by date. Date range lookups of one employee are a sorted sub-map view,
+ * so they cost O(log n + matches) instead of a scan.
+ * @author rejoice
+ */
+final class DatedIndex<T> {
+
+    /** Orders an employee's records by date, then record ID */
+    private record Key(LocalDate date, int id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byDate = date.compareTo(other.date);
+            return byDate != 0 ? byDate : Integer.compare(id, other.id);
+        }
+    }
+
+    /** Where a record is filed in the employee index */
+    private record Filing(int employeeId, Key key) {}
+
+    private final ToIntFunction<T> idOf;
+    private final ToIntFunction<T> employeeIdOf;
+    private final Function<T, LocalDate> dateOf;
+
+    private final ConcurrentHashMap<Integer, T> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, ConcurrentSkipListMap<Key, T>> byEmployee = new ConcurrentHashMap<>();
+    // Filing of each record ID; kept apart from the record because callers may mutate it before updating
+    private final ConcurrentHashMap<Integer, Filing> filings = new ConcurrentHashMap<>();
+    private final IdSequence ids = new IdSequence();
+
+    DatedIndex(ToIntFunction<T> idOf, ToIntFunction<T> employeeIdOf, Function<T, LocalDate> dateOf) {
+        this.idOf = idOf;
+        this.employeeIdOf = employeeIdOf;
+        this.dateOf = dateOf;
+    }
+
+    int assignId(int requested) {
+        return ids.assign(requested);
+    }
+
+    /**
+     * Stores or replaces a record under its ID, re-filing it if its employee or date changed
+     */
+    void put(T record) {
+        int id = idOf.applyAsInt(record);
+        byId.compute(id, (recordId, previous) -> {
+            unfile(filings.get(recordId));
+            Filing filing = new Filing(employeeIdOf.applyAsInt(record), new Key(dateOf.apply(record), recordId));
+            filings.put(recordId, filing);
+            byEmployee.computeIfAbsent(filing.employeeId(), e -> new ConcurrentSkipListMap<>())
+                    .put(filing.key(), record);
+            return record;
+        });
+    }
+
+    T get(int id) {
+        return byId.get(id);
+    }
+
+    boolean contains(int id) {
+        return byId.containsKey(id);
+    }
+
+    T remove(int id) {
+        AtomicReference<T> removed = new AtomicReference<>();
+        byId.computeIfPresent(id, (recordId, previous) -> {
+            unfile(filings.remove(recordId));
+            removed.set(previous);
+            return null;
+        });
+        return removed.get();
+    }
+
+    Collection<T> all() {
+        return byId.values();
+    }
+
+    /**
+     * @return Every record of the employee, latest first
+     */
+    List<T> byEmployee(int employeeId) {
+        ConcurrentSkipListMap<Key, T> records = byEmployee.get(employeeId);
+        return records == null ? new ArrayList<>() : new ArrayList<>(records.descendingMap().values());
+    }
+
+    /**
+     * @return Records of the employee dated within the range, latest first
+     */
+    List<T> between(int employeeId, LocalDate start, LocalDate end) {
+        ConcurrentSkipListMap<Key, T> records = byEmployee.get(employeeId);
+        if (records == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(range(records, start, end).descendingMap().values());
+    }
+
+    /**
+     * @return Records of the employee dated on or before the date that match the filter, latest first
+     */
+    List<T> upTo(int employeeId, LocalDate end, Predicate<T> filter) {
+        ConcurrentSkipListMap<Key, T> records = byEmployee.get(employeeId);
+        List<T> matches = new ArrayList<>();
+        if (records != null) {
+            for (T record : records.headMap(new Key(end, Integer.MAX_VALUE), true).descendingMap().values()) {
+                if (filter.test(record)) {
+                    matches.add(record);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return Records of every employee dated within the range, grouped by employee, latest first
+     */
+    Map<Integer, List<T>> betweenGroupedByEmployee(LocalDate start, LocalDate end) {
+        Map<Integer, List<T>> grouped = new HashMap<>();
+        byEmployee.forEach((employeeId, records) -> {
+            ConcurrentNavigableMap<Key, T> range = range(records, start, end);
+            if (!range.isEmpty()) {
+                grouped.put(employeeId, new ArrayList<>(range.descendingMap().values()));
+            }
+        });
+        return grouped;
+    }
+
+    /**
+     * @return Records of every employee dated on or before the date that match the filter,
+     *         grouped by employee, latest first
+     */
+    Map<Integer, List<T>> upToGroupedByEmployee(LocalDate end, Predicate<T> filter) {
+        Map<Integer, List<T>> grouped = new HashMap<>();
+        for (Integer employeeId : byEmployee.keySet()) {
+            List<T> matches = upTo(employeeId, end, filter);
+            if (!matches.isEmpty()) {
+                grouped.put(employeeId, matches);
+            }
+        }
+        return grouped;
+    }
+
+    void clear() {
+        byId.clear();
+        byEmployee.clear();
+        filings.clear();
+    }
+
+    private ConcurrentNavigableMap<Key, T> range(ConcurrentSkipListMap<Key, T> records, LocalDate start, LocalDate end) {
+        return records.subMap(new Key(start, Integer.MIN_VALUE), true, new Key(end, Integer.MAX_VALUE), true);
+    }
+
+    private void unfile(Filing filing) {
+        if (filing == null) {
+            return;
+        }
+        ConcurrentSkipListMap<Key, T> records = byEmployee.get(filing.employeeId());
+        if (records != null) {
+            records.remove(filing.key());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dao.memory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generated keys of an in-memory table. Records that already carry an ID
+ * keep it, so snapshots loaded from MySQL stay consistent, and later
+ * generated IDs continue after the highest one seen.
+ * @author rejoice
+ */
+final class IdSequence {
+    private final AtomicInteger last = new AtomicInteger();
+
+    /**
+     * @param requested ID the record already has, or 0 if it has none
+     * @return ID to store the record under
+     */
+    int assign(int requested) {
+        if (requested > 0) {
+            last.accumulateAndGet(requested, Math::max);
+            return requested;
+        }
+        return last.incrementAndGet();
+    }
+}
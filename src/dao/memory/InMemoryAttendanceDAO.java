@@ -0,0 +1,146 @@
+package dao.memory;
+
+import dao.AttendanceDAO;
+import model.Attendance;
+import model.AttendanceSummary;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory {@link AttendanceDAO} indexed by attendance ID and by employee and date
+ * @author rejoice
+ */
+public class InMemoryAttendanceDAO implements AttendanceDAO {
+
+    private final DatedIndex<Attendance> attendance = new DatedIndex<>(
+            Attendance::getAttendanceId, Attendance::getEmployeeId, a -> a.getDate().toLocalDate());
+
+    @Override
+    public List<Attendance> getAttendanceByEmployeeId(int empId) {
+        Checks.positiveId(empId, "Employee");
+        return attendance.byEmployee(empId);
+    }
+
+    @Override
+    public List<Attendance> getAttendanceByEmployeeIdBetweenDates(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        Checks.positiveId(employeeId, "Employee");
+        Checks.dateRange(periodStart, periodEnd);
+        return attendance.between(employeeId, periodStart, periodEnd);
+    }
+
+    @Override
+    public Map<Integer, List<Attendance>> getAttendanceBetweenDatesGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd) {
+        Checks.dateRange(periodStart, periodEnd);
+        return attendance.betweenGroupedByEmployee(periodStart, periodEnd);
+    }
+
+    @Override
+    public Map<Integer, List<Attendance>> getAttendanceByEmployeeIdsBetweenDates(Collection<Integer> employeeIds,
+                                                                                 LocalDate periodStart, LocalDate periodEnd) {
+        Checks.notNull(employeeIds, "Employee IDs");
+        Checks.dateRange(periodStart, periodEnd);
+        Map<Integer, List<Attendance>> grouped = new HashMap<>();
+        for (int employeeId : employeeIds) {
+            List<Attendance> records = attendance.between(employeeId, periodStart, periodEnd);
+            if (!records.isEmpty()) {
+                grouped.put(employeeId, records);
+            }
+        }
+        return grouped;
+    }
+
+    @Override
+    public AttendanceSummary getAttendanceSummary(int employeeId, LocalDate periodStart, LocalDate periodEnd,
+                                                  LocalTime standardLoginTime, LocalTime lateThresholdTime,
+                                                  LocalTime standardLogoutTime) {
+        Checks.positiveId(employeeId, "Employee");
+        Checks.dateRange(periodStart, periodEnd);
+        return AttendanceSummary.of(employeeId, attendance.between(employeeId, periodStart, periodEnd),
+                standardLoginTime, lateThresholdTime, standardLogoutTime);
+    }
+
+    @Override
+    public Map<Integer, AttendanceSummary> getAttendanceSummariesGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd,
+                                                                                  LocalTime standardLoginTime,
+                                                                                  LocalTime lateThresholdTime,
+                                                                                  LocalTime standardLogoutTime) {
+        Checks.dateRange(periodStart, periodEnd);
+        Map<Integer, AttendanceSummary> summaries = new HashMap<>();
+        attendance.betweenGroupedByEmployee(periodStart, periodEnd).forEach((employeeId, records) ->
+                summaries.put(employeeId, AttendanceSummary.of(employeeId, records,
+                        standardLoginTime, lateThresholdTime, standardLogoutTime)));
+        return summaries;
+    }
+
+    @Override
+    public int insertAttendance(Attendance a) {
+        Checks.notNull(a, "Attendance");
+        Checks.positiveId(a.getEmployeeId(), "Employee");
+        Checks.notNull(a.getDate(), "Date");
+        a.setAttendanceId(attendance.assignId(a.getAttendanceId()));
+        attendance.put(a);
+        return a.getAttendanceId();
+    }
+
+    @Override
+    public synchronized int insertAttendanceIgnoringDuplicates(Collection<Attendance> records) {
+        Checks.notNull(records, "Attendance records");
+        int inserted = 0;
+        for (Attendance a : records) {
+            if (!attendanceExistsForDate(a.getEmployeeId(), a.getDate().toLocalDate())) {
+                insertAttendance(a);
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public boolean updateAttendance(Attendance a) {
+        Checks.notNull(a, "Attendance");
+        Checks.positiveId(a.getAttendanceId(), "Attendance");
+        if (!attendance.contains(a.getAttendanceId())) {
+            return false;
+        }
+        attendance.put(a);
+        return true;
+    }
+
+    @Override
+    public boolean deleteAttendance(int attendanceId) {
+        Checks.positiveId(attendanceId, "Attendance");
+        return attendance.remove(attendanceId) != null;
+    }
+
+    @Override
+    public Attendance getAttendanceById(int attendanceId) {
+        Checks.positiveId(attendanceId, "Attendance");
+        return attendance.get(attendanceId);
+    }
+
+    @Override
+    public boolean attendanceExistsForDate(int employeeId, LocalDate attendanceDate) {
+        return getAttendanceByEmployeeAndDate(employeeId, attendanceDate) != null;
+    }
+
+    @Override
+    public int countAttendanceDays(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        return getAttendanceByEmployeeIdBetweenDates(employeeId, periodStart, periodEnd).size();
+    }
+
+    @Override
+    public Attendance getAttendanceByEmployeeAndDate(int employeeId, LocalDate attendanceDate) {
+        Checks.positiveId(employeeId, "Employee");
+        Checks.notNull(attendanceDate, "Attendance date");
+        List<Attendance> onDate = attendance.between(employeeId, attendanceDate, attendanceDate);
+        return onDate.isEmpty() ? null : onDate.get(0);
+    }
+
+    void clear() {
+        attendance.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package dao.memory;
+
+import dao.CompensationDetailsDAO;
+import model.CompensationDetails;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link CompensationDetailsDAO} backed by concurrent maps keyed by
+ * record ID and by employee ID
+ * @author rejoice
+ */
+public class InMemoryCompensationDetailsDAO implements CompensationDetailsDAO {
+
+    private final ConcurrentHashMap<Integer, CompensationDetails> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, CompensationDetails> byEmployee = new ConcurrentHashMap<>();
+    private final IdSequence ids = new IdSequence();
+
+    @Override
+    public CompensationDetails getById(int id) {
+        return byId.get(id);
+    }
+
+    @Override
+    public CompensationDetails getCompensationDetailsByEmployeeId(int employeeId) {
+        return byEmployee.get(employeeId);
+    }
+
+    @Override
+    public Map<Integer, CompensationDetails> getAllCompensationDetailsByEmployee() {
+        return new HashMap<>(byEmployee);
+    }
+
+    @Override
+    public boolean insertCompensationDetails(CompensationDetails compensationDetails) {
+        Checks.notNull(compensationDetails, "Compensation details");
+        compensationDetails.setCompId(ids.assign(compensationDetails.getCompId()));
+        byId.put(compensationDetails.getCompId(), compensationDetails);
+        // Like the JDBC bulk read, the first record of an employee wins
+        byEmployee.putIfAbsent(compensationDetails.getEmployeeId(), compensationDetails);
+        return true;
+    }
+
+    @Override
+    public boolean updateCompensationDetails(CompensationDetails compensationDetails) {
+        Checks.notNull(compensationDetails, "Compensation details");
+        CompensationDetails previous = byId.replace(compensationDetails.getCompId(), compensationDetails);
+        if (previous == null) {
+            return false;
+        }
+        byEmployee.remove(previous.getEmployeeId(), previous);
+        byEmployee.putIfAbsent(compensationDetails.getEmployeeId(), compensationDetails);
+        return true;
+    }
+
+    @Override
+    public boolean deleteCompensationDetails(int compId) {
+        CompensationDetails removed = byId.remove(compId);
+        if (removed == null) {
+            return false;
+        }
+        byEmployee.remove(removed.getEmployeeId(), removed);
+        return true;
+    }
+
+    void clear() {
+        byId.clear();
+        byEmployee.clear();
+    }
+}
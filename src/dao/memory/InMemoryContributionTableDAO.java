@@ -0,0 +1,42 @@
+package dao.memory;
+
+import dao.ContributionTableDAO;
+import model.ContributionBracket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory {@link ContributionTableDAO} keeping brackets in insertion order
+ * @author rejoice
+ */
+public class InMemoryContributionTableDAO implements ContributionTableDAO {
+
+    // Written rarely and read whole, so a copy-on-write list fits
+    private final CopyOnWriteArrayList<ContributionBracket> brackets = new CopyOnWriteArrayList<>();
+    private final IdSequence ids = new IdSequence();
+
+    @Override
+    public List<ContributionBracket> getAllBrackets() {
+        return new ArrayList<>(brackets);
+    }
+
+    @Override
+    public void addBrackets(Collection<ContributionBracket> added) {
+        if (added == null) {
+            return;
+        }
+        for (ContributionBracket bracket : added) {
+            Checks.notNull(bracket, "Contribution bracket");
+        }
+        for (ContributionBracket bracket : added) {
+            bracket.setBracketId(ids.assign(bracket.getBracketId()));
+        }
+        brackets.addAll(added);
+    }
+
+    void clear() {
+        brackets.clear();
+    }
+}
@@ -0,0 +1,133 @@
+package dao.memory;
+
+import model.Attendance;
+import model.LeaveRequest;
+import model.Overtime;
+import model.PayrollInputs;
+import java.util.Collection;
+
+/**
+ * In-memory storage engine with one DAO per table, for simulations,
+ * benchmarks and offline tests. MySQL stays the system of record; this
+ * holds whatever is inserted or loaded into it for the life of the
+ * instance. Records are stored as given, not copied, so a record changed
+ * after insertion must be passed to the matching update method to be
+ * re-indexed. Every DAO is safe for concurrent use.
+ *
+ * <pre>
+ * InMemoryDatabase db = new InMemoryDatabase();
+ * db.load(new JdbcPayrollInputsDAO().loadPayrollInputsForAll(start, end).values());
+ * PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+ * </pre>
+ * @author rejoice
+ */
+public class InMemoryDatabase {
+
+    private final InMemoryEmployeeDAO employeeDAO = new InMemoryEmployeeDAO();
+    private final InMemoryEmploymentStatusDAO employmentStatusDAO = new InMemoryEmploymentStatusDAO();
+    private final InMemoryPositionDAO positionDAO = new InMemoryPositionDAO();
+    private final InMemoryAttendanceDAO attendanceDAO = new InMemoryAttendanceDAO();
+    private final InMemoryOvertimeDAO overtimeDAO = new InMemoryOvertimeDAO();
+    private final InMemoryLeaveRequestDAO leaveRequestDAO = new InMemoryLeaveRequestDAO();
+    private final InMemoryPayrollDAO payrollDAO = new InMemoryPayrollDAO();
+    private final InMemoryCompensationDetailsDAO compensationDetailsDAO = new InMemoryCompensationDetailsDAO();
+    private final InMemoryGovernmentContributionsDAO governmentContributionsDAO = new InMemoryGovernmentContributionsDAO();
+    private final InMemoryDeductionDAO deductionDAO = new InMemoryDeductionDAO();
+    private final InMemoryContributionTableDAO contributionTableDAO = new InMemoryContributionTableDAO();
+    private final InMemoryPayrollInputsDAO payrollInputsDAO = new InMemoryPayrollInputsDAO(
+            employeeDAO, positionDAO, attendanceDAO, overtimeDAO, leaveRequestDAO,
+            compensationDetailsDAO, governmentContributionsDAO);
+
+    /**
+     * Loads payroll input snapshots, e.g. read from MySQL, keeping their IDs.
+     * Records already present under the same ID are replaced.
+     */
+    public void load(Collection<PayrollInputs> snapshots) {
+        for (PayrollInputs inputs : snapshots) {
+            employeeDAO.insertEmployee(inputs.getEmployee());
+            if (inputs.getPosition() != null) {
+                positionDAO.putPosition(inputs.getPosition());
+            }
+            for (Attendance a : inputs.getAttendance()) {
+                attendanceDAO.insertAttendance(a);
+            }
+            for (Overtime o : inputs.getOvertime()) {
+                overtimeDAO.insertOvertime(o);
+            }
+            for (LeaveRequest leave : inputs.getApprovedLeaves()) {
+                leaveRequestDAO.insertLeaveRequest(leave);
+            }
+            if (inputs.getCompensation() != null) {
+                compensationDetailsDAO.insertCompensationDetails(inputs.getCompensation());
+            }
+            if (inputs.getGovernmentContributions() != null) {
+                governmentContributionsDAO.insertGovernmentContributions(inputs.getGovernmentContributions());
+            }
+        }
+    }
+
+    /**
+     * Removes every record from every table
+     */
+    public void clear() {
+        employeeDAO.clear();
+        employmentStatusDAO.clear();
+        positionDAO.clear();
+        attendanceDAO.clear();
+        overtimeDAO.clear();
+        leaveRequestDAO.clear();
+        payrollDAO.clear();
+        compensationDetailsDAO.clear();
+        governmentContributionsDAO.clear();
+        deductionDAO.clear();
+        contributionTableDAO.clear();
+    }
+
+    public InMemoryEmployeeDAO getEmployeeDAO() {
+        return employeeDAO;
+    }
+
+    public InMemoryEmploymentStatusDAO getEmploymentStatusDAO() {
+        return employmentStatusDAO;
+    }
+
+    public InMemoryPositionDAO getPositionDAO() {
+        return positionDAO;
+    }
+
+    public InMemoryAttendanceDAO getAttendanceDAO() {
+        return attendanceDAO;
+    }
+
+    public InMemoryOvertimeDAO getOvertimeDAO() {
+        return overtimeDAO;
+    }
+
+    public InMemoryLeaveRequestDAO getLeaveRequestDAO() {
+        return leaveRequestDAO;
+    }
+
+    public InMemoryPayrollDAO getPayrollDAO() {
+        return payrollDAO;
+    }
+
+    public InMemoryCompensationDetailsDAO getCompensationDetailsDAO() {
+        return compensationDetailsDAO;
+    }
+
+    public InMemoryGovernmentContributionsDAO getGovernmentContributionsDAO() {
+        return governmentContributionsDAO;
+    }
+
+    public InMemoryDeductionDAO getDeductionDAO() {
+        return deductionDAO;
+    }
+
+    public InMemoryContributionTableDAO getContributionTableDAO() {
+        return contributionTableDAO;
+    }
+
+    public InMemoryPayrollInputsDAO getPayrollInputsDAO() {
+        return payrollInputsDAO;
+    }
+}
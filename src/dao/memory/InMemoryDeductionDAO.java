@@ -0,0 +1,77 @@
+package dao.memory;
+
+import dao.DeductionDAO;
+import model.Deduction;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * In-memory {@link DeductionDAO} keeping deductions per employee in insertion order
+ * @author rejoice
+ */
+public class InMemoryDeductionDAO implements DeductionDAO {
+
+    private final ConcurrentHashMap<Integer, ConcurrentLinkedQueue<Deduction>> byEmployee = new ConcurrentHashMap<>();
+    private final IdSequence ids = new IdSequence();
+
+    @Override
+    public void addDeduction(Deduction deduction) {
+        Checks.notNull(deduction, "Deduction");
+        deduction.setDeductionId(ids.assign(deduction.getDeductionId()));
+        byEmployee.computeIfAbsent(deduction.getEmployeeId(), id -> new ConcurrentLinkedQueue<>()).add(deduction);
+    }
+
+    @Override
+    public void addDeductions(Collection<Deduction> deductions) {
+        if (deductions == null) {
+            return;
+        }
+        for (Deduction deduction : deductions) {
+            Checks.notNull(deduction, "Deduction");
+        }
+        for (Deduction deduction : deductions) {
+            addDeduction(deduction);
+        }
+    }
+
+    @Override
+    public synchronized void replaceDeductions(LocalDate periodStart, LocalDate periodEnd, Collection<Integer> employeeIds,
+                                               Collection<Deduction> deductions) {
+        Checks.dateRange(periodStart, periodEnd);
+        Checks.notNull(employeeIds, "Employee IDs");
+        if (deductions != null) {
+            for (Deduction deduction : deductions) {
+                Checks.notNull(deduction, "Deduction");
+            }
+        }
+        Date start = Date.valueOf(periodStart);
+        Date end = Date.valueOf(periodEnd);
+        for (int employeeId : employeeIds) {
+            ConcurrentLinkedQueue<Deduction> stored = byEmployee.get(employeeId);
+            if (stored != null) {
+                stored.removeIf(d -> start.equals(d.getPeriodStart()) && end.equals(d.getPeriodEnd()));
+            }
+        }
+        if (deductions != null) {
+            for (Deduction deduction : deductions) {
+                deduction.setPeriod(start, end);
+                addDeduction(deduction);
+            }
+        }
+    }
+
+    @Override
+    public List<Deduction> getDeductionsByEmployeeId(int employeeId) {
+        ConcurrentLinkedQueue<Deduction> deductions = byEmployee.get(employeeId);
+        return deductions == null ? new ArrayList<>() : new ArrayList<>(deductions);
+    }
+
+    void clear() {
+        byEmployee.clear();
+    }
+}
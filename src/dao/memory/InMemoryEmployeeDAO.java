@@ -0,0 +1,119 @@
+package dao.memory;
+
+import dao.EmployeeDAO;
+import model.Employee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link EmployeeDAO} backed by a concurrent map keyed by employee ID
+ * @author rejoice
+ */
+public class InMemoryEmployeeDAO implements EmployeeDAO {
+
+    // Same order as ORDER BY last_name, first_name
+    private static final Comparator<Employee> BY_NAME = Comparator
+            .comparing(Employee::getLastName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(Employee::getFirstName, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+    private static final Comparator<Employee> BY_ID = Comparator.comparingInt(Employee::getEmployeeId);
+
+    private final ConcurrentHashMap<Integer, Employee> employees = new ConcurrentHashMap<>();
+    private final IdSequence ids = new IdSequence();
+    // Stands in for updated_at: every insert or update takes the next value
+    private final ConcurrentHashMap<Integer, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong versionClock = new AtomicLong();
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        List<Employee> all = new ArrayList<>(employees.values());
+        all.sort(BY_NAME);
+        return all;
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return employees.values().stream().sorted(BY_ID);
+    }
+
+    @Override
+    public Employee getEmployeeById(int employeeId) {
+        return employees.get(employeeId);
+    }
+
+    @Override
+    public Set<Integer> getExistingEmployeeIds(Collection<Integer> employeeIds) {
+        if (employeeIds == null) {
+            throw new IllegalArgumentException("Employee IDs cannot be null");
+        }
+        Set<Integer> existing = new HashSet<>();
+        for (int employeeId : employeeIds) {
+            if (employees.containsKey(employeeId)) {
+                existing.add(employeeId);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public long getEmployeeVersion(int employeeId) {
+        return versions.getOrDefault(employeeId, -1L);
+    }
+
+    @Override
+    public boolean insertEmployee(Employee e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        e.setEmployeeId(ids.assign(e.getEmployeeId()));
+        employees.put(e.getEmployeeId(), e);
+        versions.put(e.getEmployeeId(), versionClock.incrementAndGet());
+        return true;
+    }
+
+    @Override
+    public boolean updateEmployee(Employee e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        if (employees.replace(e.getEmployeeId(), e) == null) {
+            return false;
+        }
+        versions.put(e.getEmployeeId(), versionClock.incrementAndGet());
+        return true;
+    }
+
+    @Override
+    public boolean deleteEmployee(int employeeId) {
+        versions.remove(employeeId);
+        return employees.remove(employeeId) != null;
+    }
+
+    @Override
+    public List<Employee> getEmployeesByStatus(int statusId) {
+        List<Employee> matches = new ArrayList<>();
+        for (Employee e : employees.values()) {
+            if (e.getEmploymentStatusId() == statusId) {
+                matches.add(e);
+            }
+        }
+        matches.sort(BY_NAME);
+        return matches;
+    }
+
+    @Override
+    public Stream<Employee> streamEmployeesByStatus(int statusId) {
+        return streamEmployees().filter(e -> e.getEmploymentStatusId() == statusId);
+    }
+
+    void clear() {
+        employees.clear();
+        versions.clear();
+    }
+}
@@ -0,0 +1,46 @@
+package dao.memory;
+
+import dao.EmploymentStatusDAO;
+import model.EmploymentStatus;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link EmploymentStatusDAO} backed by a concurrent map keyed by status ID
+ * @author rejoice
+ */
+public class InMemoryEmploymentStatusDAO implements EmploymentStatusDAO {
+
+    private final ConcurrentHashMap<Integer, EmploymentStatus> statuses = new ConcurrentHashMap<>();
+
+    @Override
+    public EmploymentStatus getStatusById(int statusId) {
+        return statuses.get(statusId);
+    }
+
+    @Override
+    public Map<Integer, EmploymentStatus> getAllStatuses() {
+        return new HashMap<>(statuses);
+    }
+
+    @Override
+    public boolean updateStatus(EmploymentStatus status) {
+        Checks.notNull(status, "Employment status");
+        return statuses.replace(status.getStatusId(), status) != null;
+    }
+
+    /**
+     * Stores or replaces an employment status under its ID
+     */
+    public void putStatus(EmploymentStatus status) {
+        if (status == null || status.getStatusId() <= 0) {
+            throw new IllegalArgumentException("Employment status must have a positive ID");
+        }
+        statuses.put(status.getStatusId(), status);
+    }
+
+    void clear() {
+        statuses.clear();
+    }
+}
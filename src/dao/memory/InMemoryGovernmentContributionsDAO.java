@@ -0,0 +1,71 @@
+package dao.memory;
+
+import dao.GovernmentContributionsDAO;
+import model.GovernmentContributions;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link GovernmentContributionsDAO} backed by concurrent maps keyed by
+ * record ID and by employee ID
+ * @author rejoice
+ */
+public class InMemoryGovernmentContributionsDAO implements GovernmentContributionsDAO {
+
+    private final ConcurrentHashMap<Integer, GovernmentContributions> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, GovernmentContributions> byEmployee = new ConcurrentHashMap<>();
+    private final IdSequence ids = new IdSequence();
+
+    @Override
+    public GovernmentContributions getById(int id) {
+        return byId.get(id);
+    }
+
+    @Override
+    public GovernmentContributions getByEmployeeId(int employeeId) {
+        return byEmployee.get(employeeId);
+    }
+
+    @Override
+    public Map<Integer, GovernmentContributions> getAllByEmployee() {
+        return new HashMap<>(byEmployee);
+    }
+
+    @Override
+    public boolean insertGovernmentContributions(GovernmentContributions contributions) {
+        Checks.notNull(contributions, "Government contributions");
+        contributions.setContributionId(ids.assign(contributions.getContributionId()));
+        byId.put(contributions.getContributionId(), contributions);
+        // Like the JDBC bulk read, the first record of an employee wins
+        byEmployee.putIfAbsent(contributions.getEmployeeId(), contributions);
+        return true;
+    }
+
+    @Override
+    public boolean updateGovernmentContributions(GovernmentContributions contributions) {
+        Checks.notNull(contributions, "Government contributions");
+        GovernmentContributions previous = byId.replace(contributions.getContributionId(), contributions);
+        if (previous == null) {
+            return false;
+        }
+        byEmployee.remove(previous.getEmployeeId(), previous);
+        byEmployee.putIfAbsent(contributions.getEmployeeId(), contributions);
+        return true;
+    }
+
+    @Override
+    public boolean deleteGovernmentContributions(int contributionId) {
+        GovernmentContributions removed = byId.remove(contributionId);
+        if (removed == null) {
+            return false;
+        }
+        byEmployee.remove(removed.getEmployeeId(), removed);
+        return true;
+    }
+
+    void clear() {
+        byId.clear();
+        byEmployee.clear();
+    }
+}
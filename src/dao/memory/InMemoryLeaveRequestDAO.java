@@ -0,0 +1,147 @@
+package dao.memory;
+
+import dao.LeaveRequestDAO;
+import model.LeaveRequest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory {@link LeaveRequestDAO} indexed by leave ID and by employee and start date
+ * @author rejoice
+ */
+public class InMemoryLeaveRequestDAO implements LeaveRequestDAO {
+
+    private static final Comparator<LeaveRequest> LATEST_START_FIRST =
+            Comparator.comparing(LeaveRequest::getStartDate).reversed();
+
+    private final DatedIndex<LeaveRequest> leaves = new DatedIndex<>(
+            LeaveRequest::getLeaveId, LeaveRequest::getEmployeeId, l -> l.getStartDate().toLocalDate());
+
+    @Override
+    public List<LeaveRequest> getLeaveRequestsByEmployeeId(int empId) {
+        Checks.positiveId(empId, "Employee");
+        return leaves.byEmployee(empId);
+    }
+
+    @Override
+    public List<LeaveRequest> getApprovedLeavesByEmployeeId(int empId) {
+        Checks.positiveId(empId, "Employee");
+        List<LeaveRequest> approved = new ArrayList<>();
+        for (LeaveRequest leave : leaves.byEmployee(empId)) {
+            if (leave.isApproved()) {
+                approved.add(leave);
+            }
+        }
+        return approved;
+    }
+
+    @Override
+    public List<LeaveRequest> getApprovedLeavesByEmployeeIdAndDateRange(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        Checks.positiveId(employeeId, "Employee");
+        Checks.dateRange(periodStart, periodEnd);
+        // Leave starting on or before the period end that has not ended before the period start
+        return leaves.upTo(employeeId, periodEnd, leave -> leave.isApproved() && endsOnOrAfter(leave, periodStart));
+    }
+
+    @Override
+    public Map<Integer, List<LeaveRequest>> getApprovedLeavesByDateRangeGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd) {
+        Checks.dateRange(periodStart, periodEnd);
+        return leaves.upToGroupedByEmployee(periodEnd, leave -> leave.isApproved() && endsOnOrAfter(leave, periodStart));
+    }
+
+    @Override
+    public List<LeaveRequest> getLeaveRequestsByStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            throw new IllegalArgumentException("Status cannot be null or empty");
+        }
+        List<LeaveRequest> matches = new ArrayList<>();
+        for (LeaveRequest leave : leaves.all()) {
+            if (status.trim().equalsIgnoreCase(leave.getStatus())) {
+                matches.add(leave);
+            }
+        }
+        matches.sort(LATEST_START_FIRST);
+        return matches;
+    }
+
+    @Override
+    public int insertLeaveRequest(LeaveRequest leaveRequest) {
+        validate(leaveRequest);
+        if (leaveRequest.getStatus() == null) {
+            leaveRequest.setStatus(LeaveRequest.STATUS_PENDING);
+        }
+        leaveRequest.setLeaveId(leaves.assignId(leaveRequest.getLeaveId()));
+        leaves.put(leaveRequest);
+        return leaveRequest.getLeaveId();
+    }
+
+    @Override
+    public boolean updateLeaveStatus(int leaveId, String status) {
+        Checks.positiveId(leaveId, "Leave");
+        if (status == null || status.trim().isEmpty()) {
+            throw new IllegalArgumentException("Status cannot be null or empty");
+        }
+        LeaveRequest leave = leaves.get(leaveId);
+        if (leave == null) {
+            return false;
+        }
+        leave.setStatus(status.trim());
+        return true;
+    }
+
+    @Override
+    public boolean updateLeaveRequest(LeaveRequest leaveRequest) {
+        validate(leaveRequest);
+        Checks.positiveId(leaveRequest.getLeaveId(), "Leave");
+        if (!leaves.contains(leaveRequest.getLeaveId())) {
+            return false;
+        }
+        leaves.put(leaveRequest);
+        return true;
+    }
+
+    @Override
+    public boolean deleteLeaveRequest(int leaveId) {
+        Checks.positiveId(leaveId, "Leave");
+        return leaves.remove(leaveId) != null;
+    }
+
+    @Override
+    public Optional<LeaveRequest> getLeaveRequestById(int leaveId) {
+        Checks.positiveId(leaveId, "Leave");
+        return Optional.ofNullable(leaves.get(leaveId));
+    }
+
+    @Override
+    public boolean hasOverlappingLeave(int employeeId, LocalDate startDate, LocalDate endDate, Integer excludeLeaveId) {
+        for (LeaveRequest leave : getApprovedLeavesByEmployeeIdAndDateRange(employeeId, startDate, endDate)) {
+            if (excludeLeaveId == null || leave.getLeaveId() != excludeLeaveId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean endsOnOrAfter(LeaveRequest leave, LocalDate date) {
+        return !leave.getEndDate().toLocalDate().isBefore(date);
+    }
+
+    private void validate(LeaveRequest leaveRequest) {
+        Checks.notNull(leaveRequest, "Leave request");
+        Checks.positiveId(leaveRequest.getEmployeeId(), "Employee");
+        if (leaveRequest.getStartDate() == null || leaveRequest.getEndDate() == null) {
+            throw new IllegalArgumentException("Start and end dates cannot be null");
+        }
+        if (leaveRequest.getLeaveType() == null || leaveRequest.getLeaveType().trim().isEmpty()) {
+            throw new IllegalArgumentException("Leave type cannot be null or empty");
+        }
+    }
+
+    void clear() {
+        leaves.clear();
+    }
+}
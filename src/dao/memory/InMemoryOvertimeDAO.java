@@ -0,0 +1,109 @@
+package dao.memory;
+
+import dao.OvertimeDAO;
+import model.Overtime;
+import model.OvertimeSummary;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory {@link OvertimeDAO} indexed by overtime ID and by employee and date
+ * @author rejoice
+ */
+public class InMemoryOvertimeDAO implements OvertimeDAO {
+
+    private final DatedIndex<Overtime> overtime = new DatedIndex<>(
+            Overtime::getOvertimeId, Overtime::getEmployeeId, o -> o.getDate().toLocalDate());
+
+    @Override
+    public List<Overtime> getOvertimeByEmployeeId(int empId) {
+        Checks.positiveId(empId, "Employee");
+        return overtime.byEmployee(empId);
+    }
+
+    @Override
+    public List<Overtime> getOvertimeByEmployeeIdAndDateRange(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        Checks.positiveId(employeeId, "Employee");
+        Checks.dateRange(periodStart, periodEnd);
+        return overtime.between(employeeId, periodStart, periodEnd);
+    }
+
+    @Override
+    public Map<Integer, List<Overtime>> getOvertimeByDateRangeGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd) {
+        Checks.dateRange(periodStart, periodEnd);
+        return overtime.betweenGroupedByEmployee(periodStart, periodEnd);
+    }
+
+    @Override
+    public Overtime getOvertimeById(int overtimeId) {
+        Checks.positiveId(overtimeId, "Overtime");
+        return overtime.get(overtimeId);
+    }
+
+    @Override
+    public int insertOvertime(Overtime o) {
+        validate(o);
+        o.setOvertimeId(overtime.assignId(o.getOvertimeId()));
+        overtime.put(o);
+        return o.getOvertimeId();
+    }
+
+    @Override
+    public boolean updateOvertime(Overtime o) {
+        validate(o);
+        Checks.positiveId(o.getOvertimeId(), "Overtime");
+        if (!overtime.contains(o.getOvertimeId())) {
+            return false;
+        }
+        overtime.put(o);
+        return true;
+    }
+
+    @Override
+    public boolean deleteOvertime(int overtimeId) {
+        Checks.positiveId(overtimeId, "Overtime");
+        return overtime.remove(overtimeId) != null;
+    }
+
+    @Override
+    public double getTotalOvertimeHours(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        double total = 0.0;
+        for (Overtime o : getOvertimeByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd)) {
+            total += o.getHours();
+        }
+        return total;
+    }
+
+    @Override
+    public int getOvertimeCount(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        return getOvertimeByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd).size();
+    }
+
+    @Override
+    public OvertimeSummary getOvertimeSummary(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        return OvertimeSummary.of(employeeId, getOvertimeByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd));
+    }
+
+    @Override
+    public Map<Integer, OvertimeSummary> getOvertimeSummariesGroupedByEmployee(LocalDate periodStart, LocalDate periodEnd) {
+        Map<Integer, OvertimeSummary> summaries = new HashMap<>();
+        getOvertimeByDateRangeGroupedByEmployee(periodStart, periodEnd)
+                .forEach((employeeId, records) -> summaries.put(employeeId, OvertimeSummary.of(employeeId, records)));
+        return summaries;
+    }
+
+    private void validate(Overtime o) {
+        Checks.notNull(o, "Overtime");
+        Checks.positiveId(o.getEmployeeId(), "Employee");
+        Checks.notNull(o.getDate(), "Date");
+        if (o.getHours() < 0) {
+            throw new IllegalArgumentException("Hours cannot be negative");
+        }
+    }
+
+    void clear() {
+        overtime.clear();
+    }
+}
@@ -0,0 +1,118 @@
+package dao.memory;
+
+import dao.PayrollDAO;
+import model.Payroll;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory {@link PayrollDAO} indexed by payroll ID and by employee and period start
+ * @author rejoice
+ */
+public class InMemoryPayrollDAO implements PayrollDAO {
+
+    private final DatedIndex<Payroll> payrolls = new DatedIndex<>(
+            Payroll::getPayrollId, Payroll::getEmployeeId, p -> p.getPeriodStart().toLocalDate());
+
+    @Override
+    public List<Payroll> getPayrollByEmployeeId(int empId) {
+        Checks.positiveId(empId, "Employee");
+        return payrolls.byEmployee(empId);
+    }
+
+    @Override
+    public List<Payroll> getPayrollByEmployeeIdAndDateRange(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        Checks.positiveId(employeeId, "Employee");
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        List<Payroll> matches = payrolls.between(employeeId, periodStart, periodEnd);
+        matches.removeIf(p -> p.getPeriodEnd().toLocalDate().isAfter(periodEnd));
+        return matches;
+    }
+
+    @Override
+    public int insertPayroll(Payroll payroll) {
+        Checks.notNull(payroll, "Payroll");
+        Checks.notNull(payroll.getPeriodStart(), "Period start");
+        payroll.setPayrollId(payrolls.assignId(payroll.getPayrollId()));
+        payrolls.put(payroll);
+        return payroll.getPayrollId();
+    }
+
+    @Override
+    public int[] insertPayrolls(Collection<Payroll> payrolls) {
+        Checks.notNull(payrolls, "Payrolls");
+        for (Payroll payroll : payrolls) {
+            Checks.notNull(payroll, "Payroll");
+            Checks.notNull(payroll.getPeriodStart(), "Period start");
+        }
+        int[] ids = new int[payrolls.size()];
+        int index = 0;
+        for (Payroll payroll : payrolls) {
+            ids[index++] = insertPayroll(payroll);
+        }
+        return ids;
+    }
+
+    @Override
+    public synchronized int upsertPayroll(Payroll payroll) {
+        Checks.notNull(payroll, "Payroll");
+        Checks.notNull(payroll.getPeriodStart(), "Period start");
+        Checks.notNull(payroll.getPeriodEnd(), "Period end");
+        LocalDate periodStart = payroll.getPeriodStart().toLocalDate();
+        for (Payroll stored : payrolls.between(payroll.getEmployeeId(), periodStart, periodStart)) {
+            if (stored.getPeriodEnd().equals(payroll.getPeriodEnd())) {
+                payroll.setPayrollId(stored.getPayrollId());
+                payrolls.put(payroll);
+                return payroll.getPayrollId();
+            }
+        }
+        payroll.setPayrollId(0);
+        return insertPayroll(payroll);
+    }
+
+    @Override
+    public synchronized int[] upsertPayrolls(Collection<Payroll> payrolls) {
+        Checks.notNull(payrolls, "Payrolls");
+        for (Payroll payroll : payrolls) {
+            Checks.notNull(payroll, "Payroll");
+            Checks.notNull(payroll.getPeriodStart(), "Period start");
+            Checks.notNull(payroll.getPeriodEnd(), "Period end");
+        }
+        int[] ids = new int[payrolls.size()];
+        int index = 0;
+        for (Payroll payroll : payrolls) {
+            ids[index++] = upsertPayroll(payroll);
+        }
+        return ids;
+    }
+
+    @Override
+    public boolean updatePayroll(Payroll payroll) {
+        Checks.notNull(payroll, "Payroll");
+        Checks.positiveId(payroll.getPayrollId(), "Payroll");
+        if (!payrolls.contains(payroll.getPayrollId())) {
+            return false;
+        }
+        payrolls.put(payroll);
+        return true;
+    }
+
+    @Override
+    public boolean deletePayroll(int payrollId) {
+        Checks.positiveId(payrollId, "Payroll");
+        return payrolls.remove(payrollId) != null;
+    }
+
+    @Override
+    public Payroll getPayrollById(int payrollId) {
+        Checks.positiveId(payrollId, "Payroll");
+        return payrolls.get(payrollId);
+    }
+
+    void clear() {
+        payrolls.clear();
+    }
+}
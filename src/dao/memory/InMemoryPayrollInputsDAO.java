@@ -0,0 +1,89 @@
+package dao.memory;
+
+import dao.PayrollInputsDAO;
+import model.Attendance;
+import model.CompensationDetails;
+import model.Employee;
+import model.GovernmentContributions;
+import model.LeaveRequest;
+import model.Overtime;
+import model.PayrollInputs;
+import model.Position;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link PayrollInputsDAO} assembling snapshots straight from the indexes
+ * of the in-memory DAOs
+ * @author rejoice
+ */
+public class InMemoryPayrollInputsDAO implements PayrollInputsDAO {
+
+    private final InMemoryEmployeeDAO employeeDAO;
+    private final InMemoryPositionDAO positionDAO;
+    private final InMemoryAttendanceDAO attendanceDAO;
+    private final InMemoryOvertimeDAO overtimeDAO;
+    private final InMemoryLeaveRequestDAO leaveDAO;
+    private final InMemoryCompensationDetailsDAO compDAO;
+    private final InMemoryGovernmentContributionsDAO govDAO;
+
+    InMemoryPayrollInputsDAO(InMemoryEmployeeDAO employeeDAO, InMemoryPositionDAO positionDAO,
+                             InMemoryAttendanceDAO attendanceDAO, InMemoryOvertimeDAO overtimeDAO,
+                             InMemoryLeaveRequestDAO leaveDAO, InMemoryCompensationDetailsDAO compDAO,
+                             InMemoryGovernmentContributionsDAO govDAO) {
+        this.employeeDAO = employeeDAO;
+        this.positionDAO = positionDAO;
+        this.attendanceDAO = attendanceDAO;
+        this.overtimeDAO = overtimeDAO;
+        this.leaveDAO = leaveDAO;
+        this.compDAO = compDAO;
+        this.govDAO = govDAO;
+    }
+
+    @Override
+    public PayrollInputs loadPayrollInputs(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        Checks.positiveId(employeeId, "Employee");
+        Checks.dateRange(periodStart, periodEnd);
+
+        Employee employee = employeeDAO.getEmployeeById(employeeId);
+        if (employee == null) {
+            return null;
+        }
+        return new PayrollInputs(employee,
+                positionDAO.getPositionById(employee.getPositionId()),
+                periodStart, periodEnd,
+                attendanceDAO.getAttendanceByEmployeeIdBetweenDates(employeeId, periodStart, periodEnd),
+                overtimeDAO.getOvertimeByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd),
+                leaveDAO.getApprovedLeavesByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd),
+                compDAO.getCompensationDetailsByEmployeeId(employeeId),
+                govDAO.getByEmployeeId(employeeId));
+    }
+
+    @Override
+    public Map<Integer, PayrollInputs> loadPayrollInputsForAll(LocalDate periodStart, LocalDate periodEnd) {
+        Checks.dateRange(periodStart, periodEnd);
+
+        Map<Integer, List<Attendance>> attendanceByEmployee =
+                attendanceDAO.getAttendanceBetweenDatesGroupedByEmployee(periodStart, periodEnd);
+        Map<Integer, List<Overtime>> overtimeByEmployee =
+                overtimeDAO.getOvertimeByDateRangeGroupedByEmployee(periodStart, periodEnd);
+        Map<Integer, List<LeaveRequest>> leavesByEmployee =
+                leaveDAO.getApprovedLeavesByDateRangeGroupedByEmployee(periodStart, periodEnd);
+
+        Map<Integer, PayrollInputs> inputs = new LinkedHashMap<>();
+        for (Employee employee : employeeDAO.getAllEmployees()) {
+            int employeeId = employee.getEmployeeId();
+            Position position = positionDAO.getPositionById(employee.getPositionId());
+            CompensationDetails comp = compDAO.getCompensationDetailsByEmployeeId(employeeId);
+            GovernmentContributions gov = govDAO.getByEmployeeId(employeeId);
+            inputs.put(employeeId, new PayrollInputs(employee, position, periodStart, periodEnd,
+                    attendanceByEmployee.get(employeeId),
+                    overtimeByEmployee.get(employeeId),
+                    leavesByEmployee.get(employeeId),
+                    comp, gov));
+        }
+        return inputs;
+    }
+}
@@ -0,0 +1,46 @@
+package dao.memory;
+
+import dao.PositionDAO;
+import model.Position;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link PositionDAO} backed by a concurrent map keyed by position ID
+ * @author rejoice
+ */
+public class InMemoryPositionDAO implements PositionDAO {
+
+    private final ConcurrentHashMap<Integer, Position> positions = new ConcurrentHashMap<>();
+
+    @Override
+    public Position getPositionById(int positionId) {
+        return positions.get(positionId);
+    }
+
+    @Override
+    public Map<Integer, Position> getAllPositions() {
+        return new HashMap<>(positions);
+    }
+
+    @Override
+    public boolean updatePosition(Position position) {
+        Checks.notNull(position, "Position");
+        return positions.replace(position.getPositionId(), position) != null;
+    }
+
+    /**
+     * Stores or replaces a position under its ID
+     */
+    public void putPosition(Position position) {
+        if (position == null || position.getPositionId() <= 0) {
+            throw new IllegalArgumentException("Position must have a positive ID");
+        }
+        positions.put(position.getPositionId(), position);
+    }
+
+    void clear() {
+        positions.clear();
+    }
+}
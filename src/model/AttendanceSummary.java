@@ -0,0 +1,123 @@
+package model;
+
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Attendance totals of one employee over a period: the days present and
+ * the minutes late and short, counted against a work schedule. The
+ * schedule is kept with the totals, since the same records give other
+ * totals under another schedule.
+ * @author rejoice
+ */
+public final class AttendanceSummary {
+    private final int employeeId;
+    private final int daysPresent;
+    private final long lateMinutes;
+    private final long undertimeMinutes;
+    private final LocalTime standardLoginTime;
+    private final LocalTime lateThresholdTime;
+    private final LocalTime standardLogoutTime;
+
+    /**
+     * @param employeeId Employee ID
+     * @param daysPresent Days with an attendance record
+     * @param lateMinutes Minutes from the standard login time, over days logged in after the threshold
+     * @param undertimeMinutes Minutes before the standard logout time, over days logged out early
+     * @param standardLoginTime Login time lateness is measured from
+     * @param lateThresholdTime Latest login time that is not late
+     * @param standardLogoutTime Earliest logout time that is not undertime
+     */
+    public AttendanceSummary(int employeeId, int daysPresent, long lateMinutes, long undertimeMinutes,
+                             LocalTime standardLoginTime, LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+        if (daysPresent < 0 || lateMinutes < 0 || undertimeMinutes < 0) {
+            throw new IllegalArgumentException("Attendance totals cannot be negative");
+        }
+        if (standardLoginTime == null || lateThresholdTime == null || standardLogoutTime == null) {
+            throw new IllegalArgumentException("Schedule times cannot be null");
+        }
+        this.employeeId = employeeId;
+        this.daysPresent = daysPresent;
+        this.lateMinutes = lateMinutes;
+        this.undertimeMinutes = undertimeMinutes;
+        this.standardLoginTime = standardLoginTime;
+        this.lateThresholdTime = lateThresholdTime;
+        this.standardLogoutTime = standardLogoutTime;
+    }
+
+    /**
+     * Count the totals of attendance records in memory, the same way the
+     * attendance summary query does in the database
+     */
+    public static AttendanceSummary of(int employeeId, List<Attendance> attendance, LocalTime standardLoginTime,
+                                       LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+        long lateMinutes = 0;
+        long undertimeMinutes = 0;
+
+        for (Attendance a : attendance) {
+            if (a.getLoginTime() != null) {
+                LocalTime loginTime = a.getLoginTime().toLocalTime();
+                if (loginTime.isAfter(lateThresholdTime)) {
+                    lateMinutes += ChronoUnit.MINUTES.between(standardLoginTime, loginTime);
+                }
+            }
+            if (a.getLogoutTime() != null) {
+                LocalTime logoutTime = a.getLogoutTime().toLocalTime();
+                if (logoutTime.isBefore(standardLogoutTime)) {
+                    undertimeMinutes += ChronoUnit.MINUTES.between(logoutTime, standardLogoutTime);
+                }
+            }
+        }
+
+        return new AttendanceSummary(employeeId, attendance.size(), lateMinutes, undertimeMinutes,
+                standardLoginTime, lateThresholdTime, standardLogoutTime);
+    }
+
+    /**
+     * @return true if the totals were counted against the given schedule
+     */
+    public boolean isCountedWith(LocalTime standardLoginTime, LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+        return this.standardLoginTime.equals(standardLoginTime)
+                && this.lateThresholdTime.equals(lateThresholdTime)
+                && this.standardLogoutTime.equals(standardLogoutTime);
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public int getDaysPresent() {
+        return daysPresent;
+    }
+
+    public long getLateMinutes() {
+        return lateMinutes;
+    }
+
+    public long getUndertimeMinutes() {
+        return undertimeMinutes;
+    }
+
+    public LocalTime getStandardLoginTime() {
+        return standardLoginTime;
+    }
+
+    public LocalTime getLateThresholdTime() {
+        return lateThresholdTime;
+    }
+
+    public LocalTime getStandardLogoutTime() {
+        return standardLogoutTime;
+    }
+
+    @Override
+    public String toString() {
+        return "AttendanceSummary{" +
+                "employeeId=" + employeeId +
+                ", daysPresent=" + daysPresent +
+                ", lateMinutes=" + lateMinutes +
+                ", undertimeMinutes=" + undertimeMinutes +
+                '}';
+    }
+}
@@ -0,0 +1,185 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * One bracket of a contribution or tax table. A salary falling in the
+ * bracket owes {@code fixedAmount + rate * (salary - excessOver)}, capped
+ * at {@code maximumAmount}. Brackets of the same table type and effective
+ * date together form one version of that table.
+ * @author rejoice
+ */
+public final class ContributionBracket {
+    private int bracketId;
+    private String tableType; // "SSS", "PhilHealth", "PagIBIG", "IncomeTax"
+    private LocalDate effectiveFrom;
+    private double upperBound = Double.POSITIVE_INFINITY; // inclusive; infinite for the top bracket
+    private double fixedAmount;
+    private double rate;
+    private double excessOver;
+    private double maximumAmount = Double.POSITIVE_INFINITY;
+    private boolean annualBasis; // bounds and amounts are yearly figures
+
+    // Table type constants
+    public static final String TYPE_SSS = "SSS";
+    public static final String TYPE_PHILHEALTH = "PhilHealth";
+    public static final String TYPE_PAGIBIG = "PagIBIG";
+    public static final String TYPE_INCOME_TAX = "IncomeTax";
+
+    // Constructors
+    public ContributionBracket() {}
+
+    public ContributionBracket(String tableType, LocalDate effectiveFrom, double upperBound,
+                               double fixedAmount, double rate, double excessOver) {
+        setTableType(tableType);
+        setEffectiveFrom(effectiveFrom);
+        setUpperBound(upperBound);
+        setFixedAmount(fixedAmount);
+        setRate(rate);
+        setExcessOver(excessOver);
+    }
+
+    // Getters and Setters with validation
+    public int getBracketId() {
+        return bracketId;
+    }
+
+    public void setBracketId(int bracketId) {
+        this.bracketId = bracketId;
+    }
+
+    public String getTableType() {
+        return tableType;
+    }
+
+    public void setTableType(String tableType) {
+        if (tableType == null || tableType.trim().isEmpty()) {
+            throw new IllegalArgumentException("Table type cannot be null or empty");
+        }
+        // Stored as the matching constant so tables can be grouped by type
+        String canonical = canonicalType(tableType.trim());
+        if (canonical == null) {
+            throw new IllegalArgumentException("Invalid table type: " + tableType);
+        }
+        this.tableType = canonical;
+    }
+
+    public LocalDate getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public void setEffectiveFrom(LocalDate effectiveFrom) {
+        if (effectiveFrom == null) {
+            throw new IllegalArgumentException("Effective date cannot be null");
+        }
+        this.effectiveFrom = effectiveFrom;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    public void setUpperBound(double upperBound) {
+        if (Double.isNaN(upperBound) || upperBound < 0) {
+            throw new IllegalArgumentException("Upper bound cannot be negative");
+        }
+        this.upperBound = upperBound;
+    }
+
+    public boolean isOpenEnded() {
+        return upperBound == Double.POSITIVE_INFINITY;
+    }
+
+    public double getFixedAmount() {
+        return fixedAmount;
+    }
+
+    public void setFixedAmount(double fixedAmount) {
+        if (fixedAmount < 0) {
+            throw new IllegalArgumentException("Fixed amount cannot be negative");
+        }
+        this.fixedAmount = fixedAmount;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Rate must be between 0 and 1");
+        }
+        this.rate = rate;
+    }
+
+    public double getExcessOver() {
+        return excessOver;
+    }
+
+    public void setExcessOver(double excessOver) {
+        if (excessOver < 0) {
+            throw new IllegalArgumentException("Excess-over amount cannot be negative");
+        }
+        this.excessOver = excessOver;
+    }
+
+    public double getMaximumAmount() {
+        return maximumAmount;
+    }
+
+    public void setMaximumAmount(double maximumAmount) {
+        if (Double.isNaN(maximumAmount) || maximumAmount < 0) {
+            throw new IllegalArgumentException("Maximum amount cannot be negative");
+        }
+        this.maximumAmount = maximumAmount;
+    }
+
+    public boolean isAnnualBasis() {
+        return annualBasis;
+    }
+
+    public void setAnnualBasis(boolean annualBasis) {
+        this.annualBasis = annualBasis;
+    }
+
+    // Utility methods
+    private String canonicalType(String type) {
+        for (String known : new String[]{TYPE_SSS, TYPE_PHILHEALTH, TYPE_PAGIBIG, TYPE_INCOME_TAX}) {
+            if (known.equalsIgnoreCase(type)) {
+                return known;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ContributionBracket bracket = (ContributionBracket) obj;
+        return bracketId == bracket.bracketId &&
+               Objects.equals(tableType, bracket.tableType) &&
+               Objects.equals(effectiveFrom, bracket.effectiveFrom);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bracketId, tableType, effectiveFrom);
+    }
+
+    @Override
+    public String toString() {
+        return "ContributionBracket{" +
+                "bracketId=" + bracketId +
+                ", tableType='" + tableType + '\'' +
+                ", effectiveFrom=" + effectiveFrom +
+                ", upperBound=" + upperBound +
+                ", fixedAmount=" + fixedAmount +
+                ", rate=" + rate +
+                ", excessOver=" + excessOver +
+                ", maximumAmount=" + maximumAmount +
+                ", annualBasis=" + annualBasis +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package model;
 
+import java.sql.Date;
 import java.util.Objects;
 
 /**
@@ -12,6 +13,8 @@ public class Deduction {
     private String type; // "Late", "Undertime", "UnpaidLeave"
     private double amount;
     private String description;
+    private Date periodStart; // Pay period calculated for, null if entered by hand
+    private Date periodEnd;
 
     // Deduction type constants
     public static final String TYPE_LATE = "Late";
@@ -86,6 +89,29 @@ public class Deduction {
         this.description = description != null ? description.trim() : null;
     }
 
+    public Date getPeriodStart() {
+        return periodStart;
+    }
+
+    public Date getPeriodEnd() {
+        return periodEnd;
+    }
+
+    /**
+     * Sets the pay period the deduction was calculated for; a payroll
+     * re-run replaces the deductions of its period
+     */
+    public void setPeriod(Date periodStart, Date periodEnd) {
+        if ((periodStart == null) != (periodEnd == null)) {
+            throw new IllegalArgumentException("Period start and end must both be set or both be null");
+        }
+        if (periodStart != null && periodStart.after(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+
     // Utility methods
     private boolean isValidType(String type) {
         return TYPE_LATE.equalsIgnoreCase(type) || 
@@ -2,6 +2,7 @@ package model;
 
 import java.sql.Date;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 public class LeaveRequest {
@@ -107,8 +108,8 @@ public class LeaveRequest {
         if (startDate == null || endDate == null) {
             return 0;
         }
-        long diffInMillis = endDate.getTime() - startDate.getTime();
-        return (diffInMillis / (1000 * 60 * 60 * 24)) + 1; // +1 to include both start and end dates
+        // Calendar days, so a daylight saving change within the leave cannot shorten it
+        return ChronoUnit.DAYS.between(startDate.toLocalDate(), endDate.toLocalDate()) + 1; // +1 to include both start and end dates
     }
 
     public boolean isApproved() {
@@ -0,0 +1,88 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Overtime totals of one employee over a period, approved and pending
+ * apart. Only approved hours are paid.
+ * @author rejoice
+ */
+public final class OvertimeSummary {
+    private final int employeeId;
+    private final double approvedHours;
+    private final double pendingHours;
+    private final int approvedCount;
+    private final int pendingCount;
+
+    /**
+     * @param employeeId Employee ID
+     * @param approvedHours Hours of approved overtime
+     * @param pendingHours Hours of overtime not yet approved
+     * @param approvedCount Approved overtime records
+     * @param pendingCount Overtime records not yet approved
+     */
+    public OvertimeSummary(int employeeId, double approvedHours, double pendingHours, int approvedCount, int pendingCount) {
+        if (approvedHours < 0 || pendingHours < 0 || approvedCount < 0 || pendingCount < 0) {
+            throw new IllegalArgumentException("Overtime totals cannot be negative");
+        }
+        this.employeeId = employeeId;
+        this.approvedHours = approvedHours;
+        this.pendingHours = pendingHours;
+        this.approvedCount = approvedCount;
+        this.pendingCount = pendingCount;
+    }
+
+    /**
+     * Count the totals of overtime records in memory, the same way the
+     * overtime summary is kept in the database
+     */
+    public static OvertimeSummary of(int employeeId, List<Overtime> overtime) {
+        double approvedHours = 0;
+        double pendingHours = 0;
+        int approvedCount = 0;
+        for (Overtime o : overtime) {
+            if (o.isApproved()) {
+                approvedHours += o.getHours();
+                approvedCount++;
+            } else {
+                pendingHours += o.getHours();
+            }
+        }
+        return new OvertimeSummary(employeeId, approvedHours, pendingHours, approvedCount, overtime.size() - approvedCount);
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public double getApprovedHours() {
+        return approvedHours;
+    }
+
+    public double getPendingHours() {
+        return pendingHours;
+    }
+
+    public int getApprovedCount() {
+        return approvedCount;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    public double getTotalHours() {
+        return approvedHours + pendingHours;
+    }
+
+    @Override
+    public String toString() {
+        return "OvertimeSummary{" +
+                "employeeId=" + employeeId +
+                ", approvedHours=" + approvedHours +
+                ", pendingHours=" + pendingHours +
+                ", approvedCount=" + approvedCount +
+                ", pendingCount=" + pendingCount +
+                '}';
+    }
+}
@@ -1,39 +1,49 @@
 package model;
 
+import util.Money;
+
 import java.sql.Date;
 import java.sql.Time;
 import java.time.LocalDate;
 
 /**
- * Enhanced Payroll model class aligned with DAO and PayrollCalculator usage
+ * Enhanced Payroll model class aligned with DAO and PayrollCalculator usage.
+ * Money amounts are held as {@code long} centavos (see {@link Money}) so
+ * totals reconcile exactly; the {@code double} accessors convert to and
+ * from pesos.
  * @author rejoice
  */
 public class Payroll {
+    // Assumptions of the standalone calculation methods
+    private static final int STANDARD_WORKING_DAYS = 22;
+    private static final int STANDARD_HOURS_PER_DAY = 8;
+
     private int payrollId;
     private int employeeId;
     private Date periodStart;
     private Date periodEnd;
-    private double monthlyRate;
+    private long monthlyRate;
     private int daysWorked;
     private double overtimeHours;
-    private double grossPay;
-    private double totalDeductions;
-    private double netPay;
+    // Money amounts in centavos
+    private long grossPay;
+    private long totalDeductions;
+    private long netPay;
     
     // Enhanced payroll components to match PayrollCalculator
-    private double grossEarnings;
-    private double dailyRate;
-    private double lateDeduction;
-    private double undertimeDeduction;
-    private double unpaidLeaveDeduction;
-    private double overtimePay;
-    private double riceSubsidy;
-    private double phoneAllowance;
-    private double clothingAllowance;
-    private double sss;
-    private double philhealth;
-    private double pagibig;
-    private double tax;
+    private long grossEarnings;
+    private long dailyRate;
+    private long lateDeduction;
+    private long undertimeDeduction;
+    private long unpaidLeaveDeduction;
+    private long overtimePay;
+    private long riceSubsidy;
+    private long phoneAllowance;
+    private long clothingAllowance;
+    private long sss;
+    private long philhealth;
+    private long pagibig;
+    private long tax;
     
     // Additional fields for better tracking
     private int unpaidLeaveCount;
@@ -91,23 +101,47 @@ public class Payroll {
     }
 
     public double getMonthlyRate() {
-        return monthlyRate;
+        return Money.toPesos(monthlyRate);
     }
 
     public void setMonthlyRate(double monthlyRate) {
+        if (monthlyRate < 0) {
+            throw new IllegalArgumentException("Monthly rate cannot be negative");
+        }
+        this.monthlyRate = Money.fromPesos(monthlyRate);
+        // Auto-calculate daily rate when monthly rate is set
+        this.dailyRate = Money.divide(this.monthlyRate, STANDARD_WORKING_DAYS, Money.DEFAULT_ROUNDING);
+    }
+
+    public long getMonthlyRateCentavos() {
+        return monthlyRate;
+    }
+
+    public void setMonthlyRateCentavos(long monthlyRate) {
         if (monthlyRate < 0) {
             throw new IllegalArgumentException("Monthly rate cannot be negative");
         }
         this.monthlyRate = monthlyRate;
         // Auto-calculate daily rate when monthly rate is set
-        this.dailyRate = monthlyRate / 22.0; // 22 working days assumption
+        this.dailyRate = Money.divide(monthlyRate, STANDARD_WORKING_DAYS, Money.DEFAULT_ROUNDING);
     }
 
     public double getDailyRate() {
-        return dailyRate;
+        return Money.toPesos(dailyRate);
     }
 
     public void setDailyRate(double dailyRate) {
+        if (dailyRate < 0) {
+            throw new IllegalArgumentException("Daily rate cannot be negative");
+        }
+        this.dailyRate = Money.fromPesos(dailyRate);
+    }
+
+    public long getDailyRateCentavos() {
+        return dailyRate;
+    }
+
+    public void setDailyRateCentavos(long dailyRate) {
         if (dailyRate < 0) {
             throw new IllegalArgumentException("Daily rate cannot be negative");
         }
@@ -148,10 +182,21 @@ public class Payroll {
     }
 
     public double getGrossPay() {
-        return grossPay;
+        return Money.toPesos(grossPay);
     }
 
     public void setGrossPay(double grossPay) {
+        if (grossPay < 0) {
+            throw new IllegalArgumentException("Gross pay cannot be negative");
+        }
+        this.grossPay = Money.fromPesos(grossPay);
+    }
+
+    public long getGrossPayCentavos() {
+        return grossPay;
+    }
+
+    public void setGrossPayCentavos(long grossPay) {
         if (grossPay < 0) {
             throw new IllegalArgumentException("Gross pay cannot be negative");
         }
@@ -159,10 +204,21 @@ public class Payroll {
     }
 
     public double getTotalDeductions() {
-        return totalDeductions;
+        return Money.toPesos(totalDeductions);
     }
 
     public void setTotalDeductions(double totalDeductions) {
+        if (totalDeductions < 0) {
+            throw new IllegalArgumentException("Total deductions cannot be negative");
+        }
+        this.totalDeductions = Money.fromPesos(totalDeductions);
+    }
+
+    public long getTotalDeductionsCentavos() {
+        return totalDeductions;
+    }
+
+    public void setTotalDeductionsCentavos(long totalDeductions) {
         if (totalDeductions < 0) {
             throw new IllegalArgumentException("Total deductions cannot be negative");
         }
@@ -170,10 +226,18 @@ public class Payroll {
     }
 
     public double getNetPay() {
-        return netPay;
+        return Money.toPesos(netPay);
     }
 
     public void setNetPay(double netPay) {
+        this.netPay = Money.fromPesos(netPay);
+    }
+
+    public long getNetPayCentavos() {
+        return netPay;
+    }
+
+    public void setNetPayCentavos(long netPay) {
         this.netPay = netPay;
     }
 
@@ -190,10 +254,21 @@ public class Payroll {
 
     // Earnings component getters and setters
     public double getGrossEarnings() {
-        return grossEarnings;
+        return Money.toPesos(grossEarnings);
     }
 
     public void setGrossEarnings(double grossEarnings) {
+        if (grossEarnings < 0) {
+            throw new IllegalArgumentException("Gross earnings cannot be negative");
+        }
+        this.grossEarnings = Money.fromPesos(grossEarnings);
+    }
+
+    public long getGrossEarningsCentavos() {
+        return grossEarnings;
+    }
+
+    public void setGrossEarningsCentavos(long grossEarnings) {
         if (grossEarnings < 0) {
             throw new IllegalArgumentException("Gross earnings cannot be negative");
         }
@@ -201,10 +276,21 @@ public class Payroll {
     }
 
     public double getOvertimePay() {
-        return overtimePay;
+        return Money.toPesos(overtimePay);
     }
 
     public void setOvertimePay(double overtimePay) {
+        if (overtimePay < 0) {
+            throw new IllegalArgumentException("Overtime pay cannot be negative");
+        }
+        this.overtimePay = Money.fromPesos(overtimePay);
+    }
+
+    public long getOvertimePayCentavos() {
+        return overtimePay;
+    }
+
+    public void setOvertimePayCentavos(long overtimePay) {
         if (overtimePay < 0) {
             throw new IllegalArgumentException("Overtime pay cannot be negative");
         }
@@ -212,10 +298,21 @@ public class Payroll {
     }
 
     public double getRiceSubsidy() {
-        return riceSubsidy;
+        return Money.toPesos(riceSubsidy);
     }
 
     public void setRiceSubsidy(double riceSubsidy) {
+        if (riceSubsidy < 0) {
+            throw new IllegalArgumentException("Rice subsidy cannot be negative");
+        }
+        this.riceSubsidy = Money.fromPesos(riceSubsidy);
+    }
+
+    public long getRiceSubsidyCentavos() {
+        return riceSubsidy;
+    }
+
+    public void setRiceSubsidyCentavos(long riceSubsidy) {
         if (riceSubsidy < 0) {
             throw new IllegalArgumentException("Rice subsidy cannot be negative");
         }
@@ -223,10 +320,21 @@ public class Payroll {
     }
 
     public double getPhoneAllowance() {
-        return phoneAllowance;
+        return Money.toPesos(phoneAllowance);
     }
 
     public void setPhoneAllowance(double phoneAllowance) {
+        if (phoneAllowance < 0) {
+            throw new IllegalArgumentException("Phone allowance cannot be negative");
+        }
+        this.phoneAllowance = Money.fromPesos(phoneAllowance);
+    }
+
+    public long getPhoneAllowanceCentavos() {
+        return phoneAllowance;
+    }
+
+    public void setPhoneAllowanceCentavos(long phoneAllowance) {
         if (phoneAllowance < 0) {
             throw new IllegalArgumentException("Phone allowance cannot be negative");
         }
@@ -234,10 +342,21 @@ public class Payroll {
     }
 
     public double getClothingAllowance() {
-        return clothingAllowance;
+        return Money.toPesos(clothingAllowance);
     }
 
     public void setClothingAllowance(double clothingAllowance) {
+        if (clothingAllowance < 0) {
+            throw new IllegalArgumentException("Clothing allowance cannot be negative");
+        }
+        this.clothingAllowance = Money.fromPesos(clothingAllowance);
+    }
+
+    public long getClothingAllowanceCentavos() {
+        return clothingAllowance;
+    }
+
+    public void setClothingAllowanceCentavos(long clothingAllowance) {
         if (clothingAllowance < 0) {
             throw new IllegalArgumentException("Clothing allowance cannot be negative");
         }
@@ -246,10 +365,21 @@ public class Payroll {
 
     // Deduction component getters and setters
     public double getLateDeduction() {
-        return lateDeduction;
+        return Money.toPesos(lateDeduction);
     }
 
     public void setLateDeduction(double lateDeduction) {
+        if (lateDeduction < 0) {
+            throw new IllegalArgumentException("Late deduction cannot be negative");
+        }
+        this.lateDeduction = Money.fromPesos(lateDeduction);
+    }
+
+    public long getLateDeductionCentavos() {
+        return lateDeduction;
+    }
+
+    public void setLateDeductionCentavos(long lateDeduction) {
         if (lateDeduction < 0) {
             throw new IllegalArgumentException("Late deduction cannot be negative");
         }
@@ -257,10 +387,21 @@ public class Payroll {
     }
 
     public double getUndertimeDeduction() {
-        return undertimeDeduction;
+        return Money.toPesos(undertimeDeduction);
     }
 
     public void setUndertimeDeduction(double undertimeDeduction) {
+        if (undertimeDeduction < 0) {
+            throw new IllegalArgumentException("Undertime deduction cannot be negative");
+        }
+        this.undertimeDeduction = Money.fromPesos(undertimeDeduction);
+    }
+
+    public long getUndertimeDeductionCentavos() {
+        return undertimeDeduction;
+    }
+
+    public void setUndertimeDeductionCentavos(long undertimeDeduction) {
         if (undertimeDeduction < 0) {
             throw new IllegalArgumentException("Undertime deduction cannot be negative");
         }
@@ -268,10 +409,21 @@ public class Payroll {
     }
 
     public double getUnpaidLeaveDeduction() {
-        return unpaidLeaveDeduction;
+        return Money.toPesos(unpaidLeaveDeduction);
     }
 
     public void setUnpaidLeaveDeduction(double unpaidLeaveDeduction) {
+        if (unpaidLeaveDeduction < 0) {
+            throw new IllegalArgumentException("Unpaid leave deduction cannot be negative");
+        }
+        this.unpaidLeaveDeduction = Money.fromPesos(unpaidLeaveDeduction);
+    }
+
+    public long getUnpaidLeaveDeductionCentavos() {
+        return unpaidLeaveDeduction;
+    }
+
+    public void setUnpaidLeaveDeductionCentavos(long unpaidLeaveDeduction) {
         if (unpaidLeaveDeduction < 0) {
             throw new IllegalArgumentException("Unpaid leave deduction cannot be negative");
         }
@@ -279,10 +431,21 @@ public class Payroll {
     }
 
     public double getSss() {
-        return sss;
+        return Money.toPesos(sss);
     }
 
     public void setSss(double sss) {
+        if (sss < 0) {
+            throw new IllegalArgumentException("SSS contribution cannot be negative");
+        }
+        this.sss = Money.fromPesos(sss);
+    }
+
+    public long getSssCentavos() {
+        return sss;
+    }
+
+    public void setSssCentavos(long sss) {
         if (sss < 0) {
             throw new IllegalArgumentException("SSS contribution cannot be negative");
         }
@@ -290,10 +453,21 @@ public class Payroll {
     }
 
     public double getPhilhealth() {
-        return philhealth;
+        return Money.toPesos(philhealth);
     }
 
     public void setPhilhealth(double philhealth) {
+        if (philhealth < 0) {
+            throw new IllegalArgumentException("PhilHealth contribution cannot be negative");
+        }
+        this.philhealth = Money.fromPesos(philhealth);
+    }
+
+    public long getPhilhealthCentavos() {
+        return philhealth;
+    }
+
+    public void setPhilhealthCentavos(long philhealth) {
         if (philhealth < 0) {
             throw new IllegalArgumentException("PhilHealth contribution cannot be negative");
         }
@@ -301,10 +475,21 @@ public class Payroll {
     }
 
     public double getPagibig() {
-        return pagibig;
+        return Money.toPesos(pagibig);
     }
 
     public void setPagibig(double pagibig) {
+        if (pagibig < 0) {
+            throw new IllegalArgumentException("Pag-IBIG contribution cannot be negative");
+        }
+        this.pagibig = Money.fromPesos(pagibig);
+    }
+
+    public long getPagibigCentavos() {
+        return pagibig;
+    }
+
+    public void setPagibigCentavos(long pagibig) {
         if (pagibig < 0) {
             throw new IllegalArgumentException("Pag-IBIG contribution cannot be negative");
         }
@@ -312,10 +497,21 @@ public class Payroll {
     }
 
     public double getTax() {
-        return tax;
+        return Money.toPesos(tax);
     }
 
     public void setTax(double tax) {
+        if (tax < 0) {
+            throw new IllegalArgumentException("Tax cannot be negative");
+        }
+        this.tax = Money.fromPesos(tax);
+    }
+
+    public long getTaxCentavos() {
+        return tax;
+    }
+
+    public void setTaxCentavos(long tax) {
         if (tax < 0) {
             throw new IllegalArgumentException("Tax cannot be negative");
         }
@@ -354,45 +550,59 @@ public class Payroll {
     // Enhanced calculation methods
     public void calculateBasicPay() {
         if (dailyRate > 0 && daysWorked >= 0) {
-            double basicPay = daysWorked * dailyRate;
+            long basicPay = Math.multiplyExact(dailyRate, daysWorked);
             this.grossEarnings = basicPay;
         }
     }
 
     public void calculateOvertimePay() {
         if (dailyRate > 0 && totalOvertimeHours > 0) {
-            double hourlyRate = dailyRate / 8.0; // 8 hours per day
-            this.overtimePay = totalOvertimeHours * hourlyRate * 1.25; // 125% of hourly rate
+            // 125% of hourly rate, rounded once
+            this.overtimePay = Money.round(dailyRate * totalOvertimeHours * 1.25 / STANDARD_HOURS_PER_DAY,
+                    Money.DEFAULT_ROUNDING);
         }
     }
 
     public void calculateGrossPay() {
         // Calculate gross pay as sum of all earnings
-        this.grossPay = grossEarnings + overtimePay + riceSubsidy + phoneAllowance + clothingAllowance;
+        this.grossPay = getTotalEarningsCentavos();
     }
 
     public void calculateTotalDeductions() {
-        this.totalDeductions = lateDeduction + undertimeDeduction + unpaidLeaveDeduction + 
-                              sss + philhealth + pagibig + tax;
+        this.totalDeductions = Math.addExact(Math.addExact(getTotalTimeDeductionsCentavos(),
+                getTotalGovernmentContributionsCentavos()), tax);
     }
 
     public void calculateNetPay() {
         calculateGrossPay();
         calculateTotalDeductions();
-        this.netPay = grossPay - totalDeductions;
+        this.netPay = Math.subtractExact(grossPay, totalDeductions);
     }
 
     // Utility methods for payroll processing
     public double getTotalEarnings() {
-        return grossEarnings + overtimePay + riceSubsidy + phoneAllowance + clothingAllowance;
+        return Money.toPesos(getTotalEarningsCentavos());
+    }
+
+    public long getTotalEarningsCentavos() {
+        return Math.addExact(Math.addExact(Math.addExact(Math.addExact(
+                grossEarnings, overtimePay), riceSubsidy), phoneAllowance), clothingAllowance);
     }
 
     public double getTotalGovernmentContributions() {
-        return sss + philhealth + pagibig;
+        return Money.toPesos(getTotalGovernmentContributionsCentavos());
+    }
+
+    public long getTotalGovernmentContributionsCentavos() {
+        return Math.addExact(Math.addExact(sss, philhealth), pagibig);
     }
 
     public double getTotalTimeDeductions() {
-        return lateDeduction + undertimeDeduction + unpaidLeaveDeduction;
+        return Money.toPesos(getTotalTimeDeductionsCentavos());
+    }
+
+    public long getTotalTimeDeductionsCentavos() {
+        return Math.addExact(Math.addExact(lateDeduction, undertimeDeduction), unpaidLeaveDeduction);
     }
 
     // Validation method
@@ -413,9 +623,9 @@ public class Payroll {
                 ", periodStart=" + periodStart +
                 ", periodEnd=" + periodEnd +
                 ", daysWorked=" + daysWorked +
-                ", grossPay=" + grossPay +
-                ", totalDeductions=" + totalDeductions +
-                ", netPay=" + netPay +
+                ", grossPay=" + Money.toString(grossPay) +
+                ", totalDeductions=" + Money.toString(totalDeductions) +
+                ", netPay=" + Money.toString(netPay) +
                 '}';
     }
 
@@ -426,13 +636,13 @@ public class Payroll {
                 "\n  employeeId=" + employeeId +
                 "\n  period=" + periodStart + " to " + periodEnd +
                 "\n  daysWorked=" + daysWorked +
-                "\n  dailyRate=" + dailyRate +
-                "\n  grossEarnings=" + grossEarnings +
-                "\n  overtimePay=" + overtimePay +
-                "\n  allowances=" + (riceSubsidy + phoneAllowance + clothingAllowance) +
-                "\n  grossPay=" + grossPay +
-                "\n  deductions=" + totalDeductions +
-                "\n  netPay=" + netPay +
+                "\n  dailyRate=" + Money.toString(dailyRate) +
+                "\n  grossEarnings=" + Money.toString(grossEarnings) +
+                "\n  overtimePay=" + Money.toString(overtimePay) +
+                "\n  allowances=" + Money.toString(riceSubsidy + phoneAllowance + clothingAllowance) +
+                "\n  grossPay=" + Money.toString(grossPay) +
+                "\n  deductions=" + Money.toString(totalDeductions) +
+                "\n  netPay=" + Money.toString(netPay) +
                 "\n}";
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Immutable snapshot of everything a payroll calculation reads for one
+ * employee and period. Loaded once, then shared by every calculation step.
+ * @author rejoice
+ */
+public class PayrollInputs {
+    private final Employee employee;
+    private final Position position;
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final List<Attendance> attendance;
+    private final List<Overtime> overtime;
+    private final List<LeaveRequest> approvedLeaves;
+    private final CompensationDetails compensation;
+    private final GovernmentContributions governmentContributions;
+    private final AttendanceSummary attendanceSummary;
+    private final OvertimeSummary overtimeSummary;
+
+    public PayrollInputs(Employee employee, Position position, LocalDate periodStart, LocalDate periodEnd,
+                         List<Attendance> attendance, List<Overtime> overtime, List<LeaveRequest> approvedLeaves,
+                         CompensationDetails compensation, GovernmentContributions governmentContributions) {
+        this(employee, position, periodStart, periodEnd, attendance, overtime, approvedLeaves,
+                compensation, governmentContributions, null);
+    }
+
+    /**
+     * Snapshot with attendance totals counted by the database; the
+     * attendance records may then be left out
+     */
+    public PayrollInputs(Employee employee, Position position, LocalDate periodStart, LocalDate periodEnd,
+                         List<Attendance> attendance, List<Overtime> overtime, List<LeaveRequest> approvedLeaves,
+                         CompensationDetails compensation, GovernmentContributions governmentContributions,
+                         AttendanceSummary attendanceSummary) {
+        this(employee, position, periodStart, periodEnd, attendance, overtime, approvedLeaves,
+                compensation, governmentContributions, attendanceSummary, null);
+    }
+
+    /**
+     * Snapshot with attendance and overtime totals counted by the
+     * database; the attendance and overtime records may then be left out
+     */
+    public PayrollInputs(Employee employee, Position position, LocalDate periodStart, LocalDate periodEnd,
+                         List<Attendance> attendance, List<Overtime> overtime, List<LeaveRequest> approvedLeaves,
+                         CompensationDetails compensation, GovernmentContributions governmentContributions,
+                         AttendanceSummary attendanceSummary, OvertimeSummary overtimeSummary) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        this.employee = employee;
+        this.position = position;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.attendance = attendance != null ? List.copyOf(attendance) : List.of();
+        this.overtime = overtime != null ? List.copyOf(overtime) : List.of();
+        this.approvedLeaves = approvedLeaves != null ? List.copyOf(approvedLeaves) : List.of();
+        this.compensation = compensation;
+        this.governmentContributions = governmentContributions;
+        this.attendanceSummary = attendanceSummary;
+        this.overtimeSummary = overtimeSummary;
+    }
+
+    public int getEmployeeId() {
+        return employee.getEmployeeId();
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    /**
+     * @return Position of the employee, or null if it does not exist
+     */
+    public Position getPosition() {
+        return position;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    public List<Attendance> getAttendance() {
+        return attendance;
+    }
+
+    public List<Overtime> getOvertime() {
+        return overtime;
+    }
+
+    public List<LeaveRequest> getApprovedLeaves() {
+        return approvedLeaves;
+    }
+
+    /**
+     * @return Compensation details, or null if none are on file
+     */
+    public CompensationDetails getCompensation() {
+        return compensation;
+    }
+
+    /**
+     * @return Government contributions, or null if none are on file
+     */
+    public GovernmentContributions getGovernmentContributions() {
+        return governmentContributions;
+    }
+
+    /**
+     * @return Attendance totals loaded with the snapshot, or null if only
+     *         the attendance records were loaded
+     */
+    public AttendanceSummary getAttendanceSummary() {
+        return attendanceSummary;
+    }
+
+    /**
+     * @return Overtime totals loaded with the snapshot, or null if only
+     *         the overtime records were loaded
+     */
+    public OvertimeSummary getOvertimeSummary() {
+        return overtimeSummary;
+    }
+
+    /**
+     * @return Copy of this snapshot with a different position, for what-if scenarios
+     */
+    public PayrollInputs withPosition(Position position) {
+        return new PayrollInputs(employee, position, periodStart, periodEnd,
+                attendance, overtime, approvedLeaves, compensation, governmentContributions, attendanceSummary,
+                overtimeSummary);
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollInputs{" +
+                "employeeId=" + getEmployeeId() +
+                ", period=" + periodStart + " to " + periodEnd +
+                ", attendance=" + attendance.size() +
+                ", overtime=" + overtime.size() +
+                ", approvedLeaves=" + approvedLeaves.size() +
+                ", hasCompensation=" + (compensation != null) +
+                ", hasGovernmentContributions=" + (governmentContributions != null) +
+                '}';
+    }
+}
@@ -1,13 +1,598 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
- */
 package reports;
 
+import model.Employee;
+import model.Payroll;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
 /**
+ * Payslip layout compiled once and rendered for any number of payrolls.
+ * A template is plain text with fields written as {@code {{net_pay}}}, or
+ * {@code {{net_pay:12}}} to pad the value to 12 characters, right-aligned,
+ * and {@code {{last_name:-20}}} to left-align it. Compiling splits the
+ * text into UTF-8 literal segments and field slots, so rendering copies
+ * the segments and writes each value's digits straight into a reused
+ * {@link Buffer}; no strings are built per field.
+ * <p>
+ * Amounts are written as pesos with two decimals, hours with two
+ * decimals and dates as {@code yyyy-MM-dd}. Employee fields are left
+ * blank when no employee is given.
  *
  * @author rejoice
  */
-public class PayslipTemplate {
-    
+public final class PayslipTemplate {
+
+    private static final Logger LOGGER = Logger.getLogger(PayslipTemplate.class.getName());
+
+    // Payslips rendered per task when rendering many at once
+    private static final int PAYSLIPS_PER_TASK = 256;
+
+    // Printed between payslips in an archive, so each starts on a new page
+    private static final byte[] PAGE_BREAK = {'\f'};
+
+    /**
+     * Values a template can show, by the name used between the braces
+     */
+    public enum Field {
+        PAYROLL_ID("payroll_id"),
+        EMPLOYEE_ID("employee_id"),
+        FIRST_NAME("first_name"),
+        LAST_NAME("last_name"),
+        SSS_NUMBER("sss_number"),
+        PHILHEALTH_NUMBER("philhealth_number"),
+        PAGIBIG_NUMBER("pagibig_number"),
+        TIN_NUMBER("tin_number"),
+        PERIOD_START("period_start"),
+        PERIOD_END("period_end"),
+        MONTHLY_RATE("monthly_rate"),
+        DAILY_RATE("daily_rate"),
+        DAYS_WORKED("days_worked"),
+        OVERTIME_HOURS("overtime_hours"),
+        GROSS_EARNINGS("gross_earnings"),
+        OVERTIME_PAY("overtime_pay"),
+        RICE_SUBSIDY("rice_subsidy"),
+        PHONE_ALLOWANCE("phone_allowance"),
+        CLOTHING_ALLOWANCE("clothing_allowance"),
+        TOTAL_ALLOWANCES("total_allowances"),
+        GROSS_PAY("gross_pay"),
+        LATE_DEDUCTION("late_deduction"),
+        UNDERTIME_DEDUCTION("undertime_deduction"),
+        UNPAID_LEAVE_COUNT("unpaid_leave_count"),
+        UNPAID_LEAVE_DEDUCTION("unpaid_leave_deduction"),
+        SSS("sss"),
+        PHILHEALTH("philhealth"),
+        PAGIBIG("pagibig"),
+        TAX("tax"),
+        TOTAL_DEDUCTIONS("total_deductions"),
+        NET_PAY("net_pay");
+
+        private static final Map<String, Field> BY_NAME = new HashMap<>();
+
+        static {
+            for (Field field : values()) {
+                BY_NAME.put(field.fieldName, field);
+            }
+        }
+
+        private final String fieldName;
+
+        Field(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * @return The field with the given template name, or null if there is none
+         */
+        public static Field forName(String fieldName) {
+            return BY_NAME.get(fieldName);
+        }
+    }
+
+    // literals[i] comes before fields[i]; the last literal ends the payslip
+    private final byte[][] literals;
+    private final Field[] fields;
+    private final int[] widths;
+    private final int literalBytes;
+
+    private PayslipTemplate(byte[][] literals, Field[] fields, int[] widths) {
+        this.literals = literals;
+        this.fields = fields;
+        this.widths = widths;
+        int bytes = 0;
+        for (byte[] literal : literals) {
+            bytes += literal.length;
+        }
+        this.literalBytes = bytes;
+    }
+
+    /**
+     * Compile a template
+     *
+     * @param template Payslip text with {@code {{field}}} or {@code {{field:width}}} placeholders
+     * @return The compiled template
+     * @throws IllegalArgumentException if a placeholder is unclosed, unknown or has a bad width
+     */
+    public static PayslipTemplate compile(String template) {
+        if (template == null) {
+            throw new IllegalArgumentException("Template cannot be null");
+        }
+        List<byte[]> literals = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        List<Integer> widths = new ArrayList<>();
+
+        int pos = 0;
+        while (true) {
+            int open = template.indexOf("{{", pos);
+            if (open < 0) {
+                literals.add(template.substring(pos).getBytes(StandardCharsets.UTF_8));
+                break;
+            }
+            int close = template.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            literals.add(template.substring(pos, open).getBytes(StandardCharsets.UTF_8));
+
+            String placeholder = template.substring(open + 2, close).trim();
+            int width = 0;
+            int colon = placeholder.indexOf(':');
+            if (colon >= 0) {
+                try {
+                    width = Integer.parseInt(placeholder.substring(colon + 1).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid width in placeholder {{" + placeholder + "}}");
+                }
+                placeholder = placeholder.substring(0, colon).trim();
+            }
+            Field field = Field.forName(placeholder);
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown field {{" + placeholder + "}} at offset " + open);
+            }
+            fields.add(field);
+            widths.add(width);
+            pos = close + 2;
+        }
+
+        return new PayslipTemplate(literals.toArray(new byte[0][]), fields.toArray(new Field[0]),
+                widths.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Compile a UTF-8 template file
+     *
+     * @throws IOException if the file cannot be read
+     */
+    public static PayslipTemplate load(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        return compile(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Render one payslip at the end of a buffer
+     *
+     * @param payroll Payroll shown on the payslip
+     * @param employee Employee paid, or null to leave employee fields blank
+     * @param out Buffer the payslip is appended to
+     */
+    public void render(Payroll payroll, Employee employee, Buffer out) {
+        if (payroll == null || out == null) {
+            throw new IllegalArgumentException("Payroll and buffer cannot be null");
+        }
+        out.ensureCapacity(literalBytes + fields.length * 16);
+        for (int i = 0; i < fields.length; i++) {
+            out.write(literals[i]);
+            int start = out.count;
+            writeField(fields[i], payroll, employee, out);
+            if (widths[i] != 0) {
+                out.pad(start, widths[i]);
+            }
+        }
+        out.write(literals[fields.length]);
+    }
+
+    /**
+     * Render one payslip into a new array
+     */
+    public byte[] render(Payroll payroll, Employee employee) {
+        Buffer out = new Buffer();
+        render(payroll, employee, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Render the payslips of many payrolls in parallel, one file each, named
+     * {@code payslip_<employee ID>_<period start>_<period end><suffix>}
+     *
+     * @param payrolls Payrolls to render, e.g. those of a payroll period
+     * @param employees Employees by ID; payrolls of missing employees are rendered without employee fields
+     * @param directory Directory the files are written to; created if missing
+     * @param suffix File name suffix such as {@code .txt}
+     * @return Payslips written
+     * @throws IOException if a file cannot be written
+     */
+    public int renderToFiles(Collection<Payroll> payrolls, Map<Integer, Employee> employees, Path directory,
+                             String suffix) throws IOException {
+        if (payrolls == null || employees == null || directory == null || suffix == null) {
+            throw new IllegalArgumentException("Payrolls, employees, directory and suffix cannot be null");
+        }
+        long startNanos = System.nanoTime();
+        Files.createDirectories(directory);
+        List<List<Payroll>> tasks = split(payrolls);
+
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), Math.max(tasks.size(), 1));
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<Void>> futures = new ArrayList<>(tasks.size());
+            for (List<Payroll> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    Buffer out = new Buffer();
+                    for (Payroll payroll : task) {
+                        out.reset();
+                        render(payroll, employees.get(payroll.getEmployeeId()), out);
+                        Path file = directory.resolve(fileName(payroll, suffix));
+                        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                            out.writeTo(channel);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                await(future);
+            }
+        }
+
+        LOGGER.info(String.format("Rendered %d payslips to %s in %d ms", payrolls.size(), directory,
+                (System.nanoTime() - startNanos) / 1_000_000));
+        return payrolls.size();
+    }
+
+    /**
+     * Render the payslips of many payrolls in parallel into one file, in
+     * the order given and separated by page breaks; gzip-compressed if the
+     * file name ends with {@code .gz}
+     *
+     * @param payrolls Payrolls to render, e.g. those of a payroll period
+     * @param employees Employees by ID; payrolls of missing employees are rendered without employee fields
+     * @param file File to write; replaced if it exists
+     * @return Bytes of payslips written, before any compression
+     * @throws IOException if the file cannot be written
+     */
+    public long renderArchive(Collection<Payroll> payrolls, Map<Integer, Employee> employees, Path file)
+            throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        boolean gzip = file.getFileName().toString().endsWith(".gz");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (!gzip) {
+                return renderArchive(payrolls, employees, channel);
+            }
+            try (GZIPOutputStream out = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024)) {
+                return renderArchive(payrolls, employees, out);
+            }
+        }
+    }
+
+    /**
+     * Render the payslips of many payrolls into a stream, which is left open
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    public long renderArchive(Collection<Payroll> payrolls, Map<Integer, Employee> employees, OutputStream out)
+            throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        long bytes = renderArchive(payrolls, employees, Channels.newChannel(out));
+        out.flush();
+        return bytes;
+    }
+
+    /**
+     * Render the payslips of many payrolls into a channel, which is left
+     * open. Tasks render ahead of the writer by at most two per thread, so
+     * memory use does not grow with the number of payslips.
+     *
+     * @throws IOException if the channel cannot be written
+     */
+    public long renderArchive(Collection<Payroll> payrolls, Map<Integer, Employee> employees,
+                              WritableByteChannel channel) throws IOException {
+        if (payrolls == null || employees == null || channel == null) {
+            throw new IllegalArgumentException("Payrolls, employees and channel cannot be null");
+        }
+        long startNanos = System.nanoTime();
+        List<List<Payroll>> tasks = split(payrolls);
+
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), Math.max(tasks.size(), 1));
+        long bytes = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            ArrayDeque<Future<Buffer>> pending = new ArrayDeque<>();
+            int next = 0;
+            while (next < tasks.size() || !pending.isEmpty()) {
+                while (next < tasks.size() && pending.size() < threads * 2) {
+                    List<Payroll> task = tasks.get(next);
+                    boolean first = next == 0;
+                    pending.add(executor.submit(() -> {
+                        Buffer out = new Buffer();
+                        for (int i = 0; i < task.size(); i++) {
+                            if (!first || i > 0) {
+                                out.write(PAGE_BREAK);
+                            }
+                            Payroll payroll = task.get(i);
+                            render(payroll, employees.get(payroll.getEmployeeId()), out);
+                        }
+                        return out;
+                    }));
+                    next++;
+                }
+                Buffer out = await(pending.poll());
+                bytes += out.size();
+                out.writeTo(channel);
+            }
+        }
+
+        LOGGER.info(String.format("Rendered %d payslips (%d bytes) in %d ms", payrolls.size(), bytes,
+                (System.nanoTime() - startNanos) / 1_000_000));
+        return bytes;
+    }
+
+    /**
+     * @return Fields shown by the template, in order of appearance
+     */
+    public List<Field> getFields() {
+        return List.of(fields);
+    }
+
+    private static String fileName(Payroll payroll, String suffix) {
+        return "payslip_" + payroll.getEmployeeId() + "_" + payroll.getPeriodStart() + "_"
+                + payroll.getPeriodEnd() + suffix;
+    }
+
+    private static List<List<Payroll>> split(Collection<Payroll> payrolls) {
+        List<Payroll> all = payrolls instanceof List<Payroll> list ? list : new ArrayList<>(payrolls);
+        List<List<Payroll>> tasks = new ArrayList<>(all.size() / PAYSLIPS_PER_TASK + 1);
+        for (int from = 0; from < all.size(); from += PAYSLIPS_PER_TASK) {
+            tasks.add(all.subList(from, Math.min(from + PAYSLIPS_PER_TASK, all.size())));
+        }
+        return tasks;
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException("Failed to render payslips: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Payslip rendering interrupted");
+        }
+    }
+
+    private static void writeField(Field field, Payroll p, Employee e, Buffer out) {
+        switch (field) {
+            case PAYROLL_ID -> out.writeLong(p.getPayrollId());
+            case EMPLOYEE_ID -> out.writeLong(p.getEmployeeId());
+            case FIRST_NAME -> out.writeText(e != null ? e.getFirstName() : null);
+            case LAST_NAME -> out.writeText(e != null ? e.getLastName() : null);
+            case SSS_NUMBER -> out.writeText(e != null ? e.getSssNumber() : null);
+            case PHILHEALTH_NUMBER -> out.writeText(e != null ? e.getPhilhealthNumber() : null);
+            case PAGIBIG_NUMBER -> out.writeText(e != null ? e.getPagibigNumber() : null);
+            case TIN_NUMBER -> out.writeText(e != null ? e.getTinNumber() : null);
+            case PERIOD_START -> out.writeDate(p.getPeriodStart() != null ? p.getPeriodStart().toLocalDate() : null);
+            case PERIOD_END -> out.writeDate(p.getPeriodEnd() != null ? p.getPeriodEnd().toLocalDate() : null);
+            case MONTHLY_RATE -> out.writeHundredths(p.getMonthlyRateCentavos());
+            case DAILY_RATE -> out.writeHundredths(p.getDailyRateCentavos());
+            case DAYS_WORKED -> out.writeLong(p.getDaysWorked());
+            case OVERTIME_HOURS -> out.writeHundredths(Math.round(p.getOvertimeHours() * 100));
+            case GROSS_EARNINGS -> out.writeHundredths(p.getGrossEarningsCentavos());
+            case OVERTIME_PAY -> out.writeHundredths(p.getOvertimePayCentavos());
+            case RICE_SUBSIDY -> out.writeHundredths(p.getRiceSubsidyCentavos());
+            case PHONE_ALLOWANCE -> out.writeHundredths(p.getPhoneAllowanceCentavos());
+            case CLOTHING_ALLOWANCE -> out.writeHundredths(p.getClothingAllowanceCentavos());
+            case TOTAL_ALLOWANCES -> out.writeHundredths(p.getRiceSubsidyCentavos()
+                    + p.getPhoneAllowanceCentavos() + p.getClothingAllowanceCentavos());
+            case GROSS_PAY -> out.writeHundredths(p.getGrossPayCentavos());
+            case LATE_DEDUCTION -> out.writeHundredths(p.getLateDeductionCentavos());
+            case UNDERTIME_DEDUCTION -> out.writeHundredths(p.getUndertimeDeductionCentavos());
+            case UNPAID_LEAVE_COUNT -> out.writeLong(p.getUnpaidLeaveCount());
+            case UNPAID_LEAVE_DEDUCTION -> out.writeHundredths(p.getUnpaidLeaveDeductionCentavos());
+            case SSS -> out.writeHundredths(p.getSssCentavos());
+            case PHILHEALTH -> out.writeHundredths(p.getPhilhealthCentavos());
+            case PAGIBIG -> out.writeHundredths(p.getPagibigCentavos());
+            case TAX -> out.writeHundredths(p.getTaxCentavos());
+            case TOTAL_DEDUCTIONS -> out.writeHundredths(p.getTotalDeductionsCentavos());
+            case NET_PAY -> out.writeHundredths(p.getNetPayCentavos());
+        }
+    }
+
+    /**
+     * Growable byte array payslips are rendered into. Reuse one per
+     * thread with {@link #reset}; it is not safe for concurrent use.
+     */
+    public static final class Buffer {
+        private byte[] bytes;
+        private int count;
+        // Digits of a number, written backwards
+        private final byte[] digits = new byte[20];
+
+        public Buffer() {
+            this(4096);
+        }
+
+        public Buffer(int initialCapacity) {
+            if (initialCapacity <= 0) {
+                throw new IllegalArgumentException("Initial capacity must be positive");
+            }
+            this.bytes = new byte[initialCapacity];
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public void reset() {
+            count = 0;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(bytes, count);
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, 0, count);
+        }
+
+        public void writeTo(WritableByteChannel channel) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, count);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        void ensureCapacity(int extra) {
+            if (count + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, count + extra));
+            }
+        }
+
+        void write(byte[] literal) {
+            ensureCapacity(literal.length);
+            System.arraycopy(literal, 0, bytes, count, literal.length);
+            count += literal.length;
+        }
+
+        void writeLong(long value) {
+            ensureCapacity(20);
+            if (value < 0) {
+                bytes[count++] = '-';
+                value = -value;
+            }
+            int n = 0;
+            do {
+                digits[n++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            while (n > 0) {
+                bytes[count++] = digits[--n];
+            }
+        }
+
+        /**
+         * A count of hundredths, such as centavos, written with two decimals
+         */
+        void writeHundredths(long value) {
+            if (value < 0) {
+                ensureCapacity(1);
+                bytes[count++] = '-';
+                value = -value;
+            }
+            writeLong(value / 100);
+            ensureCapacity(3);
+            long fraction = value % 100;
+            bytes[count++] = '.';
+            bytes[count++] = (byte) ('0' + fraction / 10);
+            bytes[count++] = (byte) ('0' + fraction % 10);
+        }
+
+        void writeDate(LocalDate date) {
+            if (date == null) {
+                return;
+            }
+            writeLong(date.getYear());
+            ensureCapacity(6);
+            bytes[count++] = '-';
+            writeTwoDigits(date.getMonthValue());
+            bytes[count++] = '-';
+            writeTwoDigits(date.getDayOfMonth());
+        }
+
+        void writeText(String text) {
+            if (text == null) {
+                return;
+            }
+            int length = text.length();
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    // Not plain ASCII: encode the rest properly
+                    write(text.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                bytes[count++] = (byte) c;
+            }
+        }
+
+        /**
+         * Pad the value written since {@code start} with spaces to the
+         * given width in characters: right-aligned if positive, left-aligned
+         * if negative
+         */
+        void pad(int start, int width) {
+            int length = count - start;
+            int characters = 0;
+            for (int i = start; i < count; i++) {
+                // Count every byte but UTF-8 continuation bytes
+                if ((bytes[i] & 0xC0) != 0x80) {
+                    characters++;
+                }
+            }
+            int padding = Math.abs(width) - characters;
+            if (padding <= 0) {
+                return;
+            }
+            ensureCapacity(padding);
+            if (width > 0) {
+                System.arraycopy(bytes, start, bytes, start + padding, length);
+                Arrays.fill(bytes, start, start + padding, (byte) ' ');
+            } else {
+                Arrays.fill(bytes, count, count + padding, (byte) ' ');
+            }
+            count += padding;
+        }
+
+        private void writeTwoDigits(int value) {
+            bytes[count++] = (byte) ('0' + value / 10);
+            bytes[count++] = (byte) ('0' + value % 10);
+        }
+    }
 }
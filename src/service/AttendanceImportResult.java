@@ -0,0 +1,105 @@
+package service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of an {@link AttendanceImporter} run
+ *
+ * @author rejoice
+ */
+public class AttendanceImportResult {
+
+    private final long linesRead;
+    private final int punchesRead;
+    private final long malformedLines;
+    private final List<Long> firstMalformedLineNumbers;
+    private final int recordsBuilt;
+    private final int unknownEmployeeRecords;
+    private final List<Integer> firstUnknownEmployeeIds;
+    private final int recordsInserted;
+    private final long elapsedNanos;
+
+    AttendanceImportResult(long linesRead, int punchesRead, long malformedLines, List<Long> firstMalformedLineNumbers,
+                           int recordsBuilt, int unknownEmployeeRecords, List<Integer> firstUnknownEmployeeIds,
+                           int recordsInserted, long elapsedNanos) {
+        this.linesRead = linesRead;
+        this.punchesRead = punchesRead;
+        this.malformedLines = malformedLines;
+        this.firstMalformedLineNumbers = List.copyOf(firstMalformedLineNumbers);
+        this.recordsBuilt = recordsBuilt;
+        this.unknownEmployeeRecords = unknownEmployeeRecords;
+        this.firstUnknownEmployeeIds = List.copyOf(firstUnknownEmployeeIds);
+        this.recordsInserted = recordsInserted;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    public int getPunchesRead() {
+        return punchesRead;
+    }
+
+    /**
+     * @return Lines skipped because they could not be parsed, not counting a header
+     */
+    public long getMalformedLines() {
+        return malformedLines;
+    }
+
+    /**
+     * @return Line numbers of the first malformed lines, for fixing the log
+     */
+    public List<Long> getFirstMalformedLineNumbers() {
+        return firstMalformedLineNumbers;
+    }
+
+    /**
+     * @return Attendance records paired from the punches, one per employee and day
+     */
+    public int getRecordsBuilt() {
+        return recordsBuilt;
+    }
+
+    /**
+     * @return Records not stored because their employee ID is not on file
+     */
+    public int getUnknownEmployeeRecords() {
+        return unknownEmployeeRecords;
+    }
+
+    /**
+     * @return The first employee IDs that are not on file, in ID order
+     */
+    public List<Integer> getFirstUnknownEmployeeIds() {
+        return firstUnknownEmployeeIds;
+    }
+
+    /**
+     * @return Records stored
+     */
+    public int getRecordsInserted() {
+        return recordsInserted;
+    }
+
+    /**
+     * @return Records skipped because their day was already recorded
+     */
+    public int getDuplicatesSkipped() {
+        return recordsBuilt - unknownEmployeeRecords - recordsInserted;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AttendanceImportResult{lines=%d, punches=%d, malformed=%d, records=%d, " +
+                "unknownEmployee=%d, inserted=%d, duplicates=%d, elapsed=%d ms}", linesRead, punchesRead,
+                malformedLines, recordsBuilt, unknownEmployeeRecords, recordsInserted, getDuplicatesSkipped(),
+                elapsedNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,436 @@
+package service;
+
+import dao.AttendanceDAO;
+import dao.EmployeeDAO;
+import dao.JdbcAttendanceDAO;
+import dao.JdbcEmployeeDAO;
+import model.Attendance;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Bulk import of raw punch logs exported by the time clocks. The file is
+ * memory-mapped and parsed byte by byte, with every punch packed into a
+ * single {@code long}; nothing is allocated per line. The punches are then
+ * sorted, so the punches of one employee and day are adjacent, and the
+ * first and last of each day become its login and logout. Days that
+ * already have an attendance record are skipped, so importing the same
+ * log twice is harmless. Punches of employee IDs that are not on file are
+ * not stored, but counted and reported by ID.
+ * <p>
+ * Lines that cannot be parsed are counted and skipped; a first line that
+ * cannot be parsed is taken to be a header. Punches dated before 1970 or
+ * after 2149-06-06 count as lines that cannot be parsed.
+ *
+ * @author rejoice
+ */
+public class AttendanceImporter {
+
+    private static final Logger LOGGER = Logger.getLogger(AttendanceImporter.class.getName());
+
+    /**
+     * Layout of a punch log
+     */
+    public enum Format {
+        /**
+         * {@code employee_id,yyyy-MM-dd,HH:mm[:ss]}, with any further
+         * fields, such as the device, ignored; dates may use {@code /}
+         */
+        CSV,
+        /**
+         * Columns 1-8 employee ID, padded with spaces or zeros; 9-16 date
+         * as {@code yyyyMMdd}; 17-22 time as {@code HHmmss}; the rest of
+         * the line is ignored
+         */
+        FIXED_WIDTH
+    }
+
+    // Records handed to the DAO per call; each call is its own transaction
+    private static final int RECORDS_PER_COMMIT = 10_000;
+    // Bytes mapped at a time, so files of any size can be read
+    private static final long DEFAULT_WINDOW_SIZE = 64L << 20;
+
+    // Punch packing, below the sign bit so punches sort as signed longs:
+    // employee ID in 30 bits (IDs have at most 9 digits), then the epoch
+    // day in 16 bits, up to 2149-06-06, and the second of the day in 17 bits
+    private static final int DAY_SHIFT = 17;
+    private static final int DAY_BITS = 16;
+    private static final long SECOND_MASK = (1L << DAY_SHIFT) - 1;
+    private static final int MAX_EPOCH_DAY = (1 << DAY_BITS) - 1;
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    // Unknown employee IDs listed in a result; the rest are only counted
+    private static final int MAX_REPORTED_EMPLOYEES = 100;
+
+    private final AttendanceDAO attendanceDAO;
+    private final EmployeeDAO employeeDAO;
+    private final long windowSize;
+
+    public AttendanceImporter() {
+        this(new JdbcAttendanceDAO(), new JdbcEmployeeDAO());
+    }
+
+    /**
+     * @param attendanceDAO DAO the attendance records are stored with
+     * @param employeeDAO DAO the employee IDs of the log are checked against
+     */
+    public AttendanceImporter(AttendanceDAO attendanceDAO, EmployeeDAO employeeDAO) {
+        this(attendanceDAO, employeeDAO, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize Bytes of the file mapped at a time; a line must fit in one window
+     */
+    AttendanceImporter(AttendanceDAO attendanceDAO, EmployeeDAO employeeDAO, long windowSize) {
+        if (attendanceDAO == null || employeeDAO == null) {
+            throw new IllegalArgumentException("Attendance and employee DAOs cannot be null");
+        }
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window size must be positive and fit in an int");
+        }
+        this.attendanceDAO = attendanceDAO;
+        this.employeeDAO = employeeDAO;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Import a punch log
+     *
+     * @param file Punch log exported by a time clock
+     * @param format Layout of the log
+     * @return Counts of what was read, skipped and stored
+     * @throws IOException if the file cannot be read
+     */
+    public AttendanceImportResult importFile(Path file, Format format) throws IOException {
+        if (file == null || format == null) {
+            throw new IllegalArgumentException("File and format cannot be null");
+        }
+        long startNanos = System.nanoTime();
+
+        PunchParser parser = new PunchParser(format);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(windowSize, size - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                boolean last = position + length == size;
+                int consumed = parser.parse(window, (int) length, last);
+                if (consumed == 0) {
+                    throw new IOException("Line longer than " + windowSize + " bytes at offset " + position);
+                }
+                position += consumed;
+            }
+        }
+
+        long[] punches = parser.punches;
+        int punchCount = parser.punchCount;
+        Arrays.parallelSort(punches, 0, punchCount);
+        Set<Integer> knownEmployees = employeeDAO.getExistingEmployeeIds(employeeIds(punches, punchCount));
+
+        int recordCount = 0;
+        int unknownRecordCount = 0;
+        List<Integer> unknownEmployees = new ArrayList<>();
+        int lastUnknownEmployee = 0;
+        int inserted = 0;
+        List<Attendance> pending = new ArrayList<>(Math.min(RECORDS_PER_COMMIT, punchCount));
+        int i = 0;
+        while (i < punchCount) {
+            long day = punches[i] >>> DAY_SHIFT;
+            int first = (int) (punches[i] & SECOND_MASK);
+            while (i + 1 < punchCount && punches[i + 1] >>> DAY_SHIFT == day) {
+                i++;
+            }
+            int last = (int) (punches[i] & SECOND_MASK);
+            i++;
+
+            recordCount++;
+            int employeeId = (int) (day >>> DAY_BITS);
+            if (!knownEmployees.contains(employeeId)) {
+                unknownRecordCount++;
+                // Days are sorted by employee, so each unknown ID is listed once
+                if (employeeId != lastUnknownEmployee && unknownEmployees.size() < MAX_REPORTED_EMPLOYEES) {
+                    unknownEmployees.add(employeeId);
+                }
+                lastUnknownEmployee = employeeId;
+                continue;
+            }
+            pending.add(toAttendance(day, first, last));
+            if (pending.size() == RECORDS_PER_COMMIT) {
+                inserted += attendanceDAO.insertAttendanceIgnoringDuplicates(pending);
+                pending.clear();
+            }
+        }
+        if (!pending.isEmpty()) {
+            inserted += attendanceDAO.insertAttendanceIgnoringDuplicates(pending);
+        }
+
+        AttendanceImportResult result = new AttendanceImportResult(parser.lineCount, punchCount,
+                parser.malformedCount, parser.firstMalformedLines, recordCount, unknownRecordCount,
+                unknownEmployees, inserted, System.nanoTime() - startNanos);
+        LOGGER.info(String.format("Imported %s: %s", file.getFileName(), result));
+        if (unknownRecordCount > 0) {
+            LOGGER.warning(String.format("Skipped %d attendance records of unknown employees, starting with %s",
+                    unknownRecordCount, unknownEmployees));
+        }
+        return result;
+    }
+
+    /**
+     * Distinct employee IDs of sorted punches
+     */
+    private static List<Integer> employeeIds(long[] punches, int punchCount) {
+        List<Integer> ids = new ArrayList<>();
+        int previous = 0;
+        for (int i = 0; i < punchCount; i++) {
+            int employeeId = (int) (punches[i] >>> (DAY_SHIFT + DAY_BITS));
+            if (employeeId != previous) {
+                ids.add(employeeId);
+                previous = employeeId;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * One attendance record from the first and last punch of an employee's
+     * day; a day with a single punch has no logout
+     */
+    private static Attendance toAttendance(long day, int firstSecond, int lastSecond) {
+        int employeeId = (int) (day >>> DAY_BITS);
+        int epochDay = (int) (day & MAX_EPOCH_DAY);
+        return new Attendance(employeeId, Date.valueOf(LocalDate.ofEpochDay(epochDay)),
+                Time.valueOf(LocalTime.ofSecondOfDay(firstSecond)),
+                lastSecond != firstSecond ? Time.valueOf(LocalTime.ofSecondOfDay(lastSecond)) : null);
+    }
+
+    /**
+     * Days since 1970-01-01 of a calendar date, or -1 if the date does not exist
+     */
+    static int epochDay(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1) {
+            return -1;
+        }
+        boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+        int monthLength = month == 2 && leap ? 29 : DAYS_IN_MONTH[month - 1];
+        if (day > monthLength) {
+            return -1;
+        }
+        // Days from civil, counting years from March so the leap day comes last
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * Parses mapped windows of a punch log into packed punches. Fields are
+     * read straight from the buffer into ints.
+     */
+    private static final class PunchParser {
+        private static final int MAX_REPORTED_LINES = 100;
+
+        private final Format format;
+        private long[] punches = new long[1 << 16];
+        private int punchCount;
+        private long lineCount;
+        private long malformedCount;
+        private final List<Long> firstMalformedLines = new ArrayList<>();
+
+        // Cursor over the line being parsed
+        private MappedByteBuffer buffer;
+        private int pos;
+        private int end;
+
+        PunchParser(Format format) {
+            this.format = format;
+        }
+
+        /**
+         * Parse the complete lines of a window
+         *
+         * @param window Mapped bytes
+         * @param length Bytes in the window
+         * @param last Whether the window ends the file, so its last line may lack a newline
+         * @return Bytes consumed, up to and including the last newline
+         */
+        int parse(MappedByteBuffer window, int length, boolean last) {
+            buffer = window;
+            int lineStart = 0;
+            while (lineStart < length) {
+                int newline = lineStart;
+                while (newline < length && buffer.get(newline) != '\n') {
+                    newline++;
+                }
+                if (newline == length && !last) {
+                    break;
+                }
+                int lineEnd = newline > lineStart && buffer.get(newline - 1) == '\r' ? newline - 1 : newline;
+                parseLine(lineStart, lineEnd);
+                lineStart = newline + 1;
+            }
+            return Math.min(lineStart, length);
+        }
+
+        private void parseLine(int lineStart, int lineEnd) {
+            lineCount++;
+            if (lineStart == lineEnd) {
+                return;
+            }
+            pos = lineStart;
+            end = lineEnd;
+            long punch = format == Format.CSV ? parseCsv() : parseFixedWidth();
+            if (punch >= 0) {
+                if (punchCount == punches.length) {
+                    punches = Arrays.copyOf(punches, punches.length * 2);
+                }
+                punches[punchCount++] = punch;
+            } else if (lineCount > 1 || punchCount > 0) {
+                malformedCount++;
+                if (firstMalformedLines.size() < MAX_REPORTED_LINES) {
+                    firstMalformedLines.add(lineCount);
+                }
+            }
+        }
+
+        private long parseCsv() {
+            skipSpaces();
+            int employeeId = readNumber(9);
+            if (!expect(',')) {
+                return -1;
+            }
+            skipSpaces();
+            int year = readDigits(4);
+            if (!expectDateSeparator()) {
+                return -1;
+            }
+            int month = readDigits(2);
+            if (!expectDateSeparator()) {
+                return -1;
+            }
+            int day = readDigits(2);
+            if (!expect(',')) {
+                return -1;
+            }
+            skipSpaces();
+            int hour = readDigits(2);
+            if (!expect(':')) {
+                return -1;
+            }
+            int minute = readDigits(2);
+            int second = 0;
+            if (pos < end && buffer.get(pos) == ':') {
+                pos++;
+                second = readDigits(2);
+            }
+            // Anything after the time must start a new field
+            if (pos < end && buffer.get(pos) != ',' && buffer.get(pos) != ' ') {
+                return -1;
+            }
+            return pack(employeeId, year, month, day, hour, minute, second);
+        }
+
+        private long parseFixedWidth() {
+            if (end - pos < 22) {
+                return -1;
+            }
+            int idEnd = pos + 8;
+            while (pos < idEnd && buffer.get(pos) == ' ') {
+                pos++;
+            }
+            int employeeId = readDigits(idEnd - pos);
+            int year = readDigits(4);
+            int month = readDigits(2);
+            int day = readDigits(2);
+            int hour = readDigits(2);
+            int minute = readDigits(2);
+            int second = readDigits(2);
+            return pack(employeeId, year, month, day, hour, minute, second);
+        }
+
+        private static long pack(int employeeId, int year, int month, int day, int hour, int minute, int second) {
+            if (employeeId <= 0 || year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+                return -1;
+            }
+            if (hour > 23 || minute > 59 || second > 59) {
+                return -1;
+            }
+            int epochDay = epochDay(year, month, day);
+            if (epochDay < 0 || epochDay > MAX_EPOCH_DAY) {
+                return -1;
+            }
+            return (long) employeeId << (DAY_SHIFT + DAY_BITS) | (long) epochDay << DAY_SHIFT
+                | (hour * 3600L + minute * 60 + second);
+        }
+
+        /**
+         * @return Value of exactly {@code count} digits, or -1 if they are not all digits
+         */
+        private int readDigits(int count) {
+            if (count <= 0 || end - pos < count) {
+                return -1;
+            }
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                int digit = buffer.get(pos++) - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        /**
+         * @return Value of 1 to {@code maxDigits} digits, or -1 if there are none or too many
+         */
+        private int readNumber(int maxDigits) {
+            int start = pos;
+            int value = 0;
+            while (pos < end) {
+                int digit = buffer.get(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                pos++;
+            }
+            int digits = pos - start;
+            return digits == 0 || digits > maxDigits ? -1 : value;
+        }
+
+        private boolean expect(char c) {
+            if (pos < end && buffer.get(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean expectDateSeparator() {
+            return expect('-') || expect('/');
+        }
+
+        private void skipSpaces() {
+            while (pos < end && buffer.get(pos) == ' ') {
+                pos++;
+            }
+        }
+    }
+}
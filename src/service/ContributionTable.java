@@ -0,0 +1,120 @@
+package service;
+
+import model.ContributionBracket;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * One version of a contribution or tax table, flattened into parallel
+ * arrays sorted by upper bound. A lookup is a binary search over the
+ * bounds, so a 60-bracket SSS schedule costs a handful of comparisons.
+ * Immutable.
+ *
+ * @author rejoice
+ */
+public final class ContributionTable {
+
+    private final String tableType;
+    private final LocalDate effectiveFrom;
+    private final boolean annualBasis;
+    private final double[] upperBounds;
+    private final double[] fixedAmounts;
+    private final double[] rates;
+    private final double[] excessOver;
+    private final double[] maximumAmounts;
+
+    /**
+     * @param brackets Brackets of one table type and effective date, in any order
+     */
+    public ContributionTable(List<ContributionBracket> brackets) {
+        if (brackets == null || brackets.isEmpty()) {
+            throw new IllegalArgumentException("A contribution table needs at least one bracket");
+        }
+        List<ContributionBracket> sorted = new ArrayList<>(brackets);
+        sorted.sort(Comparator.comparingDouble(ContributionBracket::getUpperBound));
+
+        ContributionBracket first = sorted.get(0);
+        this.tableType = first.getTableType();
+        this.effectiveFrom = first.getEffectiveFrom();
+        this.annualBasis = first.isAnnualBasis();
+
+        int size = sorted.size();
+        upperBounds = new double[size];
+        fixedAmounts = new double[size];
+        rates = new double[size];
+        excessOver = new double[size];
+        maximumAmounts = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            ContributionBracket bracket = sorted.get(i);
+            if (!tableType.equals(bracket.getTableType()) || !effectiveFrom.equals(bracket.getEffectiveFrom())
+                    || annualBasis != bracket.isAnnualBasis()) {
+                throw new IllegalArgumentException("Brackets of one table must share type, effective date and basis: "
+                        + bracket);
+            }
+            if (i > 0 && bracket.getUpperBound() == upperBounds[i - 1]) {
+                throw new IllegalArgumentException("Duplicate upper bound " + bracket.getUpperBound()
+                        + " in " + tableType + " table effective " + effectiveFrom);
+            }
+            upperBounds[i] = bracket.getUpperBound();
+            fixedAmounts[i] = bracket.getFixedAmount();
+            rates[i] = bracket.getRate();
+            excessOver[i] = bracket.getExcessOver();
+            maximumAmounts[i] = bracket.getMaximumAmount();
+        }
+    }
+
+    /**
+     * Monthly amount owed on a monthly salary. Annual tables are applied
+     * to the annualised salary and the result divided back by twelve. A
+     * salary above the highest bound falls in the highest bracket.
+     */
+    public double amountFor(double monthlySalary) {
+        double base = annualBasis ? monthlySalary * 12 : monthlySalary;
+        int i = bracketIndex(base);
+        double amount = Math.min(fixedAmounts[i] + rates[i] * (base - excessOver[i]), maximumAmounts[i]);
+        return annualBasis ? amount / 12 : amount;
+    }
+
+    /**
+     * Index of the first bracket whose upper bound is at or above the value
+     */
+    private int bracketIndex(double value) {
+        int low = 0;
+        int high = upperBounds.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (upperBounds[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public String getTableType() {
+        return tableType;
+    }
+
+    public LocalDate getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public int getBracketCount() {
+        return upperBounds.length;
+    }
+
+    @Override
+    public String toString() {
+        return "ContributionTable{" +
+                "tableType='" + tableType + '\'' +
+                ", effectiveFrom=" + effectiveFrom +
+                ", brackets=" + upperBounds.length +
+                ", annualBasis=" + annualBasis +
+                '}';
+    }
+}
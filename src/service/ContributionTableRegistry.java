@@ -0,0 +1,106 @@
+package service;
+
+import dao.ContributionTableDAO;
+import model.ContributionBracket;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds the contribution and tax tables a calculator looks up. Tables are
+ * read from the database once, on first use, and can be reloaded or
+ * replaced at any time without a restart; a payroll calculation reads one
+ * snapshot, so it never mixes tables from before and after a swap.
+ *
+ * @author rejoice
+ */
+public class ContributionTableRegistry {
+
+    private static final Logger LOGGER = Logger.getLogger(ContributionTableRegistry.class.getName());
+
+    private final ContributionTableDAO tableDAO;
+    private final AtomicReference<ContributionTables> current = new AtomicReference<>();
+
+    /**
+     * Registry loading its tables from the given DAO on first use
+     */
+    public ContributionTableRegistry(ContributionTableDAO tableDAO) {
+        if (tableDAO == null) {
+            throw new IllegalArgumentException("Contribution table DAO cannot be null");
+        }
+        this.tableDAO = tableDAO;
+    }
+
+    /**
+     * Registry over fixed tables, e.g. {@link ContributionTables#DEFAULT};
+     * {@link #reload()} is not available
+     */
+    public ContributionTableRegistry(ContributionTables tables) {
+        if (tables == null) {
+            throw new IllegalArgumentException("Contribution tables cannot be null");
+        }
+        this.tableDAO = null;
+        this.current.set(tables);
+    }
+
+    /**
+     * Tables in force now, loading them on first use
+     */
+    public ContributionTables current() {
+        ContributionTables tables = current.get();
+        if (tables != null) {
+            return tables;
+        }
+        synchronized (this) {
+            tables = current.get();
+            if (tables == null) {
+                tables = loadOrDefault();
+                current.set(tables);
+            }
+            return tables;
+        }
+    }
+
+    /**
+     * Read the tables from the database again and swap them in. The
+     * previous tables stay in force if the new ones cannot be read or are
+     * incomplete.
+     *
+     * @return Tables now in force
+     */
+    public ContributionTables reload() {
+        if (tableDAO == null) {
+            throw new IllegalStateException("Registry was created over fixed tables and cannot reload");
+        }
+        ContributionTables tables = ContributionTables.fromBrackets(tableDAO.getAllBrackets());
+        current.set(tables);
+        LOGGER.info("Contribution tables reloaded: " + tables);
+        return tables;
+    }
+
+    /**
+     * Swap in the given tables
+     */
+    public void replace(ContributionTables tables) {
+        if (tables == null) {
+            throw new IllegalArgumentException("Contribution tables cannot be null");
+        }
+        current.set(tables);
+        LOGGER.info("Contribution tables replaced: " + tables);
+    }
+
+    private ContributionTables loadOrDefault() {
+        try {
+            List<ContributionBracket> brackets = tableDAO.getAllBrackets();
+            if (!brackets.isEmpty()) {
+                return ContributionTables.fromBrackets(brackets);
+            }
+            LOGGER.warning("No contribution tables in the database, using built-in tables");
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to load contribution tables, using built-in tables", e);
+        }
+        return ContributionTables.DEFAULT;
+    }
+}
@@ -0,0 +1,233 @@
+package service;
+
+import model.ContributionBracket;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every version of the SSS, PhilHealth, Pag-IBIG and income tax tables,
+ * each kept with the date it took effect. Looking up a contribution picks
+ * the version in force on the given date, so an old period recomputes
+ * with the tables of its time. Immutable; {@link ContributionTableRegistry}
+ * swaps in a new snapshot when the tables change.
+ *
+ * @author rejoice
+ */
+public final class ContributionTables {
+
+    /** Date the built-in tables are taken to be in force from (TRAIN law) */
+    public static final LocalDate DEFAULT_EFFECTIVE_FROM = LocalDate.of(2018, 1, 1);
+
+    /** Built-in tables, used until tables are loaded from the database */
+    public static final ContributionTables DEFAULT = fromBrackets(defaultBrackets());
+
+    private final Schedule sss;
+    private final Schedule philhealth;
+    private final Schedule pagibig;
+    private final Schedule incomeTax;
+
+    private ContributionTables(Schedule sss, Schedule philhealth, Schedule pagibig, Schedule incomeTax) {
+        this.sss = sss;
+        this.philhealth = philhealth;
+        this.pagibig = pagibig;
+        this.incomeTax = incomeTax;
+    }
+
+    /**
+     * Build a snapshot from table rows. Rows are grouped into one table per
+     * type and effective date; every type must have at least one table.
+     *
+     * @param brackets Rows of every table version
+     * @return Snapshot of the tables
+     */
+    public static ContributionTables fromBrackets(Collection<ContributionBracket> brackets) {
+        if (brackets == null) {
+            throw new IllegalArgumentException("Brackets cannot be null");
+        }
+        Map<String, Map<LocalDate, List<ContributionBracket>>> grouped = new LinkedHashMap<>();
+        for (ContributionBracket bracket : brackets) {
+            if (bracket == null || bracket.getTableType() == null || bracket.getEffectiveFrom() == null) {
+                throw new IllegalArgumentException("Bracket must have a table type and effective date: " + bracket);
+            }
+            grouped.computeIfAbsent(bracket.getTableType(), type -> new LinkedHashMap<>())
+                    .computeIfAbsent(bracket.getEffectiveFrom(), date -> new ArrayList<>())
+                    .add(bracket);
+        }
+        return new ContributionTables(
+                Schedule.of(ContributionBracket.TYPE_SSS, grouped),
+                Schedule.of(ContributionBracket.TYPE_PHILHEALTH, grouped),
+                Schedule.of(ContributionBracket.TYPE_PAGIBIG, grouped),
+                Schedule.of(ContributionBracket.TYPE_INCOME_TAX, grouped));
+    }
+
+    /**
+     * Employee SSS contribution for a monthly salary
+     */
+    public double sss(LocalDate asOf, double monthlySalary) {
+        return sss.tableFor(asOf).amountFor(monthlySalary);
+    }
+
+    /**
+     * Employee PhilHealth contribution for a monthly salary
+     */
+    public double philhealth(LocalDate asOf, double monthlySalary) {
+        return philhealth.tableFor(asOf).amountFor(monthlySalary);
+    }
+
+    /**
+     * Employee Pag-IBIG contribution for a monthly salary
+     */
+    public double pagibig(LocalDate asOf, double monthlySalary) {
+        return pagibig.tableFor(asOf).amountFor(monthlySalary);
+    }
+
+    /**
+     * Monthly withholding tax for a monthly salary
+     */
+    public double incomeTax(LocalDate asOf, double monthlySalary) {
+        return incomeTax.tableFor(asOf).amountFor(monthlySalary);
+    }
+
+    /**
+     * Table of a type in force on a date
+     *
+     * @param tableType One of the {@code ContributionBracket.TYPE_*} constants
+     * @param asOf Date the table must be in force on
+     * @return The table
+     */
+    public ContributionTable tableFor(String tableType, LocalDate asOf) {
+        return switch (tableType) {
+            case ContributionBracket.TYPE_SSS -> sss.tableFor(asOf);
+            case ContributionBracket.TYPE_PHILHEALTH -> philhealth.tableFor(asOf);
+            case ContributionBracket.TYPE_PAGIBIG -> pagibig.tableFor(asOf);
+            case ContributionBracket.TYPE_INCOME_TAX -> incomeTax.tableFor(asOf);
+            default -> throw new IllegalArgumentException("Invalid table type: " + tableType);
+        };
+    }
+
+    /**
+     * Rows of the built-in tables, matching the brackets the calculator
+     * used before tables were configurable; also the seed of
+     * {@code sql/contribution_brackets.sql}
+     */
+    public static List<ContributionBracket> defaultBrackets() {
+        LocalDate from = DEFAULT_EFFECTIVE_FROM;
+        List<ContributionBracket> brackets = new ArrayList<>();
+
+        // Simplified SSS table, fixed amount per salary bracket
+        double[][] sssTable = {
+                {4000, 180.00}, {4750, 202.50}, {5500, 225.00}, {6250, 247.50}, {7000, 270.00},
+                {7750, 292.50}, {8500, 315.00}, {9250, 337.50}, {10000, 360.00},
+                {Double.POSITIVE_INFINITY, 1125.00}};
+        for (double[] row : sssTable) {
+            brackets.add(new ContributionBracket(ContributionBracket.TYPE_SSS, from, row[0], row[1], 0, 0));
+        }
+
+        // PhilHealth: employee half of 4.5% of basic salary, up to 5,000 a month
+        ContributionBracket philhealth = new ContributionBracket(
+                ContributionBracket.TYPE_PHILHEALTH, from, Double.POSITIVE_INFINITY, 0, 0.0225, 0);
+        philhealth.setMaximumAmount(5000.00);
+        brackets.add(philhealth);
+
+        // Pag-IBIG: 1% up to 1,500 a month, 2% above
+        brackets.add(new ContributionBracket(ContributionBracket.TYPE_PAGIBIG, from, 1500, 0, 0.01, 0));
+        brackets.add(new ContributionBracket(ContributionBracket.TYPE_PAGIBIG, from, Double.POSITIVE_INFINITY, 0, 0.02, 0));
+
+        // Simplified TRAIN law brackets on annual salary
+        double[][] taxTable = {
+                {250000, 0, 0, 0},
+                {400000, 0, 0.15, 250000},
+                {800000, 22500, 0.20, 400000},
+                {2000000, 102500, 0.25, 800000},
+                {8000000, 402500, 0.30, 2000000},
+                {Double.POSITIVE_INFINITY, 2202500, 0.35, 8000000}};
+        for (double[] row : taxTable) {
+            ContributionBracket tax = new ContributionBracket(
+                    ContributionBracket.TYPE_INCOME_TAX, from, row[0], row[1], row[2], row[3]);
+            tax.setAnnualBasis(true);
+            brackets.add(tax);
+        }
+
+        return brackets;
+    }
+
+    @Override
+    public String toString() {
+        return "ContributionTables{" +
+                "sss=" + sss +
+                ", philhealth=" + philhealth +
+                ", pagibig=" + pagibig +
+                ", incomeTax=" + incomeTax +
+                '}';
+    }
+
+    /**
+     * Versions of one table type sorted by effective date, searched by epoch day
+     */
+    private static final class Schedule {
+
+        private final String tableType;
+        private final long[] effectiveDays;
+        private final ContributionTable[] tables;
+
+        private Schedule(String tableType, long[] effectiveDays, ContributionTable[] tables) {
+            this.tableType = tableType;
+            this.effectiveDays = effectiveDays;
+            this.tables = tables;
+        }
+
+        static Schedule of(String tableType, Map<String, Map<LocalDate, List<ContributionBracket>>> grouped) {
+            Map<LocalDate, List<ContributionBracket>> versions = grouped.get(tableType);
+            if (versions == null || versions.isEmpty()) {
+                throw new IllegalArgumentException("No " + tableType + " table defined");
+            }
+            List<LocalDate> dates = new ArrayList<>(versions.keySet());
+            Collections.sort(dates);
+
+            long[] effectiveDays = new long[dates.size()];
+            ContributionTable[] tables = new ContributionTable[dates.size()];
+            for (int i = 0; i < dates.size(); i++) {
+                effectiveDays[i] = dates.get(i).toEpochDay();
+                tables[i] = new ContributionTable(versions.get(dates.get(i)));
+            }
+            return new Schedule(tableType, effectiveDays, tables);
+        }
+
+        /**
+         * Latest version that took effect on or before the date
+         */
+        ContributionTable tableFor(LocalDate asOf) {
+            if (asOf == null) {
+                throw new IllegalArgumentException("Date cannot be null");
+            }
+            long day = asOf.toEpochDay();
+            int low = 0;
+            int high = effectiveDays.length - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (effectiveDays[mid] <= day) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (found < 0) {
+                throw new IllegalArgumentException("No " + tableType + " table in force on " + asOf);
+            }
+            return tables[found];
+        }
+
+        @Override
+        public String toString() {
+            return tables.length + " version(s) from " + LocalDate.ofEpochDay(effectiveDays[0]);
+        }
+    }
+}
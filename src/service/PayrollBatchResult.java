@@ -0,0 +1,85 @@
+package service;
+
+import model.Payroll;
+import service.PayrollCalculator.PayrollCalculationException;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a company-wide payroll run: the calculated payroll of every
+ * employee that succeeded plus the failure of every employee that did not
+ *
+ * @author rejoice
+ */
+public class PayrollBatchResult {
+
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final Map<Integer, Payroll> payrolls = new LinkedHashMap<>();
+    private final Map<Integer, PayrollCalculationException> failures = new LinkedHashMap<>();
+
+    public PayrollBatchResult(LocalDate periodStart, LocalDate periodEnd) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+
+    void addPayroll(Payroll payroll) {
+        payrolls.put(payroll.getEmployeeId(), payroll);
+    }
+
+    void addFailure(int employeeId, PayrollCalculationException failure) {
+        failures.put(employeeId, failure);
+    }
+
+    void moveToFailures(int employeeId, PayrollCalculationException failure) {
+        payrolls.remove(employeeId);
+        failures.put(employeeId, failure);
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    /**
+     * @return Calculated payrolls keyed by employee ID
+     */
+    public Map<Integer, Payroll> getPayrolls() {
+        return Collections.unmodifiableMap(payrolls);
+    }
+
+    /**
+     * @return Calculation failures keyed by employee ID
+     */
+    public Map<Integer, PayrollCalculationException> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    public int getSuccessCount() {
+        return payrolls.size();
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollBatchResult{" +
+                "periodStart=" + periodStart +
+                ", periodEnd=" + periodEnd +
+                ", succeeded=" + payrolls.size() +
+                ", failed=" + failures.size() +
+                '}';
+    }
+}
@@ -1,29 +1,32 @@
 package service;
 
-import dao.AttendanceDAO;
-import dao.CompensationDetailsDAO;
-import dao.EmployeeDAO;
-import dao.GovernmentContributionsDAO;
-import dao.LeaveRequestDAO;
-import dao.OvertimeDAO;
-import dao.PositionDAO;
-import model.Attendance;
+import dao.ConcurrentPayrollInputsDAO;
+import dao.JdbcContributionTableDAO;
+import dao.JdbcDeductionDAO;
+import dao.JdbcPayrollInputsDAO;
+import dao.PayrollInputsDAO;
+import model.AttendanceSummary;
 import model.CompensationDetails;
-import model.Employee;
 import model.GovernmentContributions;
 import model.LeaveRequest;
-import model.Overtime;
+import model.OvertimeSummary;
 import model.Payroll;
+import model.PayrollInputs;
 import model.Position;
 import dao.DeductionDAO;
+import dao.DeductionSink;
 import model.Deduction;
+import util.LeaveCalendar;
+import util.Money;
 
 import java.sql.Date;
+import java.sql.SQLException;
 import java.sql.Time;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,35 +40,66 @@ public class PayrollCalculator {
     
     private static final Logger LOGGER = Logger.getLogger(PayrollCalculator.class.getName());
     
-    // Constants for payroll calculations
-    private static final int STANDARD_WORKING_DAYS_PER_MONTH = 22;
-    private static final int STANDARD_WORKING_HOURS_PER_DAY = 8;
-    private static final double OVERTIME_RATE_MULTIPLIER = 1.25;
-    private static final LocalTime STANDARD_LOGIN_TIME = LocalTime.of(8, 0);
-    private static final LocalTime LATE_THRESHOLD_TIME = LocalTime.of(8, 15);
-    private static final LocalTime STANDARD_LOGOUT_TIME = LocalTime.of(17, 0);
+    // Leave type deducted from pay, one daily rate per leave day within the period
+    private static final String UNPAID_LEAVE_TYPE = "Unpaid";
+    
+    // Rules for payroll calculations
+    private final PayrollRules rules = PayrollRules.DEFAULT;
     
     // DAO instances
-    private final EmployeeDAO employeeDAO;
-    private final AttendanceDAO attendanceDAO;
-    private final LeaveRequestDAO leaveDAO;
-    private final OvertimeDAO overtimeDAO;
-    private final GovernmentContributionsDAO govDAO;
-    private final CompensationDetailsDAO compDAO;
-    private final PositionDAO positionDAO;
+    private final PayrollInputsDAO inputsDAO;
     private final DeductionDAO deductionDAO;
+    
+    // Effective-dated contribution and tax tables
+    private final ContributionTableRegistry contributionTables;
 
     
+    /**
+     * Create a calculator over the database. Attendance is summarized by
+     * the database against the schedule of the default rules, so each
+     * employee's attendance arrives as three totals instead of its records.
+     */
     public PayrollCalculator() {
-        this.employeeDAO = new EmployeeDAO();
-        this.attendanceDAO = new AttendanceDAO();
-        this.leaveDAO = new LeaveRequestDAO();
-        this.overtimeDAO = new OvertimeDAO();
-        this.govDAO = new GovernmentContributionsDAO();
-        this.compDAO = new CompensationDetailsDAO();
-        this.positionDAO = new PositionDAO();
-        this.deductionDAO = new DeductionDAO();
-
+        this(new JdbcPayrollInputsDAO(PayrollRules.DEFAULT.getStandardLoginTime(),
+                        PayrollRules.DEFAULT.getLateThresholdTime(), PayrollRules.DEFAULT.getStandardLogoutTime()),
+                new JdbcDeductionDAO(),
+                new ContributionTableRegistry(new JdbcContributionTableDAO()));
+    }
+    
+    /**
+     * Create a calculator over the given DAOs, e.g. the in-memory ones
+     * of {@link dao.memory.InMemoryDatabase}, using the built-in
+     * contribution and tax tables
+     */
+    public PayrollCalculator(PayrollInputsDAO inputsDAO, DeductionDAO deductionDAO) {
+        this(inputsDAO, deductionDAO, new ContributionTableRegistry(ContributionTables.DEFAULT));
+    }
+    
+    /**
+     * Create a calculator over the given DAOs and contribution tables
+     */
+    public PayrollCalculator(PayrollInputsDAO inputsDAO, DeductionDAO deductionDAO,
+                             ContributionTableRegistry contributionTables) {
+        if (contributionTables == null) {
+            throw new IllegalArgumentException("Contribution tables cannot be null");
+        }
+        this.inputsDAO = inputsDAO;
+        this.deductionDAO = deductionDAO;
+        this.contributionTables = contributionTables;
+    }
+    
+    /**
+     * Create a calculator for on-demand recalculation of one employee, e.g.
+     * from the HR screen. The input lookups run concurrently on virtual
+     * threads, so a calculation waits for the slowest query rather than
+     * all of them in turn; loading fails if it takes longer than the deadline.
+     * 
+     * @param deadline Time allowed for loading one employee's inputs
+     * @return Calculator over the database
+     */
+    public static PayrollCalculator withConcurrentLookups(Duration deadline) {
+        return new PayrollCalculator(new ConcurrentPayrollInputsDAO(deadline), new JdbcDeductionDAO(),
+                new ContributionTableRegistry(new JdbcContributionTableDAO()));
     }
     
     /**
@@ -83,42 +117,16 @@ public class PayrollCalculator {
         try {
             validateInputs(employeeId, periodStart, periodEnd);
             
-            // Get employee information
-            Employee employee = getEmployeeWithValidation(employeeId);
-            Position position = getPositionWithValidation(employee.getPositionId());
-            
-            // Initialize payroll object
-            Payroll payroll = new Payroll(employeeId, Date.valueOf(periodStart), Date.valueOf(periodEnd));
-            
-            // Set basic salary information
-            double monthlySalary = position.getMonthlySalary();
-            double dailyRate = calculateDailyRate(monthlySalary);
-            
-            payroll.setMonthlyRate(monthlySalary);
-            payroll.setDailyRate(dailyRate);
-            
-            // Calculate attendance-based earnings
-            calculateAttendanceBasedEarnings(payroll, employeeId, periodStart, periodEnd, dailyRate);
-            
-            // Calculate overtime earnings
-            calculateOvertimeEarnings(payroll, employeeId, periodStart, periodEnd, dailyRate);
-            
-            // Calculate allowances and benefits
-            calculateAllowancesAndBenefits(payroll, employeeId);
-            
-            // Calculate time-based deductions
-            calculateTimeBasedDeductions(payroll, employeeId, periodStart, periodEnd, dailyRate);
-            
-            // Calculate government contributions and tax
-            calculateGovernmentContributionsAndTax(payroll, employeeId, monthlySalary);
+            // Load every input of the period once
+            PayrollInputs inputs = inputsDAO.loadPayrollInputs(employeeId, periodStart, periodEnd);
+            if (inputs == null) {
+                throw new PayrollCalculationException("Employee not found with ID: " + employeeId);
+            }
             
-            // Final calculations
-            payroll.calculateGrossPay();
-            payroll.calculateTotalDeductions();
-            payroll.calculateNetPay();
+            Payroll payroll = computePayroll(inputs, rules);
             
-            // Validate final payroll
-            validatePayroll(payroll);
+            // Save deductions into the database
+            recordDeductions(payroll);
             
             LOGGER.info(String.format("Payroll calculated successfully for employee %d", employeeId));
             return payroll;
@@ -130,74 +138,313 @@ public class PayrollCalculator {
     }
     
     /**
-     * Calculate daily rate from monthly salary
+     * Calculate payroll for every employee within a specific period.
+     * Each input table is loaded once for the whole period and grouped by
+     * employee, so the run costs a fixed number of queries instead of
+     * several per employee. A failing employee is recorded in the result
+     * and does not stop the run. The deductions of the whole run are
+     * saved with one batched insert at the end, replacing those of an
+     * earlier run of the period.
+     * 
+     * @param periodStart Start date of payroll period
+     * @param periodEnd End date of payroll period
+     * @return Calculated payrolls and failures keyed by employee ID
+     * @throws PayrollCalculationException if the period is invalid or the inputs cannot be loaded
      */
-    private double calculateDailyRate(double monthlySalary) {
-        return monthlySalary / STANDARD_WORKING_DAYS_PER_MONTH;
+    public PayrollBatchResult calculatePayrollForAll(LocalDate periodStart, LocalDate periodEnd) 
+            throws PayrollCalculationException {
+        
+        PayrollBatchResult result = calculateAll(periodStart, periodEnd, null);
+        
+        // Save the deductions of the whole run in one batched transaction
+        List<Deduction> deductions = new ArrayList<>();
+        for (Payroll payroll : result.getPayrolls().values()) {
+            deductions.addAll(buildDeductions(payroll));
+        }
+        try {
+            deductionDAO.replaceDeductions(periodStart, periodEnd, result.getPayrolls().keySet(), deductions);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, String.format("Failed to record %d deductions for batch run", deductions.size()), e);
+        }
+        
+        return result;
     }
     
     /**
-     * Calculate hourly rate from daily rate
+     * Calculate payroll for every employee within a specific period and
+     * persist each payroll together with its deductions through a
+     * write-behind sink. Employees whose chunk fails to persist are
+     * reported as failures.
+     * 
+     * @param periodStart Start date of payroll period
+     * @param periodEnd End date of payroll period
+     * @param sink Sink receiving every calculated payroll and its deductions
+     * @return Calculated payrolls and failures keyed by employee ID
+     * @throws PayrollCalculationException if the period is invalid or the inputs cannot be loaded
      */
-    private double calculateHourlyRate(double dailyRate) {
-        return dailyRate / STANDARD_WORKING_HOURS_PER_DAY;
+    public PayrollBatchResult calculatePayrollForAll(LocalDate periodStart, LocalDate periodEnd, DeductionSink sink) 
+            throws PayrollCalculationException {
+        if (sink == null) {
+            throw new IllegalArgumentException("Deduction sink cannot be null");
+        }
+        
+        PayrollBatchResult result = calculateAll(periodStart, periodEnd, sink);
+        try {
+            sink.flush();
+        } catch (SQLException e) {
+            failPendingPayrolls(result, sink, e);
+        }
+        return result;
     }
     
     /**
-     * Calculate attendance-based earnings
+     * Calculate every employee of the period, handing each payroll to the sink when one is given
+     */
+    private PayrollBatchResult calculateAll(LocalDate periodStart, LocalDate periodEnd, DeductionSink sink) 
+            throws PayrollCalculationException {
+        
+        validatePeriod(periodStart, periodEnd);
+        
+        Map<Integer, PayrollInputs> inputsByEmployee;
+        try {
+            inputsByEmployee = inputsDAO.loadPayrollInputsForAll(periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Failed to load payroll inputs for batch run", e);
+            throw new PayrollCalculationException("Failed to load payroll inputs: " + e.getMessage(), e);
+        }
+        
+        PayrollBatchResult result = new PayrollBatchResult(periodStart, periodEnd);
+        // One calendar for the whole run, filled from the leaves loaded with each employee
+        LeaveCalendar unpaidLeave = new LeaveCalendar(rules.getRestDays());
+        
+        for (PayrollInputs inputs : inputsByEmployee.values()) {
+            int employeeId = inputs.getEmployeeId();
+            Payroll payroll;
+            try {
+                markUnpaidLeave(unpaidLeave, inputs);
+                payroll = computePayroll(inputs, rules, unpaidLeave);
+                result.addPayroll(payroll);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, String.format("Failed to calculate payroll for employee %d", employeeId), e);
+                result.addFailure(employeeId, e instanceof PayrollCalculationException pce ? pce
+                        : new PayrollCalculationException("Failed to calculate payroll: " + e.getMessage(), e));
+                continue;
+            }
+            
+            if (sink != null) {
+                try {
+                    sink.add(payroll, buildDeductions(payroll));
+                } catch (SQLException e) {
+                    failPendingPayrolls(result, sink, e);
+                }
+            }
+        }
+        
+        LOGGER.info(String.format("Batch payroll for %s to %s: %d calculated, %d failed",
+                periodStart, periodEnd, result.getSuccessCount(), result.getFailureCount()));
+        return result;
+    }
+    
+    /**
+     * Turn every payroll of a chunk the sink could not persist into a failure
+     */
+    private void failPendingPayrolls(PayrollBatchResult result, DeductionSink sink, SQLException cause) {
+        PayrollCalculationException failure = 
+                new PayrollCalculationException("Failed to persist payroll: " + cause.getMessage(), cause);
+        for (int employeeId : sink.getPendingEmployeeIds()) {
+            result.moveToFailures(employeeId, failure);
+        }
+        sink.discardPending();
+    }
+    
+    /**
+     * Calculate payroll over a loaded input snapshot under the given rules
+     * without writing anything, for what-if analysis.
+     * 
+     * @param inputs Payroll inputs of one employee and period
+     * @param rules Rules to calculate with
+     * @return Calculated Payroll object
+     * @throws PayrollCalculationException if calculation fails
+     */
+    public Payroll simulatePayroll(PayrollInputs inputs, PayrollRules rules) throws PayrollCalculationException {
+        if (inputs == null || rules == null) {
+            throw new PayrollCalculationException("Payroll inputs and rules cannot be null");
+        }
+        return computePayroll(inputs, rules);
+    }
+    
+    /**
+     * Rules regular payroll runs are calculated with
+     */
+    public PayrollRules getRules() {
+        return rules;
+    }
+    
+    /**
+     * Contribution and tax tables; reload or replace them here to change
+     * the tables without a restart
+     */
+    public ContributionTableRegistry getContributionTables() {
+        return contributionTables;
+    }
+    
+    /**
+     * Run the calculation pipeline over a loaded input snapshot
+     */
+    private Payroll computePayroll(PayrollInputs inputs, PayrollRules rules) throws PayrollCalculationException {
+        LeaveCalendar unpaidLeave = new LeaveCalendar(rules.getRestDays());
+        markUnpaidLeave(unpaidLeave, inputs);
+        return computePayroll(inputs, rules, unpaidLeave);
+    }
+    
+    /**
+     * Run the calculation pipeline over a loaded input snapshot, counting
+     * unpaid leave on a calendar that already holds the employee's leaves
      */
-    private void calculateAttendanceBasedEarnings(Payroll payroll, int employeeId, 
-            LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
+    private Payroll computePayroll(PayrollInputs inputs, PayrollRules rules, LeaveCalendar unpaidLeave)
+            throws PayrollCalculationException {
+        int employeeId = inputs.getEmployeeId();
+        Position position = getPositionWithValidation(inputs);
+        
+        // Initialize payroll object
+        Payroll payroll = new Payroll(employeeId, Date.valueOf(inputs.getPeriodStart()), Date.valueOf(inputs.getPeriodEnd()));
+        
+        // Set basic salary information; amounts are centavos from here on
+        long monthlySalary = Money.fromPesos(position.getMonthlySalary());
+        long dailyRate = calculateDailyRate(monthlySalary, rules);
+        
+        payroll.setMonthlyRateCentavos(monthlySalary);
+        payroll.setDailyRateCentavos(dailyRate);
+        
+        // Days present and minutes late and short, counted once for earnings and deductions
+        AttendanceSummary attendance = summarizeAttendance(inputs, rules);
+        
+        // Calculate attendance-based earnings
+        calculateAttendanceBasedEarnings(payroll, attendance, monthlySalary, rules);
+        
+        // Calculate overtime earnings
+        calculateOvertimeEarnings(payroll, inputs, monthlySalary, rules);
         
-        List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                employeeId, periodStart, periodEnd);
+        // Calculate allowances and benefits
+        calculateAllowancesAndBenefits(payroll, inputs);
         
-        int daysWorked = attendanceList.size();
+        // Calculate time-based deductions
+        calculateTimeBasedDeductions(payroll, inputs, attendance, unpaidLeave, monthlySalary, rules);
+        
+        // Calculate government contributions and tax
+        calculateGovernmentContributionsAndTax(payroll, inputs, monthlySalary, contributionTables.current());
+        
+        // Final calculations
+        payroll.calculateGrossPay();
+        payroll.calculateTotalDeductions();
+        payroll.calculateNetPay();
+        
+        // Validate final payroll
+        validatePayroll(payroll);
+        
+        return payroll;
+    }
+    
+    /**
+     * Calculate daily rate from monthly salary, in centavos
+     */
+    private long calculateDailyRate(long monthlySalary, PayrollRules rules) {
+        return Money.divide(monthlySalary, rules.getWorkingDaysPerMonth(), Money.DEFAULT_ROUNDING);
+    }
+    
+    /**
+     * Working minutes in a month; time-based amounts are the monthly
+     * salary scaled by minutes over this, rounded once
+     */
+    private static long workingMinutesPerMonth(PayrollRules rules) {
+        return (long) rules.getWorkingDaysPerMonth() * rules.getWorkingHoursPerDay() * 60;
+    }
+    
+    /**
+     * Attendance totals under the given rules: the ones loaded with the
+     * inputs if they were counted against the same schedule, otherwise
+     * counted here from the attendance records
+     * 
+     * @throws PayrollCalculationException if the loaded totals were counted
+     *         against another schedule and the records were left out
+     */
+    private AttendanceSummary summarizeAttendance(PayrollInputs inputs, PayrollRules rules)
+            throws PayrollCalculationException {
+        AttendanceSummary loaded = inputs.getAttendanceSummary();
+        if (loaded != null) {
+            if (loaded.isCountedWith(rules.getStandardLoginTime(), rules.getLateThresholdTime(),
+                    rules.getStandardLogoutTime())) {
+                return loaded;
+            }
+            if (inputs.getAttendance().isEmpty() && loaded.getDaysPresent() > 0) {
+                throw new PayrollCalculationException(String.format("Attendance of employee %d was summarized "
+                        + "for another schedule and its records were not loaded", inputs.getEmployeeId()));
+            }
+        }
+        return AttendanceSummary.of(inputs.getEmployeeId(), inputs.getAttendance(), rules.getStandardLoginTime(),
+                rules.getLateThresholdTime(), rules.getStandardLogoutTime());
+    }
+    
+    /**
+     * Calculate attendance-based earnings
+     */
+    private void calculateAttendanceBasedEarnings(Payroll payroll, AttendanceSummary attendance, long monthlySalary,
+                                                  PayrollRules rules) {
+        int employeeId = attendance.getEmployeeId();
+        int daysWorked = attendance.getDaysPresent();
         payroll.setDaysWorked(daysWorked);
         
         // Calculate basic pay
-        double basicPay = daysWorked * dailyRate;
-        payroll.setGrossEarnings(basicPay);
+        long basicPay = Money.multiply(monthlySalary, daysWorked, rules.getWorkingDaysPerMonth(), Money.DEFAULT_ROUNDING);
+        payroll.setGrossEarningsCentavos(basicPay);
         
-        LOGGER.info(String.format("Employee %d worked %d days, basic pay: %.2f", 
-                employeeId, daysWorked, basicPay));
+        LOGGER.fine(() -> String.format("Employee %d worked %d days, basic pay: %s", 
+                employeeId, daysWorked, Money.toString(basicPay)));
+    }
+    
+    /**
+     * Overtime totals: the ones loaded with the inputs, otherwise counted
+     * here from the overtime records
+     */
+    private OvertimeSummary summarizeOvertime(PayrollInputs inputs) {
+        OvertimeSummary loaded = inputs.getOvertimeSummary();
+        return loaded != null ? loaded : OvertimeSummary.of(inputs.getEmployeeId(), inputs.getOvertime());
     }
     
     /**
      * Calculate overtime earnings
      */
-    private void calculateOvertimeEarnings(Payroll payroll, int employeeId, 
-            LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
-        
-        List<Overtime> overtimeList = overtimeDAO.getOvertimeByEmployeeIdAndDateRange(
-                employeeId, periodStart, periodEnd);
-        
-        double totalOvertimeHours = overtimeList.stream()
-                .mapToDouble(Overtime::getHours)
-                .sum();
+    private void calculateOvertimeEarnings(Payroll payroll, PayrollInputs inputs, long monthlySalary, PayrollRules rules) {
+        int employeeId = inputs.getEmployeeId();
+        // Only approved overtime is paid
+        double totalOvertimeHours = summarizeOvertime(inputs).getApprovedHours();
         
-        double hourlyRate = calculateHourlyRate(dailyRate);
-        double overtimePay = totalOvertimeHours * hourlyRate * OVERTIME_RATE_MULTIPLIER;
+        // Hours may be fractional, so scale in floating point and round once
+        double overtimeMinutes = totalOvertimeHours * 60 * rules.getOvertimeRateMultiplier();
+        long overtimePay = Money.round(monthlySalary * overtimeMinutes / workingMinutesPerMonth(rules),
+                Money.DEFAULT_ROUNDING);
         
+        payroll.setOvertimeHours(totalOvertimeHours);
         payroll.setTotalOvertimeHours(totalOvertimeHours);
-        payroll.setOvertimePay(overtimePay);
+        payroll.setOvertimePayCentavos(overtimePay);
         
-        LOGGER.info(String.format("Employee %d overtime: %.2f hours, pay: %.2f", 
-                employeeId, totalOvertimeHours, overtimePay));
+        LOGGER.fine(() -> String.format("Employee %d overtime: %.2f hours, pay: %s", 
+                employeeId, totalOvertimeHours, Money.toString(overtimePay)));
     }
     
     /**
      * Calculate allowances and benefits
      */
-    private void calculateAllowancesAndBenefits(Payroll payroll, int employeeId) {
-        CompensationDetails comp = compDAO.getCompensationDetailsByEmployeeId(employeeId);
+    private void calculateAllowancesAndBenefits(Payroll payroll, PayrollInputs inputs) {
+        int employeeId = inputs.getEmployeeId();
+        CompensationDetails comp = inputs.getCompensation();
         
         if (comp != null) {
             payroll.setRiceSubsidy(comp.getRiceSubsidy());
             payroll.setPhoneAllowance(comp.getPhoneAllowance());
             payroll.setClothingAllowance(comp.getClothingAllowance());
             
-            LOGGER.info(String.format("Employee %d allowances - Rice: %.2f, Phone: %.2f, Clothing: %.2f",
+            LOGGER.fine(() -> String.format("Employee %d allowances - Rice: %.2f, Phone: %.2f, Clothing: %.2f",
                     employeeId, comp.getRiceSubsidy(), comp.getPhoneAllowance(), comp.getClothingAllowance()));
         } else {
             // Set default values if no compensation details found
@@ -212,61 +459,114 @@ public class PayrollCalculator {
     /**
  * Calculate time-based deductions (late, undertime, unpaid leave)
  */
-    private void calculateTimeBasedDeductions(Payroll payroll, int employeeId, 
-            LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
+    private void calculateTimeBasedDeductions(Payroll payroll, PayrollInputs inputs, AttendanceSummary attendance,
+                                              LeaveCalendar unpaidLeave, long monthlySalary, PayrollRules rules) {
+        int employeeId = inputs.getEmployeeId();
 
-        // Get attendance records
-        List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                employeeId, periodStart, periodEnd);
+        long lateDeduction = priceMinutes(attendance.getLateMinutes(), monthlySalary, rules);
+        long undertimeDeduction = priceMinutes(attendance.getUndertimeMinutes(), monthlySalary, rules);
 
-        double lateDeduction = calculateLateDeduction(attendanceList, dailyRate);
-        double undertimeDeduction = calculateUndertimeDeduction(attendanceList, dailyRate);
+        payroll.setLateDeductionCentavos(lateDeduction);
+        payroll.setUndertimeDeductionCentavos(undertimeDeduction);
 
-        payroll.setLateDeduction(lateDeduction);
-        payroll.setUndertimeDeduction(undertimeDeduction);
+        // Calculate unpaid leave deduction over the working days of leave within the period,
+        // priced per day like basic pay
+        int unpaidLeaveCount = unpaidLeave.countDays(employeeId, inputs.getPeriodStart(), inputs.getPeriodEnd());
+        int pricedLeaveDays = countPricedLeaveDays(unpaidLeave, employeeId, inputs.getPeriodStart(),
+                inputs.getPeriodEnd(), rules);
 
-        // Calculate unpaid leave deduction
-        List<LeaveRequest> unpaidLeaves = leaveDAO.getApprovedLeavesByEmployeeIdAndDateRange(
-                employeeId, periodStart, periodEnd);
-
-        int unpaidLeaveCount = (int) unpaidLeaves.stream()
-                .filter(leave -> "Unpaid".equalsIgnoreCase(leave.getLeaveType()))
-                .count();
-
-        double unpaidLeaveDeduction = unpaidLeaveCount * dailyRate;
+        long unpaidLeaveDeduction = Money.multiply(monthlySalary, pricedLeaveDays, rules.getWorkingDaysPerMonth(),
+                Money.DEFAULT_ROUNDING);
 
         payroll.setUnpaidLeaveCount(unpaidLeaveCount);
-        payroll.setUnpaidLeaveDeduction(unpaidLeaveDeduction);
+        payroll.setUnpaidLeaveDeductionCentavos(unpaidLeaveDeduction);
 
-        // Save deductions into the database
-        try {
-            if (lateDeduction > 0) {
-                Deduction late = new Deduction(employeeId, Deduction.TYPE_LATE, lateDeduction, "Late arrival deduction");
-                deductionDAO.addDeduction(late);
+        LOGGER.fine(() -> String.format("Employee %d deductions - Late: %s, Undertime: %s, Unpaid Leave: %s",
+                employeeId, Money.toString(lateDeduction), Money.toString(undertimeDeduction),
+                Money.toString(unpaidLeaveDeduction)));
+    }
+    
+    /**
+     * Leave days to deduct: the working days on leave, at most the working
+     * days of a month in each calendar month, so a month with more weekdays
+     * than that never costs more than the monthly salary
+     */
+    private static int countPricedLeaveDays(LeaveCalendar calendar, int employeeId, LocalDate periodStart,
+                                            LocalDate periodEnd, PayrollRules rules) {
+        int days = 0;
+        LocalDate monthStart = periodStart;
+        while (!monthStart.isAfter(periodEnd)) {
+            LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+            if (monthEnd.isAfter(periodEnd)) {
+                monthEnd = periodEnd;
             }
-
-            if (undertimeDeduction > 0) {
-                Deduction undertime = new Deduction(employeeId, Deduction.TYPE_UNDERTIME, undertimeDeduction, "Undertime deduction");
-                deductionDAO.addDeduction(undertime);
+            days += Math.min(calendar.countDays(employeeId, monthStart, monthEnd), rules.getWorkingDaysPerMonth());
+            monthStart = monthEnd.plusDays(1);
+        }
+        return days;
+    }
+    
+    /**
+     * Mark an employee's approved unpaid leave on a calendar
+     */
+    private static void markUnpaidLeave(LeaveCalendar calendar, PayrollInputs inputs) {
+        for (LeaveRequest leave : inputs.getApprovedLeaves()) {
+            if (UNPAID_LEAVE_TYPE.equalsIgnoreCase(leave.getLeaveType())) {
+                calendar.add(leave);
             }
+        }
+    }
+    
+    /**
+     * Build the deduction rows of the time-based deductions of a calculated payroll
+     */
+    private List<Deduction> buildDeductions(Payroll payroll) {
+        int employeeId = payroll.getEmployeeId();
+        List<Deduction> deductions = new ArrayList<>(3);
+        
+        if (payroll.getLateDeduction() > 0) {
+            deductions.add(new Deduction(employeeId, Deduction.TYPE_LATE, payroll.getLateDeduction(), "Late arrival deduction"));
+        }
 
-            if (unpaidLeaveDeduction > 0) {
-                Deduction unpaid = new Deduction(employeeId, Deduction.TYPE_UNPAID_LEAVE, unpaidLeaveDeduction, "Unpaid leave deduction");
-                deductionDAO.addDeduction(unpaid);
-            }
-        } catch (Exception e) {
-            LOGGER.warning(String.format("Failed to record one or more deductions for employee %d: %s", employeeId, e.getMessage()));
+        if (payroll.getUndertimeDeduction() > 0) {
+            deductions.add(new Deduction(employeeId, Deduction.TYPE_UNDERTIME, payroll.getUndertimeDeduction(), "Undertime deduction"));
         }
 
-        LOGGER.info(String.format("Employee %d deductions - Late: %.2f, Undertime: %.2f, Unpaid Leave: %.2f",
-                employeeId, lateDeduction, undertimeDeduction, unpaidLeaveDeduction));
+        if (payroll.getUnpaidLeaveDeduction() > 0) {
+            deductions.add(new Deduction(employeeId, Deduction.TYPE_UNPAID_LEAVE, payroll.getUnpaidLeaveDeduction(), "Unpaid leave deduction"));
+        }
+        
+        // Stamped with the period, so a re-run replaces them rather than adding more
+        for (Deduction deduction : deductions) {
+            deduction.setPeriod(payroll.getPeriodStart(), payroll.getPeriodEnd());
+        }
+        return deductions;
+    }
+    
+    /**
+     * Save the time-based deductions of a calculated payroll into the
+     * database, replacing those of an earlier run of the same period
+     */
+    private void recordDeductions(Payroll payroll) {
+        try {
+            deductionDAO.replaceDeductions(payroll.getPeriodStart().toLocalDate(), payroll.getPeriodEnd().toLocalDate(),
+                    List.of(payroll.getEmployeeId()), buildDeductions(payroll));
+        } catch (Exception e) {
+            LOGGER.warning(String.format("Failed to record one or more deductions for employee %d: %s", payroll.getEmployeeId(), e.getMessage()));
+        }
     }
     
     /**
-     * Calculate government contributions and tax
+     * Calculate government contributions and tax with the tables in force
+     * at the end of the period
      */
-    private void calculateGovernmentContributionsAndTax(Payroll payroll, int employeeId, double monthlySalary) {
-        GovernmentContributions gov = govDAO.getByEmployeeId(employeeId);
+    private void calculateGovernmentContributionsAndTax(Payroll payroll, PayrollInputs inputs, long monthlySalary,
+                                                        ContributionTables tables) {
+        int employeeId = inputs.getEmployeeId();
+        LocalDate asOf = inputs.getPeriodEnd();
+        // The tables work in pesos; their results are rounded to centavos on the way back
+        double salary = Money.toPesos(monthlySalary);
+        GovernmentContributions gov = inputs.getGovernmentContributions();
         
         if (gov != null) {
             payroll.setSss(gov.getSss());
@@ -274,17 +574,17 @@ public class PayrollCalculator {
             payroll.setPagibig(gov.getPagibig());
             
             // Calculate tax based on salary (simplified calculation)
-            double tax = calculateIncomeTax(monthlySalary);
+            double tax = tables.incomeTax(asOf, salary);
             payroll.setTax(tax);
             
-            LOGGER.info(String.format("Employee %d contributions - SSS: %.2f, PhilHealth: %.2f, Pag-IBIG: %.2f, Tax: %.2f",
+            LOGGER.fine(() -> String.format("Employee %d contributions - SSS: %.2f, PhilHealth: %.2f, Pag-IBIG: %.2f, Tax: %.2f",
                     employeeId, gov.getSss(), gov.getPhilhealth(), gov.getPagibig(), tax));
         } else {
             // Set default values and calculate basic contributions
-            double sss = calculateSSSContribution(monthlySalary);
-            double philhealth = calculatePhilHealthContribution(monthlySalary);
-            double pagibig = calculatePagIBIGContribution(monthlySalary);
-            double tax = calculateIncomeTax(monthlySalary);
+            double sss = tables.sss(asOf, salary);
+            double philhealth = tables.philhealth(asOf, salary);
+            double pagibig = tables.pagibig(asOf, salary);
+            double tax = tables.incomeTax(asOf, salary);
             
             payroll.setSss(sss);
             payroll.setPhilhealth(philhealth);
@@ -296,113 +596,10 @@ public class PayrollCalculator {
     }
     
     /**
-     * Enhanced late deduction calculation with proper time handling
-     */
-    private double calculateLateDeduction(List<Attendance> attendanceList, double dailyRate) {
-        double totalLateDeduction = 0.0;
-        double hourlyRate = calculateHourlyRate(dailyRate);
-        
-        for (Attendance attendance : attendanceList) {
-            if (attendance.getLoginTime() != null) {
-                LocalTime loginTime = attendance.getLoginTime().toLocalTime();
-                
-                if (loginTime.isAfter(LATE_THRESHOLD_TIME)) {
-                    long minutesLate = ChronoUnit.MINUTES.between(STANDARD_LOGIN_TIME, loginTime);
-                    double hoursLate = minutesLate / 60.0;
-                    totalLateDeduction += hoursLate * hourlyRate;
-                }
-            }
-        }
-        
-        return totalLateDeduction;
-    }
-    
-    /**
-     * Enhanced undertime deduction calculation
-     */
-    private double calculateUndertimeDeduction(List<Attendance> attendanceList, double dailyRate) {
-        double totalUndertimeDeduction = 0.0;
-        double hourlyRate = calculateHourlyRate(dailyRate);
-        
-        for (Attendance attendance : attendanceList) {
-            if (attendance.getLogoutTime() != null) {
-                LocalTime logoutTime = attendance.getLogoutTime().toLocalTime();
-                
-                if (logoutTime.isBefore(STANDARD_LOGOUT_TIME)) {
-                    long minutesShort = ChronoUnit.MINUTES.between(logoutTime, STANDARD_LOGOUT_TIME);
-                    double hoursShort = minutesShort / 60.0;
-                    totalUndertimeDeduction += hoursShort * hourlyRate;
-                }
-            }
-        }
-        
-        return totalUndertimeDeduction;
-    }
-    
-    /**
-     * Calculate SSS contribution based on salary bracket
-     */
-    private double calculateSSSContribution(double monthlySalary) {
-        // Simplified SSS calculation - you should implement actual SSS table
-        if (monthlySalary <= 4000) return 180.00;
-        if (monthlySalary <= 4750) return 202.50;
-        if (monthlySalary <= 5500) return 225.00;
-        if (monthlySalary <= 6250) return 247.50;
-        if (monthlySalary <= 7000) return 270.00;
-        if (monthlySalary <= 7750) return 292.50;
-        if (monthlySalary <= 8500) return 315.00;
-        if (monthlySalary <= 9250) return 337.50;
-        if (monthlySalary <= 10000) return 360.00;
-        // For higher salaries, use maximum contribution
-        return 1125.00; // Maximum SSS contribution
-    }
-    
-    /**
-     * Calculate PhilHealth contribution
-     */
-    private double calculatePhilHealthContribution(double monthlySalary) {
-        // Simplified PhilHealth calculation - implement actual rates
-        double rate = 0.045; // 4.5% of basic salary (shared between employer and employee)
-        double employeeShare = (monthlySalary * rate) / 2;
-        double maxContribution = 5000.00; // Maximum monthly contribution
-        return Math.min(employeeShare, maxContribution);
-    }
-    
-    /**
-     * Calculate Pag-IBIG contribution
-     */
-    private double calculatePagIBIGContribution(double monthlySalary) {
-        // Pag-IBIG contribution rates
-        if (monthlySalary <= 1500) {
-            return monthlySalary * 0.01; // 1%
-        } else {
-            return monthlySalary * 0.02; // 2%
-        }
-    }
-    
-    /**
-     * Calculate income tax using simplified TRAIN law brackets
+     * Pay for a number of working minutes at a monthly salary, in centavos
      */
-    private double calculateIncomeTax(double monthlySalary) {
-        double annualSalary = monthlySalary * 12;
-        double annualTax = 0.0;
-        
-        // Simplified TRAIN law tax brackets
-        if (annualSalary <= 250000) {
-            annualTax = 0.0; // Tax-free
-        } else if (annualSalary <= 400000) {
-            annualTax = (annualSalary - 250000) * 0.15;
-        } else if (annualSalary <= 800000) {
-            annualTax = 22500 + (annualSalary - 400000) * 0.20;
-        } else if (annualSalary <= 2000000) {
-            annualTax = 102500 + (annualSalary - 800000) * 0.25;
-        } else if (annualSalary <= 8000000) {
-            annualTax = 402500 + (annualSalary - 2000000) * 0.30;
-        } else {
-            annualTax = 2202500 + (annualSalary - 8000000) * 0.35;
-        }
-        
-        return annualTax / 12; // Monthly tax
+    static long priceMinutes(long minutes, long monthlySalary, PayrollRules rules) {
+        return Money.multiply(monthlySalary, minutes, workingMinutesPerMonth(rules), Money.DEFAULT_ROUNDING);
     }
     
     /**
@@ -413,6 +610,14 @@ public class PayrollCalculator {
         if (employeeId <= 0) {
             throw new PayrollCalculationException("Invalid employee ID");
         }
+        validatePeriod(periodStart, periodEnd);
+    }
+    
+    /**
+     * Validate payroll period
+     */
+    private void validatePeriod(LocalDate periodStart, LocalDate periodEnd) 
+            throws PayrollCalculationException {
         if (periodStart == null || periodEnd == null) {
             throw new PayrollCalculationException("Period dates cannot be null");
         }
@@ -421,24 +626,13 @@ public class PayrollCalculator {
         }
     }
     
-    /**
-     * Get employee with validation
-     */
-    private Employee getEmployeeWithValidation(int employeeId) throws PayrollCalculationException {
-        Employee employee = employeeDAO.getEmployeeById(employeeId);
-        if (employee == null) {
-            throw new PayrollCalculationException("Employee not found with ID: " + employeeId);
-        }
-        return employee;
-    }
-    
     /**
      * Get position with validation
      */
-    private Position getPositionWithValidation(int positionId) throws PayrollCalculationException {
-        Position position = positionDAO.getPositionById(positionId);
+    private Position getPositionWithValidation(PayrollInputs inputs) throws PayrollCalculationException {
+        Position position = inputs.getPosition();
         if (position == null) {
-            throw new PayrollCalculationException("Position not found with ID: " + positionId);
+            throw new PayrollCalculationException("Position not found with ID: " + inputs.getEmployee().getPositionId());
         }
         return position;
     }
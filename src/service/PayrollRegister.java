@@ -0,0 +1,159 @@
+package service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Outcome of a payroll register export by {@link ReportGenerator}: the
+ * totals written at the end of the register, per position and overall
+ *
+ * @author rejoice
+ */
+public class PayrollRegister {
+
+    /**
+     * Sums of the register's amount columns over a group of payrolls, in centavos
+     */
+    public static final class Totals {
+        private final String positionName;
+        private int payrolls;
+        private long grossPay;
+        private long sss;
+        private long philhealth;
+        private long pagibig;
+        private long tax;
+        private long timeDeductions;
+        private long totalDeductions;
+        private long netPay;
+
+        Totals(String positionName) {
+            this.positionName = positionName;
+        }
+
+        void add(long grossPay, long sss, long philhealth, long pagibig, long tax,
+                 long timeDeductions, long totalDeductions, long netPay) {
+            this.payrolls++;
+            this.grossPay += grossPay;
+            this.sss += sss;
+            this.philhealth += philhealth;
+            this.pagibig += pagibig;
+            this.tax += tax;
+            this.timeDeductions += timeDeductions;
+            this.totalDeductions += totalDeductions;
+            this.netPay += netPay;
+        }
+
+        /**
+         * @return Name of the position, or null for the grand totals
+         */
+        public String getPositionName() {
+            return positionName;
+        }
+
+        public int getPayrolls() {
+            return payrolls;
+        }
+
+        public long getGrossPayCentavos() {
+            return grossPay;
+        }
+
+        public long getSssCentavos() {
+            return sss;
+        }
+
+        public long getPhilhealthCentavos() {
+            return philhealth;
+        }
+
+        public long getPagibigCentavos() {
+            return pagibig;
+        }
+
+        public long getTaxCentavos() {
+            return tax;
+        }
+
+        /**
+         * @return Late, undertime and unpaid leave deductions together
+         */
+        public long getTimeDeductionsCentavos() {
+            return timeDeductions;
+        }
+
+        public long getTotalDeductionsCentavos() {
+            return totalDeductions;
+        }
+
+        public long getNetPayCentavos() {
+            return netPay;
+        }
+    }
+
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final Map<Integer, Totals> totalsByPosition;
+    private final Totals grandTotals;
+    private final long bytesWritten;
+    private final long elapsedNanos;
+
+    PayrollRegister(LocalDate periodStart, LocalDate periodEnd, Map<Integer, Totals> totalsByPosition,
+                    Totals grandTotals, long bytesWritten, long elapsedNanos) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.totalsByPosition = Collections.unmodifiableMap(totalsByPosition);
+        this.grandTotals = grandTotals;
+        this.bytesWritten = bytesWritten;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    /**
+     * @return Totals per position ID, in register order; employees
+     *         without a position are under ID 0
+     */
+    public Map<Integer, Totals> getTotalsByPosition() {
+        return totalsByPosition;
+    }
+
+    public Totals getGrandTotals() {
+        return grandTotals;
+    }
+
+    public int getRowCount() {
+        return grandTotals.getPayrolls();
+    }
+
+    /**
+     * @return Bytes of CSV written, before any compression
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * @return Payroll rows written per second
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos > 0 ? getRowCount() * 1e9 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows in %d positions, %d bytes in %d ms (%.0f rows/s)",
+                getRowCount(), totalsByPosition.size(), bytesWritten, getElapsed().toMillis(), getRowsPerSecond());
+    }
+}
@@ -0,0 +1,128 @@
+package service;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Company rules the payroll calculation is parameterised with.
+ * Immutable; {@link #DEFAULT} holds the rules in force, and what-if
+ * scenarios derive modified copies from it.
+ *
+ * @author rejoice
+ */
+public final class PayrollRules {
+
+    // Weekends, which the 22 working days of a month leave out; declared
+    // before DEFAULT, which uses it
+    private static final Set<DayOfWeek> DEFAULT_REST_DAYS = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    public static final PayrollRules DEFAULT = new PayrollRules(
+            22, 8, 1.25, LocalTime.of(8, 0), LocalTime.of(8, 15), LocalTime.of(17, 0));
+
+    private final int workingDaysPerMonth;
+    private final int workingHoursPerDay;
+    private final double overtimeRateMultiplier;
+    private final LocalTime standardLoginTime;
+    private final LocalTime lateThresholdTime;
+    private final LocalTime standardLogoutTime;
+    private final EnumSet<DayOfWeek> restDays;
+
+    public PayrollRules(int workingDaysPerMonth, int workingHoursPerDay, double overtimeRateMultiplier,
+                        LocalTime standardLoginTime, LocalTime lateThresholdTime, LocalTime standardLogoutTime) {
+        this(workingDaysPerMonth, workingHoursPerDay, overtimeRateMultiplier,
+                standardLoginTime, lateThresholdTime, standardLogoutTime, DEFAULT_REST_DAYS);
+    }
+
+    /**
+     * @param restDays Days of the week that are not working days; leave on them is not deducted
+     */
+    public PayrollRules(int workingDaysPerMonth, int workingHoursPerDay, double overtimeRateMultiplier,
+                        LocalTime standardLoginTime, LocalTime lateThresholdTime, LocalTime standardLogoutTime,
+                        Set<DayOfWeek> restDays) {
+        if (workingDaysPerMonth <= 0 || workingHoursPerDay <= 0) {
+            throw new IllegalArgumentException("Working days and hours must be positive");
+        }
+        if (overtimeRateMultiplier < 0) {
+            throw new IllegalArgumentException("Overtime multiplier cannot be negative");
+        }
+        if (standardLoginTime == null || lateThresholdTime == null || standardLogoutTime == null) {
+            throw new IllegalArgumentException("Schedule times cannot be null");
+        }
+        if (lateThresholdTime.isBefore(standardLoginTime)) {
+            throw new IllegalArgumentException("Late threshold cannot be before standard login time");
+        }
+        if (restDays == null || restDays.size() == DayOfWeek.values().length) {
+            throw new IllegalArgumentException("Rest days cannot be null or the whole week");
+        }
+        this.workingDaysPerMonth = workingDaysPerMonth;
+        this.workingHoursPerDay = workingHoursPerDay;
+        this.overtimeRateMultiplier = overtimeRateMultiplier;
+        this.standardLoginTime = standardLoginTime;
+        this.lateThresholdTime = lateThresholdTime;
+        this.standardLogoutTime = standardLogoutTime;
+        this.restDays = restDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(restDays);
+    }
+
+    public int getWorkingDaysPerMonth() {
+        return workingDaysPerMonth;
+    }
+
+    public int getWorkingHoursPerDay() {
+        return workingHoursPerDay;
+    }
+
+    public double getOvertimeRateMultiplier() {
+        return overtimeRateMultiplier;
+    }
+
+    public LocalTime getStandardLoginTime() {
+        return standardLoginTime;
+    }
+
+    public LocalTime getLateThresholdTime() {
+        return lateThresholdTime;
+    }
+
+    public LocalTime getStandardLogoutTime() {
+        return standardLogoutTime;
+    }
+
+    public Set<DayOfWeek> getRestDays() {
+        return EnumSet.copyOf(restDays);
+    }
+
+    public PayrollRules withOvertimeRateMultiplier(double multiplier) {
+        return new PayrollRules(workingDaysPerMonth, workingHoursPerDay, multiplier,
+                standardLoginTime, lateThresholdTime, standardLogoutTime, restDays);
+    }
+
+    public PayrollRules withLateThresholdTime(LocalTime threshold) {
+        return new PayrollRules(workingDaysPerMonth, workingHoursPerDay, overtimeRateMultiplier,
+                standardLoginTime, threshold, standardLogoutTime, restDays);
+    }
+
+    public PayrollRules withStandardLogoutTime(LocalTime logoutTime) {
+        return new PayrollRules(workingDaysPerMonth, workingHoursPerDay, overtimeRateMultiplier,
+                standardLoginTime, lateThresholdTime, logoutTime, restDays);
+    }
+
+    public PayrollRules withRestDays(Set<DayOfWeek> days) {
+        return new PayrollRules(workingDaysPerMonth, workingHoursPerDay, overtimeRateMultiplier,
+                standardLoginTime, lateThresholdTime, standardLogoutTime, days);
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollRules{" +
+                "workingDaysPerMonth=" + workingDaysPerMonth +
+                ", workingHoursPerDay=" + workingHoursPerDay +
+                ", overtimeRateMultiplier=" + overtimeRateMultiplier +
+                ", standardLoginTime=" + standardLoginTime +
+                ", lateThresholdTime=" + lateThresholdTime +
+                ", standardLogoutTime=" + standardLogoutTime +
+                ", restDays=" + restDays +
+                '}';
+    }
+}
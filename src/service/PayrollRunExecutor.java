@@ -0,0 +1,151 @@
+package service;
+
+import dao.EmployeeDAO;
+import dao.JdbcEmployeeDAO;
+import model.Employee;
+import model.Payroll;
+import service.PayrollCalculator.PayrollCalculationException;
+import util.DBConnection;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Runs {@link PayrollCalculator#calculatePayroll} for many employees at
+ * once, one virtual thread per employee. A semaphore caps how many
+ * calculations use the database at the same time, by default at the size
+ * of the connection pool, so threads queue on the semaphore instead of
+ * timing out waiting for a connection.
+ *
+ * @author rejoice
+ */
+public class PayrollRunExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(PayrollRunExecutor.class.getName());
+
+    private final PayrollCalculator calculator;
+    private final EmployeeDAO employeeDAO;
+    private final int maxConcurrency;
+
+    public PayrollRunExecutor() {
+        this(new PayrollCalculator(), new JdbcEmployeeDAO(), DBConnection.getPoolSize());
+    }
+
+    /**
+     * @param calculator Calculator each employee is run through
+     * @param employeeDAO Source of the employees of a company-wide run
+     * @param maxConcurrency Most calculations allowed to use the database at
+     *        once; divide the pool size by the connections one calculation
+     *        holds, e.g. for {@link PayrollCalculator#withConcurrentLookups}
+     */
+    public PayrollRunExecutor(PayrollCalculator calculator, EmployeeDAO employeeDAO, int maxConcurrency) {
+        if (calculator == null || employeeDAO == null) {
+            throw new IllegalArgumentException("Calculator and employee DAO cannot be null");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.calculator = calculator;
+        this.employeeDAO = employeeDAO;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Calculate payroll for every employee within a specific period
+     *
+     * @param periodStart Start date of payroll period
+     * @param periodEnd End date of payroll period
+     * @return Payrolls, failures and timings of the run
+     */
+    public PayrollRunReport run(LocalDate periodStart, LocalDate periodEnd) {
+        List<Integer> employeeIds;
+        // Only the IDs are kept, so the employee rows are streamed rather than listed
+        try (Stream<Employee> employees = employeeDAO.streamEmployees()) {
+            employeeIds = employees.map(Employee::getEmployeeId).toList();
+        }
+        return run(employeeIds, periodStart, periodEnd);
+    }
+
+    /**
+     * Calculate payroll for the given employees within a specific period.
+     * Returns once every employee has finished; results are in the order
+     * the IDs were given.
+     *
+     * @param employeeIds Employees to calculate
+     * @param periodStart Start date of payroll period
+     * @param periodEnd End date of payroll period
+     * @return Payrolls, failures and timings of the run
+     */
+    public PayrollRunReport run(Collection<Integer> employeeIds, LocalDate periodStart, LocalDate periodEnd) {
+        if (employeeIds == null) {
+            throw new IllegalArgumentException("Employee IDs cannot be null");
+        }
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+
+        Semaphore permits = new Semaphore(maxConcurrency, true);
+        long[] latencyNanos = new long[employeeIds.size()];
+        List<Future<Payroll>> futures = new ArrayList<>(employeeIds.size());
+
+        long startNanos = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int slot = 0;
+            for (int employeeId : employeeIds) {
+                int index = slot++;
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    long taskStart = System.nanoTime();
+                    try {
+                        return calculator.calculatePayroll(employeeId, periodStart, periodEnd);
+                    } finally {
+                        // Each task writes only its own slot; close() below publishes them
+                        latencyNanos[index] = System.nanoTime() - taskStart;
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        PayrollBatchResult result = new PayrollBatchResult(periodStart, periodEnd);
+        int index = 0;
+        for (int employeeId : employeeIds) {
+            collect(result, employeeId, futures.get(index++));
+        }
+
+        PayrollRunReport report = new PayrollRunReport(result, elapsedNanos, latencyNanos, maxConcurrency);
+        LOGGER.info(String.format("Payroll run for %s to %s: %s", periodStart, periodEnd, report));
+        return report;
+    }
+
+    private void collect(PayrollBatchResult result, int employeeId, Future<Payroll> future) {
+        try {
+            result.addPayroll(future.get());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            result.addFailure(employeeId, cause instanceof PayrollCalculationException pce ? pce
+                    : new PayrollCalculationException("Failed to calculate payroll: " + cause.getMessage(), cause));
+        } catch (InterruptedException e) {
+            // Every task has finished by now, so this only happens if the caller was interrupted
+            Thread.currentThread().interrupt();
+            result.addFailure(employeeId, new PayrollCalculationException("Payroll run interrupted", e));
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+}
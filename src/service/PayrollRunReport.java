@@ -0,0 +1,91 @@
+package service;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Outcome of a {@link PayrollRunExecutor} run: the calculated payrolls and
+ * failures, plus how long the run took. Latencies are per employee, from
+ * the moment its calculation got a database permit until it finished.
+ *
+ * @author rejoice
+ */
+public class PayrollRunReport {
+
+    private final PayrollBatchResult result;
+    private final long elapsedNanos;
+    private final long[] sortedLatencyNanos;
+    private final int maxConcurrency;
+
+    PayrollRunReport(PayrollBatchResult result, long elapsedNanos, long[] latencyNanos, int maxConcurrency) {
+        this.result = result;
+        this.elapsedNanos = elapsedNanos;
+        this.sortedLatencyNanos = latencyNanos.clone();
+        Arrays.sort(this.sortedLatencyNanos);
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @return Calculated payrolls and failures keyed by employee ID
+     */
+    public PayrollBatchResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return Wall-clock time of the whole run
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * @return Employees processed per second, successful or not
+     */
+    public double getThroughput() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return sortedLatencyNanos.length * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public Duration getP50Latency() {
+        return getLatencyPercentile(50);
+    }
+
+    public Duration getP99Latency() {
+        return getLatencyPercentile(99);
+    }
+
+    /**
+     * Per-employee latency at a percentile, by nearest rank
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Latency, or zero if no employee was processed
+     */
+    public Duration getLatencyPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (sortedLatencyNanos.length == 0) {
+            return Duration.ZERO;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedLatencyNanos.length);
+        return Duration.ofNanos(sortedLatencyNanos[Math.max(rank, 1) - 1]);
+    }
+
+    /**
+     * @return Most calculations allowed to use the database at once
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PayrollRunReport{succeeded=%d, failed=%d, elapsed=%d ms, throughput=%.1f employees/s, " +
+                "p50=%.2f ms, p99=%.2f ms, maxConcurrency=%d}",
+                result.getSuccessCount(), result.getFailureCount(), elapsedNanos / 1_000_000, getThroughput(),
+                getP50Latency().toNanos() / 1e6, getP99Latency().toNanos() / 1e6, maxConcurrency);
+    }
+}
@@ -0,0 +1,132 @@
+package service;
+
+import dao.JdbcPayrollInputsDAO;
+import dao.PayrollInputsDAO;
+import model.Payroll;
+import model.PayrollInputs;
+import model.Position;
+import service.PayrollCalculator.PayrollCalculationException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * What-if payroll analysis. Runs the regular calculation pipeline over the
+ * whole workforce twice, once under the current rules and once with the
+ * overrides applied, and reports the cost difference. Nothing is written
+ * to the database.
+ *
+ * @author rejoice
+ */
+public class PayrollSimulator {
+
+    private static final Logger LOGGER = Logger.getLogger(PayrollSimulator.class.getName());
+
+    private final PayrollCalculator calculator;
+    private final PayrollInputsDAO inputsDAO;
+
+    public PayrollSimulator() {
+        this(new PayrollCalculator(), new JdbcPayrollInputsDAO());
+    }
+
+    public PayrollSimulator(PayrollCalculator calculator, PayrollInputsDAO inputsDAO) {
+        this.calculator = calculator;
+        this.inputsDAO = inputsDAO;
+    }
+
+    /**
+     * Simulate a period for every employee
+     *
+     * @param periodStart Start date of payroll period
+     * @param periodEnd End date of payroll period
+     * @param overrides Changes to simulate
+     * @return Baseline and scenario totals across the workforce
+     */
+    public SimulationResult simulate(LocalDate periodStart, LocalDate periodEnd, SimulationOverrides overrides) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+        Map<Integer, PayrollInputs> inputs = inputsDAO.loadPayrollInputsForAll(periodStart, periodEnd);
+        return simulate(inputs.values(), overrides);
+    }
+
+    /**
+     * Simulate over already loaded inputs, so finance can try several
+     * scenarios against one load of the period
+     *
+     * @param inputs Payroll inputs of every employee to include
+     * @param overrides Changes to simulate
+     * @return Baseline and scenario totals across the workforce
+     */
+    public SimulationResult simulate(Collection<PayrollInputs> inputs, SimulationOverrides overrides) {
+        if (inputs == null) {
+            throw new IllegalArgumentException("Payroll inputs cannot be null");
+        }
+        SimulationOverrides scenario = overrides != null ? overrides : new SimulationOverrides();
+        PayrollRules baselineRules = calculator.getRules();
+        PayrollRules scenarioRules = scenario.applyTo(baselineRules);
+        Map<Integer, Position> adjustedPositions = new HashMap<>();
+
+        // Positions are shared between employees, so adjust each one once up front
+        if (scenario.hasSalaryOverrides()) {
+            for (PayrollInputs employeeInputs : inputs) {
+                Position position = employeeInputs.getPosition();
+                if (position != null) {
+                    adjustedPositions.computeIfAbsent(position.getPositionId(),
+                            id -> adjustPosition(position, scenario));
+                }
+            }
+        }
+
+        long startNanos = System.nanoTime();
+        SimulationResult result = inputs.parallelStream().collect(
+                SimulationResult::new,
+                (acc, employeeInputs) -> simulateEmployee(acc, employeeInputs, baselineRules,
+                        scenarioRules, adjustedPositions),
+                SimulationResult::combine);
+
+        LOGGER.log(Level.INFO, "Simulated {0} employees in {1} ms: {2}", new Object[]{
+                inputs.size(), (System.nanoTime() - startNanos) / 1_000_000, result});
+        return result;
+    }
+
+    private void simulateEmployee(SimulationResult acc, PayrollInputs inputs, PayrollRules baselineRules,
+                                  PayrollRules scenarioRules, Map<Integer, Position> adjustedPositions) {
+        try {
+            Payroll baseline = calculator.simulatePayroll(inputs, baselineRules);
+
+            PayrollInputs scenarioInputs = inputs;
+            if (inputs.getPosition() != null) {
+                Position adjusted = adjustedPositions.get(inputs.getPosition().getPositionId());
+                if (adjusted != null) {
+                    scenarioInputs = inputs.withPosition(adjusted);
+                }
+            }
+            Payroll scenario = calculator.simulatePayroll(scenarioInputs, scenarioRules);
+
+            int positionId = inputs.getPosition() != null ? inputs.getPosition().getPositionId() : 0;
+            acc.add(positionId,
+                    baseline.getGrossPayCentavos(), scenario.getGrossPayCentavos(),
+                    baseline.getTotalDeductionsCentavos(), scenario.getTotalDeductionsCentavos(),
+                    baseline.getNetPayCentavos(), scenario.getNetPayCentavos());
+        } catch (PayrollCalculationException e) {
+            LOGGER.log(Level.FINE, "Simulation skipped employee " + inputs.getEmployeeId(), e);
+            acc.addFailure();
+        }
+    }
+
+    private Position adjustPosition(Position position, SimulationOverrides overrides) {
+        Position adjusted = new Position();
+        adjusted.setPositionId(position.getPositionId());
+        adjusted.setPositionName(position.getPositionName());
+        adjusted.setMonthlySalary(overrides.adjustSalary(position.getPositionId(), position.getMonthlySalary()));
+        return adjusted;
+    }
+}
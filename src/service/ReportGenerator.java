@@ -1,13 +1,360 @@
-/*
- * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
- * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
- */
 package service;
 
+import util.DBConnection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
 /**
+ * Payroll register export. The payrolls of a period are streamed from the
+ * database row by row and written as CSV through a fixed-size buffer, so
+ * memory use does not grow with the number of payrolls. Rows come sorted
+ * by position; a subtotal line, labelled with the position name, closes
+ * each position and a grand total line closes the register, summed as the
+ * rows go by.
+ * <p>
+ * Amounts are read as whole centavos and written as pesos with two
+ * decimals, without going through floating point.
  *
  * @author rejoice
  */
 public class ReportGenerator {
-    
+
+    private static final Logger LOGGER = Logger.getLogger(ReportGenerator.class.getName());
+
+    // Bytes gathered before each write to the channel
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Amounts as whole centavos, so no BigDecimal is built per column
+    private static final String SELECT_REGISTER = """
+        SELECT p.employee_id, e.last_name, e.first_name, e.position_id, pos.position_name,
+               p.period_start, p.period_end, p.days_worked, p.overtime_hours,
+               CAST(p.gross_pay * 100 AS SIGNED) AS gross_pay,
+               CAST(p.sss * 100 AS SIGNED) AS sss,
+               CAST(p.philhealth * 100 AS SIGNED) AS philhealth,
+               CAST(p.pagibig * 100 AS SIGNED) AS pagibig,
+               CAST(p.tax * 100 AS SIGNED) AS tax,
+               CAST((p.late_deduction + p.undertime_deduction + p.unpaid_leave_deduction) * 100 AS SIGNED) AS time_deductions,
+               CAST(p.total_deductions * 100 AS SIGNED) AS total_deductions,
+               CAST(p.net_pay * 100 AS SIGNED) AS net_pay
+        FROM payroll p
+        JOIN employee e ON e.employee_id = p.employee_id
+        LEFT JOIN position pos ON pos.position_id = e.position_id
+        WHERE p.period_start >= ? AND p.period_end <= ?
+        ORDER BY e.position_id, p.employee_id, p.period_start""";
+
+    private static final String HEADER = "Employee ID,Last Name,First Name,Position,Period Start,Period End,"
+            + "Days Worked,Overtime Hours,Gross Pay,SSS,PhilHealth,Pag-IBIG,Tax,Time Deductions,"
+            + "Total Deductions,Net Pay";
+
+    // Position name of employees without one
+    private static final String NO_POSITION = "(No position)";
+
+    /**
+     * Write the payroll register of a period to a file, gzip-compressed if
+     * the file name ends with {@code .gz}
+     *
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @param file File to write; replaced if it exists
+     * @return Totals written and timings
+     * @throws IOException if the file cannot be written
+     */
+    public PayrollRegister writePayrollRegister(LocalDate periodStart, LocalDate periodEnd, Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        boolean gzip = file.getFileName().toString().endsWith(".gz");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (!gzip) {
+                return writePayrollRegister(periodStart, periodEnd, channel);
+            }
+            try (GZIPOutputStream out = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                return writePayrollRegister(periodStart, periodEnd, out);
+            }
+        }
+    }
+
+    /**
+     * Write the payroll register of a period to a stream, which is left open
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    public PayrollRegister writePayrollRegister(LocalDate periodStart, LocalDate periodEnd, OutputStream out)
+            throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        PayrollRegister register = writePayrollRegister(periodStart, periodEnd, Channels.newChannel(out));
+        out.flush();
+        return register;
+    }
+
+    /**
+     * Write the payroll register of a period to a channel, which is left open
+     *
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @param channel Channel the CSV is written to
+     * @return Totals written and timings
+     * @throws IOException if the channel cannot be written
+     */
+    public PayrollRegister writePayrollRegister(LocalDate periodStart, LocalDate periodEnd, WritableByteChannel channel)
+            throws IOException {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_REGISTER,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            // Have the driver stream rows instead of reading the whole result first
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                PayrollRegister register = writeRegister(rs, periodStart, periodEnd, channel);
+                LOGGER.info(String.format("Payroll register for %s to %s: %s", periodStart, periodEnd, register));
+                return register;
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, String.format("Error exporting payroll register for %s to %s",
+                    periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to export payroll register", ex);
+        }
+    }
+
+    /**
+     * Write the rows of a register query, closing each position with its
+     * subtotal. The rows need the columns of the register query, sorted by
+     * position ID.
+     *
+     * @param rs Rows to write, read to the end and left open
+     * @return Totals written and timings
+     * @throws SQLException if the rows cannot be read
+     * @throws IOException if the channel cannot be written
+     */
+    public PayrollRegister writeRegister(ResultSet rs, LocalDate periodStart, LocalDate periodEnd,
+                                         WritableByteChannel channel) throws SQLException, IOException {
+        long startNanos = System.nanoTime();
+        CsvWriter csv = new CsvWriter(channel);
+        csv.text(HEADER).endLine();
+
+        Map<Integer, PayrollRegister.Totals> totalsByPosition = new LinkedHashMap<>();
+        PayrollRegister.Totals grandTotals = new PayrollRegister.Totals(null);
+        PayrollRegister.Totals positionTotals = null;
+        int positionId = 0;
+
+        while (rs.next()) {
+            // Employees without a position are grouped under ID 0
+            int rowPositionId = rs.getInt("position_id");
+            if (positionTotals == null || rowPositionId != positionId) {
+                if (positionTotals != null) {
+                    writeTotals(csv, "Subtotal", positionTotals);
+                }
+                positionId = rowPositionId;
+                String name = rs.getString("position_name");
+                positionTotals = new PayrollRegister.Totals(name != null ? name : NO_POSITION);
+                totalsByPosition.put(positionId, positionTotals);
+            }
+
+            long grossPay = rs.getLong("gross_pay");
+            long sss = rs.getLong("sss");
+            long philhealth = rs.getLong("philhealth");
+            long pagibig = rs.getLong("pagibig");
+            long tax = rs.getLong("tax");
+            long timeDeductions = rs.getLong("time_deductions");
+            long totalDeductions = rs.getLong("total_deductions");
+            long netPay = rs.getLong("net_pay");
+
+            csv.number(rs.getInt("employee_id")).comma()
+                    .field(rs.getString("last_name")).comma()
+                    .field(rs.getString("first_name")).comma()
+                    .field(positionTotals.getPositionName()).comma()
+                    .text(rs.getString("period_start")).comma()
+                    .text(rs.getString("period_end")).comma()
+                    .number(rs.getInt("days_worked")).comma()
+                    .hundredths(Math.round(rs.getDouble("overtime_hours") * 100)).comma()
+                    .hundredths(grossPay).comma()
+                    .hundredths(sss).comma()
+                    .hundredths(philhealth).comma()
+                    .hundredths(pagibig).comma()
+                    .hundredths(tax).comma()
+                    .hundredths(timeDeductions).comma()
+                    .hundredths(totalDeductions).comma()
+                    .hundredths(netPay).endLine();
+
+            positionTotals.add(grossPay, sss, philhealth, pagibig, tax, timeDeductions, totalDeductions, netPay);
+            grandTotals.add(grossPay, sss, philhealth, pagibig, tax, timeDeductions, totalDeductions, netPay);
+        }
+        if (positionTotals != null) {
+            writeTotals(csv, "Subtotal", positionTotals);
+        }
+        writeTotals(csv, "Total", grandTotals);
+        csv.flush();
+
+        return new PayrollRegister(periodStart, periodEnd, totalsByPosition, grandTotals,
+                csv.getBytesWritten(), System.nanoTime() - startNanos);
+    }
+
+    /**
+     * A totals line: label in the ID column, position name if any in the
+     * position column, payroll count in the days column
+     */
+    private static void writeTotals(CsvWriter csv, String label, PayrollRegister.Totals totals) throws IOException {
+        csv.text(label).comma().comma().comma()
+                .field(totals.getPositionName()).comma().comma().comma()
+                .number(totals.getPayrolls()).comma().comma()
+                .hundredths(totals.getGrossPayCentavos()).comma()
+                .hundredths(totals.getSssCentavos()).comma()
+                .hundredths(totals.getPhilhealthCentavos()).comma()
+                .hundredths(totals.getPagibigCentavos()).comma()
+                .hundredths(totals.getTaxCentavos()).comma()
+                .hundredths(totals.getTimeDeductionsCentavos()).comma()
+                .hundredths(totals.getTotalDeductionsCentavos()).comma()
+                .hundredths(totals.getNetPayCentavos()).endLine();
+    }
+
+    /**
+     * Builds one CSV line at a time and encodes it as UTF-8 into a reused
+     * buffer, writing the buffer to the channel whenever it fills
+     */
+    private static final class CsvWriter {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final StringBuilder line = new StringBuilder(256);
+        private long bytesWritten;
+
+        CsvWriter(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        CsvWriter text(String value) {
+            if (value != null) {
+                line.append(value);
+            }
+            return this;
+        }
+
+        /**
+         * Free text, quoted if it holds a separator, quote or line break
+         */
+        CsvWriter field(String value) {
+            if (value == null) {
+                return this;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                line.append(value);
+                return this;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    line.append('"');
+                }
+                line.append(c);
+            }
+            line.append('"');
+            return this;
+        }
+
+        CsvWriter number(long value) {
+            line.append(value);
+            return this;
+        }
+
+        /**
+         * A count of hundredths, such as centavos, written with two decimals
+         */
+        CsvWriter hundredths(long value) {
+            if (value < 0) {
+                line.append('-');
+                value = -value;
+            }
+            long fraction = value % 100;
+            line.append(value / 100).append('.');
+            if (fraction < 10) {
+                line.append('0');
+            }
+            line.append(fraction);
+            return this;
+        }
+
+        CsvWriter comma() {
+            line.append(',');
+            return this;
+        }
+
+        void endLine() throws IOException {
+            line.append('\n');
+            CharBuffer chars = CharBuffer.wrap(line);
+            while (true) {
+                CoderResult result = encoder.encode(chars, buffer, true);
+                if (result.isOverflow()) {
+                    drain();
+                } else {
+                    break;
+                }
+            }
+            encoder.reset();
+            line.setLength(0);
+        }
+
+        void flush() throws IOException {
+            drain();
+        }
+
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            bytesWritten += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package service;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What-if changes applied on top of the current payroll rules by
+ * {@link PayrollSimulator}. Anything left unset keeps its current value.
+ *
+ * @author rejoice
+ */
+public class SimulationOverrides {
+
+    private final Map<Integer, Double> salaryIncreasePercentByPosition = new HashMap<>();
+    private LocalTime lateThresholdTime;
+    private Double overtimeRateMultiplier;
+
+    /**
+     * Raise (or with a negative value, cut) the monthly salary of a position
+     * @param positionId Position ID
+     * @param percent Increase in percent, e.g. 5.0 for +5%
+     */
+    public void setSalaryIncreasePercent(int positionId, double percent) {
+        if (percent <= -100.0) {
+            throw new IllegalArgumentException("Salary cannot be reduced by 100% or more");
+        }
+        salaryIncreasePercentByPosition.put(positionId, percent);
+    }
+
+    public Map<Integer, Double> getSalaryIncreasePercentByPosition() {
+        return Collections.unmodifiableMap(salaryIncreasePercentByPosition);
+    }
+
+    public LocalTime getLateThresholdTime() {
+        return lateThresholdTime;
+    }
+
+    public void setLateThresholdTime(LocalTime lateThresholdTime) {
+        this.lateThresholdTime = lateThresholdTime;
+    }
+
+    public Double getOvertimeRateMultiplier() {
+        return overtimeRateMultiplier;
+    }
+
+    public void setOvertimeRateMultiplier(Double overtimeRateMultiplier) {
+        if (overtimeRateMultiplier != null && overtimeRateMultiplier < 0) {
+            throw new IllegalArgumentException("Overtime multiplier cannot be negative");
+        }
+        this.overtimeRateMultiplier = overtimeRateMultiplier;
+    }
+
+    /**
+     * @return The base rules with every rule override applied
+     */
+    public PayrollRules applyTo(PayrollRules base) {
+        PayrollRules rules = base;
+        if (lateThresholdTime != null) {
+            rules = rules.withLateThresholdTime(lateThresholdTime);
+        }
+        if (overtimeRateMultiplier != null) {
+            rules = rules.withOvertimeRateMultiplier(overtimeRateMultiplier);
+        }
+        return rules;
+    }
+
+    /**
+     * @return The monthly salary of a position after its override, if any
+     */
+    public double adjustSalary(int positionId, double monthlySalary) {
+        Double percent = salaryIncreasePercentByPosition.get(positionId);
+        return percent == null ? monthlySalary : monthlySalary * (1.0 + percent / 100.0);
+    }
+
+    public boolean hasSalaryOverrides() {
+        return !salaryIncreasePercentByPosition.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationOverrides{" +
+                "salaryIncreasePercentByPosition=" + salaryIncreasePercentByPosition +
+                ", lateThresholdTime=" + lateThresholdTime +
+                ", overtimeRateMultiplier=" + overtimeRateMultiplier +
+                '}';
+    }
+}
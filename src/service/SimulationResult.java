@@ -0,0 +1,124 @@
+package service;
+
+import util.Money;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Workforce-wide totals of a what-if payroll simulation, comparing the
+ * current rules (baseline) with the simulated ones (scenario)
+ *
+ * @author rejoice
+ */
+public class SimulationResult {
+
+    private int employeeCount;
+    private int failedCount;
+    // Totals in centavos, so they do not depend on the order workers are combined in
+    private long baselineGrossPay;
+    private long scenarioGrossPay;
+    private long baselineDeductions;
+    private long scenarioDeductions;
+    private long baselineNetPay;
+    private long scenarioNetPay;
+    private final Map<Integer, Long> grossPayDeltaByPosition = new HashMap<>();
+
+    SimulationResult() {}
+
+    // Accumulation - each parallel worker fills its own instance, then they are combined
+
+    void add(int positionId, long baselineGross, long scenarioGross, long baselineDed,
+             long scenarioDed, long baselineNet, long scenarioNet) {
+        employeeCount++;
+        baselineGrossPay += baselineGross;
+        scenarioGrossPay += scenarioGross;
+        baselineDeductions += baselineDed;
+        scenarioDeductions += scenarioDed;
+        baselineNetPay += baselineNet;
+        scenarioNetPay += scenarioNet;
+        grossPayDeltaByPosition.merge(positionId, scenarioGross - baselineGross, Long::sum);
+    }
+
+    void addFailure() {
+        failedCount++;
+    }
+
+    void combine(SimulationResult other) {
+        employeeCount += other.employeeCount;
+        failedCount += other.failedCount;
+        baselineGrossPay += other.baselineGrossPay;
+        scenarioGrossPay += other.scenarioGrossPay;
+        baselineDeductions += other.baselineDeductions;
+        scenarioDeductions += other.scenarioDeductions;
+        baselineNetPay += other.baselineNetPay;
+        scenarioNetPay += other.scenarioNetPay;
+        other.grossPayDeltaByPosition.forEach((id, delta) -> grossPayDeltaByPosition.merge(id, delta, Long::sum));
+    }
+
+    /**
+     * @return Number of employees included in the totals
+     */
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    /**
+     * @return Number of employees left out because their calculation failed
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public double getBaselineGrossPay() {
+        return Money.toPesos(baselineGrossPay);
+    }
+
+    public double getScenarioGrossPay() {
+        return Money.toPesos(scenarioGrossPay);
+    }
+
+    public double getBaselineDeductions() {
+        return Money.toPesos(baselineDeductions);
+    }
+
+    public double getScenarioDeductions() {
+        return Money.toPesos(scenarioDeductions);
+    }
+
+    public double getBaselineNetPay() {
+        return Money.toPesos(baselineNetPay);
+    }
+
+    public double getScenarioNetPay() {
+        return Money.toPesos(scenarioNetPay);
+    }
+
+    public double getGrossPayDelta() {
+        return Money.toPesos(scenarioGrossPay - baselineGrossPay);
+    }
+
+    public double getDeductionsDelta() {
+        return Money.toPesos(scenarioDeductions - baselineDeductions);
+    }
+
+    public double getNetPayDelta() {
+        return Money.toPesos(scenarioNetPay - baselineNetPay);
+    }
+
+    /**
+     * @return Change in gross pay per position ID
+     */
+    public Map<Integer, Double> getGrossPayDeltaByPosition() {
+        Map<Integer, Double> deltas = new HashMap<>();
+        grossPayDeltaByPosition.forEach((id, delta) -> deltas.put(id, Money.toPesos(delta)));
+        return deltas;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimulationResult{employees=%d, failed=%d, grossPayDelta=%.2f, " +
+                "deductionsDelta=%.2f, netPayDelta=%.2f}",
+                employeeCount, failedCount, getGrossPayDelta(), getDeductionsDelta(), getNetPayDelta());
+    }
+}
@@ -1,23 +1,132 @@
-
 package util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 public class DBConnection {
-    private static final String URL = "jdbc:mysql://localhost:3306/payroll_system";
-    private static final String USER = "root";  // change if using another user
-    private static final String PASSWORD = "test1234"; // replace with your MySQL password
+    private static final String URL = System.getProperty("payroll.db.url",
+            "jdbc:mysql://localhost:3306/payroll_system");
+    // Batched inserts are sent as multi-row inserts by the driver, and updates
+    // count the rows they change rather than those they match, so a skipped
+    // duplicate of ON DUPLICATE KEY UPDATE counts zero. Kept off the shared
+    // URL: rewritten batches report SUCCESS_NO_INFO instead of per-row counts,
+    // and UPDATE callers expect a matched row to count even if unchanged.
+    private static final String BATCH_URL = System.getProperty("payroll.db.batchUrl",
+            URL + (URL.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true&useAffectedRows=true");
+    // Stacked statements, for the one-round-trip payroll inputs load only; kept
+    // off the shared URL so no other statement can smuggle in a second one
+    private static final String MULTI_QUERY_URL = System.getProperty("payroll.db.multiQueryUrl",
+            URL + (URL.contains("?") ? "&" : "?") + "allowMultiQueries=true");
+    private static final String USER = System.getProperty("payroll.db.user", "root");  // change if using another user
+    private static final String PASSWORD = System.getProperty("payroll.db.password", "test1234"); // replace with your MySQL password
+
+    // Pool tuning, overridable with -Dpayroll.db.pool.<name>=<value>
+    private static final int POOL_MAX_SIZE = Integer.getInteger("payroll.db.pool.maxSize", 10);
+    private static final long POOL_IDLE_TIMEOUT_MS = Long.getLong("payroll.db.pool.idleTimeoutMs", 600_000L);
+    private static final long POOL_MAX_LIFETIME_MS = Long.getLong("payroll.db.pool.maxLifetimeMs", 1_800_000L);
+    private static final long POOL_ACQUIRE_TIMEOUT_MS = Long.getLong("payroll.db.pool.acquireTimeoutMs", 30_000L);
+    private static final int BATCH_POOL_MAX_SIZE = Integer.getInteger("payroll.db.batchPool.maxSize", 2);
+    // As large as the shared pool, so runs bounded by getPoolSize() never wait on it
+    private static final int MULTI_QUERY_POOL_MAX_SIZE =
+            Integer.getInteger("payroll.db.multiQueryPool.maxSize", POOL_MAX_SIZE);
 
+    private static final boolean DRIVER_LOADED = loadDriver();
+    private static final PooledDataSource DATA_SOURCE = createDataSource(URL, POOL_MAX_SIZE);
+    // Created on first use, as only payroll runs and imports write in bulk
+    private static PooledDataSource batchDataSource;
+    // Created on first use, as only single-employee payroll loads stack statements
+    private static PooledDataSource multiQueryDataSource;
+
+    /**
+     * Borrows a connection from the shared pool. Closing it returns it to the pool.
+     */
     public static Connection getConnection() throws SQLException {
+        if (!DRIVER_LOADED) {
+            return null;
+        }
+        return DATA_SOURCE.getConnection();
+    }
+
+    /**
+     * Borrows a connection for bulk writes such as payroll batches and
+     * attendance imports, from a small pool whose driver rewrites each
+     * batch into multi-row inserts. Update counts of its batches are not
+     * per row, and its updates count changed rather than matched rows.
+     */
+    public static Connection getBatchConnection() throws SQLException {
+        if (!DRIVER_LOADED) {
+            return null;
+        }
+        return getBatchDataSource().getConnection();
+    }
+
+    /**
+     * Borrows a connection that accepts several statements separated by
+     * semicolons and returns one result set per statement, from a pool of
+     * its own. Only for loaders that build their statements from constants,
+     * such as the single-employee payroll inputs load.
+     */
+    public static Connection getMultiQueryConnection() throws SQLException {
+        if (!DRIVER_LOADED) {
+            return null;
+        }
+        return getMultiQueryDataSource().getConnection();
+    }
+
+    public static PooledDataSource getDataSource() {
+        return DATA_SOURCE;
+    }
+
+    /**
+     * @return Maximum number of connections the shared pool will open
+     */
+    public static int getPoolSize() {
+        return DATA_SOURCE.getMaxPoolSize();
+    }
+
+    public static void shutdown() {
+        DATA_SOURCE.close();
+        synchronized (DBConnection.class) {
+            if (batchDataSource != null) {
+                batchDataSource.close();
+            }
+            if (multiQueryDataSource != null) {
+                multiQueryDataSource.close();
+            }
+        }
+    }
+
+    private static synchronized PooledDataSource getBatchDataSource() {
+        if (batchDataSource == null) {
+            batchDataSource = createDataSource(BATCH_URL, BATCH_POOL_MAX_SIZE);
+        }
+        return batchDataSource;
+    }
+
+    private static synchronized PooledDataSource getMultiQueryDataSource() {
+        if (multiQueryDataSource == null) {
+            multiQueryDataSource = createDataSource(MULTI_QUERY_URL, MULTI_QUERY_POOL_MAX_SIZE);
+        }
+        return multiQueryDataSource;
+    }
+
+    private static boolean loadDriver() {
         try {
             Class.forName("com.mysql.cj.jdbc.Driver"); // Load JDBC driver
-            return DriverManager.getConnection(URL, USER, PASSWORD);
+            return true;
         } catch (ClassNotFoundException ex) {
             System.out.println("MySQL JDBC Driver not found.");
             ex.printStackTrace();
-            return null;
+            return false;
         }
     }
-}
\ No newline at end of file
+
+    private static PooledDataSource createDataSource(String url, int maxPoolSize) {
+        PooledDataSource ds = new PooledDataSource(url, USER, PASSWORD);
+        ds.setMaxPoolSize(maxPoolSize);
+        ds.setIdleTimeoutMillis(POOL_IDLE_TIMEOUT_MS);
+        ds.setMaxLifetimeMillis(POOL_MAX_LIFETIME_MS);
+        ds.setAcquireTimeoutMillis(POOL_ACQUIRE_TIMEOUT_MS);
+        return ds;
+    }
+}
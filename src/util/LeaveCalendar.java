@@ -0,0 +1,239 @@
+package util;
+
+import model.LeaveRequest;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Leave days held as bitmaps, one per employee, leave type and year, with
+ * a bit for each day of the year. Counting the leave days within a pay
+ * period is then a population count over the words the period spans,
+ * with the first and last word masked; a day covered by several leaves is
+ * counted once. Leave types are matched ignoring case.
+ * <p>
+ * Rest days are never marked, so counts are working days, the basis days
+ * are paid and deducted on. A calendar without rest days counts calendar
+ * days, as {@link LeaveRequest#getLeaveDays} does.
+ * <p>
+ * Build one calendar for a payroll run with {@link #of} over the leaves
+ * already loaded for it, and add leaves as they are approved with
+ * {@link #add}.
+ * @author rejoice
+ */
+public class LeaveCalendar {
+
+    // 366 days fit in six words
+    private static final int WORDS_PER_YEAR = 6;
+
+    private final EnumSet<DayOfWeek> restDays;
+    private final ConcurrentHashMap<Integer, Days> byEmployee = new ConcurrentHashMap<>();
+    // Working-day bits of each year marked so far
+    private final ConcurrentHashMap<Integer, long[]> workingDays = new ConcurrentHashMap<>();
+
+    /**
+     * @param restDays Days of the week that are never counted as leave
+     */
+    public LeaveCalendar(Set<DayOfWeek> restDays) {
+        if (restDays == null) {
+            throw new IllegalArgumentException("Rest days cannot be null");
+        }
+        this.restDays = restDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(restDays);
+    }
+
+    /**
+     * Calendar of the given leaves, e.g. the approved leaves loaded for a
+     * payroll run
+     * @param leaves Leaves to mark
+     * @param restDays Days of the week that are never counted as leave
+     */
+    public static LeaveCalendar of(Collection<LeaveRequest> leaves, Set<DayOfWeek> restDays) {
+        LeaveCalendar calendar = new LeaveCalendar(restDays);
+        calendar.addAll(leaves);
+        return calendar;
+    }
+
+    /**
+     * Marks every working day of a leave
+     */
+    public void add(LeaveRequest leave) {
+        if (leave == null) {
+            throw new IllegalArgumentException("Leave request cannot be null");
+        }
+        if (leave.getEmployeeId() <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (leave.getLeaveType() == null) {
+            throw new IllegalArgumentException("Leave type cannot be null");
+        }
+        LocalDate start = leave.getStartDateAsLocalDate();
+        LocalDate end = leave.getEndDateAsLocalDate();
+        validateDateRange(start, end);
+        Days days = byEmployee.computeIfAbsent(leave.getEmployeeId(), id -> new Days());
+        synchronized (days) {
+            days.mark(typeKey(leave.getLeaveType()), start, end, this::workingDays);
+        }
+    }
+
+    public void addAll(Collection<LeaveRequest> leaves) {
+        for (LeaveRequest leave : leaves) {
+            add(leave);
+        }
+    }
+
+    /**
+     * Replaces an employee's leave days, e.g. after a leave was cancelled
+     */
+    public void replace(int employeeId, Collection<LeaveRequest> leaves) {
+        byEmployee.remove(employeeId);
+        for (LeaveRequest leave : leaves) {
+            if (leave.getEmployeeId() != employeeId) {
+                throw new IllegalArgumentException("Leave " + leave.getLeaveId() + " is not of employee " + employeeId);
+            }
+            add(leave);
+        }
+    }
+
+    /**
+     * Working days within a date range on leave of any type
+     */
+    public int countDays(int employeeId, LocalDate start, LocalDate end) {
+        return count(employeeId, null, start, end);
+    }
+
+    /**
+     * Working days within a date range on leave of one type
+     */
+    public int countDays(int employeeId, String leaveType, LocalDate start, LocalDate end) {
+        if (leaveType == null) {
+            throw new IllegalArgumentException("Leave type cannot be null");
+        }
+        return count(employeeId, typeKey(leaveType), start, end);
+    }
+
+    /**
+     * @return true if the employee is on leave of any type on the date; always false on a rest day
+     */
+    public boolean isOnLeave(int employeeId, LocalDate date) {
+        return countDays(employeeId, date, date) > 0;
+    }
+
+    public Set<DayOfWeek> getRestDays() {
+        return EnumSet.copyOf(restDays);
+    }
+
+    public int employeeCount() {
+        return byEmployee.size();
+    }
+
+    public void clear() {
+        byEmployee.clear();
+    }
+
+    private int count(int employeeId, String typeKey, LocalDate start, LocalDate end) {
+        validateDateRange(start, end);
+        Days days = byEmployee.get(employeeId);
+        if (days == null) {
+            return 0;
+        }
+        synchronized (days) {
+            return days.count(typeKey, start, end);
+        }
+    }
+
+    /**
+     * Bits of the days of a year that are not rest days
+     */
+    private long[] workingDays(int year) {
+        return workingDays.computeIfAbsent(year, y -> {
+            long[] words = new long[WORDS_PER_YEAR];
+            LocalDate day = LocalDate.of(y, 1, 1);
+            for (int i = 0; day.getYear() == y; i++, day = day.plusDays(1)) {
+                if (!restDays.contains(day.getDayOfWeek())) {
+                    words[i >>> 6] |= 1L << i;
+                }
+            }
+            return words;
+        });
+    }
+
+    private static void validateDateRange(LocalDate start, LocalDate end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+    }
+
+    private static String typeKey(String leaveType) {
+        return leaveType.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * One employee's leave days by type and year. Callers hold its monitor.
+     */
+    private static final class Days {
+        private final Map<String, Map<Integer, long[]>> byType = new HashMap<>();
+
+        void mark(String typeKey, LocalDate start, LocalDate end, IntFunction<long[]> workingDays) {
+            Map<Integer, long[]> years = byType.computeIfAbsent(typeKey, type -> new HashMap<>());
+            for (int year = start.getYear(); year <= end.getYear(); year++) {
+                long[] words = years.computeIfAbsent(year, y -> new long[WORDS_PER_YEAR]);
+                long[] working = workingDays.apply(year);
+                int from = year == start.getYear() ? start.getDayOfYear() - 1 : 0;
+                int to = year == end.getYear() ? end.getDayOfYear() - 1 : LocalDate.of(year, 12, 31).getDayOfYear() - 1;
+                for (int word = from >>> 6; word <= to >>> 6; word++) {
+                    words[word] |= mask(word, from, to) & working[word];
+                }
+            }
+        }
+
+        /**
+         * @param typeKey Leave type, or null for any type
+         */
+        int count(String typeKey, LocalDate start, LocalDate end) {
+            List<Map<Integer, long[]>> types;
+            if (typeKey == null) {
+                types = List.copyOf(byType.values());
+            } else {
+                Map<Integer, long[]> years = byType.get(typeKey);
+                types = years != null ? List.of(years) : List.of();
+            }
+            int count = 0;
+            for (int year = start.getYear(); year <= end.getYear(); year++) {
+                int from = year == start.getYear() ? start.getDayOfYear() - 1 : 0;
+                int to = year == end.getYear() ? end.getDayOfYear() - 1 : LocalDate.of(year, 12, 31).getDayOfYear() - 1;
+                for (int word = from >>> 6; word <= to >>> 6; word++) {
+                    // Union across types, so a day under two leave types counts once
+                    long bits = 0;
+                    for (Map<Integer, long[]> years : types) {
+                        long[] words = years.get(year);
+                        if (words != null) {
+                            bits |= words[word];
+                        }
+                    }
+                    count += Long.bitCount(bits & mask(word, from, to));
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Bits of a word that fall within days {@code from} to {@code to} of the year, inclusive
+         */
+        private static long mask(int word, int from, int to) {
+            int low = Math.max(from - (word << 6), 0);
+            int high = Math.min(to - (word << 6), 63);
+            return (-1L >>> (63 - high)) & (-1L << low);
+        }
+    }
+}
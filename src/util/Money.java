@@ -0,0 +1,162 @@
+package util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money arithmetic on {@code long} centavos. Amounts are plain
+ * primitives, so sums are exact and nothing is allocated on the
+ * calculation path; rounding happens only where a method takes a
+ * {@link RoundingMode}. Overflow throws {@link ArithmeticException}
+ * rather than wrapping, which leaves room for about 92 quadrillion pesos.
+ *
+ * @author rejoice
+ */
+public final class Money {
+
+    public static final long CENTAVOS_PER_PESO = 100;
+
+    /** Rounding used for payroll amounts unless a rule says otherwise */
+    public static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_UP;
+
+    private Money() {}
+
+    /**
+     * Convert a peso amount to centavos, rounding to the nearest centavo
+     * with {@link #DEFAULT_ROUNDING}. Amounts with at most two decimals
+     * convert exactly.
+     */
+    public static long fromPesos(double pesos) {
+        return fromPesos(pesos, DEFAULT_ROUNDING);
+    }
+
+    /**
+     * Convert a peso amount to centavos with the given rounding
+     */
+    public static long fromPesos(double pesos, RoundingMode mode) {
+        return round(pesos * CENTAVOS_PER_PESO, mode);
+    }
+
+    /**
+     * Convert centavos to pesos, for display and for APIs that still take doubles
+     */
+    public static double toPesos(long centavos) {
+        return centavos / (double) CENTAVOS_PER_PESO;
+    }
+
+    /**
+     * Convert a DECIMAL column value to centavos; null reads as zero
+     */
+    public static long fromDecimal(BigDecimal pesos) {
+        if (pesos == null) {
+            return 0;
+        }
+        return pesos.setScale(2, DEFAULT_ROUNDING).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert centavos to an exact two-decimal value for a DECIMAL column
+     */
+    public static BigDecimal toDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    /**
+     * Scale an amount by {@code numerator / denominator}, rounding once at
+     * the end; e.g. the pay for 90 minutes at a monthly salary over 22 days
+     * of 8 hours is {@code multiply(salary, 90, 22 * 8 * 60, mode)}
+     */
+    public static long multiply(long centavos, long numerator, long denominator, RoundingMode mode) {
+        return divide(Math.multiplyExact(centavos, numerator), denominator, mode);
+    }
+
+    /**
+     * Scale an amount by a rate, e.g. a contribution percentage or overtime multiplier
+     */
+    public static long multiply(long centavos, double factor, RoundingMode mode) {
+        return round(centavos * factor, mode);
+    }
+
+    /**
+     * Integer division of an amount with the given rounding
+     */
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        // Sign of the exact quotient; rounding away from zero moves this way
+        int signum = Long.signum(dividend) * Long.signum(divisor);
+        long absRemainder = Math.abs(remainder);
+        int half = Long.compare(absRemainder, Math.abs(divisor) - absRemainder);
+
+        boolean awayFromZero = switch (mode) {
+            case DOWN -> false;
+            case UP -> true;
+            case FLOOR -> signum < 0;
+            case CEILING -> signum > 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary: " + dividend + " / " + divisor);
+        };
+        return awayFromZero ? quotient + signum : quotient;
+    }
+
+    /**
+     * Round a fractional centavo amount to whole centavos. Values within a
+     * few ulps of a whole or half centavo are taken to be exactly that, so
+     * binary representation error such as {@code 0.285 * 100 = 28.4999...}
+     * does not flip the rounding.
+     */
+    public static long round(double centavos, RoundingMode mode) {
+        if (Double.isNaN(centavos) || Double.isInfinite(centavos)) {
+            throw new ArithmeticException("Amount is not finite: " + centavos);
+        }
+        if (Math.abs(centavos) >= 0x1p63) {
+            throw new ArithmeticException("Amount out of range: " + centavos);
+        }
+        double tolerance = 8 * Math.ulp(centavos);
+        double nearest = Math.rint(centavos);
+        if (Math.abs(centavos - nearest) <= tolerance) {
+            return (long) nearest;
+        }
+
+        double floor = Math.floor(centavos);
+        double fraction = centavos - floor;
+        boolean exactHalf = Math.abs(fraction - 0.5) <= tolerance;
+        boolean positive = centavos > 0;
+        // Round up means toward positive infinity from here on
+        boolean up = switch (mode) {
+            case DOWN -> !positive;
+            case UP -> positive;
+            case FLOOR -> false;
+            case CEILING -> true;
+            case HALF_UP -> exactHalf ? positive : fraction > 0.5;
+            case HALF_DOWN -> exactHalf ? !positive : fraction > 0.5;
+            case HALF_EVEN -> exactHalf ? ((long) floor & 1) != 0 : fraction > 0.5;
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary: " + centavos);
+        };
+        return up ? (long) floor + 1 : (long) floor;
+    }
+
+    /**
+     * Sum of amounts, throwing on overflow
+     */
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Plain two-decimal form, e.g. {@code -1234.05}
+     */
+    public static String toString(long centavos) {
+        long abs = Math.abs(centavos);
+        long fraction = abs % CENTAVOS_PER_PESO;
+        return (centavos < 0 ? "-" : "") + abs / CENTAVOS_PER_PESO + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
@@ -0,0 +1,489 @@
+package util;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Bounded JDBC connection pool.
+ * Physical connections are kept in an idle deque and handed out behind a
+ * proxy whose close() returns them to the pool. Statements and metadata
+ * are proxied too, so their getConnection() gives back the proxy rather
+ * than the physical connection. Connections are validated on borrow,
+ * reset to their initial autocommit, read-only, isolation and catalog
+ * settings on return, retired after their maximum lifetime and evicted
+ * once idle for longer than the idle timeout.
+ *
+ * @author rejoice
+ */
+public class PooledDataSource implements DataSource {
+    private static final Logger LOGGER = Logger.getLogger(PooledDataSource.class.getName());
+
+    // Objects handed out by a connection whose getConnection() must return its proxy
+    private static final Set<Class<?>> CHILD_TYPES =
+            Set.of(Statement.class, PreparedStatement.class, CallableStatement.class, DatabaseMetaData.class);
+    // Session settings giveBack restores
+    private static final Set<String> RESTORED_SETTERS = Set.of("setReadOnly", "setTransactionIsolation", "setCatalog");
+    // Session settings giveBack cannot restore cheaply; a connection they were called on is discarded
+    private static final Set<String> DISCARDING_SETTERS =
+            Set.of("setSchema", "setHoldability", "setTypeMap", "setClientInfo", "setNetworkTimeout");
+
+    private final String url;
+    private final String user;
+    private final String password;
+
+    private int maxPoolSize = 10;
+    private long idleTimeoutMillis = TimeUnit.MINUTES.toMillis(10);
+    private long maxLifetimeMillis = TimeUnit.MINUTES.toMillis(30);
+    private long acquireTimeoutMillis = TimeUnit.SECONDS.toMillis(30);
+    private int validationTimeoutSeconds = 2;
+    private long evictionIntervalMillis = TimeUnit.SECONDS.toMillis(30);
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private volatile Semaphore permits;
+    private volatile ScheduledExecutorService evictor;
+    private volatile boolean closed;
+    private PrintWriter logWriter;
+
+    public PooledDataSource(String url, String user, String password) {
+        if (url == null || url.trim().isEmpty()) {
+            throw new IllegalArgumentException("JDBC URL cannot be null or empty");
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    // Configuration - only effective before the first connection is borrowed
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        if (maxPoolSize <= 0) {
+            throw new IllegalArgumentException("Max pool size must be positive");
+        }
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+        if (idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        }
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public long getMaxLifetimeMillis() {
+        return maxLifetimeMillis;
+    }
+
+    public void setMaxLifetimeMillis(long maxLifetimeMillis) {
+        if (maxLifetimeMillis <= 0) {
+            throw new IllegalArgumentException("Max lifetime must be positive");
+        }
+        this.maxLifetimeMillis = maxLifetimeMillis;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    public void setAcquireTimeoutMillis(long acquireTimeoutMillis) {
+        if (acquireTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Acquire timeout cannot be negative");
+        }
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+        if (validationTimeoutSeconds < 0) {
+            throw new IllegalArgumentException("Validation timeout cannot be negative");
+        }
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    public long getEvictionIntervalMillis() {
+        return evictionIntervalMillis;
+    }
+
+    public void setEvictionIntervalMillis(long evictionIntervalMillis) {
+        if (evictionIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Eviction interval must be positive");
+        }
+        this.evictionIntervalMillis = evictionIntervalMillis;
+    }
+
+    // Pool statistics
+
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    public int getIdleConnections() {
+        return idle.size();
+    }
+
+    public int getActiveConnections() {
+        Semaphore p = permits;
+        return p == null ? 0 : maxPoolSize - p.availablePermits();
+    }
+
+    /**
+     * Borrows a connection, waiting up to the acquire timeout when every
+     * connection is in use. Closing the returned connection gives it back
+     * to the pool.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been closed");
+        }
+        Semaphore p = start();
+
+        try {
+            if (!p.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException(String.format(
+                        "Timed out after %d ms waiting for a connection (pool size %d)",
+                        acquireTimeoutMillis, maxPoolSize));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", ex);
+        }
+
+        try {
+            return borrow().newHandle();
+        } catch (SQLException | RuntimeException ex) {
+            p.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections use the configured credentials");
+    }
+
+    /**
+     * Closes every idle connection and stops the evictor.
+     * Connections still in use are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        ScheduledExecutorService e = evictor;
+        if (e != null) {
+            e.shutdownNow();
+        }
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            discard(pc);
+        }
+    }
+
+    private synchronized Semaphore start() {
+        if (permits == null) {
+            permits = new Semaphore(maxPoolSize, true);
+            evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "db-pool-evictor");
+                t.setDaemon(true);
+                return t;
+            });
+            evictor.scheduleWithFixedDelay(this::evictIdle,
+                    evictionIntervalMillis, evictionIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return permits;
+    }
+
+    private PooledConnection borrow() throws SQLException {
+        PooledConnection pc;
+        // Most recently returned first, so the tail of the deque ages out
+        while ((pc = idle.pollFirst()) != null) {
+            long now = System.currentTimeMillis();
+            if (pc.isExpired(now) || !isUsable(pc)) {
+                discard(pc);
+                continue;
+            }
+            return pc;
+        }
+
+        Connection physical = DriverManager.getConnection(url, user, password);
+        openConnections.incrementAndGet();
+        try {
+            return new PooledConnection(physical);
+        } catch (SQLException ex) {
+            discard(physical);
+            throw ex;
+        }
+    }
+
+    private boolean isUsable(PooledConnection pc) {
+        try {
+            return pc.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private void giveBack(PooledConnection pc) {
+        try {
+            Connection physical = pc.physical;
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (pc.settingsChanged) {
+                // After the rollback, as read-only and isolation cannot change mid-transaction
+                physical.setReadOnly(pc.initialReadOnly);
+                physical.setTransactionIsolation(pc.initialIsolation);
+                if (pc.initialCatalog != null) {
+                    physical.setCatalog(pc.initialCatalog);
+                }
+                pc.settingsChanged = false;
+            }
+            physical.clearWarnings();
+            pc.lastReturned = System.currentTimeMillis();
+
+            if (closed || pc.tainted || pc.isExpired(pc.lastReturned)) {
+                discard(pc);
+            } else {
+                idle.offerFirst(pc);
+            }
+        } catch (SQLException ex) {
+            LOGGER.log(Level.WARNING, "Discarding connection that failed to reset", ex);
+            discard(pc);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            PooledConnection pc = it.next();
+            if ((now - pc.lastReturned > idleTimeoutMillis || pc.isExpired(now)) && idle.remove(pc)) {
+                discard(pc);
+            }
+        }
+    }
+
+    private void discard(PooledConnection pc) {
+        discard(pc.physical);
+    }
+
+    private void discard(Connection physical) {
+        openConnections.decrementAndGet();
+        try {
+            physical.close();
+        } catch (SQLException ex) {
+            LOGGER.log(Level.FINE, "Error closing pooled connection", ex);
+        }
+    }
+
+    /**
+     * A physical connection and its pool bookkeeping
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final long createdAt;
+        private volatile long lastReturned;
+        // Settings as opened, restored on return if a borrower changed them
+        private final boolean initialReadOnly;
+        private final int initialIsolation;
+        private final String initialCatalog;
+        // Set by the borrower's thread and read by giveBack on the same thread
+        private boolean settingsChanged;
+        private boolean tainted;
+
+        private PooledConnection(Connection physical) throws SQLException {
+            this.physical = physical;
+            this.createdAt = System.currentTimeMillis();
+            this.lastReturned = createdAt;
+            this.initialReadOnly = physical.isReadOnly();
+            this.initialIsolation = physical.getTransactionIsolation();
+            this.initialCatalog = physical.getCatalog();
+        }
+
+        private boolean isExpired(long now) {
+            return now - createdAt > maxLifetimeMillis;
+        }
+
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    new Handle(this));
+        }
+    }
+
+    /**
+     * Borrower-side view of a pooled connection; closing it returns the
+     * physical connection to the pool exactly once.
+     */
+    private final class Handle implements InvocationHandler {
+        private PooledConnection pc;
+
+        private Handle(PooledConnection pc) {
+            this.pc = pc;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (pc != null) {
+                        PooledConnection returned = pc;
+                        pc = null;
+                        giveBack(returned);
+                    }
+                    return null;
+                case "isClosed":
+                    return pc == null || pc.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + (pc == null ? "closed" : pc.physical) + "]";
+                default:
+                    if (pc == null) {
+                        throw new SQLException("Connection is closed");
+                    }
+                    break;
+            }
+
+            String name = method.getName();
+            if ((name.equals("unwrap") || name.equals("isWrapperFor"))
+                    && args[0] instanceof Class<?> iface && iface.isInstance(proxy)) {
+                // Vendor interfaces still reach the physical connection, which must not be closed
+                return name.equals("unwrap") ? proxy : Boolean.TRUE;
+            }
+            if (RESTORED_SETTERS.contains(name)) {
+                pc.settingsChanged = true;
+            } else if (DISCARDING_SETTERS.contains(name)) {
+                pc.tainted = true;
+            }
+            Object result;
+            try {
+                result = method.invoke(pc.physical, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+            if (result != null && CHILD_TYPES.contains(method.getReturnType())) {
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[] { method.getReturnType() }, new ChildHandle(result, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Statement or metadata of a pooled connection, answering
+     * getConnection() with the borrower's proxy
+     */
+    private static final class ChildHandle implements InvocationHandler {
+        private final Object target;
+        private final Connection connection;
+
+        private ChildHandle(Object target, Connection connection) {
+            this.target = target;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (args[0] instanceof Class<?> iface && iface.isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+
+    // Remaining DataSource contract
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        this.logWriter = out;
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return LOGGER;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
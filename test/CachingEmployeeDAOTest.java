@@ -0,0 +1,126 @@
+import dao.CacheStats;
+import dao.CachingEmployeeDAO;
+import dao.memory.InMemoryEmployeeDAO;
+import model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingEmployeeDAOTest {
+
+    private static Employee employee(int id, String lastName) {
+        Employee e = new Employee("Juan", lastName, LocalDate.of(1990, 1, 1));
+        e.setEmployeeId(id);
+        return e;
+    }
+
+    private static InMemoryEmployeeDAO store(int employees) {
+        InMemoryEmployeeDAO store = new InMemoryEmployeeDAO();
+        for (int id = 1; id <= employees; id++) {
+            store.insertEmployee(employee(id, "Employee " + id));
+        }
+        return store;
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedAtCapacity() {
+        CachingEmployeeDAO cache = new CachingEmployeeDAO(store(3), 2, false);
+
+        cache.getEmployeeById(1);
+        cache.getEmployeeById(2);
+        // Using 1 again leaves 2 as the least recently used
+        cache.getEmployeeById(1);
+        cache.getEmployeeById(3);
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getStats().getSize());
+        long misses = cache.getStats().getMisses();
+        cache.getEmployeeById(1);
+        cache.getEmployeeById(3);
+        assertEquals(misses, cache.getStats().getMisses());
+        cache.getEmployeeById(2);
+        assertEquals(misses + 1, cache.getStats().getMisses());
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    public void testWritesInvalidate() {
+        InMemoryEmployeeDAO store = store(2);
+        CachingEmployeeDAO cache = new CachingEmployeeDAO(store);
+        assertEquals("Employee 1", cache.getEmployeeById(1).getLastName());
+        assertEquals("Employee 2", cache.getEmployeeById(2).getLastName());
+
+        assertTrue(cache.updateEmployee(employee(1, "Santos")));
+        assertEquals("Santos", cache.getEmployeeById(1).getLastName());
+
+        assertTrue(cache.deleteEmployee(2));
+        assertNull(cache.getEmployeeById(2));
+
+        assertTrue(cache.insertEmployee(employee(2, "Reyes")));
+        assertEquals("Reyes", cache.getEmployeeById(2).getLastName());
+    }
+
+    @Test
+    public void testVersionMismatchReloads() {
+        InMemoryEmployeeDAO store = store(1);
+        CachingEmployeeDAO unverified = new CachingEmployeeDAO(store);
+        CachingEmployeeDAO verified = new CachingEmployeeDAO(store, 10, true);
+        unverified.getEmployeeById(1);
+        verified.getEmployeeById(1);
+
+        // Changed behind both caches, as by another application
+        store.updateEmployee(employee(1, "Santos"));
+
+        assertEquals("Employee 1", unverified.getEmployeeById(1).getLastName());
+        assertEquals("Santos", verified.getEmployeeById(1).getLastName());
+        assertEquals(1, verified.getStaleReloads());
+        assertEquals("Santos", verified.getEmployeeById(1).getLastName());
+        assertEquals(1, verified.getStaleReloads());
+
+        store.deleteEmployee(1);
+        assertNull(verified.getEmployeeById(1));
+        assertEquals(0, verified.getStats().getSize());
+    }
+
+    @Test
+    public void testLoadRacingInvalidationIsNotCached() {
+        CachingEmployeeDAO[] cache = new CachingEmployeeDAO[1];
+        InMemoryEmployeeDAO store = new InMemoryEmployeeDAO() {
+            @Override
+            public Employee getEmployeeById(int employeeId) {
+                Employee loaded = super.getEmployeeById(employeeId);
+                // An update lands after the row was read
+                cache[0].invalidate(employeeId);
+                return loaded;
+            }
+        };
+        store.insertEmployee(employee(1, "Cruz"));
+        cache[0] = new CachingEmployeeDAO(store);
+
+        assertEquals("Cruz", cache[0].getEmployeeById(1).getLastName());
+        assertEquals(0, cache[0].getStats().getSize());
+    }
+
+    @Test
+    public void testStats() {
+        CachingEmployeeDAO cache = new CachingEmployeeDAO(store(2), 10, true);
+
+        cache.getEmployeeById(1);
+        cache.getEmployeeById(1);
+        cache.getEmployeeById(1);
+        cache.getEmployeeById(2);
+        assertNull(cache.getEmployeeById(99));
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(3, stats.getMisses());
+        assertEquals(2, stats.getSize());
+        assertEquals(0.4, stats.getHitRate(), 1e-9);
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getStats().getSize());
+        assertEquals(0, cache.getEvictions());
+    }
+}
@@ -0,0 +1,66 @@
+import dao.CachingPositionDAO;
+import dao.PositionDAO;
+import dao.memory.InMemoryPositionDAO;
+import model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingPositionDAOTest {
+
+    private static Position position(int id, String name) {
+        Position p = new Position();
+        p.setPositionId(id);
+        p.setPositionName(name);
+        return p;
+    }
+
+    @Test
+    public void testUpdateThenGetAll() {
+        InMemoryPositionDAO store = new InMemoryPositionDAO();
+        store.putPosition(position(1, "Clerk"));
+        store.putPosition(position(2, "Manager"));
+        CachingPositionDAO cache = new CachingPositionDAO(store);
+        assertEquals(2, cache.getAllPositions().size());
+
+        assertTrue(cache.updatePosition(position(1, "Senior Clerk")));
+
+        Map<Integer, Position> positions = cache.getAllPositions();
+        assertEquals(2, positions.size());
+        assertEquals("Senior Clerk", positions.get(1).getPositionName());
+        assertEquals("Senior Clerk", cache.getPositionById(1).getPositionName());
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() {
+        InMemoryPositionDAO store = new InMemoryPositionDAO();
+        store.putPosition(position(1, "Clerk"));
+        boolean[] failing = {true};
+        PositionDAO flaky = new PositionDAO() {
+            @Override
+            public Position getPositionById(int positionId) {
+                return store.getPositionById(positionId);
+            }
+
+            @Override
+            public Map<Integer, Position> getAllPositions() {
+                if (failing[0]) {
+                    throw new RuntimeException("Failed to retrieve positions");
+                }
+                return store.getAllPositions();
+            }
+
+            @Override
+            public boolean updatePosition(Position position) {
+                return store.updatePosition(position);
+            }
+        };
+        CachingPositionDAO cache = new CachingPositionDAO(flaky);
+
+        assertThrows(RuntimeException.class, cache::getAllPositions);
+        failing[0] = false;
+        assertEquals(1, cache.getAllPositions().size());
+    }
+}
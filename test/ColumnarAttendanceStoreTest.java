@@ -0,0 +1,97 @@
+import dao.memory.ColumnarAttendanceStore;
+import model.Attendance;
+import model.AttendanceSummary;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarAttendanceStoreTest {
+
+    private static final LocalTime LOGIN = LocalTime.of(8, 0);
+    private static final LocalTime LATE_THRESHOLD = LocalTime.of(8, 10);
+    private static final LocalTime LOGOUT = LocalTime.of(17, 0);
+
+    private static Attendance attendance(int id, int employeeId, int dayOfMonth, String login, String logout) {
+        Attendance a = new Attendance(employeeId, Date.valueOf(LocalDate.of(2024, 7, dayOfMonth)),
+                login != null ? Time.valueOf(login) : null, logout != null ? Time.valueOf(logout) : null);
+        a.setAttendanceId(id);
+        return a;
+    }
+
+    private static AttendanceSummary summarize(ColumnarAttendanceStore store, int employeeId, LocalDate start,
+                                               LocalDate end) {
+        return store.summarize(employeeId, start, end, LOGIN, LATE_THRESHOLD, LOGOUT);
+    }
+
+    private static void assertSameTotals(AttendanceSummary expected, AttendanceSummary actual) {
+        assertEquals(expected.getDaysPresent(), actual.getDaysPresent());
+        assertEquals(expected.getLateMinutes(), actual.getLateMinutes());
+        assertEquals(expected.getUndertimeMinutes(), actual.getUndertimeMinutes());
+    }
+
+    @Test
+    public void testSummarizeMatchesAttendanceSummary() {
+        List<Attendance> inPeriod = List.of(
+                attendance(1, 1, 1, "08:00:00", "17:00:00"),
+                // Within the threshold, so not late
+                attendance(2, 1, 2, "08:09:59", "17:00:00"),
+                // 25 whole minutes late, 30 minutes and 30 seconds short
+                attendance(3, 1, 3, "08:25:45", "16:29:30"),
+                attendance(4, 1, 4, "09:00:00", null),
+                attendance(5, 1, 5, null, "12:00:00"));
+        ColumnarAttendanceStore store = new ColumnarAttendanceStore();
+        store.putAll(inPeriod);
+        store.put(attendance(6, 1, 8, "10:00:00", "11:00:00"));
+        store.put(attendance(7, 2, 3, "10:00:00", "11:00:00"));
+
+        LocalDate start = LocalDate.of(2024, 7, 1);
+        LocalDate end = LocalDate.of(2024, 7, 7);
+        AttendanceSummary expected = AttendanceSummary.of(1, inPeriod, LOGIN, LATE_THRESHOLD, LOGOUT);
+        assertSameTotals(expected, summarize(store, 1, start, end));
+        assertSameTotals(expected, store.summarizeAll(start, end, LOGIN, LATE_THRESHOLD, LOGOUT).get(1));
+        assertSameTotals(AttendanceSummary.of(1, inPeriod.subList(2, 4), LOGIN, LATE_THRESHOLD, LOGOUT),
+                summarize(store, 1, LocalDate.of(2024, 7, 3), LocalDate.of(2024, 7, 4)));
+        assertEquals(0, summarize(store, 3, start, end).getDaysPresent());
+    }
+
+    @Test
+    public void testPutRefilesMovedRecord() {
+        ColumnarAttendanceStore store = new ColumnarAttendanceStore();
+        store.put(attendance(1, 1, 1, "08:00:00", "17:00:00"));
+        store.put(attendance(2, 1, 2, "08:00:00", "17:00:00"));
+
+        // Record 1 moved to another day, then to another employee
+        store.put(attendance(1, 1, 3, "08:30:00", "17:00:00"));
+        assertEquals(2, store.size());
+        assertEquals(List.of(2, 1), store.between(1, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31))
+                .stream().map(Attendance::getAttendanceId).toList());
+
+        store.put(attendance(1, 2, 3, "08:30:00", "17:00:00"));
+        assertEquals(2, store.size());
+        assertEquals(1, store.countDays(1, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+        assertEquals(1, store.countDays(2, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+
+        assertTrue(store.remove(1));
+        assertFalse(store.remove(1));
+        assertEquals(0, store.countDays(2, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+    }
+
+    @Test
+    public void testReplacingTheDayDropsTheOldId() {
+        ColumnarAttendanceStore store = new ColumnarAttendanceStore();
+        store.put(attendance(1, 1, 1, "08:00:00", "17:00:00"));
+        store.put(attendance(2, 1, 1, "09:00:00", "17:00:00"));
+
+        assertEquals(1, store.size());
+        // Record 1 was replaced, so removing it must not take record 2 along
+        assertFalse(store.remove(1));
+        assertTrue(store.remove(2));
+        assertEquals(0, store.size());
+    }
+}
@@ -0,0 +1,226 @@
+import dao.memory.InMemoryDatabase;
+import model.Attendance;
+import model.AttendanceSummary;
+import model.CompensationDetails;
+import model.Deduction;
+import model.Employee;
+import model.GovernmentContributions;
+import model.LeaveRequest;
+import model.Payroll;
+import model.PayrollInputs;
+import model.Position;
+import org.junit.jupiter.api.Test;
+import service.PayrollBatchResult;
+import service.PayrollCalculator;
+import service.PayrollCalculator.PayrollCalculationException;
+import service.PayrollRules;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryPayrollCalculatorTest {
+
+    private static final int EMPLOYEE_ID = 1;
+    // Monday to Sunday
+    private static final LocalDate START = LocalDate.of(2024, 7, 1);
+    private static final LocalDate END = LocalDate.of(2024, 7, 7);
+
+    /**
+     * One employee at 22,000.00 a month (1,000.00 a day): present Monday to
+     * Wednesday, 30 minutes late on Tuesday, on unpaid leave Thursday to Sunday
+     */
+    private static InMemoryDatabase database() {
+        InMemoryDatabase db = new InMemoryDatabase();
+
+        Position position = new Position();
+        position.setPositionId(1);
+        position.setPositionName("Clerk");
+        position.setMonthlySalary(22000.0);
+        db.getPositionDAO().putPosition(position);
+
+        Employee employee = new Employee("Juan", "Dela Cruz", LocalDate.of(1990, 1, 1));
+        employee.setEmployeeId(EMPLOYEE_ID);
+        employee.setPositionId(1);
+        db.getEmployeeDAO().insertEmployee(employee);
+
+        db.getAttendanceDAO().insertAttendance(attendance(1, "08:00:00", "17:00:00"));
+        db.getAttendanceDAO().insertAttendance(attendance(2, "08:30:00", "17:00:00"));
+        db.getAttendanceDAO().insertAttendance(attendance(3, "08:00:00", "17:00:00"));
+
+        LeaveRequest leave = new LeaveRequest(EMPLOYEE_ID, Date.valueOf(LocalDate.of(2024, 7, 4)),
+                Date.valueOf(END), "Unpaid");
+        leave.setStatus(LeaveRequest.STATUS_APPROVED);
+        db.getLeaveRequestDAO().insertLeaveRequest(leave);
+
+        CompensationDetails comp = new CompensationDetails();
+        comp.setEmployeeId(EMPLOYEE_ID);
+        comp.setRiceSubsidy(1500.0);
+        comp.setPhoneAllowance(500.0);
+        comp.setClothingAllowance(1000.0);
+        db.getCompensationDetailsDAO().insertCompensationDetails(comp);
+
+        db.getGovernmentContributionsDAO().insertGovernmentContributions(
+                new GovernmentContributions(EMPLOYEE_ID, 0, 0, 0, 0));
+        return db;
+    }
+
+    private static Attendance attendance(int dayOfMonth, String login, String logout) {
+        return new Attendance(EMPLOYEE_ID, Date.valueOf(LocalDate.of(2024, 7, dayOfMonth)),
+                Time.valueOf(login), Time.valueOf(logout));
+    }
+
+    @Test
+    public void testCalculateFromInMemoryInputs() throws Exception {
+        InMemoryDatabase db = database();
+        PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+
+        Payroll payroll = calculator.calculatePayroll(EMPLOYEE_ID, START, END);
+
+        assertEquals(3, payroll.getDaysWorked());
+        assertEquals(300000, payroll.getGrossEarningsCentavos());
+        // 30 minutes of 22 days of 8 hours
+        assertEquals(6250, payroll.getLateDeductionCentavos());
+        assertEquals(0, payroll.getUndertimeDeductionCentavos());
+        // Saturday and Sunday are not priced
+        assertEquals(2, payroll.getUnpaidLeaveCount());
+        assertEquals(200000, payroll.getUnpaidLeaveDeductionCentavos());
+        assertEquals(150000, payroll.getRiceSubsidyCentavos());
+        assertEquals(payroll.getGrossPayCentavos() - payroll.getTotalDeductionsCentavos(), payroll.getNetPayCentavos());
+    }
+
+    @Test
+    public void testPersistAndReadBack() throws Exception {
+        InMemoryDatabase db = database();
+        PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+
+        Payroll payroll = calculator.calculatePayroll(EMPLOYEE_ID, START, END);
+        int payrollId = db.getPayrollDAO().insertPayroll(payroll);
+        assertTrue(payrollId > 0);
+
+        Payroll stored = db.getPayrollDAO().getPayrollById(payrollId);
+        assertNotNull(stored);
+        assertEquals(payroll.getNetPayCentavos(), stored.getNetPayCentavos());
+        List<Payroll> inPeriod = db.getPayrollDAO().getPayrollByEmployeeIdAndDateRange(EMPLOYEE_ID, START, END);
+        assertEquals(1, inPeriod.size());
+        assertEquals(payrollId, inPeriod.get(0).getPayrollId());
+
+        List<Deduction> deductions = db.getDeductionDAO().getDeductionsByEmployeeId(EMPLOYEE_ID);
+        assertEquals(2, deductions.size());
+        double total = deductions.stream().mapToDouble(Deduction::getAmount).sum();
+        assertEquals(2062.5, total, 0.001);
+    }
+
+    @Test
+    public void testBatchRunReplacesDeductionsOfThePeriod() throws Exception {
+        InMemoryDatabase db = database();
+        PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+
+        PayrollBatchResult first = calculator.calculatePayrollForAll(START, END);
+        PayrollBatchResult second = calculator.calculatePayrollForAll(START, END);
+
+        assertEquals(1, first.getPayrolls().size());
+        assertTrue(second.getFailures().isEmpty());
+        assertEquals(first.getPayrolls().get(EMPLOYEE_ID).getNetPayCentavos(),
+                second.getPayrolls().get(EMPLOYEE_ID).getNetPayCentavos());
+        assertEquals(2, db.getDeductionDAO().getDeductionsByEmployeeId(EMPLOYEE_ID).size());
+    }
+
+    @Test
+    public void testRerunUpdatesPayrollAndReplacesDeductions() throws Exception {
+        InMemoryDatabase db = database();
+        PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+        Deduction earlier = new Deduction(EMPLOYEE_ID, Deduction.TYPE_LATE, 50.0);
+        earlier.setPeriod(Date.valueOf(LocalDate.of(2024, 6, 24)), Date.valueOf(LocalDate.of(2024, 6, 30)));
+        db.getDeductionDAO().addDeduction(earlier);
+
+        PayrollBatchResult first = calculator.calculatePayrollForAll(START, END);
+        int[] firstIds = db.getPayrollDAO().upsertPayrolls(first.getPayrolls().values());
+
+        // A raise between the runs changes every amount of the period
+        Position raised = db.getPositionDAO().getPositionById(1);
+        raised.setMonthlySalary(44000.0);
+        db.getPositionDAO().putPosition(raised);
+        PayrollBatchResult second = calculator.calculatePayrollForAll(START, END);
+        int[] secondIds = db.getPayrollDAO().upsertPayrolls(second.getPayrolls().values());
+
+        assertEquals(firstIds[0], secondIds[0]);
+        List<Payroll> inPeriod = db.getPayrollDAO().getPayrollByEmployeeIdAndDateRange(EMPLOYEE_ID, START, END);
+        assertEquals(1, inPeriod.size());
+        assertEquals(600000, inPeriod.get(0).getGrossEarningsCentavos());
+        assertEquals(second.getPayrolls().get(EMPLOYEE_ID).getNetPayCentavos(), inPeriod.get(0).getNetPayCentavos());
+
+        // The period's late and unpaid leave deductions are replaced; the earlier period's stays
+        List<Deduction> deductions = db.getDeductionDAO().getDeductionsByEmployeeId(EMPLOYEE_ID);
+        assertEquals(3, deductions.size());
+        double total = deductions.stream().mapToDouble(Deduction::getAmount).sum();
+        assertEquals(50.0 + 125.0 + 4000.0, total, 0.001);
+    }
+
+    @Test
+    public void testUnpaidLeaveIsCappedPerMonth() throws Exception {
+        InMemoryDatabase db = database();
+        PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+        PayrollInputs loaded = db.getPayrollInputsDAO().loadPayrollInputs(EMPLOYEE_ID, START, END);
+        LocalDate periodStart = LocalDate.of(2024, 6, 24);
+        LocalDate periodEnd = LocalDate.of(2024, 7, 31);
+        LeaveRequest leave = new LeaveRequest(EMPLOYEE_ID, Date.valueOf(periodStart), Date.valueOf(periodEnd), "Unpaid");
+        leave.setStatus(LeaveRequest.STATUS_APPROVED);
+        PayrollInputs inputs = new PayrollInputs(loaded.getEmployee(), loaded.getPosition(), periodStart, periodEnd,
+                List.of(), List.of(), List.of(leave), loaded.getCompensation(), loaded.getGovernmentContributions());
+
+        Payroll payroll = calculator.simulatePayroll(inputs, PayrollRules.DEFAULT);
+
+        // Five weekdays in June, and July's 23 weekdays cost at most 22 days, one monthly salary
+        assertEquals(28, payroll.getUnpaidLeaveCount());
+        assertEquals(500000 + 2200000, payroll.getUnpaidLeaveDeductionCentavos());
+    }
+
+    /**
+     * The loaded inputs with their attendance records swapped for totals
+     * counted under the default schedule, as the summarizing loader returns them
+     */
+    private static PayrollInputs summarized(PayrollInputs inputs) {
+        PayrollRules rules = PayrollRules.DEFAULT;
+        AttendanceSummary summary = AttendanceSummary.of(inputs.getEmployeeId(), inputs.getAttendance(),
+                rules.getStandardLoginTime(), rules.getLateThresholdTime(), rules.getStandardLogoutTime());
+        return new PayrollInputs(inputs.getEmployee(), inputs.getPosition(), inputs.getPeriodStart(),
+                inputs.getPeriodEnd(), List.of(), inputs.getOvertime(), inputs.getApprovedLeaves(),
+                inputs.getCompensation(), inputs.getGovernmentContributions(), summary);
+    }
+
+    @Test
+    public void testSimulateUsesSummaryOfTheSameSchedule() throws Exception {
+        InMemoryDatabase db = database();
+        PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+        PayrollInputs inputs = summarized(db.getPayrollInputsDAO().loadPayrollInputs(EMPLOYEE_ID, START, END));
+
+        Payroll payroll = calculator.simulatePayroll(inputs, PayrollRules.DEFAULT);
+
+        assertEquals(3, payroll.getDaysWorked());
+        assertEquals(6250, payroll.getLateDeductionCentavos());
+    }
+
+    @Test
+    public void testSimulateRejectsSummaryOfAnotherSchedule() throws Exception {
+        InMemoryDatabase db = database();
+        PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+        PayrollInputs loaded = db.getPayrollInputsDAO().loadPayrollInputs(EMPLOYEE_ID, START, END);
+        PayrollInputs inputs = summarized(loaded);
+        PayrollRules laterThreshold = PayrollRules.DEFAULT.withLateThresholdTime(LocalTime.of(8, 45));
+
+        // Without the records the days worked cannot be recounted
+        assertThrows(PayrollCalculationException.class, () -> calculator.simulatePayroll(inputs, laterThreshold));
+        assertThrows(PayrollCalculationException.class, () -> calculator.simulatePayroll(inputs,
+                PayrollRules.DEFAULT.withStandardLogoutTime(LocalTime.of(16, 0))));
+
+        // With them they are, and Tuesday's login is no longer late
+        Payroll payroll = calculator.simulatePayroll(loaded, laterThreshold);
+        assertEquals(3, payroll.getDaysWorked());
+        assertEquals(0, payroll.getLateDeductionCentavos());
+    }
+}
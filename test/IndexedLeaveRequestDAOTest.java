@@ -0,0 +1,108 @@
+import dao.IndexedLeaveRequestDAO;
+import dao.memory.InMemoryLeaveRequestDAO;
+import model.LeaveRequest;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedLeaveRequestDAOTest {
+
+    private static LocalDate day(int month, int dayOfMonth) {
+        return LocalDate.of(2024, month, dayOfMonth);
+    }
+
+    private static LeaveRequest leave(int employeeId, LocalDate start, LocalDate end, String status) {
+        LeaveRequest leave = new LeaveRequest(employeeId, Date.valueOf(start), Date.valueOf(end), "Vacation");
+        leave.setStatus(status);
+        return leave;
+    }
+
+    private static int approve(IndexedLeaveRequestDAO dao, int employeeId, LocalDate start, LocalDate end) {
+        return dao.insertLeaveRequest(leave(employeeId, start, end, LeaveRequest.STATUS_APPROVED));
+    }
+
+    @Test
+    public void testOverlappingAndAdjacentRanges() {
+        IndexedLeaveRequestDAO dao = new IndexedLeaveRequestDAO(new InMemoryLeaveRequestDAO());
+        approve(dao, 1, day(7, 1), day(7, 5));
+        approve(dao, 1, day(7, 10), day(7, 12));
+        dao.insertLeaveRequest(leave(1, day(7, 20), day(7, 22), LeaveRequest.STATUS_PENDING));
+
+        assertTrue(dao.hasOverlappingLeave(1, day(7, 5), day(7, 5), null));
+        assertTrue(dao.hasOverlappingLeave(1, day(6, 28), day(7, 1), null));
+        assertTrue(dao.hasOverlappingLeave(1, day(7, 3), day(7, 11), null));
+        // Adjacent on either side
+        assertFalse(dao.hasOverlappingLeave(1, day(7, 6), day(7, 9), null));
+        assertFalse(dao.hasOverlappingLeave(1, day(6, 25), day(6, 30), null));
+        assertFalse(dao.hasOverlappingLeave(1, day(7, 13), day(7, 31), null));
+        // Pending leave and other employees do not count
+        assertFalse(dao.hasOverlappingLeave(1, day(7, 21), day(7, 21), null));
+        assertFalse(dao.hasOverlappingLeave(2, day(7, 1), day(7, 31), null));
+    }
+
+    @Test
+    public void testLongLeaveFoundBehindShorterOnes() {
+        IndexedLeaveRequestDAO dao = new IndexedLeaveRequestDAO(new InMemoryLeaveRequestDAO());
+        int longLeave = approve(dao, 1, day(6, 1), day(7, 31));
+        approve(dao, 1, day(6, 10), day(6, 11));
+        int shortLeave = approve(dao, 1, day(7, 1), day(7, 2));
+
+        // The last range starting by July 20 ends before it; the running end walks back to June 1
+        assertTrue(dao.hasOverlappingLeave(1, day(7, 20), day(7, 21), null));
+        assertFalse(dao.hasOverlappingLeave(1, day(7, 20), day(7, 21), longLeave));
+        assertTrue(dao.hasOverlappingLeave(1, day(7, 1), day(7, 1), shortLeave));
+        assertFalse(dao.hasOverlappingLeave(1, day(8, 1), day(8, 5), null));
+    }
+
+    @Test
+    public void testIndexFollowsChanges() {
+        IndexedLeaveRequestDAO dao = new IndexedLeaveRequestDAO(new InMemoryLeaveRequestDAO());
+        int leaveId = approve(dao, 1, day(7, 1), day(7, 5));
+        assertTrue(dao.hasOverlappingLeave(1, day(7, 2), day(7, 2), null));
+
+        LeaveRequest moved = leave(1, day(7, 15), day(7, 16), LeaveRequest.STATUS_APPROVED);
+        moved.setLeaveId(leaveId);
+        assertTrue(dao.updateLeaveRequest(moved));
+        assertFalse(dao.hasOverlappingLeave(1, day(7, 2), day(7, 2), null));
+        assertTrue(dao.hasOverlappingLeave(1, day(7, 16), day(7, 20), null));
+
+        assertTrue(dao.updateLeaveStatus(leaveId, LeaveRequest.STATUS_REJECTED));
+        assertFalse(dao.hasOverlappingLeave(1, day(7, 16), day(7, 20), null));
+        assertEquals(0, dao.getIndexedCount());
+    }
+
+    @Test
+    public void testFindConflicts() {
+        IndexedLeaveRequestDAO dao = new IndexedLeaveRequestDAO(new InMemoryLeaveRequestDAO());
+        approve(dao, 1, day(7, 1), day(7, 5));
+        int approvedId = approve(dao, 2, day(7, 1), day(7, 5));
+
+        LeaveRequest againstApproved = leave(1, day(7, 4), day(7, 6), LeaveRequest.STATUS_PENDING);
+        // Starts the day after the batch request before it ends
+        LeaveRequest adjacent = leave(1, day(7, 7), day(7, 9), LeaveRequest.STATUS_PENDING);
+        LeaveRequest first = leave(1, day(7, 10), day(7, 14), LeaveRequest.STATUS_PENDING);
+        LeaveRequest later = leave(1, day(7, 14), day(7, 15), LeaveRequest.STATUS_PENDING);
+        // The approved request itself is excluded by its ID
+        LeaveRequest itself = leave(2, day(7, 1), day(7, 5), LeaveRequest.STATUS_APPROVED);
+        itself.setLeaveId(approvedId);
+
+        List<LeaveRequest> conflicts = dao.findConflicts(List.of(later, adjacent, itself, first, againstApproved));
+
+        assertEquals(List.of(later, againstApproved), conflicts);
+    }
+
+    @Test
+    public void testInvalidArgumentsMatchJdbcDao() {
+        IndexedLeaveRequestDAO dao = new IndexedLeaveRequestDAO(new InMemoryLeaveRequestDAO());
+
+        assertThrows(IllegalArgumentException.class, () -> dao.hasOverlappingLeave(0, day(7, 1), day(7, 2), null));
+        assertThrows(IllegalArgumentException.class, () -> dao.hasOverlappingLeave(1, day(7, 2), day(7, 1), null));
+        assertThrows(IllegalArgumentException.class, () -> dao.hasOverlappingLeave(1, null, day(7, 1), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> dao.findConflicts(List.of(leave(0, day(7, 1), day(7, 2), LeaveRequest.STATUS_PENDING))));
+    }
+}
@@ -0,0 +1,309 @@
+import dao.JdbcOvertimeDAO;
+import model.Overtime;
+import model.OvertimeSummary;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JdbcOvertimeDAOTest {
+
+    private static final int EMPLOYEE_ID = 1;
+
+    /**
+     * The overtime and overtime_summary tables, answering the statements
+     * of JdbcOvertimeDAO the way MySQL would
+     */
+    private static final class Database {
+        final Map<Integer, Map<String, Object>> overtime = new TreeMap<>();
+        // Key is employee ID and month, as "1/2024-07-01"
+        final Map<String, SummaryRow> summary = new TreeMap<>();
+        int nextId = 1;
+
+        static final class SummaryRow {
+            BigDecimal approvedHours = BigDecimal.ZERO;
+            BigDecimal pendingHours = BigDecimal.ZERO;
+            int approvedCount;
+            int pendingCount;
+        }
+
+        SummaryRow summary(int employeeId, LocalDate month) {
+            return summary.get(employeeId + "/" + month);
+        }
+
+        /**
+         * Writes a record straight to the overtime table, leaving the summary as it was
+         */
+        void insertBehindSummary(int employeeId, LocalDate date, double hours, boolean approved) {
+            int id = nextId++;
+            overtime.put(id, row(id, employeeId, Date.valueOf(date), hours, null, approved));
+        }
+
+        private static Map<String, Object> row(int id, int employeeId, Date date, double hours, String reason,
+                                               boolean approved) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("overtime_id", id);
+            row.put("employee_id", employeeId);
+            row.put("date", date);
+            row.put("hours", hours);
+            row.put("reason", reason);
+            row.put("approved", approved);
+            return row;
+        }
+
+        Connection connect() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "prepareStatement" -> statement((String) args[0]);
+                        case "close" -> null;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private PreparedStatement statement(String sql) {
+            Map<Integer, Object> params = new HashMap<>();
+            List<Map<String, Object>> generatedKeys = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "setInt", "setDate", "setDouble", "setString", "setBoolean", "setBigDecimal" -> {
+                            params.put((Integer) args[0], args[1]);
+                            yield null;
+                        }
+                        case "executeUpdate" -> update(sql, params, generatedKeys);
+                        case "executeQuery" -> resultSet(query(sql, params));
+                        case "getGeneratedKeys" -> resultSet(generatedKeys);
+                        case "close" -> null;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private int update(String sql, Map<Integer, Object> p, List<Map<String, Object>> generatedKeys) {
+            if (sql.startsWith("INSERT INTO overtime (")) {
+                int id = nextId++;
+                overtime.put(id, row(id, (Integer) p.get(1), (Date) p.get(2), (Double) p.get(3),
+                        (String) p.get(4), (Boolean) p.get(5)));
+                generatedKeys.add(Map.of("1", id));
+                return 1;
+            }
+            if (sql.startsWith("INSERT INTO overtime_summary")) {
+                // ON DUPLICATE KEY UPDATE adds the values to the row of the key
+                SummaryRow row = summary.computeIfAbsent(p.get(1) + "/" + p.get(2), key -> new SummaryRow());
+                row.approvedHours = row.approvedHours.add((BigDecimal) p.get(3));
+                row.pendingHours = row.pendingHours.add((BigDecimal) p.get(4));
+                row.approvedCount += (Integer) p.get(5);
+                row.pendingCount += (Integer) p.get(6);
+                return 1;
+            }
+            if (sql.startsWith("UPDATE overtime SET")) {
+                int id = (Integer) p.get(6);
+                if (!overtime.containsKey(id)) {
+                    return 0;
+                }
+                overtime.put(id, row(id, (Integer) p.get(1), (Date) p.get(2), (Double) p.get(3),
+                        (String) p.get(4), (Boolean) p.get(5)));
+                return 1;
+            }
+            if (sql.startsWith("DELETE FROM overtime ")) {
+                return overtime.remove((Integer) p.get(1)) != null ? 1 : 0;
+            }
+            throw new UnsupportedOperationException(sql);
+        }
+
+        private List<Map<String, Object>> query(String sql, Map<Integer, Object> p) {
+            if (sql.endsWith("FOR UPDATE")) {
+                Map<String, Object> row = overtime.get((Integer) p.get(1));
+                return row != null ? List.of(row) : List.of();
+            }
+            if (sql.contains("FROM overtime_summary")) {
+                return List.of(summarize(p));
+            }
+            throw new UnsupportedOperationException(sql);
+        }
+
+        /**
+         * SELECT_SUMMARY: summary rows of months in [2, 3), and overtime rows
+         * dated in [5, 6) or [7, 8]
+         */
+        private Map<String, Object> summarize(Map<Integer, Object> p) {
+            int employeeId = (Integer) p.get(1);
+            LocalDate monthsStart = ((Date) p.get(2)).toLocalDate();
+            LocalDate monthsEnd = ((Date) p.get(3)).toLocalDate();
+            BigDecimal approvedHours = BigDecimal.ZERO;
+            BigDecimal pendingHours = BigDecimal.ZERO;
+            int approvedCount = 0;
+            int pendingCount = 0;
+            for (Map.Entry<String, SummaryRow> entry : summary.entrySet()) {
+                String[] key = entry.getKey().split("/");
+                LocalDate month = LocalDate.parse(key[1]);
+                if (Integer.parseInt(key[0]) == employeeId && !month.isBefore(monthsStart)
+                        && month.isBefore(monthsEnd)) {
+                    approvedHours = approvedHours.add(entry.getValue().approvedHours);
+                    pendingHours = pendingHours.add(entry.getValue().pendingHours);
+                    approvedCount += entry.getValue().approvedCount;
+                    pendingCount += entry.getValue().pendingCount;
+                }
+            }
+            LocalDate headStart = ((Date) p.get(5)).toLocalDate();
+            LocalDate headEnd = ((Date) p.get(6)).toLocalDate();
+            LocalDate tailStart = ((Date) p.get(7)).toLocalDate();
+            LocalDate tailEnd = ((Date) p.get(8)).toLocalDate();
+            for (Map<String, Object> row : overtime.values()) {
+                LocalDate date = ((Date) row.get("date")).toLocalDate();
+                boolean inHead = !date.isBefore(headStart) && date.isBefore(headEnd);
+                boolean inTail = !date.isBefore(tailStart) && !date.isAfter(tailEnd);
+                if ((Integer) row.get("employee_id") != employeeId || !(inHead || inTail)) {
+                    continue;
+                }
+                BigDecimal hours = BigDecimal.valueOf((Double) row.get("hours"));
+                if ((Boolean) row.get("approved")) {
+                    approvedHours = approvedHours.add(hours);
+                    approvedCount++;
+                } else {
+                    pendingHours = pendingHours.add(hours);
+                    pendingCount++;
+                }
+            }
+            return Map.of("approved_hours", approvedHours, "pending_hours", pendingHours,
+                    "approved_count", approvedCount, "pending_count", pendingCount);
+        }
+
+        private static ResultSet resultSet(List<Map<String, Object>> rows) {
+            int[] cursor = {-1};
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                    new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                        Object column = args != null ? String.valueOf(args[0]) : null;
+                        return switch (method.getName()) {
+                            case "next" -> ++cursor[0] < rows.size();
+                            case "getInt" -> ((Number) rows.get(cursor[0]).get(column)).intValue();
+                            case "getDouble" -> ((Number) rows.get(cursor[0]).get(column)).doubleValue();
+                            case "getDate" -> rows.get(cursor[0]).get(column);
+                            case "getString" -> rows.get(cursor[0]).get(column);
+                            case "getBoolean" -> rows.get(cursor[0]).get(column);
+                            case "close" -> null;
+                            default -> throw new UnsupportedOperationException(method.getName());
+                        };
+                    });
+        }
+    }
+
+    private final Database db = new Database();
+    private final Connection conn = db.connect();
+    private final JdbcOvertimeDAO dao = new JdbcOvertimeDAO();
+
+    private static Overtime overtime(LocalDate date, double hours, boolean approved) {
+        Overtime overtime = new Overtime(EMPLOYEE_ID, Date.valueOf(date), hours, "Month-end close");
+        overtime.setApproved(approved);
+        return overtime;
+    }
+
+    private static void assertSummary(double approvedHours, double pendingHours, int approvedCount,
+                                      int pendingCount, OvertimeSummary summary) {
+        assertEquals(approvedHours, summary.getApprovedHours(), 1e-9);
+        assertEquals(pendingHours, summary.getPendingHours(), 1e-9);
+        assertEquals(approvedCount, summary.getApprovedCount());
+        assertEquals(pendingCount, summary.getPendingCount());
+    }
+
+    private static void assertRow(double approvedHours, double pendingHours, int approvedCount, int pendingCount,
+                                  Database.SummaryRow row) {
+        assertEquals(0, BigDecimal.valueOf(approvedHours).compareTo(row.approvedHours));
+        assertEquals(0, BigDecimal.valueOf(pendingHours).compareTo(row.pendingHours));
+        assertEquals(approvedCount, row.approvedCount);
+        assertEquals(pendingCount, row.pendingCount);
+    }
+
+    private OvertimeSummary summary(LocalDate start, LocalDate end) throws Exception {
+        return dao.getOvertimeSummary(conn, EMPLOYEE_ID, start, end);
+    }
+
+    @Test
+    public void testInsertAddsToItsMonth() throws Exception {
+        Overtime approved = overtime(LocalDate.of(2024, 7, 10), 2, true);
+        int id = dao.insertOvertime(conn, approved);
+        dao.insertOvertime(conn, overtime(LocalDate.of(2024, 7, 20), 1.5, false));
+        dao.insertOvertime(conn, overtime(LocalDate.of(2024, 7, 31), 0.5, true));
+
+        assertEquals(id, approved.getOvertimeId());
+        assertRow(2.5, 1.5, 2, 1, db.summary(EMPLOYEE_ID, LocalDate.of(2024, 7, 1)));
+        assertEquals(1, db.summary.size());
+        assertSummary(2.5, 1.5, 2, 1, summary(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+    }
+
+    @Test
+    public void testUpdateMovesRecordAcrossMonths() throws Exception {
+        Overtime overtime = overtime(LocalDate.of(2024, 7, 31), 3, true);
+        dao.insertOvertime(conn, overtime);
+        dao.insertOvertime(conn, overtime(LocalDate.of(2024, 7, 5), 1, true));
+
+        // Moved to August, cut to two hours and sent back for approval
+        overtime.setDateFromLocalDate(LocalDate.of(2024, 8, 1));
+        overtime.setHours(2);
+        overtime.setApproved(false);
+        assertTrue(dao.updateOvertime(conn, overtime));
+
+        assertRow(1, 0, 1, 0, db.summary(EMPLOYEE_ID, LocalDate.of(2024, 7, 1)));
+        assertRow(0, 2, 0, 1, db.summary(EMPLOYEE_ID, LocalDate.of(2024, 8, 1)));
+        assertSummary(1, 0, 1, 0, summary(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+        assertSummary(0, 2, 0, 1, summary(LocalDate.of(2024, 8, 1), LocalDate.of(2024, 8, 31)));
+
+        // Approving it in place changes only the split of its month
+        overtime.setApproved(true);
+        assertTrue(dao.updateOvertime(conn, overtime));
+        assertRow(2, 0, 1, 0, db.summary(EMPLOYEE_ID, LocalDate.of(2024, 8, 1)));
+        assertSummary(3, 0, 2, 0, summary(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 8, 31)));
+    }
+
+    @Test
+    public void testDeleteTakesRecordOff() throws Exception {
+        int kept = dao.insertOvertime(conn, overtime(LocalDate.of(2024, 7, 10), 2, true));
+        int deleted = dao.insertOvertime(conn, overtime(LocalDate.of(2024, 7, 11), 4, false));
+
+        assertTrue(dao.deleteOvertime(conn, deleted));
+        assertRow(2, 0, 1, 0, db.summary(EMPLOYEE_ID, LocalDate.of(2024, 7, 1)));
+        assertTrue(dao.deleteOvertime(conn, kept));
+        assertRow(0, 0, 0, 0, db.summary(EMPLOYEE_ID, LocalDate.of(2024, 7, 1)));
+        assertSummary(0, 0, 0, 0, summary(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+
+        // A record that is gone leaves the summary alone
+        assertFalse(dao.deleteOvertime(conn, deleted));
+        Overtime missing = overtime(LocalDate.of(2024, 7, 12), 1, true);
+        missing.setOvertimeId(deleted);
+        assertFalse(dao.updateOvertime(conn, missing));
+        assertRow(0, 0, 0, 0, db.summary(EMPLOYEE_ID, LocalDate.of(2024, 7, 1)));
+    }
+
+    @Test
+    public void testPeriodMixesSummaryMonthsWithEdgeDays() throws Exception {
+        dao.insertOvertime(conn, overtime(LocalDate.of(2024, 6, 19), 8, true));
+        dao.insertOvertime(conn, overtime(LocalDate.of(2024, 6, 20), 1, true));
+        dao.insertOvertime(conn, overtime(LocalDate.of(2024, 7, 15), 2, true));
+        dao.insertOvertime(conn, overtime(LocalDate.of(2024, 8, 10), 4, false));
+        dao.insertOvertime(conn, overtime(LocalDate.of(2024, 8, 11), 8, false));
+        // Rows written behind the summary show which source each day is read from
+        db.insertBehindSummary(EMPLOYEE_ID, LocalDate.of(2024, 6, 30), 0.5, true);
+        db.insertBehindSummary(EMPLOYEE_ID, LocalDate.of(2024, 7, 31), 16, true);
+        db.insertBehindSummary(EMPLOYEE_ID, LocalDate.of(2024, 8, 1), 0.25, false);
+
+        // June 20-30 and August 1-10 from the records, July from its summary row
+        assertSummary(3.5, 4.25, 3, 2, summary(LocalDate.of(2024, 6, 20), LocalDate.of(2024, 8, 10)));
+        // Whole months only: the record behind July's summary is never read
+        assertSummary(2, 12, 1, 2, summary(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 8, 31)));
+        // Inside one month: the records only
+        assertSummary(18, 0, 2, 0, summary(LocalDate.of(2024, 7, 2), LocalDate.of(2024, 7, 31)));
+        // A period ending on the last of a month reads that month from its summary
+        assertSummary(3.5, 0, 3, 0, summary(LocalDate.of(2024, 6, 20), LocalDate.of(2024, 7, 31)));
+        assertSummary(0, 0, 0, 0, summary(LocalDate.of(2024, 6, 21), LocalDate.of(2024, 6, 29)));
+    }
+}
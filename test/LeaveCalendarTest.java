@@ -0,0 +1,118 @@
+import model.LeaveRequest;
+import org.junit.jupiter.api.Test;
+import util.LeaveCalendar;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeaveCalendarTest {
+
+    private static final int EMPLOYEE_ID = 1;
+    private static final Set<DayOfWeek> WEEKEND = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private static LeaveRequest leave(String type, LocalDate start, LocalDate end) {
+        return new LeaveRequest(EMPLOYEE_ID, Date.valueOf(start), Date.valueOf(end), type);
+    }
+
+    /**
+     * Days of a range that are on leave and not rest days, counted one date at a time
+     */
+    private static int bruteForce(List<LeaveRequest> leaves, Set<DayOfWeek> restDays, LocalDate start, LocalDate end) {
+        int count = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            if (restDays.contains(day.getDayOfWeek())) {
+                continue;
+            }
+            for (LeaveRequest leave : leaves) {
+                if (!day.isBefore(leave.getStartDateAsLocalDate()) && !day.isAfter(leave.getEndDateAsLocalDate())) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testWordBoundaries() {
+        // Days 63 and 64 of 2023 (March 5 and 6) sit on either side of the first word boundary
+        LeaveCalendar calendar = LeaveCalendar.of(List.of(leave("Unpaid", LocalDate.of(2023, 3, 5),
+                LocalDate.of(2023, 3, 6))), Set.of());
+
+        assertEquals(2, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)));
+        assertEquals(1, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 5)));
+        assertEquals(1, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2023, 3, 6), LocalDate.of(2023, 3, 6)));
+        assertEquals(0, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 3, 4)));
+        assertEquals(0, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2023, 3, 7), LocalDate.of(2023, 12, 31)));
+    }
+
+    @Test
+    public void testYearBoundariesAndLeapYears() {
+        LeaveCalendar calendar = LeaveCalendar.of(List.of(
+                leave("Unpaid", LocalDate.of(2023, 12, 30), LocalDate.of(2024, 1, 2)),
+                leave("Unpaid", LocalDate.of(2024, 2, 28), LocalDate.of(2024, 3, 1)),
+                // Day 366 of a leap year is the last bit of the last word in use
+                leave("Unpaid", LocalDate.of(2024, 12, 31), LocalDate.of(2024, 12, 31))), Set.of());
+
+        assertEquals(2, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2023, 12, 1), LocalDate.of(2023, 12, 31)));
+        assertEquals(2, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+        assertEquals(2, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2023, 12, 31), LocalDate.of(2024, 1, 1)));
+        assertEquals(3, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 31)));
+        assertTrue(calendar.isOnLeave(EMPLOYEE_ID, LocalDate.of(2024, 2, 29)));
+        assertTrue(calendar.isOnLeave(EMPLOYEE_ID, LocalDate.of(2024, 12, 31)));
+        assertEquals(8, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2023, 1, 1), LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    public void testOverlappingLeavesCountOnce() {
+        LeaveCalendar calendar = LeaveCalendar.of(List.of(
+                leave("Unpaid", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 10)),
+                leave("unpaid", LocalDate.of(2024, 7, 8), LocalDate.of(2024, 7, 12)),
+                leave("Sick", LocalDate.of(2024, 7, 11), LocalDate.of(2024, 7, 19))), Set.of());
+
+        // Types match ignoring case; a day under two leaves of the type counts once
+        assertEquals(12, calendar.countDays(EMPLOYEE_ID, "UNPAID", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+        assertEquals(9, calendar.countDays(EMPLOYEE_ID, "Sick", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+        assertEquals(0, calendar.countDays(EMPLOYEE_ID, "Vacation", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+        // Across types, July 11 and 12 are counted once
+        assertEquals(19, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+    }
+
+    @Test
+    public void testRestDaysAreNotCounted() {
+        // Monday July 1 to Sunday July 14, 2024
+        LeaveCalendar calendar = LeaveCalendar.of(List.of(leave("Unpaid", LocalDate.of(2024, 7, 1),
+                LocalDate.of(2024, 7, 14))), WEEKEND);
+
+        assertEquals(10, calendar.countDays(EMPLOYEE_ID, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+        assertFalse(calendar.isOnLeave(EMPLOYEE_ID, LocalDate.of(2024, 7, 6)));
+        assertTrue(calendar.isOnLeave(EMPLOYEE_ID, LocalDate.of(2024, 7, 5)));
+        assertEquals(0, calendar.countDays(2, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31)));
+    }
+
+    @Test
+    public void testMatchesDayByDayCount() {
+        Random random = new Random(7);
+        LocalDate origin = LocalDate.of(2023, 10, 1);
+        for (Set<DayOfWeek> restDays : List.of(Set.<DayOfWeek>of(), WEEKEND, EnumSet.of(DayOfWeek.SUNDAY))) {
+            List<LeaveRequest> leaves = List.of(
+                    leave("Unpaid", origin.plusDays(random.nextInt(200)), origin.plusDays(200 + random.nextInt(300))),
+                    leave("Sick", origin.plusDays(random.nextInt(400)), origin.plusDays(400 + random.nextInt(100))),
+                    leave("Unpaid", origin.plusDays(random.nextInt(600)), origin.plusDays(600)));
+            LeaveCalendar calendar = LeaveCalendar.of(leaves, restDays);
+            for (int i = 0; i < 500; i++) {
+                LocalDate start = origin.plusDays(random.nextInt(650));
+                LocalDate end = start.plusDays(random.nextInt(140));
+                assertEquals(bruteForce(leaves, restDays, start, end), calendar.countDays(EMPLOYEE_ID, start, end),
+                        start + " to " + end + " resting " + restDays);
+            }
+        }
+    }
+}
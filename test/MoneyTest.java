@@ -0,0 +1,71 @@
+import org.junit.jupiter.api.Test;
+import util.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTest {
+
+    @Test
+    public void testFromPesosHalfUp() {
+        assertEquals(123405, Money.fromPesos(1234.05));
+        assertEquals(13, Money.fromPesos(0.125, RoundingMode.HALF_UP));
+        // 0.285 * 100 is 28.4999... in binary
+        assertEquals(29, Money.fromPesos(0.285, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    public void testFromPesosHalfEven() {
+        assertEquals(12, Money.fromPesos(0.125, RoundingMode.HALF_EVEN));
+        assertEquals(14, Money.fromPesos(0.135, RoundingMode.HALF_EVEN));
+        assertEquals(13, Money.fromPesos(0.126, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    public void testNegativeAmounts() {
+        assertEquals(-13, Money.fromPesos(-0.125, RoundingMode.HALF_UP));
+        assertEquals(-12, Money.fromPesos(-0.125, RoundingMode.HALF_EVEN));
+        assertEquals(-3, Money.divide(-5, 2, RoundingMode.HALF_UP));
+        assertEquals(-2, Money.divide(-5, 2, RoundingMode.HALF_EVEN));
+        assertEquals(-4, Money.divide(-7, 2, RoundingMode.HALF_EVEN));
+        assertEquals(-4, Money.divide(-7, 2, RoundingMode.FLOOR));
+        assertEquals(-3, Money.divide(-7, 2, RoundingMode.CEILING));
+        assertEquals("-1234.05", Money.toString(-123405));
+        assertEquals(new BigDecimal("-1.05"), Money.toDecimal(-105));
+    }
+
+    @Test
+    public void testMultiplyRoundsOnce() {
+        // 90 minutes at 100,000.00 a month over 22 days of 8 hours is 852.2727...
+        assertEquals(85227, Money.multiply(10_000_000, 90, 22 * 8 * 60, RoundingMode.HALF_UP));
+        assertEquals(12, Money.multiply(10, 1.25, RoundingMode.HALF_EVEN));
+        assertEquals(38, Money.multiply(30, 1.25, RoundingMode.HALF_EVEN));
+        assertEquals(13, Money.multiply(10, 1.25, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    public void testDecimalConversion() {
+        assertEquals(101, Money.fromDecimal(new BigDecimal("1.005")));
+        assertEquals(0, Money.fromDecimal(null));
+        assertEquals(new BigDecimal("0.05"), Money.toDecimal(5));
+        assertEquals("0.05", Money.toString(5));
+    }
+
+    @Test
+    public void testOverflowThrows() {
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MIN_VALUE, -1));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE, 2, 1, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE, 2.0, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.fromPesos(1e17));
+    }
+
+    @Test
+    public void testInvalidArithmetic() {
+        assertThrows(ArithmeticException.class, () -> Money.divide(100, 0, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.divide(5, 2, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> Money.fromPesos(Double.NaN));
+    }
+}
@@ -0,0 +1,80 @@
+import dao.memory.InMemoryDatabase;
+import model.Attendance;
+import model.CompensationDetails;
+import model.Employee;
+import model.GovernmentContributions;
+import model.Overtime;
+import model.Payroll;
+import model.Position;
+import org.junit.jupiter.api.Test;
+import reports.PayslipTemplate;
+import service.PayrollCalculator;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PayslipTemplateTest {
+
+    private static final int EMPLOYEE_ID = 1;
+    private static final LocalDate START = LocalDate.of(2024, 7, 1);
+    private static final LocalDate END = LocalDate.of(2024, 7, 7);
+
+    private static String render(String template, Payroll payroll, Employee employee) {
+        return new String(PayslipTemplate.compile(template).render(payroll, employee), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testRenderCalculatedOvertimeHours() throws Exception {
+        InMemoryDatabase db = new InMemoryDatabase();
+        Position position = new Position();
+        position.setPositionId(1);
+        position.setPositionName("Clerk");
+        position.setMonthlySalary(22000.0);
+        db.getPositionDAO().putPosition(position);
+
+        Employee employee = new Employee("Juan", "Dela Cruz", LocalDate.of(1990, 1, 1));
+        employee.setEmployeeId(EMPLOYEE_ID);
+        employee.setPositionId(1);
+        db.getEmployeeDAO().insertEmployee(employee);
+
+        db.getAttendanceDAO().insertAttendance(new Attendance(EMPLOYEE_ID, Date.valueOf(START),
+                Time.valueOf("08:00:00"), Time.valueOf("19:30:00")));
+        Overtime overtime = new Overtime(EMPLOYEE_ID, Date.valueOf(START), 2.5);
+        overtime.setApproved(true);
+        db.getOvertimeDAO().insertOvertime(overtime);
+
+        CompensationDetails comp = new CompensationDetails();
+        comp.setEmployeeId(EMPLOYEE_ID);
+        db.getCompensationDetailsDAO().insertCompensationDetails(comp);
+        db.getGovernmentContributionsDAO().insertGovernmentContributions(
+                new GovernmentContributions(EMPLOYEE_ID, 0, 0, 0, 0));
+
+        PayrollCalculator calculator = new PayrollCalculator(db.getPayrollInputsDAO(), db.getDeductionDAO());
+        Payroll payroll = calculator.calculatePayroll(EMPLOYEE_ID, START, END);
+        assertTrue(payroll.getOvertimePayCentavos() > 0);
+
+        assertEquals("OT 2.50 h", render("OT {{overtime_hours}} h", payroll, employee));
+    }
+
+    @Test
+    public void testPadCountsCharactersNotBytes() {
+        Employee employee = new Employee("José", "Peña", LocalDate.of(1990, 1, 1));
+        Payroll payroll = new Payroll(EMPLOYEE_ID, Date.valueOf(START), Date.valueOf(END));
+
+        assertEquals("|Peña      |", render("|{{last_name:-10}}|", payroll, employee));
+        assertEquals("|      José|", render("|{{first_name:10}}|", payroll, employee));
+    }
+
+    @Test
+    public void testPadAndAmounts() {
+        Payroll payroll = new Payroll(EMPLOYEE_ID, Date.valueOf(START), Date.valueOf(END));
+        payroll.setNetPayCentavos(1234567);
+
+        assertEquals("2024-07-01 to 2024-07-07:   12345.67",
+                render("{{period_start}} to {{period_end}}:{{net_pay:11}}", payroll, null));
+    }
+}
@@ -0,0 +1,315 @@
+import org.junit.jupiter.api.Test;
+import util.PooledDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledDataSourceTest {
+
+    private static final String URL_PREFIX = "jdbc:pooltest:";
+    // Physical connections opened by the stub driver, per URL
+    private static final Map<String, List<StubConnection>> OPENED = new ConcurrentHashMap<>();
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    static {
+        try {
+            DriverManager.registerDriver(new StubDriver());
+        } catch (SQLException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    /**
+     * Session state of one physical connection, with the calls the pool
+     * is expected to make on return
+     */
+    private static final class StubConnection {
+        boolean autoCommit = true;
+        boolean readOnly;
+        int isolation = Connection.TRANSACTION_REPEATABLE_READ;
+        String catalog = "payroll";
+        String schema;
+        boolean valid = true;
+        boolean closed;
+        int rollbacks;
+        Connection physical;
+    }
+
+    private static final class StubDriver implements Driver {
+        @Override
+        public Connection connect(String url, Properties info) {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            StubConnection stub = new StubConnection();
+            stub.physical = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "getAutoCommit" -> stub.autoCommit;
+                        case "setAutoCommit" -> {
+                            stub.autoCommit = (Boolean) args[0];
+                            yield null;
+                        }
+                        case "isReadOnly" -> stub.readOnly;
+                        case "setReadOnly" -> {
+                            stub.readOnly = (Boolean) args[0];
+                            yield null;
+                        }
+                        case "getTransactionIsolation" -> stub.isolation;
+                        case "setTransactionIsolation" -> {
+                            stub.isolation = (Integer) args[0];
+                            yield null;
+                        }
+                        case "getCatalog" -> stub.catalog;
+                        case "setCatalog" -> {
+                            stub.catalog = (String) args[0];
+                            yield null;
+                        }
+                        case "setSchema" -> {
+                            stub.schema = (String) args[0];
+                            yield null;
+                        }
+                        case "rollback" -> {
+                            stub.rollbacks++;
+                            yield null;
+                        }
+                        case "isValid" -> stub.valid;
+                        case "isClosed" -> stub.closed;
+                        case "close" -> {
+                            stub.closed = true;
+                            yield null;
+                        }
+                        case "createStatement" -> child(Statement.class, proxy);
+                        case "prepareStatement" -> child(PreparedStatement.class, proxy);
+                        case "getMetaData" -> child(DatabaseMetaData.class, proxy);
+                        case "unwrap" -> proxy;
+                        case "isWrapperFor" -> true;
+                        case "clearWarnings" -> null;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "StubConnection";
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+            OPENED.computeIfAbsent(url, u -> new CopyOnWriteArrayList<>()).add(stub);
+            return stub.physical;
+        }
+
+        /**
+         * A statement or metadata answering getConnection() with the physical connection
+         */
+        private static Object child(Class<?> type, Object physical) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getConnection" -> physical;
+                        case "unwrap" -> proxy;
+                        case "close" -> null;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return url.startsWith(URL_PREFIX);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getLogger(PooledDataSourceTest.class.getName());
+        }
+    }
+
+    /**
+     * URL of a stub database of its own, so the connections counted are the test's only
+     */
+    private static String newDatabase() {
+        return URL_PREFIX + DATABASES.incrementAndGet();
+    }
+
+    private static PooledDataSource pool(String url, int maxPoolSize) {
+        PooledDataSource pool = new PooledDataSource(url, "user", "secret");
+        pool.setMaxPoolSize(maxPoolSize);
+        pool.setAcquireTimeoutMillis(50);
+        return pool;
+    }
+
+    /**
+     * Borrow and return one connection, so the pool holds one idle
+     * @return Physical connections opened for the database so far
+     */
+    private static List<StubConnection> warmUp(PooledDataSource pool, String url) throws SQLException {
+        try (Connection conn = pool.getConnection()) {
+            return OPENED.get(url);
+        }
+    }
+
+    @Test
+    public void testBorrowAndReturnReusesConnection() throws Exception {
+        String url = newDatabase();
+        PooledDataSource pool = pool(url, 2);
+        try {
+            Connection first = pool.getConnection();
+            assertEquals(1, pool.getActiveConnections());
+            first.close();
+            // Closing twice returns it once
+            first.close();
+            assertTrue(first.isClosed());
+            assertThrows(SQLException.class, first::createStatement);
+            assertEquals(0, pool.getActiveConnections());
+            assertEquals(1, pool.getIdleConnections());
+
+            try (Connection second = pool.getConnection()) {
+                assertNotSame(first, second);
+                assertFalse(second.isClosed());
+            }
+            assertEquals(1, warmUp(pool, url).size());
+            assertEquals(1, pool.getOpenConnections());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testAcquireTimesOutWhenExhausted() throws Exception {
+        String url = newDatabase();
+        PooledDataSource pool = pool(url, 1);
+        try {
+            Connection held = pool.getConnection();
+            assertThrows(SQLTimeoutException.class, pool::getConnection);
+            held.close();
+            try (Connection conn = pool.getConnection()) {
+                assertEquals(1, pool.getActiveConnections());
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testInvalidConnectionIsReplacedOnBorrow() throws Exception {
+        String url = newDatabase();
+        PooledDataSource pool = pool(url, 2);
+        try {
+            List<StubConnection> opened = warmUp(pool, url);
+            StubConnection broken = opened.get(0);
+            broken.valid = false;
+
+            try (Connection conn = pool.getConnection()) {
+                assertEquals(2, opened.size());
+            }
+            assertTrue(broken.closed);
+            assertEquals(1, pool.getOpenConnections());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testSessionSettingsAreRestoredOnReturn() throws Exception {
+        String url = newDatabase();
+        PooledDataSource pool = pool(url, 1);
+        try {
+            StubConnection stub = warmUp(pool, url).get(0);
+            try (Connection conn = pool.getConnection()) {
+                conn.setAutoCommit(false);
+                conn.setReadOnly(true);
+                conn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+                conn.setCatalog("archive");
+            }
+
+            // The open transaction is rolled back before the settings change back
+            assertEquals(1, stub.rollbacks);
+            assertTrue(stub.autoCommit);
+            assertFalse(stub.readOnly);
+            assertEquals(Connection.TRANSACTION_REPEATABLE_READ, stub.isolation);
+            assertEquals("payroll", stub.catalog);
+            assertFalse(stub.closed);
+            assertEquals(1, pool.getIdleConnections());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testTaintedConnectionIsDiscarded() throws Exception {
+        String url = newDatabase();
+        PooledDataSource pool = pool(url, 1);
+        try {
+            StubConnection stub = warmUp(pool, url).get(0);
+            try (Connection conn = pool.getConnection()) {
+                conn.setSchema("archive");
+            }
+
+            assertTrue(stub.closed);
+            assertEquals(0, pool.getOpenConnections());
+            assertEquals(0, pool.getIdleConnections());
+            try (Connection conn = pool.getConnection()) {
+                assertFalse(conn.isClosed());
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testPhysicalConnectionStaysBehindProxy() throws Exception {
+        String url = newDatabase();
+        PooledDataSource pool = pool(url, 1);
+        try {
+            StubConnection stub = warmUp(pool, url).get(0);
+            Connection conn = pool.getConnection();
+
+            assertSame(conn, conn.unwrap(Connection.class));
+            assertTrue(conn.isWrapperFor(Connection.class));
+            Statement statement = conn.createStatement();
+            assertSame(conn, statement.getConnection());
+            assertSame(statement, statement.unwrap(Statement.class));
+            assertSame(conn, conn.prepareStatement("SELECT 1").getConnection());
+            assertSame(conn, conn.getMetaData().getConnection());
+
+            // Closing what a borrower reached returns the connection instead of closing it
+            statement.getConnection().close();
+            assertFalse(stub.closed);
+            assertEquals(1, pool.getIdleConnections());
+        } finally {
+            pool.close();
+        }
+    }
+}
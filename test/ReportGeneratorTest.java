@@ -0,0 +1,155 @@
+import org.junit.jupiter.api.Test;
+import service.PayrollRegister;
+import service.ReportGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReportGeneratorTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 7, 1);
+    private static final LocalDate END = LocalDate.of(2024, 7, 15);
+
+    /**
+     * A register row with the given position, paying the given centavos of
+     * gross pay, a tenth of it in total deductions and the rest as net pay
+     */
+    private static Map<String, Object> row(int employeeId, String lastName, Integer positionId,
+                                           String positionName, long grossPay) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("employee_id", employeeId);
+        row.put("last_name", lastName);
+        row.put("first_name", "Juan");
+        row.put("position_id", positionId);
+        row.put("position_name", positionName);
+        row.put("period_start", START.toString());
+        row.put("period_end", END.toString());
+        row.put("days_worked", 11);
+        row.put("overtime_hours", 1.5);
+        row.put("gross_pay", grossPay);
+        row.put("sss", 0L);
+        row.put("philhealth", 0L);
+        row.put("pagibig", 0L);
+        row.put("tax", 0L);
+        row.put("time_deductions", 0L);
+        row.put("total_deductions", grossPay / 10);
+        row.put("net_pay", grossPay - grossPay / 10);
+        return row;
+    }
+
+    /**
+     * Forward-only result set over the rows, covering the getters the register uses
+     */
+    private static ResultSet resultSet(List<Map<String, Object>> rows) {
+        int[] cursor = {-1};
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++cursor[0] < rows.size();
+                        case "getString":
+                            Object text = rows.get(cursor[0]).get((String) args[0]);
+                            return text != null ? text.toString() : null;
+                        case "getInt":
+                            Object number = rows.get(cursor[0]).get((String) args[0]);
+                            return number != null ? ((Number) number).intValue() : 0;
+                        case "getLong":
+                            return ((Number) rows.get(cursor[0]).get((String) args[0])).longValue();
+                        case "getDouble":
+                            return ((Number) rows.get(cursor[0]).get((String) args[0])).doubleValue();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private record Written(List<String> lines, PayrollRegister register) {}
+
+    private static Written write(List<Map<String, Object>> rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PayrollRegister register = new ReportGenerator().writeRegister(resultSet(rows), START, END,
+                Channels.newChannel(out));
+        assertEquals(out.size(), register.getBytesWritten());
+        return new Written(List.of(out.toString(StandardCharsets.UTF_8).split("\n")), register);
+    }
+
+    @Test
+    public void testSubtotalPerPositionId() throws Exception {
+        // Positions 1 and 2 share a title but are subtotalled apart
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(row(10, "Cruz", 1, "Clerk", 100000));
+        rows.add(row(11, "Reyes", 1, "Clerk", 200000));
+        rows.add(row(12, "Santos", 2, "Clerk", 300000));
+        rows.add(row(13, "Garcia", 3, "Manager", 400000));
+        Written written = write(rows);
+        List<String> lines = written.lines();
+
+        assertEquals(9, lines.size());
+        assertTrue(lines.get(0).startsWith("Employee ID,Last Name,"));
+        assertEquals("10,Cruz,Juan,Clerk,2024-07-01,2024-07-15,11,1.50,1000.00,0.00,0.00,0.00,0.00,0.00,100.00,900.00",
+                lines.get(1));
+        assertEquals("Subtotal,,,Clerk,,,2,,3000.00,0.00,0.00,0.00,0.00,0.00,300.00,2700.00", lines.get(3));
+        assertEquals("12,Santos,Juan,Clerk,2024-07-01,2024-07-15,11,1.50,3000.00,0.00,0.00,0.00,0.00,0.00,300.00,2700.00",
+                lines.get(4));
+        assertEquals("Subtotal,,,Clerk,,,1,,3000.00,0.00,0.00,0.00,0.00,0.00,300.00,2700.00", lines.get(5));
+        assertEquals("Subtotal,,,Manager,,,1,,4000.00,0.00,0.00,0.00,0.00,0.00,400.00,3600.00", lines.get(7));
+        assertEquals("Total,,,,,,4,,10000.00,0.00,0.00,0.00,0.00,0.00,1000.00,9000.00", lines.get(8));
+
+        Map<Integer, PayrollRegister.Totals> byPosition = written.register().getTotalsByPosition();
+        assertEquals(List.of(1, 2, 3), new ArrayList<>(byPosition.keySet()));
+        assertEquals("Clerk", byPosition.get(2).getPositionName());
+        assertEquals(2, byPosition.get(1).getPayrolls());
+        assertEquals(300000, byPosition.get(1).getGrossPayCentavos());
+        assertEquals(270000, byPosition.get(2).getNetPayCentavos());
+        assertEquals(4, written.register().getRowCount());
+        assertEquals(900000, written.register().getGrandTotals().getNetPayCentavos());
+    }
+
+    @Test
+    public void testEmployeesWithoutPosition() throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(row(20, "Lim", null, null, 50000));
+        rows.add(row(21, "Tan", 4, "Driver", 70000));
+        Written written = write(rows);
+        List<String> lines = written.lines();
+
+        assertTrue(lines.get(1).startsWith("20,Lim,Juan,(No position),"));
+        assertEquals("Subtotal,,,(No position),,,1,,500.00,0.00,0.00,0.00,0.00,0.00,50.00,450.00", lines.get(2));
+        assertEquals("(No position)", written.register().getTotalsByPosition().get(0).getPositionName());
+        assertEquals(70000, written.register().getTotalsByPosition().get(4).getGrossPayCentavos());
+        assertEquals(120000, written.register().getGrandTotals().getGrossPayCentavos());
+    }
+
+    @Test
+    public void testQuotesFieldsWithSeparators() throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(row(30, "Dela Cruz, Jr.", 5, "Officer \"A\"", 12345));
+        Written written = write(rows);
+        List<String> lines = written.lines();
+
+        assertEquals("30,\"Dela Cruz, Jr.\",Juan,\"Officer \"\"A\"\"\",2024-07-01,2024-07-15,11,1.50,"
+                + "123.45,0.00,0.00,0.00,0.00,0.00,12.34,111.11", lines.get(1));
+        assertEquals("Subtotal,,,\"Officer \"\"A\"\"\",,,1,,123.45,0.00,0.00,0.00,0.00,0.00,12.34,111.11",
+                lines.get(2));
+    }
+
+    @Test
+    public void testEmptyRegister() throws Exception {
+        Written written = write(List.of());
+        List<String> lines = written.lines();
+
+        assertEquals(2, lines.size());
+        assertEquals("Total,,,,,,0,,0.00,0.00,0.00,0.00,0.00,0.00,0.00,0.00", lines.get(1));
+        assertTrue(written.register().getTotalsByPosition().isEmpty());
+    }
+}
@@ -0,0 +1,220 @@
+package service;
+
+import dao.memory.InMemoryAttendanceDAO;
+import dao.memory.InMemoryEmployeeDAO;
+import model.Attendance;
+import model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AttendanceImporterTest {
+
+    private final InMemoryAttendanceDAO attendanceDAO = new InMemoryAttendanceDAO();
+    private final InMemoryEmployeeDAO employeeDAO = new InMemoryEmployeeDAO();
+
+    private void employees(int... ids) {
+        for (int id : ids) {
+            Employee employee = new Employee("Juan", "Employee " + id, LocalDate.of(1990, 1, 1));
+            employee.setEmployeeId(id);
+            employeeDAO.insertEmployee(employee);
+        }
+    }
+
+    private AttendanceImportResult importLog(String log, AttendanceImporter.Format format, long windowSize)
+            throws Exception {
+        Path file = Files.createTempFile("punches", ".log");
+        try {
+            Files.writeString(file, log, StandardCharsets.US_ASCII);
+            return new AttendanceImporter(attendanceDAO, employeeDAO, windowSize).importFile(file, format);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private AttendanceImportResult importCsv(String log) throws Exception {
+        return importLog(log, AttendanceImporter.Format.CSV, 1 << 20);
+    }
+
+    private Attendance attendance(int employeeId, LocalDate date) {
+        return attendanceDAO.getAttendanceByEmployeeAndDate(employeeId, date);
+    }
+
+    @Test
+    public void testEpochDay() {
+        assertEquals(0, AttendanceImporter.epochDay(1970, 1, 1));
+        // Days before 1970 count back from it, so they can never be packed
+        assertTrue(AttendanceImporter.epochDay(1969, 12, 31) < 0);
+        for (LocalDate date : List.of(LocalDate.of(2000, 2, 29), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1),
+                LocalDate.of(2023, 12, 31), LocalDate.of(2100, 3, 1), LocalDate.of(2149, 6, 6))) {
+            assertEquals(date.toEpochDay(), AttendanceImporter.epochDay(date.getYear(), date.getMonthValue(),
+                    date.getDayOfMonth()), date.toString());
+        }
+        // Dates that do not exist
+        assertEquals(-1, AttendanceImporter.epochDay(2023, 2, 29));
+        assertEquals(-1, AttendanceImporter.epochDay(2100, 2, 29));
+        assertEquals(-1, AttendanceImporter.epochDay(2024, 4, 31));
+        assertEquals(-1, AttendanceImporter.epochDay(2024, 13, 1));
+        assertEquals(-1, AttendanceImporter.epochDay(2024, 0, 1));
+        assertEquals(-1, AttendanceImporter.epochDay(2024, 1, 0));
+    }
+
+    @Test
+    public void testFirstAndLastPunchPairIntoLoginAndLogout() throws Exception {
+        employees(7, 8);
+        AttendanceImportResult result = importCsv("""
+                7,2024-07-01,17:05:30,DOOR-1
+                7,2024-07-01,08:00
+                7,2024-07-01,12:00
+                8,2024/07/01,09:15:00
+                7,2024-07-02,08:10
+                7,2024-07-02,17:00
+                """);
+
+        assertEquals(6, result.getPunchesRead());
+        assertEquals(3, result.getRecordsBuilt());
+        assertEquals(3, result.getRecordsInserted());
+        Attendance first = attendance(7, LocalDate.of(2024, 7, 1));
+        assertEquals(Time.valueOf("08:00:00"), first.getLoginTime());
+        assertEquals(Time.valueOf("17:05:30"), first.getLogoutTime());
+        // A single punch is a login without a logout
+        Attendance single = attendance(8, LocalDate.of(2024, 7, 1));
+        assertEquals(Time.valueOf("09:15:00"), single.getLoginTime());
+        assertNull(single.getLogoutTime());
+        assertEquals(Time.valueOf("17:00:00"), attendance(7, LocalDate.of(2024, 7, 2)).getLogoutTime());
+
+        // Importing the same log again stores nothing
+        AttendanceImportResult again = importCsv("7,2024-07-01,08:00\n7,2024-07-01,17:05:30\n");
+        assertEquals(0, again.getRecordsInserted());
+        assertEquals(1, again.getDuplicatesSkipped());
+    }
+
+    @Test
+    public void testHeaderAndMalformedLines() throws Exception {
+        employees(7);
+        AttendanceImportResult result = importCsv("""
+                employee_id,date,time
+                7,2024-07-01,08:00
+
+                7,2024-07-01,25:00
+                x,2024-07-01,08:00
+                7,2024-07-01,08:00am
+                7,2023-02-29,08:00
+                7,2024-07-01,17:00
+                """);
+
+        // The header and the blank line are neither punches nor malformed
+        assertEquals(8, result.getLinesRead());
+        assertEquals(2, result.getPunchesRead());
+        assertEquals(4, result.getMalformedLines());
+        assertEquals(List.of(4L, 5L, 6L, 7L), result.getFirstMalformedLineNumbers());
+        assertEquals(1, result.getRecordsInserted());
+
+        // A bad line after the first is not taken for a header
+        AttendanceImportResult noHeader = importCsv("7,2024-07-03,08:00\nemployee_id,date,time\n");
+        assertEquals(1, noHeader.getMalformedLines());
+        assertEquals(List.of(2L), noHeader.getFirstMalformedLineNumbers());
+    }
+
+    @Test
+    public void testCrlfLineEndings() throws Exception {
+        employees(7);
+        AttendanceImportResult result = importCsv("7,2024-07-01,08:00:00\r\n7,2024-07-01,17:00:00\r\n"
+                + "7,2024-07-02,08:00\r\n7,2024-07-02,17:00");
+
+        assertEquals(0, result.getMalformedLines());
+        assertEquals(4, result.getPunchesRead());
+        assertEquals(Time.valueOf("17:00:00"), attendance(7, LocalDate.of(2024, 7, 1)).getLogoutTime());
+        assertEquals(Time.valueOf("17:00:00"), attendance(7, LocalDate.of(2024, 7, 2)).getLogoutTime());
+    }
+
+    @Test
+    public void testPackRangeLimits() throws Exception {
+        employees(999_999_999);
+        AttendanceImportResult result = importCsv("""
+                999999999,2149-06-06,08:00
+                1000000000,2024-07-01,08:00
+                0,2024-07-01,08:00
+                999999999,2149-06-07,08:00
+                999999999,1969-12-31,08:00
+                999999999,1970-01-01,08:00
+                """);
+
+        // Nine-digit IDs fit in 30 bits; the day fits in 16 bits up to 2149-06-06
+        assertEquals(2, result.getPunchesRead());
+        assertEquals(List.of(2L, 3L, 4L, 5L), result.getFirstMalformedLineNumbers());
+        assertNotNull(attendance(999_999_999, LocalDate.of(2149, 6, 6)));
+        assertNotNull(attendance(999_999_999, LocalDate.of(1970, 1, 1)));
+    }
+
+    @Test
+    public void testFixedWidthPadding() throws Exception {
+        employees(42, 43);
+        AttendanceImportResult result = importLog("""
+                0000004220240701080000DEVICE-1
+                      4220240701170000
+                      4320240701090000
+                0000000020240701080000
+                        20240701080000
+                  4x  4320240701170000
+                00000043202407011700
+                """, AttendanceImporter.Format.FIXED_WIDTH, 1 << 20);
+
+        assertEquals(3, result.getPunchesRead());
+        assertEquals(List.of(4L, 5L, 6L, 7L), result.getFirstMalformedLineNumbers());
+        Attendance zeroPadded = attendance(42, LocalDate.of(2024, 7, 1));
+        assertEquals(Time.valueOf("08:00:00"), zeroPadded.getLoginTime());
+        assertEquals(Time.valueOf("17:00:00"), zeroPadded.getLogoutTime());
+        assertEquals(Time.valueOf("09:00:00"), attendance(43, LocalDate.of(2024, 7, 1)).getLoginTime());
+    }
+
+    @Test
+    public void testLinesSplitAcrossWindows() throws Exception {
+        employees(7);
+        StringBuilder log = new StringBuilder("employee_id,date,time\r\n");
+        for (int day = 1; day <= 28; day++) {
+            log.append(String.format("7,2024-02-%02d,08:00:00\r\n7,2024-02-%02d,17:00:00\r\n", day, day));
+        }
+
+        // Windows of 29 bytes end inside nearly every 22-byte line, and inside CRLFs
+        AttendanceImportResult result = importLog(log.toString(), AttendanceImporter.Format.CSV, 29);
+
+        assertEquals(0, result.getMalformedLines());
+        assertEquals(56, result.getPunchesRead());
+        assertEquals(28, result.getRecordsInserted());
+        for (int day = 1; day <= 28; day++) {
+            Attendance attendance = attendance(7, LocalDate.of(2024, 2, day));
+            assertEquals(Time.valueOf("08:00:00"), attendance.getLoginTime());
+            assertEquals(Time.valueOf("17:00:00"), attendance.getLogoutTime());
+        }
+
+        // A line that cannot fit in one window is an error, not a silent split
+        assertThrows(java.io.IOException.class, () -> importLog("7,2024-07-01,08:00:00,DOOR-1\n",
+                AttendanceImporter.Format.CSV, 16));
+    }
+
+    @Test
+    public void testUnknownEmployeesAreReported() throws Exception {
+        employees(7);
+        AttendanceImportResult result = importCsv("""
+                7,2024-07-01,08:00
+                90,2024-07-01,08:00
+                90,2024-07-02,08:00
+                91,2024-07-01,08:00
+                """);
+
+        assertEquals(4, result.getRecordsBuilt());
+        assertEquals(3, result.getUnknownEmployeeRecords());
+        assertEquals(List.of(90, 91), result.getFirstUnknownEmployeeIds());
+        assertEquals(1, result.getRecordsInserted());
+        assertEquals(0, result.getDuplicatesSkipped());
+        assertNull(attendance(90, LocalDate.of(2024, 7, 1)));
+    }
+}